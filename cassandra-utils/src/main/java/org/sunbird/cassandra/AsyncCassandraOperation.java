@@ -0,0 +1,308 @@
+package org.sunbird.cassandra;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.common.RowMapper;
+import org.sunbird.common.response.Response;
+
+/**
+ * @desc Non blocking counterpart of {@link CassandraOperation}. Every method returns as soon as the
+ *     statement is sent, the stage completes with the same Response the blocking method returns or
+ *     exceptionally with a DBException.
+ */
+public interface AsyncCassandraOperation {
+
+  /**
+   * @desc This method is used to insert record in cassandra db
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> insertRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc This method is used to insert or update record in cassandra db
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc This method is used to update record in cassandra db, id column is used as primary key
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc This method is used to update record in cassandra db by composite primary key
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param compositeKey Column map for composite primary key
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc This method is used to delete record in cassandra db by their primary key(identifier)
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param identifier String
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, Map<String, Object> reqContext);
+
+  /**
+   * @desc This method is used to delete record in cassandra db by composite primary key
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param compositeKeyMap Column map for composite primary key
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> compositeKeyMap,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch record by primary key (id column) with the given columns
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key value
+   * @param fields List of columns to fetch, all columns are fetched when empty
+   * @return CompletionStage<Response> Response with the matching rows
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch record by composite primary key with the given columns
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Column map for composite primary key
+   * @param fields List of columns to fetch, all columns are fetched when empty
+   * @return CompletionStage<Response> Response with the matching rows
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch records by given properties, a list value is queried with IN clause
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map of column name and their value
+   * @param fields List of columns to fetch, all columns are fetched when empty
+   * @return CompletionStage<Response> Response with the matching rows
+   */
+  CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch records for the given primary key values
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys List of primary key values
+   * @param primaryKeyColumnName Primary key column name
+   * @return CompletionStage<Response> Response with the matching rows
+   */
+  CompletionStage<Response> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch the given columns for records with the given ids
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param properties List of columns to fetch, all columns are fetched when empty
+   * @param ids List of ids
+   * @return CompletionStage<Response> Response with the matching rows
+   */
+  CompletionStage<Response> getRecordsByIdsWithSpecifiedColumnsAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch records for the given primary key values mapped into model instances
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys List of primary key values
+   * @param primaryKeyColumnName Primary key column name
+   * @param rowMapper Mapper of the model class
+   * @return CompletionStage<List<T>> the matching records
+   */
+  <T> CompletionStage<List<T>> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Fetch the given columns for records with the given ids mapped into model instances
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param properties List of columns to fetch, all columns are fetched when empty
+   * @param ids List of ids
+   * @param rowMapper Mapper of the model class
+   * @return CompletionStage<List<T>> the matching records
+   */
+  <T> CompletionStage<List<T>> getRecordsByIdsWithSpecifiedColumnsAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Insert multiple records in one batch
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records to insert
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Update multiple records in one batch
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param list List of records with PK and NonPK maps
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> batchUpdateAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Map<String, Object>>> list,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Delete multiple records in one batch
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param list List of primary key maps
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> batchDeleteAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> list,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Add values to a set column
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKey Column map for primary key
+   * @param column Set column name
+   * @param value Value or collection of values to add
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateAddSetRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> primaryKey,
+      String column,
+      Object value,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Remove values from a set column
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKey Column map for primary key
+   * @param column Set column name
+   * @param value Value or collection of values to remove
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateRemoveSetRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> primaryKey,
+      String column,
+      Object value,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Add values to a set column of many records, written grouped by partition
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys Column maps for the primary keys
+   * @param column Set column name
+   * @param value Value or collection of values to add
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateAddSetRecordsAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext);
+
+  /**
+   * @desc Remove values from a set column of many records, written grouped by partition
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys Column maps for the primary keys
+   * @param column Set column name
+   * @param value Value or collection of values to remove
+   * @return CompletionStage<Response> Response indicating status of operation
+   */
+  CompletionStage<Response> updateRemoveSetRecordsAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext);
+}
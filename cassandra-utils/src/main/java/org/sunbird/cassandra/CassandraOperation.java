@@ -4,8 +4,11 @@ package org.sunbird.cassandra;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select.Builder;
 import com.google.common.util.concurrent.FutureCallback;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import org.sunbird.common.Page;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.response.Response;
 
@@ -295,6 +298,18 @@ public interface CassandraOperation {
   Response batchInsert(String keyspaceName, String tableName, List<Map<String, Object>> records,  Map<String,Object> reqContext)
       throws BaseException;
 
+  /**
+   * Method to upsert records grouped by partition. A failed record does not stop the others, the
+   * operation still fails with a DBException when any record failed, as the other batch methods.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records to upsert
+   * @return Response indicating status of operation
+   */
+  Response batchUpsert(String keyspaceName, String tableName, List<Map<String, Object>> records,  Map<String,Object> reqContext)
+      throws BaseException;
+
   /**
    * Method to perform batch update operation.
    *
@@ -349,6 +364,91 @@ public interface CassandraOperation {
       String keyspaceName, String tableName, List<String> primaryKeys, String primaryKeyColumnName,  Map<String,Object> reqContext)
       throws BaseException;
 
+  /**
+   * Fetch records for given primary keys, mapping the rows straight into model instances.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys List of primary key values
+   * @param primaryKeyColumnName Name of the primary key column
+   * @param rowMapper Mapper of the model class
+   * @return List of fetched records
+   */
+  <T> List<T> getRecordsByPrimaryKeys(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext)
+      throws BaseException;
+
+  /**
+   * Fetch records with specified columns for given identifiers, mapping the rows straight into
+   * model instances.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param properties List of columns to be returned in each record
+   * @param ids List of identifiers
+   * @param rowMapper Mapper of the model class
+   * @return List of fetched records
+   */
+  <T> List<T> getRecordsByIdsWithSpecifiedColumns(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext)
+      throws BaseException;
+
+  /**
+   * Fetch one page of records matching the given properties, resuming after the page the token was
+   * returned with.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map of column name and value to match, usually the partition key
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param pageSize Maximum number of records of the page
+   * @param pageToken Token of the page to read, null for the first page
+   * @param rowMapper Mapper of the model class
+   * @return Page of fetched records with the token of the next page
+   */
+  <T> Page<T> getRecordsPageByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      int pageSize,
+      String pageToken,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext)
+      throws BaseException;
+
+  /**
+   * Stream records matching the given properties, or all records of the table when the properties
+   * are empty. Pages of fetchSize records are read while iterating instead of loading all records.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map of column name and value to match, all records if empty
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param fetchSize Number of records read per page
+   * @param rowMapper Mapper of the model class
+   * @return Iterator of fetched records
+   */
+  <T> Iterator<T> streamRecordsByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      int fetchSize,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext)
+      throws BaseException;
+
   /**
    * Insert record with TTL expiration
    *
@@ -536,6 +636,38 @@ public interface CassandraOperation {
       String keySpace, String table, Map<String, Object> primaryKey, String column, Object value,  Map<String,Object> reqContext)
       throws BaseException;
 
+  /** This method will add the value to the set column of many records, the records of different
+   * partitions are updated concurrently
+   *
+   * @param keySpace
+   * @param table
+   * @param primaryKeys
+   * @param column
+   * @param value
+   * @param reqConext
+   * @return
+   * @throws BaseException
+   */
+  Response updateAddSetRecords(
+      String keySpace, String table, List<Map<String, Object>> primaryKeys, String column, Object value,  Map<String,Object> reqContext)
+      throws BaseException;
+
+  /** This method will remove the value from the set column of many records, the records of
+   * different partitions are updated concurrently
+   *
+   * @param keySpace
+   * @param table
+   * @param primaryKeys
+   * @param column
+   * @param value
+   * @param reqConext
+   * @return
+   * @throws BaseException
+   */
+  Response updateRemoveSetRecords(
+      String keySpace, String table, List<Map<String, Object>> primaryKeys, String column, Object value,  Map<String,Object> reqContext)
+      throws BaseException;
+
   /**  This method will execute select query passed as parameter
    *
    * @param keyspaceName
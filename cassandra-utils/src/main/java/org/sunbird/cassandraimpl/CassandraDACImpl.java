@@ -1,24 +1,21 @@
 package org.sunbird.cassandraimpl;
 
-import com.datastax.driver.core.ResultSet;
-import com.datastax.driver.core.ResultSetFuture;
-import com.datastax.driver.core.Session;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
-import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
-import com.google.common.util.concurrent.FutureCallback;
-import com.google.common.util.concurrent.Futures;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import org.apache.commons.collections4.CollectionUtils;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections4.MapUtils;
-import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
 import org.sunbird.common.exception.DBException;
 import org.sunbird.common.message.IResponseMessage;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.response.Response;
 import org.sunbird.util.LoggerUtil;
 
@@ -26,90 +23,6 @@ public class CassandraDACImpl extends CassandraOperationImpl {
 
   private LoggerUtil logger = new LoggerUtil(CassandraDACImpl.class);
 
-  public Response getRecords(
-      String keySpace, String table, Map<String, Object> filters, List<String> fields, Map<String,Object> reqContext)
-      throws DBException {
-    long startTime = System.currentTimeMillis();
-    Response response = new Response();
-    Select select= null;
-    try{
-      Session session = connectionManager.getSession(keySpace);
-      if (CollectionUtils.isNotEmpty(fields)) {
-        select = QueryBuilder.select((String[]) fields.toArray()).from(keySpace, table);
-      } else {
-        select = QueryBuilder.select().all().from(keySpace, table);
-      }
-
-      if (MapUtils.isNotEmpty(filters)) {
-        Select.Where where = select.where();
-        for (Map.Entry<String, Object> filter : filters.entrySet()) {
-          Object value = filter.getValue();
-          if (value instanceof List) {
-            where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
-          } else {
-            where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
-          }
-        }
-      }
-      ResultSet results = null;
-      results = session.execute(select);
-      response = CassandraUtil.createResponse(results);
-    } catch (Exception e) {
-      logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
-      throw new DBException(
-          e.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      if (null != select) {
-        logQueryElapseTime("getRecords", startTime, select.getQueryString(), reqContext);
-      }
-    }
-    return response;
-  }
-
-  public void applyOperationOnRecordsAsync(
-      String keySpace,
-      String table,
-      Map<String, Object> filters,
-      List<String> fields,
-      FutureCallback<ResultSet> callback,
-      Map<String,Object> reqContext)
-      throws DBException {
-    long startTime = System.currentTimeMillis();
-    Session session = connectionManager.getSession(keySpace);
-    Select select=null;
-    try {
-      if (CollectionUtils.isNotEmpty(fields)) {
-        select = QueryBuilder.select((String[]) fields.toArray()).from(keySpace, table);
-      } else {
-        select = QueryBuilder.select().all().from(keySpace, table);
-      }
-
-      if (MapUtils.isNotEmpty(filters)) {
-        Select.Where where = select.where();
-        for (Map.Entry<String, Object> filter : filters.entrySet()) {
-          Object value = filter.getValue();
-          if (value instanceof List) {
-            where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
-          } else {
-            where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
-          }
-        }
-      }
-      ResultSetFuture future = session.executeAsync(select);
-      Futures.addCallback(future, callback, Executors.newFixedThreadPool(1));
-    } catch (Exception e) {
-      logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
-      throw new DBException(
-          e.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      if (null != select) {
-        logQueryElapseTime("applyOperationOnRecordsAsync", startTime, select.getQueryString(), reqContext);
-      }
-    }
-  }
-
   public Response updateAddMapRecord(
       String keySpace,
       String table,
@@ -138,12 +51,17 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       boolean add,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Update update = QueryBuilder.update(keySpace, table);
+    List<Object> values = new ArrayList<>();
     if (add) {
-      update.with(QueryBuilder.put(column, key, value));
+      update.with(QueryBuilder.put(column, QueryBuilder.bindMarker(), QueryBuilder.bindMarker()));
+      values.add(key);
+      values.add(value);
     } else {
-      update.with(QueryBuilder.remove(column, key));
+      update.with(QueryBuilder.removeAll(column, QueryBuilder.bindMarker()));
+      values.add(Collections.singleton(key));
     }
     try{
       if (MapUtils.isEmpty(primaryKey)) {
@@ -157,18 +75,20 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       for (Map.Entry<String, Object> filter : primaryKey.entrySet()) {
         Object filterValue = filter.getValue();
         if (filterValue instanceof List) {
-          where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
+          where = where.and(QueryBuilder.in(filter.getKey(), QueryBuilder.bindMarker()));
         } else {
-          where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
+          where = where.and(QueryBuilder.eq(filter.getKey(), QueryBuilder.bindMarker()));
         }
+        values.add(filterValue);
       }
       try {
         Response response = new Response();
         logger.debug(reqContext, "Remove Map-Key Query: " + update.toString());
-        connectionManager.getSession(keySpace).execute(update);
+        execute(keySpace, bindStatement(keySpace, update, values), reqContext);
         response.put(Constants.RESPONSE, Constants.SUCCESS);
         return response;
       } catch (Exception e) {
+        recordQueryError("updateMapRecord", table);
         e.printStackTrace();
         logger.error(Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
         throw new DBException(
@@ -177,7 +97,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       }
     }finally {
       if (null != update) {
-        logQueryElapseTime("updateMapRecord", startTime, update.getQueryString(), reqContext);
+        recordQueryTime("updateMapRecord", table, startTime, update, reqContext);
       }
     }
   }
@@ -203,56 +123,174 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       boolean add,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,"Cassandra Service updateSetRecord method started at == +"+ startTime);
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
 
-    Update update = QueryBuilder.update(keySpace, table);
-    if (add) {
-      update.with(QueryBuilder.add(column, value));
-    } else {
-      update.with(QueryBuilder.remove(column, value));
-    }
+    BoundStatement statement = null;
     try {
-      if (MapUtils.isEmpty(primaryKey)) {
-        String errorMsg = Constants.EXCEPTION_MSG_FETCH + table + " : primary key is a must for update call";
-        logger.error(reqContext, errorMsg);
-        throw new DBException(
-                errorMsg,
-                IResponseMessage.SERVER_ERROR);
-      }
-      Update.Where where = update.where();
-      for (Map.Entry<String, Object> filter : primaryKey.entrySet()) {
-        Object filterValue = filter.getValue();
-        if (filterValue instanceof List) {
-          where = where.and(QueryBuilder.in(filter.getKey(), filterValue));
-        } else {
-          where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
-        }
-      }
+      statement = createUpdateSetStatement(keySpace, table, primaryKey, column, value, add, reqContext);
       Response response = new Response();
       try {
-        logger.debug("updateSetRecord: Update set Query:: " + update.toString());
-        connectionManager.getSession(keySpace).execute(update);
+        logger.debug("updateSetRecord: Update set Query:: " + getQueryString(statement));
+        execute(keySpace, statement, reqContext);
         response.put(Constants.RESPONSE, Constants.SUCCESS);
       } catch (Exception e) {
+        recordQueryError("updateSetRecord", table);
         logger.error(Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
         throw new DBException(
                 e.getMessage(),
                 IResponseMessage.SERVER_ERROR);
       }
-      long stopTime = System.currentTimeMillis();
-      logger.debug(reqContext,
-              MessageFormat.format("Cassandra operation {0} started at {1} and completed at {2}. Total time elapsed is {3}",
-              "updateSetRecord",
-              startTime,
-              stopTime,
-              (stopTime - startTime)));
       return response;
     }finally {
-      if(null != update){
-        logQueryElapseTime("updateSetRecord", startTime, update.getQueryString(), reqContext);
+      if(null != statement){
+        recordQueryTime("updateSetRecord", table, startTime, statement, reqContext);
+      }
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> updateAddSetRecordAsync(
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "updateAddSetRecordAsync",
+        keySpace,
+        table,
+        () -> createUpdateSetStatement(keySpace, table, primaryKey, column, value, true, reqContext),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> updateRemoveSetRecordAsync(
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "updateRemoveSetRecordAsync",
+        keySpace,
+        table,
+        () -> createUpdateSetStatement(keySpace, table, primaryKey, column, value, false, reqContext),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public Response updateAddSetRecords(
+      String keySpace,
+      String table,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    return join(updateAddSetRecordsAsync(keySpace, table, primaryKeys, column, value, reqContext));
+  }
+
+  @Override
+  public Response updateRemoveSetRecords(
+      String keySpace,
+      String table,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    return join(
+        updateRemoveSetRecordsAsync(keySpace, table, primaryKeys, column, value, reqContext));
+  }
+
+  @Override
+  public CompletionStage<Response> updateAddSetRecordsAsync(
+      String keySpace,
+      String table,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    return writeBatchAsync(
+        "updateAddSetRecordsAsync",
+        keySpace,
+        table,
+        () -> createUpdateSetStatements(keySpace, table, primaryKeys, column, value, true, reqContext),
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> updateRemoveSetRecordsAsync(
+      String keySpace,
+      String table,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      Map<String, Object> reqContext) {
+    return writeBatchAsync(
+        "updateRemoveSetRecordsAsync",
+        keySpace,
+        table,
+        () -> createUpdateSetStatements(keySpace, table, primaryKeys, column, value, false, reqContext),
+        reqContext);
+  }
+
+  private List<Statement> createUpdateSetStatements(
+      String keySpace,
+      String table,
+      List<Map<String, Object>> primaryKeys,
+      String column,
+      Object value,
+      boolean add,
+      Map<String, Object> reqContext) {
+    List<Statement> statements = new ArrayList<>();
+    for (Map<String, Object> primaryKey : primaryKeys) {
+      statements.add(
+          createUpdateSetStatement(keySpace, table, primaryKey, column, value, add, reqContext));
+    }
+    return statements;
+  }
+
+  private BoundStatement createUpdateSetStatement(
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      Object value,
+      boolean add,
+      Map<String, Object> reqContext) {
+    if (MapUtils.isEmpty(primaryKey)) {
+      String errorMsg = Constants.EXCEPTION_MSG_FETCH + table + " : primary key is a must for update call";
+      logger.error(reqContext, errorMsg);
+      throw new DBException(
+              errorMsg,
+              IResponseMessage.SERVER_ERROR);
+    }
+    Update update = QueryBuilder.update(keySpace, table);
+    // the driver does not allow bind markers in add()/remove(), bind the element as a set instead
+    List<Object> values = new ArrayList<>();
+    if (add) {
+      update.with(QueryBuilder.addAll(column, QueryBuilder.bindMarker()));
+    } else {
+      update.with(QueryBuilder.removeAll(column, QueryBuilder.bindMarker()));
+    }
+    values.add(value instanceof Collection ? value : Collections.singleton(value));
+    Update.Where where = update.where();
+    for (Map.Entry<String, Object> filter : primaryKey.entrySet()) {
+      Object filterValue = filter.getValue();
+      if (filterValue instanceof List) {
+        where = where.and(QueryBuilder.in(filter.getKey(), QueryBuilder.bindMarker()));
+      } else {
+        where = where.and(QueryBuilder.eq(filter.getKey(), QueryBuilder.bindMarker()));
       }
+      values.add(filterValue);
     }
+    return bindStatement(keySpace, update, values);
   }
 
 }
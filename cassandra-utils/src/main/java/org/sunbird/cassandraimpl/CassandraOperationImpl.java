@@ -12,32 +12,53 @@ import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Select.Where;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
 import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.cassandra.AsyncCassandraOperation;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
+import org.sunbird.common.Page;
+import org.sunbird.common.QueryMetrics;
+import org.sunbird.common.RowMapper;
+import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.exception.DBException;
 import org.sunbird.helper.CassandraConnectionManager;
 import org.sunbird.helper.CassandraConnectionMngrFactory;
+import org.sunbird.helper.PreparedStatementCache;
 import org.sunbird.common.message.IResponseMessage;
 import org.sunbird.common.message.Localizer;
 import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.response.Response;
 import org.sunbird.util.LoggerUtil;
+import org.sunbird.util.helper.PropertiesCache;
 
 /**
  * @author Amit Kumar
  * @desc this class will hold functions for cassandra db interaction
  */
-public abstract class CassandraOperationImpl implements CassandraOperation {
+public abstract class CassandraOperationImpl
+    implements CassandraOperation, AsyncCassandraOperation {
 
   protected CassandraConnectionManager connectionManager;
 
@@ -45,30 +66,86 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
 
   protected Localizer localizer = Localizer.getInstance();
 
+  protected PreparedStatementCache statementCache;
+
+  protected boolean multiGetEnabled;
+
+  protected int multiGetMinKeys;
+
+  protected int multiGetConcurrency;
+
+  protected int batchMaxSize;
+
+  protected int batchConcurrency;
+
+  protected long slowQueryThresholdMillis;
+
+  protected QueryMetrics queryMetrics = QueryMetrics.getInstance();
+
   public CassandraOperationImpl() {
     connectionManager = CassandraConnectionMngrFactory.getInstance();
+    statementCache = PreparedStatementCache.getInstance();
+    PropertiesCache propertiesCache = PropertiesCache.getInstance();
+    multiGetEnabled =
+        !"false".equalsIgnoreCase(propertiesCache.readProperty(Constants.MULTI_GET_ENABLED));
+    multiGetMinKeys = readIntProperty(propertiesCache, Constants.MULTI_GET_MIN_KEYS, 5);
+    multiGetConcurrency = readIntProperty(propertiesCache, Constants.MULTI_GET_CONCURRENCY, 32);
+    batchMaxSize = readIntProperty(propertiesCache, Constants.BATCH_MAX_SIZE, 50);
+    batchConcurrency = readIntProperty(propertiesCache, Constants.BATCH_CONCURRENCY, 32);
+    slowQueryThresholdMillis =
+        readIntProperty(propertiesCache, Constants.QUERY_LOGGER_THRESHOLD, 300);
+  }
+
+  private static int readIntProperty(
+      PropertiesCache propertiesCache, String key, int defaultValue) {
+    String value = propertiesCache.readProperty(key);
+    if (StringUtils.isNumeric(value) && Integer.parseInt(value) > 0) {
+      return Integer.parseInt(value);
+    }
+    return defaultValue;
+  }
+
+  /**
+   * @desc Binds the values to the cached prepared form of the statement.
+   * @param keyspaceName Keyspace name
+   * @param statement Statement built with bind markers
+   * @param values Values in the order of the bind markers
+   * @return BoundStatement
+   */
+  protected BoundStatement bindStatement(
+      String keyspaceName, RegularStatement statement, List<Object> values) {
+    return bindStatement(keyspaceName, statement.getQueryString(), values);
+  }
+
+  protected BoundStatement bindStatement(String keyspaceName, String query, List<Object> values) {
+    PreparedStatement statement =
+        statementCache.getStatement(
+            connectionManager.getSession(keyspaceName), keyspaceName, query);
+    return statement.bind(values.toArray());
+  }
+
+  protected String getQueryString(Statement statement) {
+    if (statement instanceof BoundStatement) {
+      return ((BoundStatement) statement).preparedStatement().getQueryString();
+    }
+    return statement.toString();
   }
 
   @Override
   public Response insertRecord(String keyspaceName, String tableName, Map<String, Object> request, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service insertRecord method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     String query=null;
     try {
       query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      BoundStatement boundStatement =
+          bindStatement(keyspaceName, query, new ArrayList<>(request.values()));
+      execute(keyspaceName, boundStatement, reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception e) {
+      recordQueryError("insertRecord", tableName);
       if (e.getMessage().contains(Constants.UNKNOWN_IDENTIFIER)
           || e.getMessage().contains(Constants.UNDEFINED_IDENTIFIER)) {
         logger.error(reqContext,
@@ -85,7 +162,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != query){
-        logQueryElapseTime("insertRecord", startTime,query,reqContext);
+        recordQueryTime("insertRecord", tableName, startTime, query, reqContext);
       }
     }
     return response;
@@ -94,15 +171,13 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response updateRecord(String keyspaceName, String tableName, Map<String, Object> request, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service updateRecord method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     String query = null;
     try {
       query = CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, request);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      Object[] array = new Object[request.size()];
-      int i = 0;
+      List<Object> values = new ArrayList<>();
       String str = "";
       int index = query.lastIndexOf(Constants.SET.trim());
       str = query.substring(index + 4);
@@ -111,13 +186,14 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       str = str.replace(Constants.SEMICOLON, "");
       String[] arr = str.split(",");
       for (String key : arr) {
-        array[i++] = request.get(key.trim());
+        values.add(request.get(key.trim()));
       }
-      array[i] = request.get(Constants.IDENTIFIER);
-      BoundStatement boundStatement = statement.bind(array);
-      connectionManager.getSession(keyspaceName).execute(boundStatement);
+      values.add(request.get(Constants.IDENTIFIER));
+      BoundStatement boundStatement = bindStatement(keyspaceName, query, values);
+      execute(keyspaceName, boundStatement, reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception e) {
+      recordQueryError("updateRecord", tableName);
       if (e.getMessage().contains(Constants.UNKNOWN_IDENTIFIER)) {
         logger.error(reqContext,Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage());
         throw new DBException(
@@ -130,7 +206,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != query){
-        logQueryElapseTime("updateRecord", startTime,query,reqContext);
+        recordQueryTime("updateRecord", tableName, startTime, query, reqContext);
       }
     }
     return response;
@@ -139,25 +215,28 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response deleteRecord(String keyspaceName, String tableName, String identifier, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service deleteRecord method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Delete.Where delete = null;
     try {
        delete =
           QueryBuilder.delete()
               .from(keyspaceName, tableName)
-              .where(eq(Constants.IDENTIFIER, identifier));
-      connectionManager.getSession(keyspaceName).execute(delete);
+              .where(eq(Constants.IDENTIFIER, QueryBuilder.bindMarker()));
+      List<Object> values = new ArrayList<>();
+      values.add(identifier);
+      execute(keyspaceName, bindStatement(keyspaceName, delete, values), reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception e) {
+      recordQueryError("deleteRecord", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_DELETE + tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != delete) {
-        logQueryElapseTime("deleteRecord", startTime,delete.getQueryString(),reqContext);
+        recordQueryTime("deleteRecord", tableName, startTime, delete, reqContext);
       }
     }
     return response;
@@ -179,29 +258,36 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> fields,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Session session = connectionManager.getSession(keyspaceName);
-    Builder selectBuilder=null;
+    RegularStatement selectStatement = null;
     try {
+      Builder selectBuilder;
       if (CollectionUtils.isNotEmpty(fields)) {
-        selectBuilder = QueryBuilder.select((String[]) fields.toArray());
+        selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
       } else {
         selectBuilder = QueryBuilder.select().all();
       }
-      Statement selectStatement =
-          selectBuilder.from(keyspaceName, tableName).where(eq(propertyName, propertyValue));
+      selectStatement =
+          selectBuilder
+              .from(keyspaceName, tableName)
+              .where(eq(propertyName, QueryBuilder.bindMarker()));
+      List<Object> values = new ArrayList<>();
+      values.add(propertyValue);
       ResultSet results = null;
-      results = session.execute(selectStatement);
+      results = execute(session, bindStatement(keyspaceName, selectStatement, values), reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByProperty", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      if(null != selectBuilder){
-        logQueryElapseTime("getRecordsByProperty", startTime,selectBuilder.toString(),reqContext);
+      if(null != selectStatement){
+        recordQueryTime("getRecordsByProperty", tableName, startTime, selectStatement, reqContext);
       }
     }
     return response;
@@ -223,30 +309,35 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> fields,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getRecordsByProperty method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
-    Builder selectBuilder= null;
+    RegularStatement selectStatement = null;
     try {
+      Builder selectBuilder;
       if (CollectionUtils.isNotEmpty(fields)) {
         selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
       } else {
         selectBuilder = QueryBuilder.select().all();
       }
-      Statement selectStatement =
+      selectStatement =
           selectBuilder
               .from(keyspaceName, tableName)
-              .where(QueryBuilder.in(propertyName, propertyValueList));
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectStatement);
+              .where(QueryBuilder.in(propertyName, QueryBuilder.bindMarker()));
+      List<Object> values = new ArrayList<>();
+      values.add(propertyValueList);
+      ResultSet results =
+          execute(keyspaceName, bindStatement(keyspaceName, selectStatement, values), reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByProperty", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      if(null != selectBuilder){
-        logQueryElapseTime("getRecordsByProperty", startTime,selectBuilder.toString(),reqContext);
+      if(null != selectStatement){
+        recordQueryTime("getRecordsByProperty", tableName, startTime, selectStatement, reqContext);
       }
     }
     return response;
@@ -262,91 +353,105 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response getRecordsByProperties(
       String keyspaceName, String tableName, Map<String, Object> propertyMap, List<String> fields,Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getRecordsByProperties method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
-    Builder selectBuilder=null;
+    BoundStatement statement = null;
     try {
-      if (CollectionUtils.isNotEmpty(fields)) {
-        String[] dbFields = fields.toArray(new String[fields.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-      if (MapUtils.isNotEmpty(propertyMap)) {
-        Where selectWhere = selectQuery.where();
-        for (Entry<String, Object> entry : propertyMap.entrySet()) {
-          if (entry.getValue() instanceof List) {
-            List<Object> list = (List) entry.getValue();
-            if (null != list) {
-              Object[] propertyValues = list.toArray(new Object[list.size()]);
-              Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
-              selectWhere.and(clause);
-            }
-          } else {
-            Clause clause = eq(entry.getKey(), entry.getValue());
-            selectWhere.and(clause);
-          }
-        }
-      }
-      // TODO : selectQuery.allowFiltering() is removed for now. Need to add a separate method for
-      // it
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      statement = createSelectStatement(keyspaceName, tableName, propertyMap, fields);
+      ResultSet results = execute(keyspaceName, statement, reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByProperties", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      if (null != selectBuilder) {
-        logQueryElapseTime("getRecordsByProperties", startTime,selectBuilder.toString(),reqContext);
+      if (null != statement) {
+        recordQueryTime("getRecordsByProperties", tableName, startTime, statement, reqContext);
       }
     }
     return response;
   }
 
+  private BoundStatement createSelectStatement(
+      String keyspaceName, String tableName, Map<String, Object> propertyMap, List<String> fields) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      String[] dbFields = fields.toArray(new String[fields.size()]);
+      selectBuilder = QueryBuilder.select(dbFields);
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    List<Object> values = new ArrayList<>();
+    if (MapUtils.isNotEmpty(propertyMap)) {
+      Where selectWhere = selectQuery.where();
+      for (Entry<String, Object> entry : propertyMap.entrySet()) {
+        if (entry.getValue() instanceof List) {
+          List<Object> list = (List) entry.getValue();
+          if (null != list) {
+            Clause clause = QueryBuilder.in(entry.getKey(), QueryBuilder.bindMarker());
+            selectWhere.and(clause);
+            values.add(list);
+          }
+        } else {
+          Clause clause = eq(entry.getKey(), QueryBuilder.bindMarker());
+          selectWhere.and(clause);
+          values.add(entry.getValue());
+        }
+      }
+    }
+    // TODO : selectQuery.allowFiltering() is removed for now. Need to add a separate method for
+    // it
+    return bindStatement(keyspaceName, selectQuery, values);
+  }
+
   @Override
   public Response getPropertiesValueById(
       String keyspaceName, String tableName, String id, Map<String,Object> reqContext, String... properties) throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getPropertiesValueById method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     String selectQuery = CassandraUtil.getSelectStatement(keyspaceName, tableName, properties);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(selectQuery);
-      BoundStatement boundStatement = new BoundStatement(statement);
+      List<Object> values = new ArrayList<>();
+      values.add(id);
       ResultSet results =
-          connectionManager.getSession(keyspaceName).execute(boundStatement.bind(id));
+          execute(keyspaceName, bindStatement(keyspaceName, selectQuery, values), reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getPropertiesValueById", tableName);
       logger.error(Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getPropertiesValueById", startTime,selectQuery,reqContext);
+      recordQueryTime("getPropertiesValueById", tableName, startTime, selectQuery, reqContext);
     }
     return response;
   }
 
   @Override
   public Response getAllRecords(String keyspaceName, String tableName, Map<String,Object> reqContext) throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getAllRecords method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Select selectQuery = QueryBuilder.select().all().from(keyspaceName, tableName);
     try {
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results =
+          execute(
+              keyspaceName, bindStatement(keyspaceName, selectQuery, new ArrayList<>()), reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getAllRecords", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getAllRecords", startTime,selectQuery.getQueryString(),reqContext);
+      recordQueryTime("getAllRecords", tableName, startTime, selectQuery, reqContext);
     }
     return response;
   }
@@ -354,23 +459,18 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response upsertRecord(String keyspaceName, String tableName, Map<String, Object> request, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service upsertRecord method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      BoundStatement boundStatement =
+          bindStatement(keyspaceName, query, new ArrayList<>(request.values()));
+      execute(keyspaceName, boundStatement, reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
 
     } catch (Exception e) {
+      recordQueryError("upsertRecord", tableName);
       if (e.getMessage().contains(Constants.UNKNOWN_IDENTIFIER)) {
         logger.error(reqContext,Constants.EXCEPTION_MSG_UPSERT + tableName + " : " + e.getMessage());
         throw new DBException(
@@ -383,7 +483,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("upsertRecord", startTime,query,reqContext);
+      recordQueryTime("upsertRecord", tableName, startTime, query, reqContext);
     }
     return response;
   }
@@ -396,32 +496,17 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       Map<String, Object> compositeKey,
       Map<String,Object> reqContext)
       throws DBException {
+    Deadline.check(reqContext);
 
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service updateRecord method started at == {0}", startTime));
+    long startTime = System.nanoTime();
     Response response = new Response();
-    Update update = QueryBuilder.update(keyspaceName, tableName);
+    BoundStatement statement = null;
     try {
       Session session = connectionManager.getSession(keyspaceName);
-      Assignments assignments = update.with();
-      Update.Where where = update.where();
-      request
-          .entrySet()
-          .stream()
-          .forEach(
-              x -> {
-                assignments.and(QueryBuilder.set(x.getKey(), x.getValue()));
-              });
-      compositeKey
-          .entrySet()
-          .stream()
-          .forEach(
-              x -> {
-                where.and(eq(x.getKey(), x.getValue()));
-              });
-      Statement updateQuery = where;
-      session.execute(updateQuery);
+      statement = createUpdateStatement(keyspaceName, tableName, request, compositeKey);
+      execute(session, statement, reqContext);
     } catch (Exception e) {
+      recordQueryError("updateRecord", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage());
       if (e.getMessage().contains(Constants.UNKNOWN_IDENTIFIER)) {
         throw new DBException(
@@ -432,53 +517,76 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               localizer.getMessage(IResponseMessage.DB_UPDATE_FAIL, null),
               IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("updateRecord", startTime,update.getQueryString(),reqContext);
+      if (null != statement) {
+        recordQueryTime("updateRecord", tableName, startTime, statement, reqContext);
+      }
     }
     return response;
   }
 
+  private BoundStatement createUpdateStatement(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey) {
+    List<Object> values = new ArrayList<>();
+    RegularStatement update =
+        CassandraUtil.createUpdateQuery(compositeKey, request, keyspaceName, tableName, values);
+    return bindStatement(keyspaceName, update, values);
+  }
+
   private Response getRecordByIdentifier(
       String keyspaceName, String tableName, Object key, List<String> fields, Map<String,Object> reqContext) throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getRecordBy key method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
-    Builder selectBuilder=null;
+    BoundStatement statement = null;
     try {
       Session session = connectionManager.getSession(keyspaceName);
-      if (CollectionUtils.isNotEmpty(fields)) {
-        selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-      Where selectWhere = selectQuery.where();
-      if (key instanceof String) {
-        selectWhere.and(eq(Constants.IDENTIFIER, key));
-      } else if (key instanceof Map) {
-        Map<String, Object> compositeKey = (Map<String, Object>) key;
-        compositeKey
-            .entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  CassandraUtil.createQuery(x.getKey(), x.getValue(), selectWhere);
-                });
-      }
-      ResultSet results = session.execute(selectWhere);
+      statement = createSelectByIdentifierStatement(keyspaceName, tableName, key, fields);
+      ResultSet results = execute(session, statement, reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordByIdentifier", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      if(null != selectBuilder){
-        logQueryElapseTime("getRecordByIdentifier", startTime,selectBuilder.toString(),reqContext);
+      if(null != statement){
+        recordQueryTime("getRecordByIdentifier", tableName, startTime, statement, reqContext);
       }
     }
     return response;
   }
 
+  private BoundStatement createSelectByIdentifierStatement(
+      String keyspaceName, String tableName, Object key, List<String> fields) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    Where selectWhere = selectQuery.where();
+    List<Object> values = new ArrayList<>();
+    if (key instanceof String) {
+      selectWhere.and(eq(Constants.IDENTIFIER, QueryBuilder.bindMarker()));
+      values.add(key);
+    } else if (key instanceof Map) {
+      Map<String, Object> compositeKey = (Map<String, Object>) key;
+      compositeKey
+          .entrySet()
+          .stream()
+          .forEach(
+              x -> {
+                CassandraUtil.createBindQuery(x.getKey(), x.getValue(), selectWhere, values);
+              });
+    }
+    return bindStatement(keyspaceName, selectWhere, values);
+  }
+
   @Override
   public Response getRecordById(String keyspaceName, String tableName, String key, Map<String,Object> reqContext)
       throws DBException {
@@ -524,36 +632,40 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> fields,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service getRecordBy key method started at == {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
-    Selection select = QueryBuilder.select();
+    Select.Where selectWhere = null;
     try {
       Session session = connectionManager.getSession(keyspaceName);
+      Selection select = QueryBuilder.select();
       for (String field : fields) {
         select.column(field);
       }
       for (String field : ttlFields) {
         select.ttl(field).as(field + "_ttl");
       }
-      Select.Where selectWhere = select.from(keyspaceName, tableName).where();
-      key.entrySet()
-          .stream()
-          .forEach(
-              x -> {
-                selectWhere.and(QueryBuilder.eq(x.getKey(), x.getValue()));
-              });
+      selectWhere = select.from(keyspaceName, tableName).where();
+      List<Object> values = new ArrayList<>();
+      for (Map.Entry<String, Object> x : key.entrySet()) {
+        selectWhere.and(QueryBuilder.eq(x.getKey(), QueryBuilder.bindMarker()));
+        values.add(x.getValue());
+      }
 
-      ResultSet results = session.execute(selectWhere);
+      ResultSet results =
+          execute(session, bindStatement(keyspaceName, selectWhere, values), reqContext);
       response = CassandraUtil.createResponse(results);
       return response;
     } catch (Exception e) {
+      recordQueryError("getRecordByIdentifier", tableName);
       logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
       throw new DBException(
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getRecordByIdentifier", startTime,select.toString(),reqContext);
+      if (null != selectWhere) {
+        recordQueryTime("getRecordByIdentifier", tableName, startTime, selectWhere, reqContext);
+      }
     }
   }
 
@@ -561,39 +673,28 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response batchInsert(
       String keyspaceName, String tableName, List<Map<String, Object>> records, Map<String,Object> reqContext)
       throws DBException {
+    Deadline.check(reqContext);
+    return join(batchInsertAsync(keyspaceName, tableName, records, reqContext));
+  }
 
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service batchInsert method started at == {0}", startTime));
-    Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
-
-    try {
-      Session session = connectionManager.getSession(keyspaceName);
-      for (Map<String, Object> map : records) {
-        Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
-        map.entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  insert.value(x.getKey(), x.getValue());
-                });
-        batchStatement.add(insert);
-      }
-      resultSet = session.execute(batchStatement);
-      response.put(Constants.RESPONSE, Constants.SUCCESS);
-      return response;
-    } catch (QueryExecutionException
-        | QueryValidationException
-        | NoHostAvailableException
-        | IllegalStateException e) {
-      logger.error(reqContext,"Cassandra Batch Insert Failed." + e.getMessage());
-      throw new DBException(
-           e.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      logQueryElapseTime("batchInsert", startTime,batchStatement.toString(),reqContext);
-    }
+  @Override
+  public Response batchUpsert(
+      String keyspaceName, String tableName, List<Map<String, Object>> records, Map<String,Object> reqContext)
+      throws DBException {
+    Deadline.check(reqContext);
+    return join(
+        writeBatchAsync(
+            "batchUpsert",
+            keyspaceName,
+            tableName,
+            () -> {
+              List<Statement> statements = new ArrayList<>();
+              for (Map<String, Object> map : records) {
+                statements.add(createInsertStatement(keyspaceName, tableName, map));
+              }
+              return statements;
+            },
+            reqContext));
   }
 
   /**
@@ -608,32 +709,20 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response batchUpdateById(
       String keyspaceName, String tableName, List<Map<String, Object>> records, Map<String,Object> reqContext)
       throws DBException {
-
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service batchUpdateById method started at == {0}", startTime));
-    Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
-    try {
-      Session session = connectionManager.getSession(keyspaceName);
-      for (Map<String, Object> map : records) {
-        Update update = createUpdateStatement(keyspaceName, tableName, map);
-        batchStatement.add(update);
-      }
-      resultSet = session.execute(batchStatement);
-      response.put(Constants.RESPONSE, Constants.SUCCESS);
-    } catch (QueryExecutionException
-        | QueryValidationException
-        | NoHostAvailableException
-        | IllegalStateException e) {
-      logger.error(reqContext,"Cassandra Batch Update Failed." + e.getMessage());
-      throw new DBException(
-          e.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      logQueryElapseTime("batchUpdateById", startTime,batchStatement.toString(),reqContext);
-    }
-    return response;
+    Deadline.check(reqContext);
+    return join(
+        writeBatchAsync(
+            "batchUpdateById",
+            keyspaceName,
+            tableName,
+            () -> {
+              List<Statement> statements = new ArrayList<>();
+              for (Map<String, Object> map : records) {
+                statements.add(createUpdateStatement(keyspaceName, tableName, map));
+              }
+              return statements;
+            },
+            reqContext));
   }
 
   /**
@@ -648,9 +737,9 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response performBatchAction(
       String keySpaceName, String tableName, Map<String, Object> inputData, Map<String,Object> reqContext) throws DBException {
+    Deadline.check(reqContext);
 
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service performBatchAction method started at == {0}", startTime));
+    long startTime = System.nanoTime();
 
     Session session = connectionManager.getSession(keySpaceName);
     Response response = new Response();
@@ -661,119 +750,128 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           (key, inputMap) -> {
             Map<String, Object> record = (Map<String, Object>) inputMap;
             if (key.equals(Constants.INSERT)) {
-              Insert insert = createInsertStatement(keySpaceName, tableName, record);
-              batchStatement.add(insert);
+              batchStatement.add(createInsertStatement(keySpaceName, tableName, record));
             } else if (key.equals(Constants.UPDATE)) {
-              Update update = createUpdateStatement(keySpaceName, tableName, record);
-              batchStatement.add(update);
+              batchStatement.add(createUpdateStatement(keySpaceName, tableName, record));
             }
           });
-      resultSet = session.execute(batchStatement);
+      resultSet = execute(session, batchStatement, reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("performBatchAction", tableName);
       logger.error(reqContext,"Cassandra performBatchAction Failed." + e.getMessage());
       throw new DBException(
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("performBatchAction", startTime,batchStatement.toString(),reqContext);
+      recordQueryTime("performBatchAction", tableName, startTime, batchStatement, reqContext);
 
     }
     return response;
   }
 
-  private Insert createInsertStatement(
+  private BoundStatement createInsertStatement(
       String keySpaceName, String tableName, Map<String, Object> record) {
     Insert insert = QueryBuilder.insertInto(keySpaceName, tableName);
+    List<Object> values = new ArrayList<>();
     record
         .entrySet()
         .stream()
         .forEach(
             x -> {
-              insert.value(x.getKey(), x.getValue());
+              insert.value(x.getKey(), QueryBuilder.bindMarker());
+              values.add(x.getValue());
             });
-    return insert;
+    return bindStatement(keySpaceName, insert, values);
   }
 
-  private Update createUpdateStatement(
+  private BoundStatement createUpdateStatement(
       String keySpaceName, String tableName, Map<String, Object> record) {
     Update update = QueryBuilder.update(keySpaceName, tableName);
     Assignments assignments = update.with();
     Update.Where where = update.where();
+    List<Object> values = new ArrayList<>();
     record
         .entrySet()
         .stream()
+        .filter(x -> !Constants.ID.equals(x.getKey()))
         .forEach(
             x -> {
-              if (Constants.ID.equals(x.getKey())) {
-                where.and(eq(x.getKey(), x.getValue()));
-              } else {
-                assignments.and(QueryBuilder.set(x.getKey(), x.getValue()));
-              }
+              assignments.and(QueryBuilder.set(x.getKey(), QueryBuilder.bindMarker()));
+              values.add(x.getValue());
             });
-    return update;
+    where.and(eq(Constants.ID, QueryBuilder.bindMarker()));
+    values.add(record.get(Constants.ID));
+    return bindStatement(keySpaceName, update, values);
   }
 
   @Override
   public Response batchUpdate(
       String keyspaceName, String tableName, List<Map<String, Map<String, Object>>> list, Map<String,Object> reqContext)
       throws DBException {
+    Deadline.check(reqContext);
+    return join(batchUpdateAsync(keyspaceName, tableName, list, reqContext));
+  }
 
-    BatchStatement batchStatement = new BatchStatement();
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service batchUpdate method started at == {0}", startTime));
-    Response response = new Response();
-    ResultSet resultSet = null;
-    try {
-      Session session = connectionManager.getSession(keyspaceName);
-      for (Map<String, Map<String, Object>> record : list) {
-        Map<String, Object> primaryKey = record.get(Constants.PRIMARY_KEY);
-        Map<String, Object> nonPKRecord = record.get(Constants.NON_PRIMARY_KEY);
-        batchStatement.add(
-            CassandraUtil.createUpdateQuery(primaryKey, nonPKRecord, keyspaceName, tableName));
-      }
-      resultSet = session.execute(batchStatement);
-      response.put(Constants.RESPONSE, Constants.SUCCESS);
-    } catch (Exception ex) {
-      logger.error(reqContext,"Cassandra Batch Update failed " + ex.getMessage());
-      throw new DBException(
-              ex.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      logQueryElapseTime("batchUpdate", startTime,batchStatement.toString(),reqContext);
+  /**
+   * @desc Records the time elapsed since startTime into the query metrics of the operation and the
+   *     table, and logs the query when it took longer than queryLoggerConstantThreshold.
+   * @param operation Method name
+   * @param tableName Table name
+   * @param startTime Start time taken with System.nanoTime
+   * @param query Statement or query string, only turned into a string for a slow query
+   */
+  protected void recordQueryTime(
+      String operation,
+      String tableName,
+      long startTime,
+      Object query,
+      Map<String, Object> context) {
+    long elapsedNanos = System.nanoTime() - startTime;
+    queryMetrics.recordLatency(
+        operation, tableName, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    if (elapsedMillis >= slowQueryThresholdMillis) {
+      logger.info(
+          context,
+          MessageFormat.format(
+              "Slow cassandra operation {0} on {1} took {2} ms : {3}",
+              operation,
+              tableName,
+              elapsedMillis,
+              query instanceof Statement ? getQueryString((Statement) query) : query));
     }
-    return response;
   }
 
-  protected void logQueryElapseTime(String operation, long startTime,String query, Map<String,Object> context) {
-
-    logger.debug(context, "Cassandra query : " + query);
-    long stopTime = System.currentTimeMillis();
-    long elapsedTime = stopTime - startTime;
-    String message =
-            "Cassandra operation {0} started at {1} and completed at {2}. Total time elapsed is {3}.";
-    MessageFormat mf = new MessageFormat(message);
-    logger.debug(context, mf.format(new Object[] {operation, startTime, stopTime, elapsedTime}));
+  protected void recordQueryError(String operation, String tableName) {
+    queryMetrics.recordError(operation, tableName);
   }
 
+
   @Override
   public Response getRecordsByIndexedProperty(
       String keyspaceName, String tableName, String propertyName, Object propertyValue, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("CassandraOperationImpl:getRecordsByIndexedProperty called at {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Select selectQuery = QueryBuilder.select().all().from(keyspaceName, tableName);
     try {
-      selectQuery.where().and(eq(propertyName, propertyValue));
+      selectQuery.where().and(eq(propertyName, QueryBuilder.bindMarker()));
+      List<Object> values = new ArrayList<>();
+      values.add(propertyValue);
       ResultSet results =
-          connectionManager.getSession(keyspaceName).execute(selectQuery.allowFiltering());
+          execute(
+              keyspaceName,
+              bindStatement(keyspaceName, selectQuery.allowFiltering(), values),
+              reqContext);
       response = CassandraUtil.createResponse(results);
       return response;
     } catch (Exception e) {
+      recordQueryError("getRecordsByIndexedProperty", tableName);
       logger.error(reqContext,
           "CassandraOperationImpl:getRecordsByIndexedProperty: "
               + Constants.EXCEPTION_MSG_FETCH
@@ -784,7 +882,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getRecordsByIndexedProperty", startTime,selectQuery.getQueryString(),reqContext);
+      recordQueryTime("getRecordsByIndexedProperty", tableName, startTime, selectQuery, reqContext);
     }
   }
 
@@ -792,21 +890,14 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public void deleteRecord(
       String keyspaceName, String tableName, Map<String, String> compositeKeyMap, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("CassandraOperationImpl: deleteRecord by composite key called at {0} ", startTime));
-    Delete delete = QueryBuilder.delete().from(keyspaceName, tableName);
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
+    BoundStatement statement = null;
     try {
-      Delete.Where deleteWhere = delete.where();
-      compositeKeyMap
-          .entrySet()
-          .stream()
-          .forEach(
-              x -> {
-                Clause clause = eq(x.getKey(), x.getValue());
-                deleteWhere.and(clause);
-              });
-      connectionManager.getSession(keyspaceName).execute(delete);
+      statement = createDeleteStatement(keyspaceName, tableName, compositeKeyMap);
+      execute(keyspaceName, statement, reqContext);
     } catch (Exception e) {
+      recordQueryError("deleteRecordByCompositeKey", tableName);
       logger.error(reqContext,
           "CassandraOperationImpl: deleteRecord by composite key. "
               + Constants.EXCEPTION_MSG_DELETE
@@ -817,23 +908,37 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("deleteRecordByCompositeKey", startTime,delete.getQueryString(),reqContext);
+      if (null != statement) {
+        recordQueryTime("deleteRecordByCompositeKey", tableName, startTime, statement, reqContext);
+      }
     }
   }
 
+  private BoundStatement createDeleteStatement(
+      String keyspaceName, String tableName, Map<String, ?> compositeKeyMap) {
+    List<Object> values = new ArrayList<>();
+    RegularStatement delete =
+        CassandraUtil.createDeleteQuery(
+            new HashMap<>(compositeKeyMap), keyspaceName, tableName, values);
+    return bindStatement(keyspaceName, delete, values);
+  }
+
   @Override
   public boolean deleteRecords(String keyspaceName, String tableName, List<String> identifierList, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     ResultSet resultSet;
-    logger.debug(reqContext,MessageFormat.format("CassandraOperationImpl: deleteRecords called at {0} ", startTime));
     Delete delete = QueryBuilder.delete().from(keyspaceName, tableName);
     try {
       Delete.Where deleteWhere = delete.where();
-      Clause clause = QueryBuilder.in(Constants.ID, identifierList);
+      Clause clause = QueryBuilder.in(Constants.ID, QueryBuilder.bindMarker());
       deleteWhere.and(clause);
-      resultSet = connectionManager.getSession(keyspaceName).execute(delete);
+      List<Object> values = new ArrayList<>();
+      values.add(identifierList);
+      resultSet = execute(keyspaceName, bindStatement(keyspaceName, delete, values), reqContext);
     } catch (Exception e) {
+      recordQueryError("deleteRecords", tableName);
       logger.error(reqContext,
           "CassandraOperationImpl: deleteRecords by list of primary key. "
               + Constants.EXCEPTION_MSG_DELETE
@@ -844,7 +949,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("deleteRecords", startTime,delete.getQueryString(),reqContext);
+      recordQueryTime("deleteRecords", tableName, startTime, delete, reqContext);
 
     }
     return resultSet.wasApplied();
@@ -854,22 +959,26 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response getRecordsByCompositeKey(
       String keyspaceName, String tableName, Map<String, Object> compositeKeyMap, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("CassandraOperationImpl: getRecordsByCompositeKey called at {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Builder selectBuilder = QueryBuilder.select().all();
     Select selectQuery = selectBuilder.from(keyspaceName, tableName);
     try {
 
       Where selectWhere = selectQuery.where();
+      List<Object> values = new ArrayList<>();
       for (Entry<String, Object> entry : compositeKeyMap.entrySet()) {
-        Clause clause = eq(entry.getKey(), entry.getValue());
+        Clause clause = eq(entry.getKey(), QueryBuilder.bindMarker());
         selectWhere.and(clause);
+        values.add(entry.getValue());
       }
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results =
+          execute(keyspaceName, bindStatement(keyspaceName, selectQuery, values), reqContext);
       response = CassandraUtil.createResponse(results);
       return response;
     } catch (Exception e) {
+      recordQueryError("getRecordsByCompositeKey", tableName);
       logger.error(reqContext,
           "CassandraOperationImpl:getRecordsByCompositeKey: "
               + Constants.EXCEPTION_MSG_FETCH
@@ -880,7 +989,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getRecordsByCompositeKey", startTime,selectQuery.getQueryString(),reqContext);
+      recordQueryTime("getRecordsByCompositeKey", tableName, startTime, selectQuery, reqContext);
 
     }
   }
@@ -889,10 +998,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response getRecordsByIdsWithSpecifiedColumns(
       String keyspaceName, String tableName, List<String> properties, List<String> ids, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format(
-        "CassandraOperationImpl: getRecordsByIdsWithSpecifiedColumns call started at  {0}",
-        startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Builder selectBuilder=null;
     try {
@@ -901,16 +1008,22 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       } else {
         selectBuilder = QueryBuilder.select().all();
       }
-      response = executeSelectQuery(keyspaceName, tableName, ids, selectBuilder, "");
+      response = executeSelectQuery(keyspaceName, tableName, ids, selectBuilder, "", reqContext);
       return response;
     } catch (Exception e) {
+      recordQueryError("getRecordsByIdsWithSpecifiedColumns", tableName);
       logger.error(Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new DBException(
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != selectBuilder){
-        logQueryElapseTime("getRecordsByIdsWithSpecifiedColumns", startTime,selectBuilder.toString(),reqContext);
+        recordQueryTime(
+            "getRecordsByIdsWithSpecifiedColumns",
+            tableName,
+            startTime,
+            createSelectByKeysQuery(keyspaceName, tableName, selectBuilder, "", isMultiGet(ids)),
+            reqContext);
       }
     }
   }
@@ -920,42 +1033,416 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       String tableName,
       List<String> ids,
       Builder selectBuilder,
-      String primaryKeyColumnName) {
-    Response response;
-    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-    Where selectWhere = selectQuery.where();
-    Clause clause = null;
-    if (StringUtils.isBlank(primaryKeyColumnName)) {
-      clause = QueryBuilder.in(Constants.ID, ids.toArray(new Object[ids.size()]));
-    } else {
-      clause = QueryBuilder.in(primaryKeyColumnName, ids.toArray(new Object[ids.size()]));
+      String primaryKeyColumnName,
+      Map<String, Object> reqContext) {
+    if (isMultiGet(ids)) {
+      return join(
+          selectByKeysAsync(
+              keyspaceName,
+              tableName,
+              ids,
+              selectBuilder,
+              primaryKeyColumnName,
+              CassandraOperationImpl::createResponse,
+              reqContext));
+    }
+    BoundStatement statement =
+        createSelectByKeysStatement(keyspaceName, tableName, ids, selectBuilder, primaryKeyColumnName);
+    ResultSet results = execute(keyspaceName, statement, reqContext);
+    return CassandraUtil.createResponse(results);
+  }
+
+  protected static <R> R join(CompletionStage<R> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new DBException(String.valueOf(cause), IResponseMessage.SERVER_ERROR);
+    }
+  }
+
+  /**
+   * @desc Multi partition IN queries make one coordinator wait for every partition, so above the
+   *     configured number of keys each key is read with its own single partition query instead.
+   * @param ids Primary key values
+   * @return true if the keys are to be fetched with one query per key
+   */
+  protected boolean isMultiGet(List<String> ids) {
+    return multiGetEnabled && null != ids && ids.size() >= multiGetMinKeys;
+  }
+
+  /**
+   * @desc Fetches the rows for the given keys and maps the result sets with the given function.
+   *     When {@link #isMultiGet} holds, every key is read with its own prepared single partition
+   *     query. The bound statements carry their routing key, so the token aware policy sends each
+   *     one to a replica owning the partition. At most multiGetConcurrency queries are in flight,
+   *     result sets are in the order of the keys and duplicate keys are fetched once, as with IN.
+   *     Otherwise the keys are read with one IN query.
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param ids Primary key values
+   * @param selectBuilder Builder with the columns to fetch
+   * @param primaryKeyColumnName Primary key column name, id column is used when blank
+   * @param resultMapper Maps the result sets, called on a driver thread once they are fully fetched
+   * @param reqContext Request context, the read timeout of every query is cut to its deadline
+   * @return CompletionStage of the mapped result, completes exceptionally with a DBException, or
+   *     with the BaseException of Deadline#check when the deadline passed before the reads start
+   */
+  protected <R> CompletionStage<R> selectByKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      Builder selectBuilder,
+      String primaryKeyColumnName,
+      Function<List<ResultSet>, R> resultMapper,
+      Map<String, Object> reqContext) {
+    CompletableFuture<R> future = new CompletableFuture<>();
+    List<Statement> statements = new ArrayList<>();
+    Session session;
+    try {
+      session = connectionManager.getSession(keyspaceName);
+      if (isMultiGet(ids)) {
+        PreparedStatement preparedStatement =
+            statementCache.getStatement(
+                session,
+                keyspaceName,
+                createSelectByKeysQuery(
+                    keyspaceName, tableName, selectBuilder, primaryKeyColumnName, true));
+        for (String id : new LinkedHashSet<>(ids)) {
+          statements.add(withDeadline(session, preparedStatement.bind(id), reqContext));
+        }
+      } else {
+        statements.add(
+            withDeadline(
+                session,
+                createSelectByKeysStatement(
+                    keyspaceName, tableName, ids, selectBuilder, primaryKeyColumnName),
+                reqContext));
+      }
+    } catch (Exception e) {
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+      return future;
     }
+    try {
+      Deadline.check(reqContext);
+    } catch (BaseException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+    MultiGetExecutor.execute(session, statements, multiGetConcurrency)
+        .thenCompose(CassandraOperationImpl::fetchAllPages)
+        .whenComplete(
+            (resultSets, error) -> {
+              if (null != error) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                future.completeExceptionally(
+                    new DBException(cause.getMessage(), IResponseMessage.SERVER_ERROR));
+              } else {
+                completeWithResult(future, resultSets, resultMapper);
+              }
+            });
+    return future;
+  }
+
+  /**
+   * @desc Fetches the remaining pages of the result sets without blocking, see {@link
+   *     #fetchAllPages(ResultSet)}.
+   * @param resultSets Result sets of the first pages
+   * @return CompletionStage of the same result sets once all of them are fully fetched
+   */
+  static CompletionStage<List<ResultSet>> fetchAllPages(List<ResultSet> resultSets) {
+    CompletableFuture<?>[] fetches =
+        resultSets
+            .stream()
+            .map(resultSet -> fetchAllPages(resultSet).toCompletableFuture())
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(fetches).thenApply(ignored -> resultSets);
+  }
+
+  /**
+   * @desc Fetches the remaining pages of the result set without blocking. Each page is requested
+   *     from the callback of the previous one, run on the driver I/O thread that received it, so
+   *     mapping the rows afterwards does not block on a page fetch.
+   * @param resultSet Result set of the first page
+   * @return CompletionStage of the same result set once it is fully fetched
+   */
+  static CompletionStage<ResultSet> fetchAllPages(ResultSet resultSet) {
+    if (resultSet.isFullyFetched()) {
+      return CompletableFuture.completedFuture(resultSet);
+    }
+    CompletableFuture<ResultSet> future = new CompletableFuture<>();
+    Futures.addCallback(
+        resultSet.fetchMoreResults(),
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet page) {
+            fetchAllPages(resultSet)
+                .whenComplete(
+                    (fetched, error) -> {
+                      if (null != error) {
+                        future.completeExceptionally(error);
+                      } else {
+                        future.complete(fetched);
+                      }
+                    });
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            future.completeExceptionally(t);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return future;
+  }
+
+  private <R> CompletionStage<R> selectByKeysAsync(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      Builder selectBuilder,
+      String primaryKeyColumnName,
+      Function<List<ResultSet>, R> resultMapper,
+      Map<String, Object> reqContext) {
+    long startTime = System.nanoTime();
+    return selectByKeysAsync(
+            keyspaceName,
+            tableName,
+            ids,
+            selectBuilder,
+            primaryKeyColumnName,
+            resultMapper,
+            reqContext)
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    reqContext,
+                    Constants.EXCEPTION_MSG_FETCH + tableName + " : " + error.getMessage());
+                recordQueryError(operation, tableName);
+              }
+              recordQueryTime(
+                  operation,
+                  tableName,
+                  startTime,
+                  createSelectByKeysQuery(
+                      keyspaceName, tableName, selectBuilder, primaryKeyColumnName, isMultiGet(ids)),
+                  reqContext);
+            });
+  }
+
+  private static <R> void completeWithResult(
+      CompletableFuture<R> future,
+      List<ResultSet> resultSets,
+      Function<List<ResultSet>, R> resultMapper) {
+    try {
+      future.complete(resultMapper.apply(resultSets));
+    } catch (Exception e) {
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+    }
+  }
 
-    selectWhere.and(clause);
-    ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
-    response = CassandraUtil.createResponse(results);
+  private static Response createResponse(List<ResultSet> resultSets) {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (ResultSet resultSet : resultSets) {
+      rows.addAll(
+          (List<Map<String, Object>>)
+              CassandraUtil.createResponse(resultSet).get(Constants.RESPONSE));
+    }
+    Response response = new Response();
+    response.put(Constants.RESPONSE, rows);
     return response;
   }
 
+  private static <T> List<T> mapRows(List<ResultSet> resultSets, RowMapper<T> rowMapper) {
+    List<T> models = new ArrayList<>();
+    for (ResultSet resultSet : resultSets) {
+      models.addAll(rowMapper.mapAll(resultSet));
+    }
+    return models;
+  }
+
+  @Override
+  public <T> List<T> getRecordsByPrimaryKeys(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    return join(
+        getRecordsByPrimaryKeysAsync(
+            keyspaceName, tableName, primaryKeys, primaryKeyColumnName, rowMapper, reqContext));
+  }
+
+  @Override
+  public <T> List<T> getRecordsByIdsWithSpecifiedColumns(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    return join(
+        getRecordsByIdsWithSpecifiedColumnsAsync(
+            keyspaceName, tableName, properties, ids, rowMapper, reqContext));
+  }
+
+  @Override
+  public <T> Page<T> getRecordsPageByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      int pageSize,
+      String pageToken,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
+    BoundStatement statement = null;
+    try {
+      statement = createSelectStatement(keyspaceName, tableName, propertyMap, fields);
+      statement.setFetchSize(pageSize);
+      if (StringUtils.isNotBlank(pageToken)) {
+        setPageToken(statement, pageToken);
+      }
+      ResultSet results = execute(keyspaceName, statement, reqContext);
+      List<T> records = rowMapper.mapAvailable(results);
+      return new Page<>(records, encodePageToken(results.getExecutionInfo().getPagingState()));
+    } catch (DBException e) {
+      recordQueryError("getRecordsPageByProperties", tableName);
+      throw e;
+    } catch (Exception e) {
+      recordQueryError("getRecordsPageByProperties", tableName);
+      logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
+      throw new DBException(
+              e.getMessage(),
+          IResponseMessage.SERVER_ERROR);
+    } finally {
+      if (null != statement) {
+        recordQueryTime("getRecordsPageByProperties", tableName, startTime, statement, reqContext);
+      }
+    }
+  }
+
+  @Override
+  public <T> Iterator<T> streamRecordsByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      int fetchSize,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
+    BoundStatement statement = null;
+    try {
+      statement = createSelectStatement(keyspaceName, tableName, propertyMap, fields);
+      statement.setFetchSize(fetchSize);
+      ResultSet results = execute(keyspaceName, statement, reqContext);
+      return rowMapper.iterate(results, Math.max(fetchSize / 2, 1));
+    } catch (Exception e) {
+      recordQueryError("streamRecordsByProperties", tableName);
+      logger.error(reqContext,Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
+      throw new DBException(
+              e.getMessage(),
+          IResponseMessage.SERVER_ERROR);
+    } finally {
+      if (null != statement) {
+        recordQueryTime("streamRecordsByProperties", tableName, startTime, statement, reqContext);
+      }
+    }
+  }
+
+  private static String encodePageToken(PagingState pagingState) {
+    if (null == pagingState) {
+      return null;
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(pagingState.toBytes());
+  }
+
+  /** The paging state is rejected when it was not returned for the same query and values. */
+  private static void setPageToken(Statement statement, String pageToken) {
+    try {
+      statement.setPagingState(PagingState.fromBytes(Base64.getUrlDecoder().decode(pageToken)));
+    } catch (Exception e) {
+      throw new DBException(
+          IResponseMessage.INVALID_PARAMETER_VALUE,
+          MessageFormat.format("Invalid page token {0}", pageToken),
+          ResponseCode.CLIENT_ERROR.getCode());
+    }
+  }
+
+  private BoundStatement createSelectByKeysStatement(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      Builder selectBuilder,
+      String primaryKeyColumnName) {
+    Select selectQuery =
+        createSelectByKeysQuery(keyspaceName, tableName, selectBuilder, primaryKeyColumnName, false);
+    List<Object> values = new ArrayList<>();
+    values.add(ids);
+    return bindStatement(keyspaceName, selectQuery, values);
+  }
+
+  /**
+   * @desc Select by the primary key column, the id column when it is blank. A multi-get query
+   *     reads one key, otherwise the keys are bound to one IN clause.
+   */
+  private static Select createSelectByKeysQuery(
+      String keyspaceName,
+      String tableName,
+      Builder selectBuilder,
+      String primaryKeyColumnName,
+      boolean multiGet) {
+    String keyColumn =
+        StringUtils.isBlank(primaryKeyColumnName) ? Constants.ID : primaryKeyColumnName;
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    selectQuery.where(
+        multiGet
+            ? eq(keyColumn, QueryBuilder.bindMarker())
+            : QueryBuilder.in(keyColumn, QueryBuilder.bindMarker()));
+    return selectQuery;
+  }
+
   @Override
   public Response getRecordsByPrimaryKeys(
       String keyspaceName, String tableName, List<String> primaryKeys, String primaryKeyColumnName, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("CassandraOperationImpl: getRecordsByPrimaryKeys call started at {0}", startTime));
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     Builder selectBuilder = QueryBuilder.select().all();
     try {
         response =
                 executeSelectQuery(
-                        keyspaceName, tableName, primaryKeys, selectBuilder, primaryKeyColumnName);
+                        keyspaceName, tableName, primaryKeys, selectBuilder, primaryKeyColumnName, reqContext);
     } catch (Exception e) {
+       recordQueryError("getRecordsByPrimaryKeys", tableName);
        logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
        throw new DBException(
                 e.getMessage(),
                 IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getRecordsByPrimaryKeys", startTime,selectBuilder.toString(),reqContext);
+      recordQueryTime(
+          "getRecordsByPrimaryKeys",
+          tableName,
+          startTime,
+          createSelectByKeysQuery(
+              keyspaceName, tableName, selectBuilder, primaryKeyColumnName, isMultiGet(primaryKeys)),
+          reqContext);
     }
     return response;
 
@@ -964,29 +1451,35 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response insertRecordWithTTL(
       String keyspaceName, String tableName, Map<String, Object> request, int ttl, Map<String,Object> reqContext) {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
     try {
+      List<Object> values = new ArrayList<>();
       request
               .entrySet()
               .stream()
               .forEach(
                       x -> {
-                        insert.value(x.getKey(), x.getValue());
+                        insert.value(x.getKey(), QueryBuilder.bindMarker());
+                        values.add(x.getValue());
                       });
-      insert.using(QueryBuilder.ttl(ttl));
+      insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+      values.add(ttl);
       logger.debug(reqContext,"CassandraOperationImpl:insertRecordWithTTL: query = " + insert.getQueryString());
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(insert);
+      ResultSet results =
+          execute(keyspaceName, bindStatement(keyspaceName, insert, values), reqContext);
       Response response = CassandraUtil.createResponse(results);
       return response;
     }catch (Exception e) {
+      recordQueryError("insertRecordWithTTL", tableName);
       logger.error( reqContext, tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != insert){
-        logQueryElapseTime("insertRecordWithTTL", startTime,insert.getQueryString(),reqContext);
+        recordQueryTime("insertRecordWithTTL", tableName, startTime, insert, reqContext);
       }
 
     }
@@ -1001,39 +1494,46 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       int ttl,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Update update = QueryBuilder.update(keyspaceName, tableName);
     try {
       Session session = connectionManager.getSession(keyspaceName);
       Assignments assignments = update.with();
       Update.Where where = update.where();
+      // USING TTL is rendered before SET, so the ttl is the first value to bind
+      List<Object> values = new ArrayList<>();
+      values.add(ttl);
       request
               .entrySet()
               .stream()
               .forEach(
                       x -> {
-                        assignments.and(QueryBuilder.set(x.getKey(), x.getValue()));
+                        assignments.and(QueryBuilder.set(x.getKey(), QueryBuilder.bindMarker()));
+                        values.add(x.getValue());
                       });
       compositeKey
               .entrySet()
               .stream()
               .forEach(
                       x -> {
-                        where.and(eq(x.getKey(), x.getValue()));
+                        where.and(eq(x.getKey(), QueryBuilder.bindMarker()));
+                        values.add(x.getValue());
                       });
-      update.using(QueryBuilder.ttl(ttl));
+      update.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
       logger.debug(reqContext,"CassandraOperationImpl:updateRecordWithTTL: query = " + update.getQueryString());
-      ResultSet results = session.execute(update);
+      ResultSet results = execute(session, bindStatement(keyspaceName, update, values), reqContext);
       Response response = CassandraUtil.createResponse(results);
       return response;
     }catch (Exception e) {
+      recordQueryError("updateRecordWithTTL", tableName);
       logger.error( reqContext, tableName + " : " + e.getMessage());
       throw new DBException(
               e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != update){
-        logQueryElapseTime("updateRecordWithTTL", startTime,update.getQueryString(),reqContext);
+        recordQueryTime("updateRecordWithTTL", tableName, startTime, update, reqContext);
       }
 
     }
@@ -1048,10 +1548,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       Map<String, String> ttlPropertiesWithAlias,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,
-        "CassandraOperationImpl:getRecordsByIdsWithSpecifiedColumnsAndTTL: call started at "
-            + startTime);
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response = new Response();
     String query = null;
     try {
@@ -1079,25 +1577,29 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         }
       }
       Select select = selection.from(keyspaceName, tableName);
+      List<Object> values = new ArrayList<>();
       primaryKeys
           .entrySet()
           .stream()
           .forEach(
               primaryKey -> {
-                select.where().and(eq(primaryKey.getKey(), primaryKey.getValue()));
+                select.where().and(eq(primaryKey.getKey(), QueryBuilder.bindMarker()));
+                values.add(primaryKey.getValue());
               });
       query = select.getQueryString();
       logger.debug(reqContext,"Query" + query);
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(select);
+      ResultSet results =
+          execute(keyspaceName, bindStatement(keyspaceName, query, values), reqContext);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByIdsWithSpecifiedColumnsAndTTL", tableName);
       logger.error(Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new DBException(
           e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
       if(null != query){
-        logQueryElapseTime("getRecordsByIdsWithSpecifiedColumnsAndTTL", startTime,query,reqContext);
+        recordQueryTime("getRecordsByIdsWithSpecifiedColumnsAndTTL", tableName, startTime, query, reqContext);
       }
 
     }
@@ -1108,8 +1610,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response batchInsertWithTTL(
       String keyspaceName, String tableName, List<Map<String, Object>> records, List<Integer> ttls, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug("CassandraOperationImpl:batchInsertWithTTL: call started at " + startTime);
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     if (CollectionUtils.isEmpty(records) || CollectionUtils.isEmpty(ttls)) {
       String errorMsg="CassandraOperationImpl:batchInsertWithTTL: records or ttls is empty";
       logger.error(reqContext,errorMsg);
@@ -1133,27 +1635,31 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       Session session = connectionManager.getSession(keyspaceName);
       for (Map<String, Object> map : records) {
         Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
+        List<Object> values = new ArrayList<>();
         map.entrySet()
             .stream()
             .forEach(
                 x -> {
-                  insert.value(x.getKey(), x.getValue());
+                  insert.value(x.getKey(), QueryBuilder.bindMarker());
+                  values.add(x.getValue());
                 });
         if (ttlIterator.hasNext()) {
           Integer ttlVal = ttlIterator.next();
-          if (ttlVal != null & ttlVal > 0) {
-            insert.using(QueryBuilder.ttl(ttlVal));
+          if (ttlVal != null && ttlVal > 0) {
+            insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+            values.add(ttlVal);
           }
         }
-        batchStatement.add(insert);
+        batchStatement.add(bindStatement(keyspaceName, insert, values));
       }
-      resultSet = session.execute(batchStatement);
+      resultSet = execute(session, batchStatement, reqContext);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       return response;
     } catch (QueryExecutionException
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("batchInsertWithTTL", tableName);
       logger.error(
           "CassandraOperationImpl:batchInsertWithTTL: Exception occurred with error message = "
               + e.getMessage(),
@@ -1162,7 +1668,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           e.getMessage(),
           IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("batchInsertWithTTL", startTime,batchStatement.toString(),reqContext);
+      recordQueryTime("batchInsertWithTTL", tableName, startTime, batchStatement, reqContext);
     }
   }
 
@@ -1176,16 +1682,22 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       String objectType,
       Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Select selectQuery = QueryBuilder.select().column(columnName).from(keyspace, tableName);
     try {
-      Clause clause = QueryBuilder.lt(key, value);
-      selectQuery.where(eq(Constants.OBJECT_TYPE, objectType)).and(clause);
+      Clause clause = QueryBuilder.lt(key, QueryBuilder.bindMarker());
+      selectQuery.where(eq(Constants.OBJECT_TYPE, QueryBuilder.bindMarker())).and(clause);
       selectQuery.allowFiltering();
-      ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
+      List<Object> values = new ArrayList<>();
+      values.add(objectType);
+      values.add(value);
+      ResultSet resultSet =
+          execute(keyspace, bindStatement(keyspace, selectQuery, values), reqContext);
       Response response = CassandraUtil.createResponse(resultSet);
       return response;
      }catch (Exception e){
+      recordQueryError("getRecordByObjectType", tableName);
       logger.error(
               "CassandraOperationImpl:getRecordByObjectType: Exception occurred with error message = "
                       + e.getMessage(),
@@ -1194,7 +1706,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("getRecordByObjectType",startTime,selectQuery.getQueryString(),reqContext);
+      recordQueryTime("getRecordByObjectType", tableName, startTime, selectQuery, reqContext);
     }
   }
 
@@ -1202,10 +1714,29 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   public Response getRecords(
       String keyspace, String table, Map<String, Object> filters, List<String> fields,Map<String,Object> reqContext)
       throws DBException {
-    // TODO Auto-generated method stub
-    return null;
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
+    Response response = new Response();
+    BoundStatement statement = null;
+    try {
+      statement = createSelectByFiltersStatement(keyspace, table, filters, fields);
+      ResultSet results = execute(keyspace, statement, reqContext);
+      response = CassandraUtil.createResponse(results);
+    } catch (Exception e) {
+      recordQueryError("getRecords", table);
+      logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
+      throw new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR);
+    } finally {
+      if (null != statement) {
+        recordQueryTime("getRecords", table, startTime, statement, reqContext);
+      }
+    }
+    return response;
   }
 
+  /**
+   * @desc The callback runs on the driver thread that completes the query, so it must not block.
+   */
   @Override
   public void applyOperationOnRecordsAsync(
       String keySpace,
@@ -1215,8 +1746,48 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       FutureCallback<ResultSet> callback,
       Map<String,Object> reqContext)
       throws DBException {
-    // TODO Auto-generated method stub
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
+    try {
+      Session session = connectionManager.getSession(keySpace);
+      BoundStatement statement = createSelectByFiltersStatement(keySpace, table, filters, fields);
+      ResultSetFuture future = session.executeAsync(withDeadline(session, statement, reqContext));
+      future.addListener(
+          () ->
+              recordQueryTime(
+                  "applyOperationOnRecordsAsync", table, startTime, statement, reqContext),
+          MoreExecutors.directExecutor());
+      Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      recordQueryError("applyOperationOnRecordsAsync", table);
+      logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
+      throw new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR);
+    }
+  }
 
+  /** Select of the given fields, all when empty, with an IN clause for list filter values. */
+  private BoundStatement createSelectByFiltersStatement(
+      String keySpace, String table, Map<String, Object> filters, List<String> fields) {
+    Select select;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      select = QueryBuilder.select(fields.toArray(new String[fields.size()])).from(keySpace, table);
+    } else {
+      select = QueryBuilder.select().all().from(keySpace, table);
+    }
+    List<Object> values = new ArrayList<>();
+    if (MapUtils.isNotEmpty(filters)) {
+      Select.Where where = select.where();
+      for (Map.Entry<String, Object> filter : filters.entrySet()) {
+        Object value = filter.getValue();
+        if (value instanceof List) {
+          where = where.and(QueryBuilder.in(filter.getKey(), QueryBuilder.bindMarker()));
+        } else {
+          where = where.and(QueryBuilder.eq(filter.getKey(), QueryBuilder.bindMarker()));
+        }
+        values.add(value);
+      }
+    }
+    return bindStatement(keySpace, select, values);
   }
 
   @Override
@@ -1229,10 +1800,13 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response searchValueInList(
       String keyspace, String tableName, String key, String value, Map<String, Object> propertyMap, Map<String,Object> reqContext) {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Select selectQuery = QueryBuilder.select().all().from(keyspace, tableName);
     try {
-      Clause clause = QueryBuilder.contains(key, value);
+      Clause clause = QueryBuilder.contains(key, QueryBuilder.bindMarker());
+      List<Object> values = new ArrayList<>();
+      values.add(value);
 
       selectQuery.where(clause);
       if (MapUtils.isNotEmpty(propertyMap)) {
@@ -1240,20 +1814,23 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           if (entry.getValue() instanceof List) {
             List<Object> list = (List) entry.getValue();
             if (null != list) {
-              Object[] propertyValues = list.toArray(new Object[list.size()]);
-              Clause clauseList = QueryBuilder.in(entry.getKey(), propertyValues);
+              Clause clauseList = QueryBuilder.in(entry.getKey(), QueryBuilder.bindMarker());
               selectQuery.where(clauseList);
+              values.add(list);
             }
           } else {
-            Clause clauseMap = eq(entry.getKey(), entry.getValue());
+            Clause clauseMap = eq(entry.getKey(), QueryBuilder.bindMarker());
             selectQuery.where(clauseMap);
+            values.add(entry.getValue());
           }
         }
       }
-      ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
+      ResultSet resultSet =
+          execute(keyspace, bindStatement(keyspace, selectQuery, values), reqContext);
       Response response = CassandraUtil.createResponse(resultSet);
       return response;
     }catch (Exception e){
+      recordQueryError("searchValueInList", tableName);
       logger.error(
               "CassandraOperationImpl:searchValueInList: Exception occurred with error message = "
                       + e.getMessage(),
@@ -1262,7 +1839,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
-        logQueryElapseTime("searchValueInList",startTime,selectQuery.getQueryString(),reqContext);
+        recordQueryTime("searchValueInList", tableName, startTime, selectQuery, reqContext);
     }
   }
 
@@ -1272,30 +1849,35 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       String tableName,
       Map<String, Object> propertyMap,
       Builder selectBuilder, Map<String,Object> reqContext) {
-    long startTime = System.currentTimeMillis();
+    Deadline.check(reqContext);
+    long startTime = System.nanoTime();
     Response response;
     Select selectQuery = selectBuilder.from(keyspaceName, tableName);
     try {
+      List<Object> values = new ArrayList<>();
       if (MapUtils.isNotEmpty(propertyMap)) {
         Where selectWhere = selectQuery.where();
         for (Entry<String, Object> entry : propertyMap.entrySet()) {
           if (entry.getValue() instanceof List) {
             List<Object> list = (List) entry.getValue();
             if (null != list) {
-              Object[] propertyValues = list.toArray(new Object[list.size()]);
-              Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
+              Clause clause = QueryBuilder.in(entry.getKey(), QueryBuilder.bindMarker());
               selectWhere.and(clause);
+              values.add(list);
             }
           } else {
-            Clause clause = eq(entry.getKey(), entry.getValue());
+            Clause clause = eq(entry.getKey(), QueryBuilder.bindMarker());
             selectWhere.and(clause);
+            values.add(entry.getValue());
           }
         }
       }
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results =
+          execute(keyspaceName, bindStatement(keyspaceName, selectQuery, values), reqContext);
       response = CassandraUtil.createResponse(results);
       return response;
     }catch (Exception e){
+      recordQueryError("executeSelectQuery", tableName);
       logger.error(
               "CassandraOperationImpl:executeSelectQuery: Exception occurred with error message = "
                       + e.getMessage(),
@@ -1304,34 +1886,528 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               e.getMessage(),
               IResponseMessage.SERVER_ERROR);
     }finally {
-      logQueryElapseTime("executeSelectQuery",startTime,selectQuery.getQueryString(),reqContext);
+      recordQueryTime("executeSelectQuery", tableName, startTime, selectQuery, reqContext);
     }
   }
 
   @Override
   public Response batchDelete(String keyspaceName, String tableName, List<Map<String, Object>> list, Map<String,Object> reqContext)
       throws DBException {
-    long startTime = System.currentTimeMillis();
-    logger.debug(reqContext,MessageFormat.format("Cassandra Service batchDelete method started at == {0}", startTime));
-    Response response = new Response();
-    ResultSet resultSet = null;
-    BatchStatement batchStatement = new BatchStatement();
+    Deadline.check(reqContext);
+    return join(batchDeleteAsync(keyspaceName, tableName, list, reqContext));
+  }
+
+  @Override
+  public CompletionStage<Response> insertRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "insertRecordAsync",
+        keyspaceName,
+        tableName,
+        () -> createInsertStatement(keyspaceName, tableName, request),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "upsertRecordAsync",
+        keyspaceName,
+        tableName,
+        () -> createInsertStatement(keyspaceName, tableName, request),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "updateRecordAsync",
+        keyspaceName,
+        tableName,
+        () -> createUpdateStatement(keyspaceName, tableName, request),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "updateRecordAsync",
+        keyspaceName,
+        tableName,
+        () -> createUpdateStatement(keyspaceName, tableName, request, compositeKey),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, Map<String, Object> reqContext) {
+    Map<String, Object> compositeKeyMap = new HashMap<>();
+    compositeKeyMap.put(Constants.IDENTIFIER, identifier);
+    return deleteRecordAsync(keyspaceName, tableName, compositeKeyMap, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> compositeKeyMap,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "deleteRecordAsync",
+        keyspaceName,
+        tableName,
+        () -> createDeleteStatement(keyspaceName, tableName, compositeKeyMap),
+        false,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "getRecordByIdAsync",
+        keyspaceName,
+        tableName,
+        () -> createSelectByIdentifierStatement(keyspaceName, tableName, key, fields),
+        true,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "getRecordByIdAsync",
+        keyspaceName,
+        tableName,
+        () -> createSelectByIdentifierStatement(keyspaceName, tableName, key, fields),
+        true,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      Map<String, Object> reqContext) {
+    return executeAsync(
+        "getRecordsByPropertiesAsync",
+        keyspaceName,
+        tableName,
+        () -> createSelectStatement(keyspaceName, tableName, propertyMap, fields),
+        true,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      Map<String, Object> reqContext) {
+    if (isMultiGet(primaryKeys)) {
+      return selectByKeysAsync(
+          "getRecordsByPrimaryKeysAsync",
+          keyspaceName,
+          tableName,
+          primaryKeys,
+          QueryBuilder.select().all(),
+          primaryKeyColumnName,
+          CassandraOperationImpl::createResponse,
+          reqContext);
+    }
+    return executeAsync(
+        "getRecordsByPrimaryKeysAsync",
+        keyspaceName,
+        tableName,
+        () ->
+            createSelectByKeysStatement(
+                keyspaceName,
+                tableName,
+                primaryKeys,
+                QueryBuilder.select().all(),
+                primaryKeyColumnName),
+        true,
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByIdsWithSpecifiedColumnsAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      Map<String, Object> reqContext) {
+    Builder selectBuilder =
+        CollectionUtils.isNotEmpty(properties)
+            ? QueryBuilder.select(properties.toArray(new String[properties.size()]))
+            : QueryBuilder.select().all();
+    if (isMultiGet(ids)) {
+      return selectByKeysAsync(
+          "getRecordsByIdsWithSpecifiedColumnsAsync",
+          keyspaceName,
+          tableName,
+          ids,
+          selectBuilder,
+          "",
+          CassandraOperationImpl::createResponse,
+          reqContext);
+    }
+    return executeAsync(
+        "getRecordsByIdsWithSpecifiedColumnsAsync",
+        keyspaceName,
+        tableName,
+        () -> createSelectByKeysStatement(keyspaceName, tableName, ids, selectBuilder, ""),
+        true,
+        reqContext);
+  }
+
+  @Override
+  public <T> CompletionStage<List<T>> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    return selectByKeysAsync(
+        "getRecordsByPrimaryKeysAsync",
+        keyspaceName,
+        tableName,
+        primaryKeys,
+        QueryBuilder.select().all(),
+        primaryKeyColumnName,
+        resultSets -> mapRows(resultSets, rowMapper),
+        reqContext);
+  }
+
+  @Override
+  public <T> CompletionStage<List<T>> getRecordsByIdsWithSpecifiedColumnsAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RowMapper<T> rowMapper,
+      Map<String, Object> reqContext) {
+    Builder selectBuilder =
+        CollectionUtils.isNotEmpty(properties)
+            ? QueryBuilder.select(properties.toArray(new String[properties.size()]))
+            : QueryBuilder.select().all();
+    return selectByKeysAsync(
+        "getRecordsByIdsWithSpecifiedColumnsAsync",
+        keyspaceName,
+        tableName,
+        ids,
+        selectBuilder,
+        "",
+        resultSets -> mapRows(resultSets, rowMapper),
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      Map<String, Object> reqContext) {
+    return writeBatchAsync(
+        "batchInsertAsync",
+        keyspaceName,
+        tableName,
+        () -> {
+          List<Statement> statements = new ArrayList<>();
+          for (Map<String, Object> map : records) {
+            statements.add(createInsertStatement(keyspaceName, tableName, map));
+          }
+          return statements;
+        },
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> batchUpdateAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Map<String, Object>>> list,
+      Map<String, Object> reqContext) {
+    return writeBatchAsync(
+        "batchUpdateAsync",
+        keyspaceName,
+        tableName,
+        () -> {
+          List<Statement> statements = new ArrayList<>();
+          for (Map<String, Map<String, Object>> record : list) {
+            statements.add(
+                createUpdateStatement(
+                    keyspaceName,
+                    tableName,
+                    record.get(Constants.NON_PRIMARY_KEY),
+                    record.get(Constants.PRIMARY_KEY)));
+          }
+          return statements;
+        },
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> batchDeleteAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> list,
+      Map<String, Object> reqContext) {
+    return writeBatchAsync(
+        "batchDeleteAsync",
+        keyspaceName,
+        tableName,
+        () -> {
+          List<Statement> statements = new ArrayList<>();
+          for (Map<String, Object> primaryKey : list) {
+            statements.add(createDeleteStatement(keyspaceName, tableName, primaryKey));
+          }
+          return statements;
+        },
+        reqContext);
+  }
+
+  /**
+   * @desc Writes the statements grouped by partition, see {@link PartitionBatchWriter}.
+   * @param keyspaceName Keyspace name
+   * @param statements Write statements
+   * @return CompletionStage of the errors in the order of the statements, null for a statement
+   *     written successfully
+   */
+  protected CompletionStage<List<Throwable>> writeByPartitionAsync(
+      String keyspaceName, List<? extends Statement> statements) {
+    return PartitionBatchWriter.execute(
+        connectionManager.getSession(keyspaceName), statements, batchMaxSize, batchConcurrency);
+  }
+
+  /**
+   * @desc Builds the statements and writes them grouped by partition. The returned stage completes
+   *     exceptionally with a DBException when any statement failed, the statements of other
+   *     partitions are written regardless.
+   * @param operation Operation name used for query logging
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param statementsSupplier Builds the statements to write
+   * @return CompletionStage<Response>
+   */
+  protected CompletionStage<Response> writeBatchAsync(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      Supplier<List<Statement>> statementsSupplier,
+      Map<String, Object> reqContext) {
+    long startTime = System.nanoTime();
+    CompletableFuture<Response> future = new CompletableFuture<>();
     try {
-      Session session = connectionManager.getSession(keyspaceName);
-      for (Map<String, Object> primaryKey : list) {
-        batchStatement.add(CassandraUtil.createDeleteQuery(primaryKey, keyspaceName, tableName));
+      List<Statement> statements = statementsSupplier.get();
+      writeByPartitionAsync(keyspaceName, statements)
+          .whenComplete(
+              (errors, error) -> {
+                long failed =
+                    null == errors ? 0 : errors.stream().filter(e -> null != e).count();
+                if (null == error && failed == 0) {
+                  Response response = new Response();
+                  response.put(Constants.RESPONSE, Constants.SUCCESS);
+                  future.complete(response);
+                  return;
+                }
+                Throwable cause =
+                    null != error
+                        ? error
+                        : errors.stream().filter(e -> null != e).findFirst().get();
+                logger.error(
+                    reqContext,
+                    MessageFormat.format(
+                        "Cassandra {0} failed for {1} of {2} statements of {3} : {4}",
+                        operation, failed, statements.size(), tableName, cause.getMessage()));
+                future.completeExceptionally(
+                    new DBException(cause.getMessage(), IResponseMessage.SERVER_ERROR));
+              });
+    } catch (Exception e) {
+      logger.error(reqContext, Constants.EXCEPTION_MSG_UPSERT + tableName + " : " + e.getMessage());
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+    }
+    return future.whenComplete(
+        (response, error) -> {
+          if (null != error) {
+            recordQueryError(operation, tableName);
+          }
+          recordQueryTime(operation, tableName, startTime, tableName, reqContext);
+        });
+  }
+
+  /**
+   * @desc Executes the statement blocking, with its read timeout shrunk to the time left before the
+   *     deadline of the request. Callers refuse a request past its deadline before executing.
+   * @param keyspaceName Keyspace name
+   * @param statement Statement to execute
+   * @return ResultSet
+   */
+  protected ResultSet execute(
+      String keyspaceName, Statement statement, Map<String, Object> reqContext) {
+    return execute(connectionManager.getSession(keyspaceName), statement, reqContext);
+  }
+
+  protected static ResultSet execute(
+      Session session, Statement statement, Map<String, Object> reqContext) {
+    return session.execute(withDeadline(session, statement, reqContext));
+  }
+
+  /**
+   * @desc Shrinks the read timeout of the statement to the time left before the deadline of the
+   *     request, statements of requests without a deadline keep the timeout of the session.
+   * @return the statement
+   */
+  protected static Statement withDeadline(
+      Session session, Statement statement, Map<String, Object> reqContext) {
+    if (Deadline.hasDeadline(reqContext)) {
+      int readTimeoutMillis =
+          session.getCluster().getConfiguration().getSocketOptions().getReadTimeoutMillis();
+      // 0 would disable the timeout
+      statement.setReadTimeoutMillis(
+          (int) Math.max(1, Deadline.remainingMillis(reqContext, readTimeoutMillis)));
+    }
+    return statement;
+  }
+
+  /**
+   * @desc Builds the statement and executes it with executeAsync. Statement building errors and
+   *     driver errors both complete the returned stage exceptionally with a DBException. The read
+   *     timeout of the statement is shrunk to the time left before the deadline of the request,
+   *     a request past its deadline completes the stage with service unavailable unexecuted.
+   * @param operation Operation name used for query logging
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param statementSupplier Builds the statement to execute
+   * @param isRead true for an idempotent read whose rows are mapped into the response, which
+   *     may then be executed speculatively, false to return SUCCESS
+   * @return CompletionStage<Response>
+   */
+  protected CompletionStage<Response> executeAsync(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      StatementSupplier statementSupplier,
+      boolean isRead,
+      Map<String, Object> reqContext) {
+    long startTime = System.nanoTime();
+    CompletableFuture<Response> future = new CompletableFuture<>();
+    final Statement statement;
+    try {
+      statement = statementSupplier.get();
+      if (isRead) {
+        statement.setIdempotent(true);
       }
-      resultSet = session.execute(batchStatement);
-      response.put(Constants.RESPONSE, Constants.SUCCESS);
-      return response;
-    } catch (Exception ex) {
-      logger.error(reqContext,"Cassandra Batch Delete failed " + ex.getMessage());
-      throw new DBException(
-              ex.getMessage(),
-          IResponseMessage.SERVER_ERROR);
-    }finally {
-      logQueryElapseTime("batchDelete", startTime,batchStatement.toString(),reqContext);
+    } catch (Exception e) {
+      logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+      return future;
+    }
+    try {
+      Deadline.check(reqContext);
+    } catch (BaseException e) {
+      future.completeExceptionally(e);
+      return future;
     }
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      ResultSetFuture resultSetFuture =
+          session.executeAsync(withDeadline(session, statement, reqContext));
+      Futures.addCallback(
+          resultSetFuture,
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+              if (!isRead) {
+                Response response = new Response();
+                response.put(Constants.RESPONSE, Constants.SUCCESS);
+                future.complete(response);
+              } else {
+                fetchAllPages(resultSet)
+                    .whenComplete(
+                        (fetched, error) -> {
+                          if (null != error) {
+                            onFailure(error);
+                          } else {
+                            completeWithRows(future, fetched, tableName, reqContext);
+                          }
+                        });
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              logger.error(
+                  reqContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + t.getMessage());
+              future.completeExceptionally(
+                  new DBException(t.getMessage(), IResponseMessage.SERVER_ERROR));
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+      return future;
+    }
+    return future.whenComplete(
+        (response, error) -> {
+          if (null != error) {
+            recordQueryError(operation, tableName);
+          }
+          recordQueryTime(operation, tableName, startTime, statement, reqContext);
+        });
+  }
+
+  private void completeWithRows(
+      CompletableFuture<Response> future,
+      ResultSet resultSet,
+      String tableName,
+      Map<String, Object> reqContext) {
+    try {
+      future.complete(CassandraUtil.createResponse(resultSet));
+    } catch (Exception e) {
+      logger.error(reqContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage());
+      future.completeExceptionally(new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR));
+    }
+  }
+
+  /** Builds a statement, statement building may fail on invalid values. */
+  @FunctionalInterface
+  protected interface StatementSupplier {
+    Statement get();
   }
 
   protected String getLocalizedMessage(String key, Locale locale) {
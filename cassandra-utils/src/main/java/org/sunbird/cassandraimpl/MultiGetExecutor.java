@@ -0,0 +1,85 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @desc Executes single partition statements with executeAsync keeping at most the given number
+ *     of statements in flight. Bound statements carry their routing key, so with a token aware load
+ *     balancing policy every read goes straight to a replica of its partition instead of one
+ *     coordinator fanning out an IN query. Results are returned in the order of the statements.
+ */
+class MultiGetExecutor {
+
+  private final Session session;
+  private final List<? extends Statement> statements;
+  private final ResultSet[] results;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger completed = new AtomicInteger();
+  private final CompletableFuture<List<ResultSet>> future = new CompletableFuture<>();
+
+  private MultiGetExecutor(Session session, List<? extends Statement> statements) {
+    this.session = session;
+    this.statements = statements;
+    this.results = new ResultSet[statements.size()];
+  }
+
+  /**
+   * @param session Session of the keyspace
+   * @param statements Single partition statements
+   * @param concurrency Maximum number of statements in flight
+   * @return CompletionStage of the result sets in the order of the statements
+   */
+  static CompletionStage<List<ResultSet>> execute(
+      Session session, List<? extends Statement> statements, int concurrency) {
+    if (statements.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    MultiGetExecutor executor = new MultiGetExecutor(session, statements);
+    int inFlight = Math.min(Math.max(concurrency, 1), statements.size());
+    for (int i = 0; i < inFlight; i++) {
+      executor.executeNext();
+    }
+    return executor.future;
+  }
+
+  private void executeNext() {
+    int index = next.getAndIncrement();
+    if (index >= statements.size() || future.isDone()) {
+      return;
+    }
+    try {
+      Futures.addCallback(
+          session.executeAsync(statements.get(index)),
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+              results[index] = resultSet;
+              if (completed.incrementAndGet() == results.length) {
+                future.complete(Arrays.asList(results));
+              } else {
+                executeNext();
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              future.completeExceptionally(t);
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+}
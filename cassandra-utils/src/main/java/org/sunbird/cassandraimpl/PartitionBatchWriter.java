@@ -0,0 +1,133 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @desc Writes statements grouped by partition. Statements of the same partition are sent as
+ *     UNLOGGED batches of at most the given size, which a replica of the partition applies
+ *     atomically without the batch log. Different partitions are written with concurrent
+ *     executeAsync calls keeping at most the given number of requests in flight, instead of one
+ *     LOGGED batch spanning all of them. Statements without a routing key are written one by one.
+ *     A failed write does not stop the others, the failure is reported for each of its statements.
+ */
+class PartitionBatchWriter {
+
+  private final Session session;
+  private final List<? extends Statement> statements;
+  private final List<List<Integer>> units = new ArrayList<>();
+  private final Throwable[] errors;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger completed = new AtomicInteger();
+  private final CompletableFuture<List<Throwable>> future = new CompletableFuture<>();
+
+  private PartitionBatchWriter(Session session, List<? extends Statement> statements) {
+    this.session = session;
+    this.statements = statements;
+    this.errors = new Throwable[statements.size()];
+  }
+
+  /**
+   * @param session Session of the keyspace
+   * @param statements Write statements, bound statements carry their partition as routing key
+   * @param maxBatchSize Maximum number of statements in one batch
+   * @param concurrency Maximum number of requests in flight
+   * @return CompletionStage of the errors in the order of the statements, null for a statement
+   *     written successfully
+   */
+  static CompletionStage<List<Throwable>> execute(
+      Session session, List<? extends Statement> statements, int maxBatchSize, int concurrency) {
+    PartitionBatchWriter writer = new PartitionBatchWriter(session, statements);
+    writer.groupByPartition(Math.max(maxBatchSize, 1));
+    if (writer.units.isEmpty()) {
+      return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    int inFlight = Math.min(Math.max(concurrency, 1), writer.units.size());
+    for (int i = 0; i < inFlight; i++) {
+      writer.executeNext();
+    }
+    return writer.future;
+  }
+
+  private void groupByPartition(int maxBatchSize) {
+    Configuration configuration = session.getCluster().getConfiguration();
+    ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+    CodecRegistry codecRegistry = configuration.getCodecRegistry();
+    Map<ByteBuffer, List<Integer>> partitions = new LinkedHashMap<>();
+    for (int i = 0; i < statements.size(); i++) {
+      ByteBuffer routingKey = statements.get(i).getRoutingKey(protocolVersion, codecRegistry);
+      if (null == routingKey) {
+        units.add(Arrays.asList(i));
+      } else {
+        partitions.computeIfAbsent(routingKey, key -> new ArrayList<>()).add(i);
+      }
+    }
+    for (List<Integer> partition : partitions.values()) {
+      for (int from = 0; from < partition.size(); from += maxBatchSize) {
+        units.add(partition.subList(from, Math.min(from + maxBatchSize, partition.size())));
+      }
+    }
+  }
+
+  private Statement createStatement(List<Integer> unit) {
+    if (unit.size() == 1) {
+      return statements.get(unit.get(0));
+    }
+    BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+    unit.forEach(index -> batchStatement.add(statements.get(index)));
+    return batchStatement;
+  }
+
+  private void executeNext() {
+    int index = next.getAndIncrement();
+    if (index >= units.size()) {
+      return;
+    }
+    List<Integer> unit = units.get(index);
+    try {
+      Futures.addCallback(
+          session.executeAsync(createStatement(unit)),
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+              complete();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              unit.forEach(statement -> errors[statement] = t);
+              complete();
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      unit.forEach(statement -> errors[statement] = e);
+      complete();
+    }
+  }
+
+  private void complete() {
+    if (completed.incrementAndGet() == units.size()) {
+      future.complete(Arrays.asList(errors));
+    } else {
+      executeNext();
+    }
+  }
+}
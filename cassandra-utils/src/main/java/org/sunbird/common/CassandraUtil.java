@@ -344,6 +344,109 @@ public final class CassandraUtil {
     }
   }
 
+  /**
+   * Method to create the where clause with bind markers, the values to bind are appended to
+   * values in the order of the markers.
+   *
+   * @param key represents the column name.
+   * @param value represents the column value.
+   * @param where where clause.
+   * @param values values to bind.
+   */
+  public static void createBindQuery(String key, Object value, Where where, List<Object> values) {
+    if (value instanceof Map) {
+      Map<String, Object> map = (Map<String, Object>) value;
+      map.entrySet()
+          .stream()
+          .forEach(
+              x -> {
+                if (Constants.LTE.equalsIgnoreCase(x.getKey())) {
+                  where.and(QueryBuilder.lte(key, QueryBuilder.bindMarker()));
+                  values.add(x.getValue());
+                } else if (Constants.LT.equalsIgnoreCase(x.getKey())) {
+                  where.and(QueryBuilder.lt(key, QueryBuilder.bindMarker()));
+                  values.add(x.getValue());
+                } else if (Constants.GTE.equalsIgnoreCase(x.getKey())) {
+                  where.and(QueryBuilder.gte(key, QueryBuilder.bindMarker()));
+                  values.add(x.getValue());
+                } else if (Constants.GT.equalsIgnoreCase(x.getKey())) {
+                  where.and(QueryBuilder.gt(key, QueryBuilder.bindMarker()));
+                  values.add(x.getValue());
+                }
+              });
+    } else if (value instanceof List) {
+      where.and(QueryBuilder.in(key, QueryBuilder.bindMarker()));
+      values.add(value);
+    } else {
+      where.and(QueryBuilder.eq(key, QueryBuilder.bindMarker()));
+      values.add(value);
+    }
+  }
+
+  /**
+   * Method to create the cassandra update query with bind markers.
+   *
+   * @param primaryKey map representing the composite primary key.
+   * @param nonPKRecord map contains the fields that has to update.
+   * @param keyspaceName cassandra keyspace name.
+   * @param tableName cassandra table name.
+   * @param values values to bind, filled in the order of the markers.
+   * @return RegularStatement.
+   */
+  public static RegularStatement createUpdateQuery(
+      Map<String, Object> primaryKey,
+      Map<String, Object> nonPKRecord,
+      String keyspaceName,
+      String tableName,
+      List<Object> values) {
+
+    Update update = QueryBuilder.update(keyspaceName, tableName);
+    Assignments assignments = update.with();
+    Update.Where where = update.where();
+    nonPKRecord
+        .entrySet()
+        .stream()
+        .forEach(
+            x -> {
+              assignments.and(QueryBuilder.set(x.getKey(), QueryBuilder.bindMarker()));
+              values.add(x.getValue());
+            });
+    primaryKey
+        .entrySet()
+        .stream()
+        .forEach(
+            x -> {
+              where.and(QueryBuilder.eq(x.getKey(), QueryBuilder.bindMarker()));
+              values.add(x.getValue());
+            });
+    return where;
+  }
+
+  /**
+   * Method to create the cassandra delete query with bind markers.
+   *
+   * @param primaryKey map representing the composite primary key.
+   * @param keyspaceName cassandra keyspace name.
+   * @param tableName cassandra table name.
+   * @param values values to bind, filled in the order of the markers.
+   * @return RegularStatement.
+   */
+  public static RegularStatement createDeleteQuery(
+      Map<String, Object> primaryKey, String keyspaceName, String tableName, List<Object> values) {
+
+    Delete delete = QueryBuilder.delete().from(keyspaceName, tableName);
+    Delete.Where where = delete.where();
+    primaryKey
+        .entrySet()
+        .stream()
+        .forEach(
+            x -> {
+              where.and(QueryBuilder.eq(x.getKey(), QueryBuilder.bindMarker()));
+              values.add(x.getValue());
+            });
+    return where;
+  }
+
   /**
    * Method to create the cassandra delete query.
    *
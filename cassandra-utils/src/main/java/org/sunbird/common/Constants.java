@@ -20,6 +20,21 @@ public interface Constants {
   public static final String PORT = "port";
   public static final String QUERY_LOGGER_THRESHOLD = "queryLoggerConstantThreshold";
   public static final String CASSANDRA_PROPERTIES_FILE = "cassandra.config.properties";
+  public static final String PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+  public static final String MULTI_GET_ENABLED = "multiGetEnabled";
+  public static final String MULTI_GET_MIN_KEYS = "multiGetMinKeys";
+  public static final String MULTI_GET_CONCURRENCY = "multiGetConcurrency";
+  public static final String BATCH_MAX_SIZE = "batchMaxSize";
+  public static final String BATCH_CONCURRENCY = "batchConcurrency";
+  public static final String SPECULATIVE_EXECUTION_KEYSPACES = "speculativeExecutionKeyspaces";
+  public static final String SPECULATIVE_EXECUTION_MAX_EXECUTIONS =
+      "speculativeExecutionMaxExecutions";
+  public static final String SPECULATIVE_EXECUTION_DELAY_MILLIS = "speculativeExecutionDelayMillis";
+  public static final String SPECULATIVE_EXECUTION_PERCENTILE = "speculativeExecutionPercentile";
+  public static final String LATENCY_AWARE_KEYSPACES = "latencyAwareKeyspaces";
+  public static final String LATENCY_AWARE_EXCLUSION_THRESHOLD = "latencyAwareExclusionThreshold";
+  public static final String LATENCY_AWARE_MIN_MEASUREMENTS = "latencyAwareMinMeasurements";
+  public static final String HOST_LATENCY_KEYSPACES = "hostLatencyKeyspaces";
 
   // CONSTANT
   public static final String COURSE_ID = "courseId";
@@ -0,0 +1,88 @@
+package org.sunbird.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @desc Lock free histogram of latencies with log linear buckets, in the manner of HdrHistogram.
+ *     Values below 64 get a bucket each, above that every power of two is split into 32 buckets,
+ *     so a recorded value is off by less than about 3% whatever its magnitude. Values above 2^40
+ *     are counted in the last bucket. The unit of the values is up to the caller.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_VALUE_BITS = 40;
+  private static final int MAX_SHIFT = MAX_VALUE_BITS - SUB_BUCKET_BITS - 1;
+  private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /** @param value Value to record, negative values are recorded as 0 */
+  public void recordValue(long value) {
+    long recorded = Math.max(value, 0);
+    counts.incrementAndGet(bucketIndex(recorded));
+    count.increment();
+    sum.add(recorded);
+    max.accumulateAndGet(recorded, Math::max);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long total = count.sum();
+    return total == 0 ? 0 : (double) sum.sum() / total;
+  }
+
+  /**
+   * @param percentile Percentile between 0 and 100
+   * @return highest value of the bucket holding the percentile, not above the recorded maximum, 0
+   *     when nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = count.sum();
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(bucketHighestValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int bucketIndex(long value) {
+    if (value < 2 * SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    if (shift > MAX_SHIFT) {
+      return BUCKET_COUNT - 1;
+    }
+    return shift * SUB_BUCKETS + (int) (value >> shift);
+  }
+
+  static long bucketHighestValue(int index) {
+    if (index < 2 * SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long top = index - (long) shift * SUB_BUCKETS;
+    return ((top + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,49 @@
+package org.sunbird.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @desc Latency histogram in microseconds together with an error count, reported in milliseconds.
+ */
+public class LatencyStats {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+  private final LongAdder errors = new LongAdder();
+
+  /** @param latencyMicros Latency in microseconds */
+  public void recordLatency(long latencyMicros) {
+    histogram.recordValue(latencyMicros);
+  }
+
+  public void recordError() {
+    errors.increment();
+  }
+
+  public long getCount() {
+    return histogram.getCount();
+  }
+
+  public long getErrorCount() {
+    return errors.sum();
+  }
+
+  /** @return count, errors, mean, percentiles and maximum, latencies are in milliseconds. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("count", histogram.getCount());
+    stats.put("errors", errors.sum());
+    stats.put("meanMs", toMillis(Math.round(histogram.getMean())));
+    stats.put("p50Ms", toMillis(histogram.getValueAtPercentile(50)));
+    stats.put("p95Ms", toMillis(histogram.getValueAtPercentile(95)));
+    stats.put("p99Ms", toMillis(histogram.getValueAtPercentile(99)));
+    stats.put("p999Ms", toMillis(histogram.getValueAtPercentile(99.9)));
+    stats.put("maxMs", toMillis(histogram.getMax()));
+    return stats;
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1000.0;
+  }
+}
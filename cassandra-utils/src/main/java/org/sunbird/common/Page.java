@@ -0,0 +1,35 @@
+package org.sunbird.common;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @desc One page of records read with a fetch size. The page token is an opaque, url safe form of
+ *     the cassandra paging state; passing it back resumes the read after the last record of this
+ *     page. It is only valid for the same query with the same values.
+ * @param <T> Type of the records
+ */
+public class Page<T> {
+
+  private final List<T> records;
+  private final String nextPageToken;
+
+  public Page(List<T> records, String nextPageToken) {
+    this.records = null != records ? records : Collections.emptyList();
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** @return records of the page in row order */
+  public List<T> getRecords() {
+    return records;
+  }
+
+  /** @return token of the next page, null when this is the last page */
+  public String getNextPageToken() {
+    return nextPageToken;
+  }
+
+  public boolean hasNext() {
+    return null != nextPageToken;
+  }
+}
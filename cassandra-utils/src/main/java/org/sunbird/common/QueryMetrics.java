@@ -0,0 +1,64 @@
+package org.sunbird.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * @desc Latency histograms and error counts of the cassandra operations, kept per method of
+ *     CassandraOperation (getRecordsByPrimaryKeys, batchInsert, ...) and per table. Recording only
+ *     updates counters, so it is cheap enough to run for every query.
+ */
+public class QueryMetrics {
+
+  private static final String UNKNOWN_TABLE = "unknown";
+  private static final QueryMetrics instance = new QueryMetrics();
+
+  private final Map<String, LatencyStats> operations = new ConcurrentHashMap<>();
+  private final Map<String, LatencyStats> tables = new ConcurrentHashMap<>();
+
+  private QueryMetrics() {}
+
+  public static QueryMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * @param operation Method name
+   * @param tableName Table name, null when not known
+   * @param latencyMicros Latency in microseconds
+   */
+  public void recordLatency(String operation, String tableName, long latencyMicros) {
+    getStats(operations, operation).recordLatency(latencyMicros);
+    getStats(tables, tableName).recordLatency(latencyMicros);
+  }
+
+  /**
+   * @param operation Method name
+   * @param tableName Table name, null when not known
+   */
+  public void recordError(String operation, String tableName) {
+    getStats(operations, operation).recordError();
+    getStats(tables, tableName).recordError();
+  }
+
+  /** @return stats per method under operations and per table under tables, in milliseconds. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new TreeMap<>();
+    stats.put("operations", toStats(operations));
+    stats.put("tables", toStats(tables));
+    return stats;
+  }
+
+  private static LatencyStats getStats(Map<String, LatencyStats> statsMap, String key) {
+    return statsMap.computeIfAbsent(
+        StringUtils.defaultIfBlank(key, UNKNOWN_TABLE), name -> new LatencyStats());
+  }
+
+  private static Map<String, Object> toStats(Map<String, LatencyStats> statsMap) {
+    Map<String, Object> stats = new TreeMap<>();
+    statsMap.forEach((key, value) -> stats.put(key, value.getStats()));
+    return stats;
+  }
+}
@@ -0,0 +1,257 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.sunbird.cassandraannotation.ClusteringKey;
+import org.sunbird.cassandraannotation.PartitioningKey;
+import org.sunbird.common.exception.DBException;
+import org.sunbird.common.message.IResponseMessage;
+import org.sunbird.helper.CassandraPropertyReader;
+
+/**
+ * @desc Maps rows straight into instances of a model class, without the intermediate column map and
+ *     ObjectMapper conversion of {@link CassandraUtil#createResponse}. Column names are resolved to
+ *     fields with cassandratablecolumn.properties, the same way createResponse names its map keys,
+ *     and fields annotated with {@link PartitioningKey} or {@link ClusteringKey} form the primary
+ *     key. Field lookups and value converters are built once per class and once per result set.
+ * @param <T> Model class with a no argument constructor
+ */
+public final class RowMapper<T> {
+
+  /** Format of dates mapped into String fields, same as the date format of group responses. */
+  public static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss:SSSZ";
+
+  private static final String SERIAL_VERSION_UID = "serialVersionUID";
+  private static final Map<Class<?>, RowMapper<?>> mappers = new ConcurrentHashMap<>();
+  private static final CassandraPropertyReader propertyReader =
+      CassandraPropertyReader.getInstance();
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Constructor<T> constructor;
+  private final Map<String, Field> fields = new LinkedHashMap<>();
+  private final Map<String, Field> fieldsIgnoreCase = new HashMap<>();
+  private final Map<String, Field> primaryKeyFields = new LinkedHashMap<>();
+
+  private RowMapper(Class<T> clazz) {
+    for (Field field : clazz.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())
+          || SERIAL_VERSION_UID.equalsIgnoreCase(field.getName())) {
+        continue;
+      }
+      field.setAccessible(true);
+      fields.put(field.getName(), field);
+      fieldsIgnoreCase.put(field.getName().toLowerCase(Locale.ROOT), field);
+      if (field.isAnnotationPresent(PartitioningKey.class)
+          || field.isAnnotationPresent(ClusteringKey.class)) {
+        primaryKeyFields.put(field.getName(), field);
+      }
+    }
+    try {
+      constructor = clazz.getDeclaredConstructor();
+      constructor.setAccessible(true);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(clazz.getName() + " has no default constructor", e);
+    }
+  }
+
+  /**
+   * @param clazz Model class
+   * @return cached mapper of the class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> RowMapper<T> of(Class<T> clazz) {
+    return (RowMapper<T>) mappers.computeIfAbsent(clazz, RowMapper::new);
+  }
+
+  /** @return field names of the class, usable as the columns of a projection. */
+  public List<String> getColumns() {
+    return new ArrayList<>(fields.keySet());
+  }
+
+  /** @return field names annotated as partitioning or clustering key. */
+  public Set<String> getPrimaryKeyColumns() {
+    return Collections.unmodifiableSet(primaryKeyFields.keySet());
+  }
+
+  /**
+   * @param model Model instance
+   * @return map of primary key field names and their values
+   */
+  public Map<String, Object> getPrimaryKey(T model) {
+    Map<String, Object> primaryKey = new HashMap<>();
+    try {
+      for (Map.Entry<String, Field> entry : primaryKeyFields.entrySet()) {
+        primaryKey.put(entry.getKey(), entry.getValue().get(model));
+      }
+    } catch (IllegalAccessException e) {
+      throw new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR);
+    }
+    return primaryKey;
+  }
+
+  /**
+   * @desc Maps all rows of the result set, fetching further pages if any.
+   * @param resultSet Result set to map
+   * @return List of mapped instances in row order
+   */
+  public List<T> mapAll(ResultSet resultSet) {
+    ColumnBinding[] bindings = bind(resultSet.getColumnDefinitions());
+    List<T> models = new ArrayList<>(resultSet.getAvailableWithoutFetching());
+    for (Row row : resultSet) {
+      models.add(map(row, bindings));
+    }
+    return models;
+  }
+
+  /**
+   * @desc Maps only the rows already fetched, i.e. the current page of the result set.
+   * @param resultSet Result set to map
+   * @return List of mapped instances of the current page in row order
+   */
+  public List<T> mapAvailable(ResultSet resultSet) {
+    ColumnBinding[] bindings = bind(resultSet.getColumnDefinitions());
+    int available = resultSet.getAvailableWithoutFetching();
+    List<T> models = new ArrayList<>(available);
+    for (int i = 0; i < available; i++) {
+      models.add(map(resultSet.one(), bindings));
+    }
+    return models;
+  }
+
+  /**
+   * @desc Maps the rows lazily while iterating. The next page is requested in the background once
+   *     the rows of the current page run low, so at most two pages are held in memory.
+   * @param resultSet Result set to map
+   * @param prefetchThreshold Number of remaining rows at which the next page is requested
+   * @return Iterator of mapped instances in row order
+   */
+  public Iterator<T> iterate(ResultSet resultSet, int prefetchThreshold) {
+    ColumnBinding[] bindings = bind(resultSet.getColumnDefinitions());
+    return new Iterator<T>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          if (resultSet.getAvailableWithoutFetching() == prefetchThreshold
+              && !resultSet.isFullyFetched()) {
+            resultSet.fetchMoreResults();
+          }
+          return !resultSet.isExhausted();
+        } catch (DBException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR);
+        }
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return map(resultSet.one(), bindings);
+      }
+    };
+  }
+
+  /**
+   * @param row Row to map
+   * @return mapped instance
+   */
+  public T map(Row row) {
+    return map(row, bind(row.getColumnDefinitions()));
+  }
+
+  private T map(Row row, ColumnBinding[] bindings) {
+    try {
+      T model = constructor.newInstance();
+      for (int i = 0; i < bindings.length; i++) {
+        ColumnBinding binding = bindings[i];
+        if (null != binding) {
+          Object value = row.getObject(i);
+          if (null != value) {
+            binding.field.set(model, binding.converter.apply(value));
+          }
+        }
+      }
+      return model;
+    } catch (DBException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new DBException(e.getMessage(), IResponseMessage.SERVER_ERROR);
+    }
+  }
+
+  private ColumnBinding[] bind(ColumnDefinitions columnDefinitions) {
+    ColumnBinding[] bindings = new ColumnBinding[columnDefinitions.size()];
+    for (int i = 0; i < bindings.length; i++) {
+      String column = columnDefinitions.getName(i);
+      Field field = fields.get(propertyReader.readProperty(column).trim());
+      if (null == field) {
+        field = fieldsIgnoreCase.get(column.toLowerCase(Locale.ROOT));
+      }
+      if (null != field) {
+        bindings[i] =
+            new ColumnBinding(field, converter(field, columnDefinitions.getType(i)));
+      }
+    }
+    return bindings;
+  }
+
+  private static Function<Object, Object> converter(Field field, DataType columnType) {
+    Class<?> type = field.getType();
+    Class<?> columnClass =
+        CodecRegistry.DEFAULT_INSTANCE.codecFor(columnType).getJavaType().getRawType();
+    if (Date.class.isAssignableFrom(columnClass)) {
+      if (Timestamp.class.equals(type)) {
+        return value -> new Timestamp(((Date) value).getTime());
+      }
+      if (String.class.equals(type)) {
+        return value -> new SimpleDateFormat(DATE_FORMAT).format((Date) value);
+      }
+    }
+    if (List.class.equals(type)) {
+      return value -> value instanceof List ? value : new ArrayList<>((Collection<?>) value);
+    }
+    if (Set.class.equals(type)) {
+      return value -> value instanceof Set ? value : new LinkedHashSet<>((Collection<?>) value);
+    }
+    if (type.isPrimitive() || type.isAssignableFrom(columnClass)) {
+      return Function.identity();
+    }
+    return value -> objectMapper.convertValue(value, type);
+  }
+
+  private static class ColumnBinding {
+    private final Field field;
+    private final Function<Object, Object> converter;
+
+    private ColumnBinding(Field field, Function<Object, Object> converter) {
+      this.field = field;
+      this.converter = converter;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.sunbird.helper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.cassandra.AsyncCassandraOperation;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.util.Bulkhead;
+
+/**
+ * Runs every call of a CassandraOperation through the cassandra bulkhead. A blocking call holds its
+ * permit until it returns, a non blocking call until the returned stage completes. A non blocking
+ * call never waits for a permit, without a free one it returns a stage failed with service
+ * unavailable at once. Calls past the deadline of their request are refused by the operations.
+ */
+class CassandraBulkhead implements InvocationHandler {
+
+  private final Object operation;
+  private final Bulkhead bulkhead;
+
+  private CassandraBulkhead(Object operation, Bulkhead bulkhead) {
+    this.operation = operation;
+    this.bulkhead = bulkhead;
+  }
+
+  /**
+   * @param operation Blocking and non blocking operations to guard
+   * @return proxy implementing both CassandraOperation and AsyncCassandraOperation
+   */
+  static CassandraOperation wrap(CassandraOperation operation) {
+    return wrap(operation, Bulkhead.get(Bulkhead.CASSANDRA));
+  }
+
+  static CassandraOperation wrap(CassandraOperation operation, Bulkhead bulkhead) {
+    return (CassandraOperation)
+        Proxy.newProxyInstance(
+            CassandraOperation.class.getClassLoader(),
+            new Class<?>[] {CassandraOperation.class, AsyncCassandraOperation.class},
+            new CassandraBulkhead(operation, bulkhead));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (Object.class == method.getDeclaringClass()) {
+      return invokeOperation(method, args);
+    }
+    if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+      return bulkhead.call(() -> invokeOperation(method, args));
+    }
+    return bulkhead.callAsync(() -> (CompletionStage<?>) invokeOperation(method, args));
+  }
+
+  private Object invokeOperation(Method method, Object[] args) {
+    try {
+      return method.invoke(operation, args);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
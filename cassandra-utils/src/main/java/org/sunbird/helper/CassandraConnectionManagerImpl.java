@@ -3,12 +3,17 @@ package org.sunbird.helper;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
 import com.datastax.driver.core.policies.DefaultRetryPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.Policies;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sunbird.common.Constants;
@@ -107,11 +112,64 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
 
     logger.info(
             "CassandraConnectionManagerImpl:createCluster: isMultiDCEnabled = " + isMultiDCEnabled);
+    LoadBalancingPolicy loadBalancingPolicy = null;
     if (isMultiDCEnabled) {
-      builder.withLoadBalancingPolicy(DCAwareRoundRobinPolicy.builder().build());
+      // token awareness routes bound single partition reads straight to a replica
+      loadBalancingPolicy = new TokenAwarePolicy(DCAwareRoundRobinPolicy.builder().build());
     }
 
-    return builder.build();
+    PropertiesCache cache = PropertiesCache.getInstance();
+    HostLatencyTracker latencyTracker = HostLatencyTracker.getInstance();
+    KeyspaceFilter latencyAwareKeyspaces =
+        KeyspaceFilter.fromProperty(Constants.LATENCY_AWARE_KEYSPACES);
+    logger.info(
+        "CassandraConnectionManagerImpl:createCluster: latencyAwareKeyspaces = "
+            + latencyAwareKeyspaces);
+    if (latencyAwareKeyspaces.isEnabled()) {
+      LatencyAwarePolicy latencyAwarePolicy =
+          LatencyAwarePolicy.builder(
+                  null != loadBalancingPolicy
+                      ? loadBalancingPolicy
+                      : Policies.defaultLoadBalancingPolicy())
+              .withExclusionThreshold(
+                  NumberUtils.toDouble(
+                      cache.readProperty(Constants.LATENCY_AWARE_EXCLUSION_THRESHOLD),
+                      LatencyAwarePolicy.Builder.DEFAULT_EXCLUSION_THRESHOLD))
+              .withMininumMeasurements(
+                  NumberUtils.toInt(
+                      cache.readProperty(Constants.LATENCY_AWARE_MIN_MEASUREMENTS),
+                      LatencyAwarePolicy.Builder.DEFAULT_MIN_MEASURE))
+              .build();
+      latencyTracker.setLatencyAwarePolicy(latencyAwarePolicy);
+      loadBalancingPolicy = new KeyspaceLatencyAwarePolicy(latencyAwareKeyspaces, latencyAwarePolicy);
+    }
+    if (null != loadBalancingPolicy) {
+      builder.withLoadBalancingPolicy(loadBalancingPolicy);
+    }
+
+    KeyspaceFilter speculativeKeyspaces =
+        KeyspaceFilter.fromProperty(Constants.SPECULATIVE_EXECUTION_KEYSPACES);
+    logger.info(
+        "CassandraConnectionManagerImpl:createCluster: speculativeExecutionKeyspaces = "
+            + speculativeKeyspaces);
+    if (speculativeKeyspaces.isEnabled()) {
+      builder.withSpeculativeExecutionPolicy(
+          new KeyspaceSpeculativeExecutionPolicy(
+              speculativeKeyspaces,
+              latencyTracker,
+              NumberUtils.toInt(
+                  cache.readProperty(Constants.SPECULATIVE_EXECUTION_MAX_EXECUTIONS), 2),
+              NumberUtils.toLong(
+                  cache.readProperty(Constants.SPECULATIVE_EXECUTION_DELAY_MILLIS), 100),
+              NumberUtils.toDouble(
+                  cache.readProperty(Constants.SPECULATIVE_EXECUTION_PERCENTILE), 99)));
+    }
+
+    Cluster newCluster = builder.build();
+    if (latencyTracker.isEnabled()) {
+      newCluster.register(latencyTracker);
+    }
+    return newCluster;
   }
 
   private static ConsistencyLevel getConsistencyLevel() {
@@ -0,0 +1,135 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.Constants;
+import org.sunbird.common.LatencyHistogram;
+import org.sunbird.common.LatencyStats;
+
+/**
+ * @desc Keeps a latency histogram per host for the statements of the keyspaces turned on with
+ *     hostLatencyKeyspaces. Besides the histogram since start, shown on the health endpoint, the
+ *     latencies of the last complete interval are kept to derive the delay of speculative
+ *     executions. Latencies are recorded in microseconds, only for successful executions; failed
+ *     executions are counted per host.
+ */
+public class HostLatencyTracker implements LatencyTracker {
+
+  private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+  private static HostLatencyTracker instance;
+
+  private final KeyspaceFilter keyspaces;
+  private final Map<Host, HostLatencies> hosts = new ConcurrentHashMap<>();
+  private volatile LatencyAwarePolicy latencyAwarePolicy;
+
+  private HostLatencyTracker() {
+    keyspaces = KeyspaceFilter.fromProperty(Constants.HOST_LATENCY_KEYSPACES);
+  }
+
+  public static HostLatencyTracker getInstance() {
+    if (null == instance) {
+      synchronized (HostLatencyTracker.class) {
+        if (null == instance) {
+          instance = new HostLatencyTracker();
+        }
+      }
+    }
+    return instance;
+  }
+
+  boolean isEnabled() {
+    return keyspaces.isEnabled();
+  }
+
+  /** @param latencyAwarePolicy Policy whose host scores are added to the stats */
+  void setLatencyAwarePolicy(LatencyAwarePolicy latencyAwarePolicy) {
+    this.latencyAwarePolicy = latencyAwarePolicy;
+  }
+
+  @Override
+  public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+    if (!keyspaces.matches(null, statement)) {
+      return;
+    }
+    HostLatencies latencies = hosts.computeIfAbsent(host, key -> new HostLatencies());
+    if (null != exception) {
+      latencies.total.recordError();
+    } else {
+      latencies.record(TimeUnit.NANOSECONDS.toMicros(newLatencyNanos));
+    }
+  }
+
+  /**
+   * @param host Host
+   * @param percentile Percentile between 0 and 100
+   * @param minSamples Minimum number of latencies the last interval must hold
+   * @return latency in milliseconds at the percentile over the last complete interval of the host,
+   *     -1 when there are not enough latencies
+   */
+  long getLatencyAtPercentile(Host host, double percentile, int minSamples) {
+    HostLatencies latencies = null != host ? hosts.get(host) : null;
+    if (null == latencies) {
+      return -1;
+    }
+    LatencyHistogram previous = latencies.previous;
+    if (null == previous || previous.getCount() < minSamples) {
+      return -1;
+    }
+    return TimeUnit.MICROSECONDS.toMillis(previous.getValueAtPercentile(percentile));
+  }
+
+  /** @return latency stats per host address, latencies are in milliseconds. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new TreeMap<>();
+    LatencyAwarePolicy.Snapshot scores =
+        null != latencyAwarePolicy ? latencyAwarePolicy.getScoresSnapshot() : null;
+    for (Map.Entry<Host, HostLatencies> entry : hosts.entrySet()) {
+      Map<String, Object> hostStats = entry.getValue().total.getStats();
+      hostStats.put("datacenter", entry.getKey().getDatacenter());
+      hostStats.put("up", entry.getKey().isUp());
+      LatencyAwarePolicy.Snapshot.Stats score =
+          null != scores ? scores.getStats(entry.getKey()) : null;
+      if (null != score) {
+        hostStats.put(
+            "latencyScoreMs",
+            score.getLatencyScore() < 0
+                ? -1
+                : TimeUnit.NANOSECONDS.toMillis(score.getLatencyScore()));
+      }
+      stats.put(entry.getKey().getSocketAddress().toString(), hostStats);
+    }
+    return stats;
+  }
+
+  @Override
+  public void onRegister(Cluster cluster) {}
+
+  @Override
+  public void onUnregister(Cluster cluster) {}
+
+  private static class HostLatencies {
+    private final LatencyStats total = new LatencyStats();
+    private final AtomicLong intervalStart = new AtomicLong(System.nanoTime());
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile LatencyHistogram previous;
+
+    private void record(long latencyMicros) {
+      long start = intervalStart.get();
+      long now = System.nanoTime();
+      if (now - start >= INTERVAL_NANOS && intervalStart.compareAndSet(start, now)) {
+        previous = current;
+        current = new LatencyHistogram();
+      }
+      current.recordValue(latencyMicros);
+      total.recordLatency(latencyMicros);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Keyspaces a cluster feature is turned on for, read from a comma separated property of
+ *     cassandra.config.properties. "*" turns it on for all keyspaces, an empty or missing property
+ *     turns it off.
+ */
+class KeyspaceFilter {
+
+  private static final String ALL = "*";
+
+  private final boolean all;
+  private final Set<String> keyspaces = new HashSet<>();
+
+  private KeyspaceFilter(String value) {
+    boolean matchAll = false;
+    for (String keyspace : StringUtils.split(StringUtils.defaultString(value), ',')) {
+      String name = keyspace.trim();
+      if (ALL.equals(name)) {
+        matchAll = true;
+      } else if (!name.isEmpty()) {
+        keyspaces.add(name.toLowerCase(Locale.ROOT));
+      }
+    }
+    this.all = matchAll;
+  }
+
+  static KeyspaceFilter fromProperty(String key) {
+    return new KeyspaceFilter(PropertiesCache.getInstance().readProperty(key));
+  }
+
+  boolean isEnabled() {
+    return all || !keyspaces.isEmpty();
+  }
+
+  boolean matches(String keyspace) {
+    return all || (null != keyspace && keyspaces.contains(keyspace.toLowerCase(Locale.ROOT)));
+  }
+
+  /**
+   * @param loggedKeyspace Keyspace of the session
+   * @param statement Statement executed
+   * @return whether the keyspace of the statement, or else of the session, is turned on
+   */
+  boolean matches(String loggedKeyspace, Statement statement) {
+    String keyspace = null != statement ? statement.getKeyspace() : null;
+    return matches(null != keyspace ? keyspace : loggedKeyspace);
+  }
+
+  @Override
+  public String toString() {
+    return all ? ALL : keyspaces.toString();
+  }
+}
@@ -0,0 +1,81 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.policies.ChainableLoadBalancingPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * @desc Orders the query plans of the keyspaces listed in latencyAwareKeyspaces with a {@link
+ *     LatencyAwarePolicy}, which moves hosts noticeably slower than the fastest one to the end of
+ *     the plan, so one slow replica does not hold up the reads routed to it. Query plans of other
+ *     keyspaces come from the child policy unchanged. Latencies are measured for all statements.
+ */
+class KeyspaceLatencyAwarePolicy implements ChainableLoadBalancingPolicy {
+
+  private final KeyspaceFilter keyspaces;
+  private final LatencyAwarePolicy latencyAwarePolicy;
+  private final LoadBalancingPolicy childPolicy;
+
+  /**
+   * @param keyspaces Keyspaces latency aware routing is turned on for
+   * @param latencyAwarePolicy Latency aware policy wrapping the child policy
+   */
+  KeyspaceLatencyAwarePolicy(KeyspaceFilter keyspaces, LatencyAwarePolicy latencyAwarePolicy) {
+    this.keyspaces = keyspaces;
+    this.latencyAwarePolicy = latencyAwarePolicy;
+    this.childPolicy = latencyAwarePolicy.getChildPolicy();
+  }
+
+  @Override
+  public LoadBalancingPolicy getChildPolicy() {
+    return latencyAwarePolicy;
+  }
+
+  @Override
+  public void init(Cluster cluster, Collection<Host> hosts) {
+    latencyAwarePolicy.init(cluster, hosts);
+  }
+
+  @Override
+  public HostDistance distance(Host host) {
+    return latencyAwarePolicy.distance(host);
+  }
+
+  @Override
+  public Iterator<Host> newQueryPlan(String loggedKeyspace, Statement statement) {
+    return keyspaces.matches(loggedKeyspace, statement)
+        ? latencyAwarePolicy.newQueryPlan(loggedKeyspace, statement)
+        : childPolicy.newQueryPlan(loggedKeyspace, statement);
+  }
+
+  @Override
+  public void onAdd(Host host) {
+    latencyAwarePolicy.onAdd(host);
+  }
+
+  @Override
+  public void onUp(Host host) {
+    latencyAwarePolicy.onUp(host);
+  }
+
+  @Override
+  public void onDown(Host host) {
+    latencyAwarePolicy.onDown(host);
+  }
+
+  @Override
+  public void onRemove(Host host) {
+    latencyAwarePolicy.onRemove(host);
+  }
+
+  @Override
+  public void close() {
+    latencyAwarePolicy.close();
+  }
+}
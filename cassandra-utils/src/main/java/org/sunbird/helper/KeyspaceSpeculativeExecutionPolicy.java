@@ -0,0 +1,66 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @desc Starts another execution of a statement on the next host of the query plan when the
+ *     previous host has not answered within the configured percentile of its recent latencies, or
+ *     within a constant delay until enough latencies are known. The driver only runs speculative
+ *     executions for idempotent statements, reads are prepared as idempotent. Statements of
+ *     keyspaces not listed in speculativeExecutionKeyspaces are never executed speculatively.
+ */
+class KeyspaceSpeculativeExecutionPolicy implements SpeculativeExecutionPolicy {
+
+  private static final int MIN_SAMPLES = 100;
+  private static final SpeculativeExecutionPlan NO_EXECUTION = lastQueried -> -1;
+
+  private final KeyspaceFilter keyspaces;
+  private final HostLatencyTracker latencyTracker;
+  private final int maxSpeculativeExecutions;
+  private final long constantDelayMillis;
+  private final double percentile;
+
+  /**
+   * @param keyspaces Keyspaces speculative execution is turned on for
+   * @param latencyTracker Latencies per host
+   * @param maxSpeculativeExecutions Maximum number of executions after the first one
+   * @param constantDelayMillis Delay used while the host has too few recent latencies
+   * @param percentile Percentile of the recent latencies of the host used as delay
+   */
+  KeyspaceSpeculativeExecutionPolicy(
+      KeyspaceFilter keyspaces,
+      HostLatencyTracker latencyTracker,
+      int maxSpeculativeExecutions,
+      long constantDelayMillis,
+      double percentile) {
+    this.keyspaces = keyspaces;
+    this.latencyTracker = latencyTracker;
+    this.maxSpeculativeExecutions = maxSpeculativeExecutions;
+    this.constantDelayMillis = constantDelayMillis;
+    this.percentile = percentile;
+  }
+
+  @Override
+  public void init(Cluster cluster) {}
+
+  @Override
+  public SpeculativeExecutionPlan newPlan(String loggedKeyspace, Statement statement) {
+    if (!keyspaces.matches(loggedKeyspace, statement)) {
+      return NO_EXECUTION;
+    }
+    AtomicInteger remaining = new AtomicInteger(maxSpeculativeExecutions);
+    return lastQueried -> remaining.getAndDecrement() > 0 ? getDelay(lastQueried) : -1;
+  }
+
+  private long getDelay(Host lastQueried) {
+    long delay = latencyTracker.getLatencyAtPercentile(lastQueried, percentile, MIN_SAMPLES);
+    return delay < 0 ? constantDelayMillis : Math.max(delay, 1);
+  }
+
+  @Override
+  public void close() {}
+}
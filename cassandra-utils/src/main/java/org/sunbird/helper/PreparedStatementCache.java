@@ -0,0 +1,170 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sunbird.common.Constants;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Bounded registry of prepared statements keyed by keyspace and query shape (table, column
+ *     set and clauses with bind markers). Least recently used statements are evicted once the
+ *     configured size is reached, so a statement is prepared once per node instead of per call.
+ *     SELECT statements are marked idempotent when prepared.
+ */
+public class PreparedStatementCache {
+
+  private static final int DEFAULT_CACHE_SIZE = 500;
+  private static final String SELECT = "SELECT";
+  private static Logger logger = LoggerFactory.getLogger(PreparedStatementCache.class);
+  private static PreparedStatementCache instance;
+
+  private final int maxSize;
+  private final Map<String, PreparedStatement> statements;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong prepareCount = new AtomicLong();
+  private final AtomicLong prepareTimeNanos = new AtomicLong();
+  private final AtomicLong maxPrepareTimeNanos = new AtomicLong();
+
+  PreparedStatementCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.statements =
+        new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() > PreparedStatementCache.this.maxSize) {
+              evictions.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  public static PreparedStatementCache getInstance() {
+    if (null == instance) {
+      synchronized (PreparedStatementCache.class) {
+        if (null == instance) {
+          instance = new PreparedStatementCache(getConfiguredSize());
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @desc Returns the prepared form of the given statement. The statement must only carry bind
+   *     markers, its query string is used as the cache key.
+   * @param session Session of the keyspace
+   * @param keyspaceName Keyspace name
+   * @param statement Statement built with bind markers
+   * @return PreparedStatement
+   */
+  public PreparedStatement getStatement(
+      Session session, String keyspaceName, RegularStatement statement) {
+    return getStatement(session, keyspaceName, statement.getQueryString());
+  }
+
+  /**
+   * @desc Returns the prepared form of the given query, preparing it on the first call.
+   * @param session Session of the keyspace
+   * @param keyspaceName Keyspace name
+   * @param query CQL query with bind markers
+   * @return PreparedStatement
+   */
+  public PreparedStatement getStatement(Session session, String keyspaceName, String query) {
+    String key = keyspaceName + Constants.DOT + query;
+    PreparedStatement statement;
+    synchronized (statements) {
+      statement = statements.get(key);
+    }
+    if (null != statement) {
+      hits.incrementAndGet();
+      return statement;
+    }
+    misses.incrementAndGet();
+    long startTime = System.nanoTime();
+    statement = session.prepare(query);
+    recordPrepareTime(System.nanoTime() - startTime);
+    if (StringUtils.startsWithIgnoreCase(query.trim(), SELECT)) {
+      // reads can be retried or executed speculatively on another replica
+      statement.setIdempotent(true);
+    }
+    synchronized (statements) {
+      PreparedStatement existing = statements.get(key);
+      if (null != existing) {
+        return existing;
+      }
+      statements.put(key, statement);
+    }
+    return statement;
+  }
+
+  private void recordPrepareTime(long elapsedNanos) {
+    prepareCount.incrementAndGet();
+    prepareTimeNanos.addAndGet(elapsedNanos);
+    maxPrepareTimeNanos.accumulateAndGet(elapsedNanos, Math::max);
+  }
+
+  public void clear() {
+    synchronized (statements) {
+      statements.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (statements) {
+      return statements.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  public long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /** @return snapshot of the cache counters, prepare latencies are in milliseconds. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    long count = prepareCount.get();
+    stats.put("size", size());
+    stats.put("maxSize", maxSize);
+    stats.put("hits", hits.get());
+    stats.put("misses", misses.get());
+    stats.put("evictions", evictions.get());
+    stats.put("prepareCount", count);
+    stats.put(
+        "prepareTimeAvgMs",
+        count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(prepareTimeNanos.get() / count));
+    stats.put("prepareTimeMaxMs", TimeUnit.NANOSECONDS.toMillis(maxPrepareTimeNanos.get()));
+    return stats;
+  }
+
+  private static int getConfiguredSize() {
+    String size =
+        PropertiesCache.getInstance().readProperty(Constants.PREPARED_STATEMENT_CACHE_SIZE);
+    if (StringUtils.isNumeric(size) && Integer.parseInt(size) > 0) {
+      return Integer.parseInt(size);
+    }
+    logger.info(
+        "PreparedStatementCache:getConfiguredSize: using default size " + DEFAULT_CACHE_SIZE);
+    return DEFAULT_CACHE_SIZE;
+  }
+}
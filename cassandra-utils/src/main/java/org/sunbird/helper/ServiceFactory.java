@@ -1,5 +1,6 @@
 package org.sunbird.helper;
 
+import org.sunbird.cassandra.AsyncCassandraOperation;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraDACImpl;
 
@@ -15,6 +16,7 @@ public class ServiceFactory {
 
   /**
    * On call of this method , it will provide a new CassandraOperationImpl instance on each call.
+   * Calls go through the cassandra bulkhead.
    *
    * @return
    */
@@ -22,10 +24,19 @@ public class ServiceFactory {
     if (null == operation) {
       synchronized (ServiceFactory.class) {
         if (null == operation) {
-          operation = new CassandraDACImpl();
+          operation = CassandraBulkhead.wrap(new CassandraDACImpl());
         }
       }
     }
     return operation;
   }
+
+  /**
+   * Provides the non blocking operations of the same CassandraOperation instance.
+   *
+   * @return
+   */
+  public static AsyncCassandraOperation getAsyncInstance() {
+    return (AsyncCassandraOperation) getInstance();
+  }
 }
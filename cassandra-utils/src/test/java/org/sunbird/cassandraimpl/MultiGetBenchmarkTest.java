@@ -0,0 +1,90 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import com.datastax.driver.core.Session;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.common.Constants;
+import org.sunbird.common.response.Response;
+import org.sunbird.helper.CassandraConnectionMngrFactory;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * Compares a multi partition IN query with the token aware multi-get for 10, 100 and 1000 keys.
+ * Needs a running cassandra at the configured contactPoint with the configured keyspace, run it
+ * with mvn test -Dtest=MultiGetBenchmarkTest -DmultiGetBenchmark=true, it is skipped otherwise.
+ */
+public class MultiGetBenchmarkTest {
+
+  private static final String TABLE = "multi_get_benchmark";
+  private static final int WARMUP = 20;
+  private static final int ITERATIONS = 100;
+  private static String keyspace;
+  private static CassandraDACImpl operation;
+  private static List<String> keys = new ArrayList<>();
+
+  @BeforeClass
+  public static void setUp() {
+    assumeTrue(Boolean.getBoolean("multiGetBenchmark"));
+    PropertiesCache propertiesCache = PropertiesCache.getInstance();
+    keyspace = propertiesCache.getProperty("keyspace");
+    CassandraConnectionMngrFactory.getInstance()
+        .createConnection(propertiesCache.getProperty(Constants.CONTACT_POINT).split(","));
+    Session session = CassandraConnectionMngrFactory.getInstance().getSession(keyspace);
+    session.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + keyspace
+            + "."
+            + TABLE
+            + " (id text PRIMARY KEY, name text, description text)");
+    operation = new CassandraDACImpl();
+    for (int i = 0; i < 1000; i++) {
+      Map<String, Object> record = new HashMap<>();
+      record.put("id", "key-" + i);
+      record.put("name", "name-" + i);
+      record.put("description", "description-" + i);
+      operation.upsertRecord(keyspace, TABLE, record, null);
+      keys.add("key-" + i);
+    }
+    Collections.shuffle(keys);
+  }
+
+  @Test
+  public void compareInQueryWithMultiGet() {
+    for (int size : new int[] {10, 100, 1000}) {
+      List<String> ids = keys.subList(0, size);
+      long inQuery = measure(ids, false);
+      long multiGet = measure(ids, true);
+      System.out.println(
+          MessageFormat.format(
+              "keys = {0} : IN avg = {1} us, multi-get avg = {2} us", size, inQuery, multiGet));
+    }
+  }
+
+  private long measure(List<String> ids, boolean multiGetEnabled) {
+    operation.multiGetEnabled = multiGetEnabled;
+    operation.multiGetMinKeys = 1;
+    for (int i = 0; i < WARMUP; i++) {
+      read(ids);
+    }
+    long startTime = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      read(ids);
+    }
+    return (System.nanoTime() - startTime) / ITERATIONS / 1000;
+  }
+
+  private void read(List<String> ids) {
+    Response response =
+        operation.getRecordsByIdsWithSpecifiedColumns(keyspace, TABLE, null, ids, null);
+    assertEquals(ids.size(), ((List) response.get(Constants.RESPONSE)).size());
+  }
+}
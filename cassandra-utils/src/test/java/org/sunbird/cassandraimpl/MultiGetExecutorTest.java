@@ -0,0 +1,109 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+
+public class MultiGetExecutorTest {
+
+  @Test
+  public void testResultsInOrderOfStatements() throws Exception {
+    Session session = mock(Session.class);
+    List<Statement> statements = new ArrayList<>();
+    List<SettableResultSetFuture> futures = new ArrayList<>();
+    List<ResultSet> resultSets = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Statement statement = new SimpleStatement("SELECT * FROM group WHERE id=?", "group" + i);
+      SettableResultSetFuture future = new SettableResultSetFuture();
+      ResultSet resultSet = mock(ResultSet.class);
+      when(session.executeAsync(statement)).thenReturn(future);
+      statements.add(statement);
+      futures.add(future);
+      resultSets.add(resultSet);
+    }
+    CompletableFuture<List<ResultSet>> results =
+        MultiGetExecutor.execute(session, statements, 3).toCompletableFuture();
+    // completed out of order
+    futures.get(2).set(resultSets.get(2));
+    futures.get(0).set(resultSets.get(0));
+    futures.get(1).set(resultSets.get(1));
+    assertEquals(resultSets, results.get());
+  }
+
+  @Test
+  public void testConcurrencyBounded() {
+    Session session = mock(Session.class);
+    List<Statement> statements = new ArrayList<>();
+    List<SettableResultSetFuture> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Statement statement = new SimpleStatement("SELECT * FROM group WHERE id=?", "group" + i);
+      SettableResultSetFuture future = new SettableResultSetFuture();
+      when(session.executeAsync(statement)).thenReturn(future);
+      statements.add(statement);
+      futures.add(future);
+    }
+    CompletableFuture<List<ResultSet>> results =
+        MultiGetExecutor.execute(session, statements, 2).toCompletableFuture();
+    verify(session, times(2)).executeAsync(any(Statement.class));
+    futures.get(0).set(mock(ResultSet.class));
+    verify(session, times(3)).executeAsync(any(Statement.class));
+    futures.get(1).set(mock(ResultSet.class));
+    futures.get(2).set(mock(ResultSet.class));
+    verify(session, times(4)).executeAsync(any(Statement.class));
+    futures.get(3).set(mock(ResultSet.class));
+    assertTrue(results.isDone());
+  }
+
+  @Test
+  public void testFailureCompletesExceptionally() throws Exception {
+    Session session = mock(Session.class);
+    Statement first = new SimpleStatement("SELECT * FROM group WHERE id=?", "group1");
+    Statement second = new SimpleStatement("SELECT * FROM group WHERE id=?", "group2");
+    RuntimeException error = new RuntimeException("read timeout");
+    when(session.executeAsync(first))
+        .thenReturn(SettableResultSetFuture.completed(mock(ResultSet.class)));
+    when(session.executeAsync(second)).thenReturn(SettableResultSetFuture.failed(error));
+    try {
+      MultiGetExecutor.execute(session, Arrays.asList(first, second), 2)
+          .toCompletableFuture()
+          .get();
+      fail();
+    } catch (ExecutionException e) {
+      assertSame(error, e.getCause());
+    }
+  }
+
+  @Test
+  public void testRemainingPagesFetchedWithoutBlocking() throws Exception {
+    ResultSet resultSet = mock(ResultSet.class);
+    SettableResultSetFuture secondPage = new SettableResultSetFuture();
+    SettableResultSetFuture thirdPage = new SettableResultSetFuture();
+    when(resultSet.isFullyFetched()).thenReturn(false, false, true);
+    when(resultSet.fetchMoreResults()).thenReturn(secondPage, thirdPage);
+    CompletableFuture<ResultSet> fetched =
+        CassandraOperationImpl.fetchAllPages(resultSet).toCompletableFuture();
+    secondPage.set(resultSet);
+    assertFalse(fetched.isDone());
+    thirdPage.set(resultSet);
+    assertSame(resultSet, fetched.get());
+    verify(resultSet, times(2)).fetchMoreResults();
+  }
+}
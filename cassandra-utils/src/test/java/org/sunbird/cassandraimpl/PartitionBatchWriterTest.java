@@ -0,0 +1,150 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PartitionBatchWriterTest {
+
+  private Session session;
+  private List<SettableResultSetFuture> futures;
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class, RETURNS_DEEP_STUBS);
+    futures = new ArrayList<>();
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              SettableResultSetFuture future = new SettableResultSetFuture();
+              futures.add(future);
+              return future;
+            });
+  }
+
+  private static Statement insert(String partition, String userId) {
+    SimpleStatement statement =
+        new SimpleStatement(
+            "INSERT INTO group_member (groupid, userid) VALUES (?, ?)", partition, userId);
+    if (null != partition) {
+      statement.setRoutingKey(ByteBuffer.wrap(partition.getBytes(StandardCharsets.UTF_8)));
+    }
+    return statement;
+  }
+
+  @Test
+  public void testStatementsGroupedByRoutingKey() throws Exception {
+    List<Statement> statements =
+        Arrays.asList(
+            insert("group1", "user1"),
+            insert("group2", "user2"),
+            insert("group1", "user3"),
+            insert(null, "user4"));
+    CompletableFuture<List<Throwable>> result =
+        PartitionBatchWriter.execute(session, statements, 10, 10).toCompletableFuture();
+
+    ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+    verify(session, times(3)).executeAsync(captor.capture());
+    List<Statement> executed = captor.getAllValues();
+    // statements without a routing key are written first, one by one
+    assertSame(statements.get(3), executed.get(0));
+    assertTrue(executed.get(1) instanceof BatchStatement);
+    BatchStatement batch = (BatchStatement) executed.get(1);
+    assertEquals(2, batch.size());
+    assertTrue(batch.getStatements().contains(statements.get(0)));
+    assertTrue(batch.getStatements().contains(statements.get(2)));
+    assertSame(statements.get(1), executed.get(2));
+
+    futures.forEach(future -> future.set(mock(ResultSet.class)));
+    assertEquals(Arrays.asList(null, null, null, null), result.get());
+  }
+
+  @Test
+  public void testPartitionSplitByMaxBatchSize() {
+    List<Statement> statements =
+        Arrays.asList(
+            insert("group1", "user1"), insert("group1", "user2"), insert("group1", "user3"));
+    PartitionBatchWriter.execute(session, statements, 2, 10);
+
+    ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+    verify(session, times(2)).executeAsync(captor.capture());
+    assertEquals(2, ((BatchStatement) captor.getAllValues().get(0)).size());
+    assertSame(statements.get(2), captor.getAllValues().get(1));
+  }
+
+  @Test
+  public void testConcurrencyBounded() {
+    List<Statement> statements =
+        Arrays.asList(
+            insert("group1", "user1"), insert("group2", "user2"), insert("group3", "user3"));
+    CompletableFuture<List<Throwable>> result =
+        PartitionBatchWriter.execute(session, statements, 10, 1).toCompletableFuture();
+    verify(session, times(1)).executeAsync(any(Statement.class));
+    futures.get(0).set(mock(ResultSet.class));
+    verify(session, times(2)).executeAsync(any(Statement.class));
+    futures.get(1).set(mock(ResultSet.class));
+    verify(session, times(3)).executeAsync(any(Statement.class));
+    assertFalse(result.isDone());
+    futures.get(2).set(mock(ResultSet.class));
+    assertTrue(result.isDone());
+  }
+
+  @Test
+  public void testFailureReportedForEachStatementOfTheBatch() throws Exception {
+    List<Statement> statements =
+        Arrays.asList(
+            insert("group1", "user1"), insert("group2", "user2"), insert("group1", "user3"));
+    CompletableFuture<List<Throwable>> result =
+        PartitionBatchWriter.execute(session, statements, 10, 10).toCompletableFuture();
+    RuntimeException error = new RuntimeException("write timeout");
+    // the group1 batch fails, the group2 write is not affected
+    futures.get(0).setException(error);
+    futures.get(1).set(mock(ResultSet.class));
+
+    List<Throwable> errors = result.get();
+    assertSame(error, errors.get(0));
+    assertNull(errors.get(1));
+    assertSame(error, errors.get(2));
+  }
+
+  @Test
+  public void testExecuteAsyncThrowingReportedAsFailure() throws Exception {
+    RuntimeException error = new RuntimeException("no host available");
+    when(session.executeAsync(any(Statement.class))).thenThrow(error);
+    List<Statement> statements = Arrays.asList(insert("group1", "user1"), insert(null, "user2"));
+    List<Throwable> errors =
+        PartitionBatchWriter.execute(session, statements, 10, 1).toCompletableFuture().get();
+    assertEquals(Arrays.asList(error, error), errors);
+  }
+
+  @Test
+  public void testNoStatements() throws Exception {
+    List<Throwable> errors =
+        PartitionBatchWriter.execute(session, new ArrayList<>(), 10, 10).toCompletableFuture().get();
+    assertTrue(errors.isEmpty());
+    verify(session, times(0)).executeAsync(any(Statement.class));
+  }
+}
@@ -0,0 +1,89 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.helper.CassandraConnectionManager;
+import org.sunbird.helper.PreparedStatementCache;
+
+public class RecordsByFiltersTest {
+
+  private Session session;
+  private PreparedStatement preparedStatement;
+  private BoundStatement statement;
+  private CassandraOperationImpl operation;
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class, RETURNS_DEEP_STUBS);
+    preparedStatement = mock(PreparedStatement.class);
+    statement = mock(BoundStatement.class);
+    when(preparedStatement.bind(any())).thenReturn(statement);
+    operation = new CassandraDACImpl();
+    operation.connectionManager = mock(CassandraConnectionManager.class);
+    when(operation.connectionManager.getSession("sunbird_groups")).thenReturn(session);
+    operation.statementCache = mock(PreparedStatementCache.class);
+    when(operation.statementCache.getStatement(any(Session.class), anyString(), anyString()))
+        .thenReturn(preparedStatement);
+  }
+
+  @Test
+  public void testCallbackRunsOnCompletingThread() throws Exception {
+    SettableResultSetFuture future = new SettableResultSetFuture();
+    when(session.executeAsync(any(Statement.class))).thenReturn(future);
+    Map<String, Object> filters = new LinkedHashMap<>();
+    filters.put("groupid", "group1");
+    filters.put("userid", Arrays.asList("user1", "user2"));
+    CompletableFuture<Thread> callbackThread = new CompletableFuture<>();
+    CompletableFuture<ResultSet> callbackResult = new CompletableFuture<>();
+
+    operation.applyOperationOnRecordsAsync(
+        "sunbird_groups",
+        "group_member",
+        filters,
+        null,
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet resultSet) {
+            callbackThread.complete(Thread.currentThread());
+            callbackResult.complete(resultSet);
+          }
+
+          @Override
+          public void onFailure(Throwable error) {
+            callbackResult.completeExceptionally(error);
+          }
+        },
+        new HashMap<>());
+
+    verify(preparedStatement).bind("group1", Arrays.asList("user1", "user2"));
+    verify(session).executeAsync(statement);
+    ResultSet resultSet = mock(ResultSet.class);
+    Thread driverThread = new Thread(() -> future.set(resultSet));
+    driverThread.start();
+    driverThread.join();
+    assertSame(resultSet, callbackResult.get(10, TimeUnit.SECONDS));
+    // no executor of its own for the callback
+    assertEquals(driverThread, callbackThread.get());
+  }
+}
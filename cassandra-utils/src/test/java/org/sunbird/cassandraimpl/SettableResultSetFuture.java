@@ -0,0 +1,43 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.concurrent.TimeUnit;
+
+/** ResultSetFuture completed by the test, in place of the one returned by the driver. */
+class SettableResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+  static SettableResultSetFuture completed(ResultSet resultSet) {
+    SettableResultSetFuture future = new SettableResultSetFuture();
+    future.set(resultSet);
+    return future;
+  }
+
+  static SettableResultSetFuture failed(Throwable error) {
+    SettableResultSetFuture future = new SettableResultSetFuture();
+    future.setException(error);
+    return future;
+  }
+
+  @Override
+  public boolean set(ResultSet resultSet) {
+    return super.set(resultSet);
+  }
+
+  @Override
+  public boolean setException(Throwable error) {
+    return super.setException(error);
+  }
+
+  @Override
+  public ResultSet getUninterruptibly() {
+    return Futures.getUnchecked(this);
+  }
+
+  @Override
+  public ResultSet getUninterruptibly(long timeout, TimeUnit unit) {
+    return getUninterruptibly();
+  }
+}
@@ -0,0 +1,143 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.request.Deadline;
+import org.sunbird.helper.CassandraConnectionManager;
+import org.sunbird.helper.PreparedStatementCache;
+
+public class StatementDeadlineTest {
+
+  private Session session;
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class, RETURNS_DEEP_STUBS);
+    when(session.getCluster().getConfiguration().getSocketOptions().getReadTimeoutMillis())
+        .thenReturn(12000);
+  }
+
+  @Test
+  public void testBlockingExecuteUsesTimeLeft() {
+    Map<String, Object> reqContext = new HashMap<>();
+    Deadline.set(reqContext, 2000);
+    Statement statement = new SimpleStatement("SELECT * FROM group WHERE id='group1'");
+    CassandraOperationImpl.execute(session, statement, reqContext);
+    verify(session).execute(statement);
+    assertTrue(0 < statement.getReadTimeoutMillis());
+    assertTrue(2000 >= statement.getReadTimeoutMillis());
+  }
+
+  @Test
+  public void testWithoutDeadlineKeepsSessionTimeout() {
+    Statement statement = new SimpleStatement("SELECT * FROM group WHERE id='group1'");
+    int readTimeoutMillis = statement.getReadTimeoutMillis();
+    CassandraOperationImpl.execute(session, statement, new HashMap<>());
+    verify(session).execute(statement);
+    assertEquals(readTimeoutMillis, statement.getReadTimeoutMillis());
+  }
+
+  @Test
+  public void testPassedDeadlineKeepsTimeoutPositive() {
+    Map<String, Object> reqContext = new HashMap<>();
+    Deadline.set(reqContext, -1000);
+    Statement statement = new SimpleStatement("SELECT * FROM group WHERE id='group1'");
+    CassandraOperationImpl.withDeadline(session, statement, reqContext);
+    // 0 would disable the timeout
+    assertEquals(1, statement.getReadTimeoutMillis());
+  }
+
+  @Test
+  public void testMultiGetUsesTimeLeft() throws Exception {
+    BoundStatement statement = mock(BoundStatement.class);
+    CassandraOperationImpl operation = multiGetOperation(statement);
+    when(session.executeAsync(any(Statement.class))).thenReturn(new SettableResultSetFuture());
+    Map<String, Object> reqContext = new HashMap<>();
+    Deadline.set(reqContext, 2000);
+
+    operation.selectByKeysAsync(
+        "sunbird_groups",
+        "group",
+        Arrays.asList("group1", "group2"),
+        QueryBuilder.select().all(),
+        null,
+        List::size,
+        reqContext);
+
+    verify(session, times(2)).executeAsync(statement);
+    verify(statement, times(2))
+        .setReadTimeoutMillis(intThat(timeout -> 0 < timeout && 2000 >= timeout));
+  }
+
+  @Test
+  public void testMultiGetFailsWhenDeadlinePassed() throws Exception {
+    BoundStatement statement = mock(BoundStatement.class);
+    CassandraOperationImpl operation = multiGetOperation(statement);
+    Map<String, Object> reqContext = new HashMap<>();
+    Deadline.set(reqContext, -1000);
+
+    CompletableFuture<Integer> result =
+        operation
+            .selectByKeysAsync(
+                "sunbird_groups",
+                "group",
+                Arrays.asList("group1", "group2"),
+                QueryBuilder.select().all(),
+                null,
+                List::size,
+                reqContext)
+            .toCompletableFuture();
+
+    try {
+      result.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertEquals(
+          ResponseCode.SERVICE_UNAVAILABLE.getCode(),
+          ((BaseException) e.getCause()).getResponseCode());
+    }
+    verify(session, never()).executeAsync(any(Statement.class));
+  }
+
+  private CassandraOperationImpl multiGetOperation(BoundStatement statement) {
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(preparedStatement.bind(anyString())).thenReturn(statement);
+    CassandraOperationImpl operation = new CassandraDACImpl();
+    operation.connectionManager = mock(CassandraConnectionManager.class);
+    when(operation.connectionManager.getSession("sunbird_groups")).thenReturn(session);
+    operation.statementCache = mock(PreparedStatementCache.class);
+    when(operation.statementCache.getStatement(any(Session.class), anyString(), any(RegularStatement.class)))
+        .thenReturn(preparedStatement);
+    operation.multiGetEnabled = true;
+    operation.multiGetMinKeys = 2;
+    return operation;
+  }
+}
@@ -0,0 +1,46 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testEmptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    assertEquals(0, histogram.getMean(), 0);
+  }
+
+  @Test
+  public void testPercentilesWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 100000; value++) {
+      histogram.recordValue(value);
+    }
+    assertEquals(100000, histogram.getCount());
+    assertEquals(100000, histogram.getMax());
+    assertEquals(50000.5, histogram.getMean(), 0.001);
+    assertWithinPrecision(50000, histogram.getValueAtPercentile(50));
+    assertWithinPrecision(99000, histogram.getValueAtPercentile(99));
+    assertEquals(100000, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void testBucketsAreContiguous() {
+    long expectedLowest = 0;
+    for (int index = 0; LatencyHistogram.bucketHighestValue(index) < (1L << 40); index++) {
+      long highest = LatencyHistogram.bucketHighestValue(index);
+      assertEquals(index, LatencyHistogram.bucketIndex(expectedLowest));
+      assertEquals(index, LatencyHistogram.bucketIndex(highest));
+      expectedLowest = highest + 1;
+    }
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue(actual + " is not within 3% of " + expected, Math.abs(actual - expected) <= expected * 0.03);
+  }
+}
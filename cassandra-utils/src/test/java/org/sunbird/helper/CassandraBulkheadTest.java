@@ -0,0 +1,74 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.sunbird.cassandra.AsyncCassandraOperation;
+import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.response.Response;
+import org.sunbird.util.Bulkhead;
+
+public class CassandraBulkheadTest {
+
+  @Test
+  public void testAsyncCallRejectedWithoutWaiting() throws Exception {
+    Bulkhead bulkhead = Bulkhead.get("cassandra_bulkhead_test");
+    int maxConcurrent = (int) bulkhead.getBulkheadStats().get("maxConcurrent");
+    List<CompletableFuture<Response>> running = new ArrayList<>();
+    CassandraOperationImpl operation = mock(CassandraOperationImpl.class);
+    when(operation.getRecordByIdAsync(anyString(), anyString(), anyString(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              CompletableFuture<Response> future = new CompletableFuture<>();
+              running.add(future);
+              return future;
+            });
+    AsyncCassandraOperation guarded =
+        (AsyncCassandraOperation) CassandraBulkhead.wrap(operation, bulkhead);
+    List<CompletableFuture<Response>> results = new ArrayList<>();
+    for (int i = 0; i < maxConcurrent; i++) {
+      results.add(getRecord(guarded));
+    }
+
+    long startTime = System.currentTimeMillis();
+    CompletableFuture<Response> rejected = getRecord(guarded);
+    // waiting for a permit would hold the calling thread for bulkhead_cassandra_wait_millis
+    assertTrue(System.currentTimeMillis() - startTime < 500);
+    assertTrue(rejected.isCompletedExceptionally());
+    try {
+      rejected.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertEquals(
+          ResponseCode.SERVICE_UNAVAILABLE.getCode(),
+          ((BaseException) e.getCause()).getResponseCode());
+    }
+    assertEquals(maxConcurrent, running.size());
+
+    running.forEach(future -> future.complete(new Response()));
+    for (CompletableFuture<Response> result : results) {
+      result.get(10, TimeUnit.SECONDS);
+    }
+    assertEquals(0, bulkhead.getBulkheadStats().get("active"));
+  }
+
+  private static CompletableFuture<Response> getRecord(AsyncCassandraOperation operation) {
+    return operation
+        .getRecordByIdAsync("sunbird_groups", "group", "group1", null, new HashMap<>())
+        .toCompletableFuture();
+  }
+}
@@ -0,0 +1,86 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PreparedStatementCacheTest {
+
+  private static final String SELECT_GROUP = "SELECT * FROM group WHERE id=?;";
+  private static final String SELECT_MEMBER = "SELECT * FROM group_member WHERE groupid=?;";
+  private static final String SELECT_USER_GROUP = "SELECT * FROM user_group WHERE userid=?;";
+
+  private Session session;
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class);
+    when(session.prepare(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+  }
+
+  @Test
+  public void testStatementPreparedOncePerQuery() {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    PreparedStatement first = cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    PreparedStatement second = cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    assertSame(first, second);
+    verify(session, times(1)).prepare(SELECT_GROUP);
+    assertEquals(1L, cache.getHitCount());
+    assertEquals(1L, cache.getMissCount());
+  }
+
+  @Test
+  public void testKeyIncludesKeyspace() {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    PreparedStatement groups = cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    PreparedStatement other = cache.getStatement(session, "sunbird", SELECT_GROUP);
+    assertNotSame(groups, other);
+    verify(session, times(2)).prepare(SELECT_GROUP);
+    assertEquals(2, cache.size());
+    assertEquals(0L, cache.getHitCount());
+    assertEquals(2L, cache.getMissCount());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEvicted() {
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+    cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    cache.getStatement(session, "sunbird_groups", SELECT_MEMBER);
+    // reading the group statement makes the member statement the least recently used
+    cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    cache.getStatement(session, "sunbird_groups", SELECT_USER_GROUP);
+    assertEquals(2, cache.size());
+    assertEquals(1L, cache.getEvictionCount());
+
+    cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    verify(session, times(1)).prepare(SELECT_GROUP);
+    cache.getStatement(session, "sunbird_groups", SELECT_MEMBER);
+    verify(session, times(2)).prepare(SELECT_MEMBER);
+  }
+
+  @Test
+  public void testStats() {
+    PreparedStatementCache cache = new PreparedStatementCache(1);
+    cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    cache.getStatement(session, "sunbird_groups", SELECT_GROUP);
+    cache.getStatement(session, "sunbird_groups", SELECT_MEMBER);
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(1, stats.get("size"));
+    assertEquals(1, stats.get("maxSize"));
+    assertEquals(1L, stats.get("hits"));
+    assertEquals(2L, stats.get("misses"));
+    assertEquals(1L, stats.get("evictions"));
+    assertEquals(2L, stats.get("prepareCount"));
+  }
+}
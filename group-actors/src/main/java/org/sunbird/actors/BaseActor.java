@@ -3,17 +3,24 @@ package org.sunbird.actors;
 import org.apache.pekko.actor.UntypedAbstractActor;
 import org.apache.pekko.event.DiagnosticLoggingAdapter;
 import org.apache.pekko.event.Logging;
+import org.apache.pekko.pattern.Patterns;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import org.sunbird.BaseLogger;
 import org.sunbird.common.exception.ActorServiceException;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.message.Localizer;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.response.Response;
 import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.OperationExecutor;
 
 public abstract class BaseActor extends UntypedAbstractActor {
 
@@ -21,6 +28,21 @@ public abstract class BaseActor extends UntypedAbstractActor {
 
   public abstract void onReceive(Request request) throws Throwable;
 
+  /** Operation run off the actor, it completes the reply with its response. */
+  protected interface PipedOperation {
+    void run(CompletableFuture<Response> reply) throws Exception;
+  }
+
+  /** Operation composed of non blocking stages, its stage completes with the response. */
+  protected interface ComposedOperation {
+    CompletionStage<Response> run() throws Exception;
+  }
+
+  /** Step of a composed operation, an exception it throws fails the stage. */
+  protected interface Step<T, R> {
+    R apply(T value) throws Exception;
+  }
+
 //  protected Localizer localizer = Localizer.getInstance();
 
   @Override
@@ -54,6 +76,97 @@ public abstract class BaseActor extends UntypedAbstractActor {
     }
   }
 
+  /**
+   * Runs the operation on the OperationExecutor and pipes its reply to the sender, the actor takes
+   * its next message right away. Work the operation does after completing the reply, like
+   * telemetry and notifications, does not delay the response. An exception thrown before the
+   * reply is piped to the sender as for operations run on the actor. An operation that waited in
+   * the mailbox or the executor queue past the deadline of the request is abandoned unrun.
+   *
+   * @param request
+   * @param operation
+   */
+  protected void pipe(Request request, PipedOperation operation) {
+    CompletableFuture<Response> reply = new CompletableFuture<>();
+    Map<String, Object> trace = new HashMap<>(logger.getMDC());
+    OperationExecutor.getInstance()
+        .submit(
+            () -> {
+              if (trace.containsKey(JsonKey.X_REQUEST_ID)) {
+                new BaseLogger().setReqId(trace);
+              }
+              Deadline.check(request.getContext());
+              operation.run(reply);
+            })
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                reply.completeExceptionally(error);
+              } else if (!reply.isDone()) {
+                reply.completeExceptionally(
+                    new IllegalStateException(request.getOperation() + " ended without a response"));
+              }
+            });
+    pipeReply(reply);
+  }
+
+  /**
+   * Starts the composed operation on the actor and pipes its response to the sender, no thread
+   * waits for its stages. The operation hands the steps it cannot compose to the
+   * OperationExecutor. An operation that waited in the mailbox past the deadline of the request is
+   * abandoned unrun.
+   *
+   * @param request
+   * @param operation
+   */
+  protected void pipeAsync(Request request, ComposedOperation operation) {
+    CompletableFuture<Response> reply =
+        OperationExecutor.getInstance()
+            .admit(
+                () -> {
+                  Deadline.check(request.getContext());
+                  return operation.run();
+                });
+    pipeReply(reply);
+  }
+
+  /**
+   * @param step Step throwing checked exceptions
+   * @return function for thenApply and thenCompose failing the stage with the exception thrown
+   */
+  protected static <T, R> Function<T, R> step(Step<T, R> step) {
+    return value -> {
+      try {
+        return step.apply(value);
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    };
+  }
+
+  /**
+   * @param error Failure of a stage
+   * @return the exception the stage failed with, for the exception handler
+   */
+  protected static Exception unwrap(Throwable error) {
+    Throwable cause =
+        error instanceof CompletionException && null != error.getCause() ? error.getCause() : error;
+    return cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+  }
+
+  private void pipeReply(CompletableFuture<Response> reply) {
+    Patterns.pipe(
+            reply.<Object>handle(
+                (response, error) ->
+                    null == error
+                        ? response
+                        : error instanceof CompletionException ? error.getCause() : error),
+            getContext().dispatcher())
+        .to(sender(), self());
+  }
+
   /**
    * this method will handle the exception
    *
@@ -9,9 +9,13 @@ import org.sunbird.common.response.Response;
 import org.sunbird.common.util.JsonKey;
 import scala.collection.JavaConverters;
 
+/**
+ * Serves cache operations sent as actor messages. CacheUtil talks to redis through AsyncRedisCache
+ * directly, this actor is kept for callers still sending getCache, setCache and delCache messages.
+ */
 @ActorConfig(
   tasks = {"getCache", "setCache", "delCache"},
-  dispatcher = "group-dispatcher",
+  dispatcher = "redis-dispatcher",
   asyncTasks = {}
 )
 public class CacheActor extends BaseActor {
@@ -3,8 +3,11 @@ package org.sunbird.actors;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -37,7 +40,7 @@ public class CreateGroupActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "createGroup":
-        createGroup(request);
+        pipe(request, reply -> createGroup(request, reply));
         break;
       default:
         onReceiveUnsupportedMessage("CreateGroupActor");
@@ -48,7 +51,7 @@ public class CreateGroupActor extends BaseActor {
    *
    * @param actorMessage
    */
-  private void createGroup(Request actorMessage) throws BaseException {
+  private void createGroup(Request actorMessage, CompletableFuture<Response> reply) throws BaseException {
     logger.info(actorMessage.getContext(),"In createGroup() actor");
     GroupService groupService = new GroupServiceImpl();
     MemberService memberService = new MemberServiceImpl();
@@ -104,7 +107,7 @@ public class CreateGroupActor extends BaseActor {
           // this is not used/expected call flow for creating group. Doing this for direct api hits.
           if (!memberLimitExceeded) {
             Response addMembersRes =
-                    memberService.handleMemberAddition(memberList, groupId, userId, userGroupsList, actorMessage.getContext());
+                    memberService.handleMemberAddition(memberList, groupId, userId, actorMessage.getContext());
             logger.info(actorMessage.getContext(), MessageFormat.format(
                     "Adding members to the group : {0} ended , response {1}",
                     groupId,
@@ -120,7 +123,7 @@ public class CreateGroupActor extends BaseActor {
           response.put(JsonKey.ERROR, validationErrors);
         }
         logger.info(actorMessage.getContext(), MessageFormat.format("group created successfully with groupId {0}", groupId));
-        sender().tell(response, self());
+        reply.complete(response);
 
     }catch (Exception ex){
       logger.debug(actorMessage.getContext(),MessageFormat.format("CreateGroupActor: Request: {0}",actorMessage.getRequest()));
@@ -180,10 +183,16 @@ public class CreateGroupActor extends BaseActor {
     }
   }
 
+  /**
+   * Removes the cached group list of the members with one DEL.
+   */
   private void deleteUserCache(List<Map<String, Object>> memberList,Map<String,Object> reqContext) {
     CacheUtil cacheUtil = new CacheUtil();
     logger.info(reqContext,"Delete user cache from redis");
-    memberList.forEach(member -> cacheUtil.delCache((String) (member.get(JsonKey.USER_ID))));
+    Set<String> userIds = new LinkedHashSet<>();
+    memberList.forEach(member -> userIds.add((String) (member.get(JsonKey.USER_ID))));
+    userIds.remove(null);
+    cacheUtil.delCache(new ArrayList<>(userIds));
   }
 
 }
@@ -4,6 +4,7 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.ActorConfig;
 import org.sunbird.common.exception.AuthorizationException;
@@ -36,7 +37,7 @@ public class DeleteGroupActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "deleteGroup":
-        deleteGroup(request);
+        pipe(request, reply -> deleteGroup(request, reply));
         break;
       default:
         onReceiveUnsupportedMessage("DeleteGroupActor");
@@ -49,7 +50,7 @@ public class DeleteGroupActor extends BaseActor {
    * @param actorMessage
    * @throws BaseException
    */
-  private void deleteGroup(Request actorMessage) throws BaseException {
+  private void deleteGroup(Request actorMessage, CompletableFuture<Response> reply) throws BaseException {
     logger.info(actorMessage.getContext(),"DeleteGroup method call");
     GroupRequestHandler requestHandler = new GroupRequestHandler();
     String userId = requestHandler.getRequestedBy(actorMessage);
@@ -79,12 +80,13 @@ public class DeleteGroupActor extends BaseActor {
              Boolean.parseBoolean(
                      PropertiesCache.getInstance().getConfigValue(JsonKey.ENABLE_USERID_REDIS_CACHE));
      if (isUseridRedisEnabled) {
-       cacheUtil.deleteCacheSync(groupId, actorMessage.getContext());
+       cacheUtil.deleteCacheSync(
+           Arrays.asList(groupId, CacheUtil.getGroupSummaryKey(groupId)), actorMessage.getContext());
        cacheUtil.delCache(groupId + "_" + JsonKey.MEMBERS);
-       // Remove group list user cache from redis
-       membersInDB.forEach(member -> cacheUtil.delCache(member.getUserId()));
+       // group lists of all the members recording the old version are read again
+       cacheUtil.incrementGroupVersion(groupId, actorMessage.getContext());
      }
-     sender().tell(response, self());
+     reply.complete(response);
      TelemetryHandler.logGroupDeleteTelemetry(actorMessage, groupId, dbResGroup,true);
      NotificationManager.sendNotifications(actorMessage, Arrays.asList(NotificationType.GROUP_DELETE),dbResGroup, membersInDB);
    }catch (Exception ex){
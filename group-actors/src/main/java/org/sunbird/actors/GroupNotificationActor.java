@@ -25,7 +25,7 @@ import java.util.stream.Collectors;
 @ActorConfig(
         tasks = {"sendNotifications"},
         asyncTasks = {},
-        dispatcher = "group-dispatcher"
+        dispatcher = "notification-dispatcher"
 )
 public class GroupNotificationActor extends BaseActor{
 
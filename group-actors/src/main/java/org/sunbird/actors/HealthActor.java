@@ -1,9 +1,14 @@
 package org.sunbird.actors;
 
 import org.sunbird.actor.core.ActorConfig;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.response.Response;
+import org.sunbird.helper.HostLatencyTracker;
+import org.sunbird.util.CacheWarmer;
 
+/** Reports the node healthy once the cache warm-up ended, service unavailable until then. */
 @ActorConfig(
   tasks = {"health"},
   dispatcher = "health-dispatcher",
@@ -14,9 +19,17 @@ public class HealthActor extends BaseActor {
   @Override
   public void onReceive(Request request) throws Throwable {
     logger.info("onReceive method call started {}", request.toString());
+    if (!CacheWarmer.getInstance().isReady()) {
+      throw new BaseException(
+          ResponseCode.serviceUnAvailable.getErrorCode(),
+          ResponseCode.serviceUnAvailable.getErrorMessage(),
+          ResponseCode.SERVICE_UNAVAILABLE.getCode());
+    }
     Response response = new Response();
     response.put("Response", request.getRequest());
     response.put("healthy", true);
+    response.put("cassandraHosts", HostLatencyTracker.getInstance().getStats());
+    response.put("cacheWarmUp", CacheWarmer.getInstance().getStats());
     logger.info("onReceive method call End ");
     sender().tell(response, self());
   }
@@ -0,0 +1,46 @@
+package org.sunbird.actors;
+
+import org.sunbird.actor.core.ActorConfig;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.cache.util.RedisShards;
+import org.sunbird.common.QueryMetrics;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+import org.sunbird.helper.HostLatencyTracker;
+import org.sunbird.helper.PreparedStatementCache;
+import org.sunbird.util.Bulkhead;
+import org.sunbird.util.CacheRefresher;
+import org.sunbird.util.ConcurrencyLimiter;
+import org.sunbird.util.NearCache;
+import org.sunbird.util.OperationExecutor;
+import org.sunbird.util.SingleFlight;
+
+/**
+ * Returns the cassandra query latencies, per host latencies, prepared statement cache, near cache,
+ * cache miss coalescing, background cache refresh, redis shard connection, redis lane, piped
+ * operation, per dependency bulkhead and per operation concurrency limit stats.
+ */
+@ActorConfig(
+  tasks = {"metrics"},
+  dispatcher = "health-dispatcher",
+  asyncTasks = {}
+)
+public class MetricsActor extends BaseActor {
+
+  @Override
+  public void onReceive(Request request) throws Throwable {
+    Response response = new Response();
+    response.put("cassandraQueries", QueryMetrics.getInstance().getStats());
+    response.put("cassandraHosts", HostLatencyTracker.getInstance().getStats());
+    response.put("preparedStatementCache", PreparedStatementCache.getInstance().getStats());
+    response.put("nearCache", NearCache.getInstance().getStats());
+    response.put("singleFlight", SingleFlight.getInstance().getStats());
+    response.put("cacheRefresh", CacheRefresher.getInstance().getStats());
+    response.put("redisShards", RedisShards.getStats());
+    response.put("redisLanes", AsyncRedisCache.getStats());
+    response.put("operations", OperationExecutor.getInstance().getStats());
+    response.put("bulkheads", Bulkhead.getStats());
+    response.put("concurrencyLimits", ConcurrencyLimiter.getInstance().getStats());
+    sender().tell(response, self());
+  }
+}
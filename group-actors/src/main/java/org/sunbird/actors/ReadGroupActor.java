@@ -3,13 +3,18 @@ package org.sunbird.actors;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.ActorConfig;
+import org.sunbird.common.Page;
 import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.exception.DBException;
+import org.sunbird.common.exception.ValidationException;
 import org.sunbird.common.message.ResponseCode;
 import org.sunbird.models.GroupResponse;
 import org.sunbird.models.MemberResponse;
@@ -24,6 +29,9 @@ import org.sunbird.common.util.JsonKey;
 import org.sunbird.util.ExceptionHandler;
 import org.sunbird.util.JsonUtils;
 import org.sunbird.util.LoggerUtil;
+import org.sunbird.util.OperationExecutor;
+import org.sunbird.util.SingleFlight;
+import org.sunbird.util.helper.PropertiesCache;
 
 @ActorConfig(
   tasks = {"readGroup"},
@@ -39,7 +47,7 @@ public class ReadGroupActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "readGroup":
-        readGroup(request);
+        pipeAsync(request, () -> readGroup(request));
         break;
       default:
         onReceiveUnsupportedMessage("ReadGroupActor");
@@ -50,64 +58,185 @@ public class ReadGroupActor extends BaseActor {
    *
    * @param actorMessage
    */
-  private void readGroup(Request actorMessage) throws BaseException {
+  private CompletionStage<Response> readGroup(Request actorMessage) {
     CacheUtil cacheUtil = new CacheUtil();
     GroupService groupService = new GroupServiceImpl();
     MemberService memberService = new MemberServiceImpl();
     String groupId = (String) actorMessage.getRequest().get(JsonKey.GROUP_ID);
     List<String> requestFields = (List<String>) actorMessage.getRequest().get(JsonKey.FIELDS);
     logger.info(actorMessage.getContext(),MessageFormat.format("Reading group with groupId {0} and required fields {1}", groupId, requestFields));
-    GroupResponse groupResponse;
-    try {
-      String groupInfo = cacheUtil.getCache(groupId,actorMessage.getContext());
-      if (StringUtils.isNotEmpty(groupInfo)) {
-        groupResponse = JsonUtils.deserialize(groupInfo, GroupResponse.class);
-      } else {
-        groupResponse = readGroupWithActivities(actorMessage, cacheUtil, groupService, groupId);
-      }
-      if (CollectionUtils.isNotEmpty(requestFields) && requestFields.contains(JsonKey.MEMBERS)) {
-        String groupMember = cacheUtil.getCache(constructRedisIdentifier(groupId),actorMessage.getContext());
-        List<MemberResponse> memberResponses = new ArrayList<>();
-        if (StringUtils.isNotEmpty(groupMember)) {
-          memberResponses =
-                  JsonUtils.deserialize(groupMember, new TypeReference<List<MemberResponse>>() {
-                  });
-        } else {
-          logger.info(actorMessage.getContext(),MessageFormat.format(
-                  "read group member cache is empty. Fetching details from DB for groupId - {0} ",
-                  groupId));
-          memberResponses = memberService.readGroupMembers(groupId, actorMessage.getContext());
-          cacheUtil.setCache(
-                  constructRedisIdentifier(groupId),
-                  JsonUtils.serialize(memberResponses),
-                  CacheUtil.groupTtl);
-        }
-        groupResponse.setMembers(memberResponses);
-      }
-      if (CollectionUtils.isNotEmpty(requestFields) && !requestFields.contains(JsonKey.ACTIVITIES)) {
-        groupResponse.setActivities(null);
-      }
-      Response response = new Response(ResponseCode.OK.getCode());
-      Map<String, Object> map = JsonUtils.convert(groupResponse, Map.class);
-      response.putAll(map);
-      sender().tell(response, self());
-    } catch (Exception ex){
-      logger.debug(actorMessage.getContext(),MessageFormat.format("ReadGroupActor: Request: {0}",actorMessage.getRequest()));
+    boolean readActivities =
+        CollectionUtils.isEmpty(requestFields) || requestFields.contains(JsonKey.ACTIVITIES);
+    SingleFlight.Loader groupLoader = groupLoader(groupService, groupId);
+    return cacheUtil
+        .getCacheAsync(groupId, CacheUtil.groupPolicy, groupLoader, actorMessage.getContext())
+        .thenCompose(
+            step(
+                groupInfo -> {
+                  if (StringUtils.isNotEmpty(groupInfo)) {
+                    return CompletableFuture.completedFuture(
+                        JsonUtils.deserialize(groupInfo, GroupResponse.class));
+                  } else if (readActivities) {
+                    return readGroupWithActivities(actorMessage, cacheUtil, groupLoader, groupId);
+                  }
+                  return readGroupWithoutActivities(actorMessage, groupService, groupId);
+                }))
+        .thenCompose(
+            groupResponse -> {
+              if (CollectionUtils.isNotEmpty(requestFields) && requestFields.contains(JsonKey.MEMBERS)) {
+                return readMembers(actorMessage, cacheUtil, memberService, groupId, groupResponse);
+              }
+              return CompletableFuture.completedFuture(groupResponse);
+            })
+        .thenApply(
+            step(
+                groupResponse -> {
+                  if (CollectionUtils.isNotEmpty(requestFields) && !requestFields.contains(JsonKey.ACTIVITIES)) {
+                    groupResponse.setActivities(null);
+                  }
+                  Response response = new Response(ResponseCode.OK.getCode());
+                  Map<String, Object> map = JsonUtils.convert(groupResponse, Map.class);
+                  response.putAll(map);
+                  return response;
+                }))
+        .exceptionally(
+            error -> {
+              Exception ex = unwrap(error);
+              logger.debug(actorMessage.getContext(),MessageFormat.format("ReadGroupActor: Request: {0}",actorMessage.getRequest()));
+
+              logger.error(actorMessage.getContext(),MessageFormat.format("ReadGroupActor:  Error Msg: {0} ",ex.getMessage()),ex);
+              ExceptionHandler.handleExceptions(actorMessage, ex, ResponseCode.GS_RED03);
+              return null;
+            });
+  }
+
+  /**
+   * Sets the members of the group, a page of them read from DB when a limit or page token is given,
+   * else all of them from cache.
+   */
+  private CompletionStage<GroupResponse> readMembers(
+      Request actorMessage,
+      CacheUtil cacheUtil,
+      MemberService memberService,
+      String groupId,
+      GroupResponse groupResponse) {
+    Integer membersLimit = (Integer) actorMessage.getRequest().get(JsonKey.MEMBERS_LIMIT);
+    String membersPageToken = (String) actorMessage.getRequest().get(JsonKey.MEMBERS_PAGE_TOKEN);
+    if (null != membersLimit || StringUtils.isNotEmpty(membersPageToken)) {
+      return OperationExecutor.getInstance()
+          .supply(
+              () ->
+                  readGroupMembersPage(
+                      actorMessage, memberService, groupId, membersLimit, membersPageToken))
+          .thenApply(
+              membersPage -> {
+                groupResponse.setMembers(membersPage.getRecords());
+                groupResponse.setMembersNextPageToken(membersPage.getNextPageToken());
+                return groupResponse;
+              });
+    }
+    SingleFlight.Loader membersLoader = membersLoader(memberService, groupId);
+    String membersKey = constructRedisIdentifier(groupId);
+    return cacheUtil
+        .getCacheAsync(membersKey, CacheUtil.groupMembersPolicy, membersLoader, actorMessage.getContext())
+        .thenCompose(
+            groupMember -> {
+              if (StringUtils.isNotEmpty(groupMember)) {
+                return CompletableFuture.completedFuture(groupMember);
+              }
+              return cacheUtil.loadCacheAsync(
+                  membersKey, CacheUtil.groupMembersPolicy, membersLoader, actorMessage.getContext());
+            })
+        .thenApply(
+            step(
+                groupMember -> {
+                  List<MemberResponse> memberResponses =
+                      JsonUtils.deserialize(groupMember, new TypeReference<List<MemberResponse>>() {});
+                  groupResponse.setMembers(memberResponses);
+                  return groupResponse;
+                }));
+  }
+
+  private CompletionStage<GroupResponse> readGroupWithActivities(Request actorMessage, CacheUtil cacheUtil, SingleFlight.Loader groupLoader, String groupId) {
+    return cacheUtil
+        .loadCacheAsync(groupId, CacheUtil.groupPolicy, groupLoader, actorMessage.getContext())
+        .exceptionally(
+            error -> {
+              throw groupReadError(error);
+            })
+        .thenApply(step(groupInfo -> JsonUtils.deserialize(groupInfo, GroupResponse.class)));
+  }
+
+  /**
+   * Reads the group with activities from DB, for loading it into cache when missing or stale.
+   */
+  private SingleFlight.Loader groupLoader(GroupService groupService, String groupId) {
+    return context -> {
+      logger.info(context,MessageFormat.format("read group cache is empty or stale. Fetching details from DB for groupId - {0} ", groupId));
+      return groupService
+          .readGroupWithActivitiesAsync(groupId, context)
+          .thenApply(step(JsonUtils::serialize));
+    };
+  }
+
+  /**
+   * Reads all members of the group from DB, for loading them into cache when missing or stale.
+   */
+  private SingleFlight.Loader membersLoader(MemberService memberService, String groupId) {
+    return context -> {
+      logger.info(context,MessageFormat.format(
+              "read group member cache is empty or stale. Fetching details from DB for groupId - {0} ",
+              groupId));
+      return memberService
+          .readGroupMembersAsync(groupId, context)
+          .thenApply(step(JsonUtils::serialize));
+    };
+  }
 
-      logger.error(actorMessage.getContext(),MessageFormat.format("ReadGroupActor:  Error Msg: {0} ",ex.getMessage()),ex);
-      ExceptionHandler.handleExceptions(actorMessage, ex, ResponseCode.GS_RED03);
+  /**
+   * Reads the group without activities. It is not cached, as the cached group carries activities.
+   */
+  private CompletionStage<GroupResponse> readGroupWithoutActivities(Request actorMessage, GroupService groupService, String groupId) {
+    logger.info(actorMessage.getContext(),MessageFormat.format("read group cache is empty. Fetching details without activities from DB for groupId - {0} ", groupId));
+    return groupService
+        .readGroupWithoutActivitiesAsync(groupId, actorMessage.getContext())
+        .exceptionally(
+            error -> {
+              throw groupReadError(error);
+            });
+  }
+
+  /** Maps a failed group read to GS_RED07 with the response code of the failure. */
+  private static RuntimeException groupReadError(Throwable error) {
+    Exception ex = unwrap(error);
+    if (ex instanceof BaseException) {
+      return new BaseException(ResponseCode.GS_RED07.getErrorCode(), ResponseCode.GS_RED07.getErrorMessage(),((BaseException) ex).getResponseCode());
     }
+    return new CompletionException(ex);
   }
 
-  private GroupResponse readGroupWithActivities(Request actorMessage, CacheUtil cacheUtil, GroupService groupService, String groupId) throws Exception {
+  /**
+   * Reads one page of the members, the limit defaults to and is capped at the maximum group
+   * members. Pages are read from DB, as the cached member list holds all members of the group.
+   */
+  private Page<MemberResponse> readGroupMembersPage(
+      Request actorMessage,
+      MemberService memberService,
+      String groupId,
+      Integer membersLimit,
+      String membersPageToken) throws BaseException {
+    int maxMembers =
+        Integer.parseInt(PropertiesCache.getInstance().getProperty(JsonKey.MAX_GROUP_MEMBERS_LIMIT));
+    int limit = null == membersLimit ? maxMembers : Math.min(membersLimit, maxMembers);
+    logger.info(actorMessage.getContext(),MessageFormat.format(
+            "Fetching page of {0} members from DB for groupId - {1} ", limit, groupId));
     try {
-      GroupResponse groupResponse;
-      logger.info(actorMessage.getContext(),MessageFormat.format("read group cache is empty. Fetching details from DB for groupId - {0} ", groupId));
-      groupResponse = groupService.readGroupWithActivities(groupId, actorMessage.getContext());
-      cacheUtil.setCache(groupId, JsonUtils.serialize(groupResponse), CacheUtil.groupTtl);
-      return groupResponse;
-    }catch (BaseException ex){
-      throw new BaseException(ResponseCode.GS_RED07.getErrorCode(), ResponseCode.GS_RED07.getErrorMessage(),ex.getResponseCode());
+      return memberService.readGroupMembers(groupId, limit, membersPageToken, actorMessage.getContext());
+    } catch (DBException ex) {
+      if (ex.getResponseCode() == ResponseCode.CLIENT_ERROR.getCode()) {
+        throw new ValidationException.InvalidParamValue(membersPageToken, JsonKey.MEMBERS_PAGE_TOKEN);
+      }
+      throw ex;
     }
   }
 
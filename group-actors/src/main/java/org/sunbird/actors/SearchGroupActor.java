@@ -4,9 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.ActorConfig;
@@ -20,8 +24,10 @@ import org.sunbird.service.GroupServiceImpl;
 import org.sunbird.util.CacheUtil;
 import org.sunbird.common.util.JsonKey;
 import org.sunbird.util.ExceptionHandler;
+import org.sunbird.util.GroupUtil;
 import org.sunbird.util.JsonUtils;
 import org.sunbird.util.LoggerUtil;
+import org.sunbird.util.SingleFlight;
 import org.sunbird.util.helper.PropertiesCache;
 
 @ActorConfig(
@@ -37,7 +43,7 @@ public class SearchGroupActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "searchGroup":
-        searchGroup(request);
+        pipeAsync(request, () -> searchGroup(request));
         break;
         
       default:
@@ -51,7 +57,7 @@ public class SearchGroupActor extends BaseActor {
    *
    * @param request
    */
-  private void searchGroup(Request request) throws BaseException {
+  private CompletionStage<Response> searchGroup(Request request) {
     boolean isUseridRedisEnabled =
         Boolean.parseBoolean(
             PropertiesCache.getInstance().getConfigValue(JsonKey.ENABLE_USERID_REDIS_CACHE));
@@ -61,61 +67,232 @@ public class SearchGroupActor extends BaseActor {
     logger.info(request.getContext(),MessageFormat.format("search group with the request/filters {0}", searchQueryMap));
     Map<String, Object> filterMap = (Map<String, Object>) searchQueryMap.get(JsonKey.FILTERS);
 
-    List<GroupResponse> groupDetails = new ArrayList<>();
     String userId = (String) filterMap.get(JsonKey.USER_ID);
-    try {
-      if (StringUtils.isNotBlank(userId)) {
-        boolean getFromDB = true;
-        if (isUseridRedisEnabled) {
-          String groupList = cacheUtil.getCache(userId,request.getContext());
-          if (StringUtils.isNotEmpty(groupList)) {
-            try {
-              groupDetails =
-                      JsonUtils.deserialize(groupList, new TypeReference<List<GroupResponse>>() {
-                      });
-              getFromDB = false;
-            } catch (Exception e) {
-              logger.error(request.getContext(),MessageFormat.format("SearchGroupActor: Error in getting group list from Redis: {0}", e.getMessage()));
-            }
-          }
-        }
-        if (getFromDB || CollectionUtils.isEmpty(groupDetails)) {
-          logger.info(request.getContext(),"/group/list cache is empty. Fetching details from DB");
-          groupDetails = groupService.searchGroup(filterMap,request.getContext());
-          if (isUseridRedisEnabled) {
-            updateGroupDetailInCache(cacheUtil, groupDetails, userId, request.getContext());
-          }
-        }
+    CompletionStage<List<GroupResponse>> groupDetails;
+    if (StringUtils.isNotBlank(userId)) {
+      if (isUseridRedisEnabled) {
+        groupDetails =
+            readGroupMemberships(cacheUtil, groupService, userId, request.getContext())
+                .thenCompose(
+                    memberships ->
+                        readGroups(cacheUtil, groupService, memberships, request.getContext()));
       } else {
-        String errorMsg ="Bad Request UserId is Mandatory";
-        logger.error(request.getContext(),errorMsg);
-        throw new BaseException(
-                ResponseCode.GS_LST02.getErrorCode(),
-                ResponseCode.GS_LST02.getErrorMessage(),
-                ResponseCode.BAD_REQUEST.getCode());
-      }
-
-      Map<String, Object> result = new HashMap<>();
-      if (CollectionUtils.isNotEmpty(groupDetails) && groupDetails.size() > 0) {
-        groupDetails.sort(
-                ((o1, o2) ->
-                        o1.getMemberRole().compareTo(o2.getMemberRole()))); // sort group result by role
+        groupDetails = groupService.searchGroupAsync(filterMap,request.getContext());
       }
-      result.put(JsonKey.GROUP, groupDetails);
-      Response response = new Response(result, ResponseCode.OK.getCode());
-      sender().tell(response, self());
-    }catch (Exception ex){
-      logger.debug(request.getContext(),MessageFormat.format("SearchGroupActor: Request: {0}",request.getRequest()));
-      logger.error(request.getContext(),MessageFormat.format("SearchGroupActor: Error Msg: {0} ",ex.getMessage()),ex);
-      ExceptionHandler.handleExceptions(request, ex, ResponseCode.GS_LST03);
+    } else {
+      String errorMsg ="Bad Request UserId is Mandatory";
+      logger.error(request.getContext(),errorMsg);
+      groupDetails =
+          CompletableFuture.failedFuture(
+              new BaseException(
+                  ResponseCode.GS_LST02.getErrorCode(),
+                  ResponseCode.GS_LST02.getErrorMessage(),
+                  ResponseCode.BAD_REQUEST.getCode()));
     }
+
+    return groupDetails
+        .thenApply(
+            groups -> {
+              Map<String, Object> result = new HashMap<>();
+              if (CollectionUtils.isNotEmpty(groups) && groups.size() > 0) {
+                groups.sort(
+                        ((o1, o2) ->
+                                o1.getMemberRole().compareTo(o2.getMemberRole()))); // sort group result by role
+              }
+              result.put(JsonKey.GROUP, groups);
+              return new Response(result, ResponseCode.OK.getCode());
+            })
+        .exceptionally(
+            error -> {
+              Exception ex = unwrap(error);
+              logger.debug(request.getContext(),MessageFormat.format("SearchGroupActor: Request: {0}",request.getRequest()));
+              logger.error(request.getContext(),MessageFormat.format("SearchGroupActor: Error Msg: {0} ",ex.getMessage()),ex);
+              ExceptionHandler.handleExceptions(request, ex, ResponseCode.GS_LST03);
+              return null;
+            });
   }
 
-  private void updateGroupDetailInCache(CacheUtil cacheUtil, List<GroupResponse> groupDetails, String userId, Map<String,Object> reqContext) {
-    try {
-      cacheUtil.setCache(userId, JsonUtils.serialize(groupDetails), CacheUtil.userTtl);
-    } catch (Exception e) {
-      logger.error(reqContext,MessageFormat.format("SearchGroupActor: Error in saving group list to Redis: {0}", e.getMessage()));
+  /**
+   * Reads the groups of the user with role and visited flag, cached under the userId. The entry
+   * records the version of each group, it is read again when the membership of the user changes
+   * or when one of the groups got a new version. The versions are read before the memberships, so a
+   * group changed in between is recorded with its old version and read again on the next search.
+   * Concurrent misses of the same user share one read.
+   */
+  private CompletionStage<List<Map<String, Object>>> readGroupMemberships(
+      CacheUtil cacheUtil, GroupService groupService, String userId, Map<String, Object> reqContext) {
+    SingleFlight.Loader membershipsLoader =
+        context -> {
+          logger.info(context,"/group/list cache is empty or stale. Fetching details from DB");
+          return groupService
+              .readGroupIdsAsync(userId, context)
+              .thenCompose(
+                  groupIds ->
+                      cacheUtil
+                          .getGroupVersionsAsync(groupIds, context)
+                          .thenCompose(
+                              versions ->
+                                  groupService
+                                      .readGroupMembershipsAsync(groupIds, userId, context)
+                                      .thenApply(
+                                          step(
+                                              memberships -> {
+                                                memberships.forEach(
+                                                    membership ->
+                                                        membership.put(
+                                                            JsonKey.GROUP_VERSION,
+                                                            versions.getOrDefault(
+                                                                (String) membership.get(JsonKey.GROUP_ID), 0L)));
+                                                return JsonUtils.serialize(memberships);
+                                              }))));
+        };
+    return cacheUtil
+        .getCacheAsync(userId, CacheUtil.userPolicy, membershipsLoader, reqContext)
+        .thenCompose(
+            membershipList -> {
+              List<Map<String, Object>> memberships = null;
+              if (StringUtils.isNotEmpty(membershipList)) {
+                try {
+                  memberships =
+                      JsonUtils.deserialize(membershipList, new TypeReference<List<Map<String, Object>>>() {});
+                } catch (Exception e) {
+                  logger.error(reqContext,MessageFormat.format("SearchGroupActor: Error in getting group list from Redis: {0}", e.getMessage()));
+                }
+              }
+              // entries written before groups were cached one by one hold the whole group list
+              if (CollectionUtils.isNotEmpty(memberships)
+                  && memberships.stream().allMatch(membership -> membership.containsKey(JsonKey.GROUP_ID))) {
+                List<Map<String, Object>> cached = memberships;
+                return isCurrent(cacheUtil, cached, reqContext)
+                    .thenCompose(
+                        current -> {
+                          if (current) {
+                            return CompletableFuture.completedFuture(cached);
+                          }
+                          logger.info(reqContext,"/group/list cache holds an old version of a group");
+                          cacheUtil.delCache(userId);
+                          return loadGroupMemberships(cacheUtil, userId, membershipsLoader, reqContext);
+                        });
+              }
+              return loadGroupMemberships(cacheUtil, userId, membershipsLoader, reqContext);
+            });
+  }
+
+  private CompletionStage<List<Map<String, Object>>> loadGroupMemberships(
+      CacheUtil cacheUtil,
+      String userId,
+      SingleFlight.Loader membershipsLoader,
+      Map<String, Object> reqContext) {
+    return cacheUtil
+        .loadCacheAsync(userId, CacheUtil.userPolicy, membershipsLoader, reqContext)
+        .thenApply(
+            step(
+                memberships ->
+                    JsonUtils.deserialize(
+                        memberships, new TypeReference<List<Map<String, Object>>>() {})));
+  }
+
+  /**
+   * @return true if every group of the cached memberships still has the version recorded with it,
+   *     entries written before versions were recorded count as version 0
+   */
+  private CompletionStage<Boolean> isCurrent(
+      CacheUtil cacheUtil, List<Map<String, Object>> memberships, Map<String, Object> reqContext) {
+    return cacheUtil
+        .getGroupVersionsAsync(GroupUtil.getGroupIds(memberships), reqContext)
+        .thenApply(
+            versions ->
+                memberships
+                    .stream()
+                    .allMatch(
+                        membership -> {
+                          Object recorded = membership.get(JsonKey.GROUP_VERSION);
+                          long version = recorded instanceof Number ? ((Number) recorded).longValue() : 0L;
+                          return version == versions.getOrDefault((String) membership.get(JsonKey.GROUP_ID), 0L);
+                        }));
+  }
+
+  /**
+   * Reads the groups of the memberships from their cached entries with one MGET, only groups not
+   * in cache are read from DB and cached. Stale groups are refreshed one by one in the background.
+   */
+  private CompletionStage<List<GroupResponse>> readGroups(
+      CacheUtil cacheUtil,
+      GroupService groupService,
+      List<Map<String, Object>> memberships,
+      Map<String, Object> reqContext) {
+    if (memberships.isEmpty()) {
+      return CompletableFuture.completedFuture(new ArrayList<>());
     }
+    List<String> groupIds = GroupUtil.getGroupIds(memberships);
+    Map<String, String> groupIdsByKey = new HashMap<>();
+    groupIds.forEach(groupId -> groupIdsByKey.put(CacheUtil.getGroupSummaryKey(groupId), groupId));
+    return cacheUtil
+        .getCachesAsync(
+            groupIds.stream().map(CacheUtil::getGroupSummaryKey).collect(Collectors.toList()),
+            CacheUtil.groupPolicy,
+            key -> summaryLoader(groupService, groupIdsByKey.get(key)),
+            reqContext)
+        .thenCompose(
+            cachedGroups -> {
+              List<GroupResponse> groups = new ArrayList<>();
+              List<String> missingGroupIds = new ArrayList<>();
+              for (String groupId : groupIds) {
+                String groupInfo = cachedGroups.get(CacheUtil.getGroupSummaryKey(groupId));
+                GroupResponse group = null;
+                if (StringUtils.isNotEmpty(groupInfo)) {
+                  try {
+                    group = JsonUtils.deserialize(groupInfo, GroupResponse.class);
+                  } catch (Exception e) {
+                    logger.error(reqContext,MessageFormat.format("SearchGroupActor: Error in getting group {0} from Redis: {1}", groupId, e.getMessage()));
+                  }
+                }
+                if (null != group) {
+                  groups.add(group);
+                } else {
+                  missingGroupIds.add(groupId);
+                }
+              }
+              logger.info(reqContext,MessageFormat.format("{0} of {1} groups read from cache", groups.size(), groupIds.size()));
+              if (missingGroupIds.isEmpty()) {
+                return CompletableFuture.completedFuture(groups);
+              }
+              long startTime = System.currentTimeMillis();
+              return groupService
+                  .readGroupSummariesAsync(missingGroupIds, reqContext)
+                  .thenApply(
+                      dbGroups -> {
+                        long loadMillis = System.currentTimeMillis() - startTime;
+                        for (GroupResponse group : dbGroups) {
+                          try {
+                            cacheUtil.setCache(
+                                CacheUtil.getGroupSummaryKey(group.getId()),
+                                JsonUtils.serialize(group),
+                                CacheUtil.groupPolicy,
+                                loadMillis);
+                          } catch (Exception e) {
+                            logger.error(reqContext,MessageFormat.format("SearchGroupActor: Error in saving group {0} to Redis: {1}", group.getId(), e.getMessage()));
+                          }
+                        }
+                        groups.addAll(dbGroups);
+                        return groups;
+                      });
+            })
+        .thenApply(
+            groups -> {
+              GroupUtil.updateGroupDetails(groups, GroupUtil.getGroupDetailsMapByUser(memberships));
+              return groups;
+            });
+  }
+
+  /**
+   * Reads the group fields listed by group search from DB, for refreshing a stale cached group.
+   */
+  private SingleFlight.Loader summaryLoader(GroupService groupService, String groupId) {
+    return context ->
+        groupService
+            .readGroupSummariesAsync(Collections.singletonList(groupId), context)
+            .thenApply(
+                step(dbGroups -> dbGroups.isEmpty() ? null : JsonUtils.serialize(dbGroups.get(0))));
   }
 }
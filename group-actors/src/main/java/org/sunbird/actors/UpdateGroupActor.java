@@ -2,9 +2,16 @@ package org.sunbird.actors;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -40,7 +47,7 @@ public class UpdateGroupActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "updateGroup":
-        updateGroup(request);
+        pipeAsync(request, () -> updateGroup(request));
         break;
       default:
         onReceiveUnsupportedMessage("UpdateGroupActor");
@@ -51,7 +58,7 @@ public class UpdateGroupActor extends BaseActor {
    *
    * @param actorMessage
    */
-  private void updateGroup(Request actorMessage) throws BaseException {
+  private CompletionStage<Response> updateGroup(Request actorMessage) throws BaseException {
     List<String> notifications = new ArrayList<>();
 
     logger.info(actorMessage.getContext(),"UpdateGroup method call");
@@ -59,123 +66,173 @@ public class UpdateGroupActor extends BaseActor {
     GroupRequestHandler requestHandler = new GroupRequestHandler();
     Group group = requestHandler.handleUpdateGroupRequest(actorMessage);
     GroupService groupService = new GroupServiceImpl();
+    MemberService memberService = new MemberServiceImpl();
 
     logger.info(actorMessage.getContext(),MessageFormat.format("Update group for the groupId {0}", group.getId()));
-    Map<String, Object> dbResGroup= null;
+    AtomicReference<Map<String, Object>> dbResGroup = new AtomicReference<>();
+    AtomicReference<List<MemberResponse>> membersInDB = new AtomicReference<>();
+    Map<String, List<Map<String, String>>> responseMap = new HashMap<>();
     String userId = group.getUpdatedBy();
-    try {
-      if (StringUtils.isEmpty(userId)) {
-        logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Error Code: {0}, Error Msg: {1} ",ResponseCode.GS_UDT01.getErrorCode(),ResponseCode.GS_UDT01.getErrorMessage()));
-        throw new AuthorizationException.NotAuthorized(ResponseCode.GS_UDT01);
-      }
-      dbResGroup = readGroup(group.getId(), groupService, actorMessage.getContext());
-
-      // Check if it is an exit group request
-      boolean isExitGroupRequest =
-              isExitGroupRequest(
-                      group, userId, (Map<String, Object>) actorMessage.getRequest().get(JsonKey.MEMBERS));
-      // Only exit group and activate group request is allowed in suspended group state
-      if (!isExitGroupRequest
-              && JsonKey.SUSPENDED.equals(dbResGroup.get(JsonKey.STATUS))
-              && (StringUtils.isBlank(group.getStatus())
-              || JsonKey.SUSPENDED.equals(group.getStatus()))) {
-        logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Error Code: {0}, Error Msg: {1} {2}",ResponseCode.GS_UDT08.getErrorCode(),ResponseCode.GS_UDT08.getErrorMessage(),group.getId()));
-        throw new ValidationException.GroupNotActive(group.getId());
-      }
-
-      Map<String, List<Map<String, String>>> responseMap = new HashMap<>();
-      // member validation and updates to group
-      MemberService memberService = new MemberServiceImpl();
-      List<MemberResponse> membersInDB = memberService.fetchMembersByGroupId(group.getId(),actorMessage.getContext());
-
-      // Check if user is authorized to delete ,suspend and re-activate operation
-      // Allow all member to exit the group
-      if (!isExitGroupRequest) {
-        checkUserAuthorization(
-                dbResGroup, membersInDB, group.getStatus(), userId, actorMessage.getRequest(),actorMessage.getContext());
-      }
-
-      if (MapUtils.isNotEmpty((Map) actorMessage.getRequest().get(JsonKey.MEMBERS))) {
-        responseMap.put(
-                JsonKey.MEMBERS,
-                validateMembersAndSave(
+    // Check if it is an exit group request
+    boolean isExitGroupRequest =
+            StringUtils.isNotEmpty(userId)
+                    && isExitGroupRequest(
+                            group, userId, (Map<String, Object>) actorMessage.getRequest().get(JsonKey.MEMBERS));
+    CompletionStage<Map<String, Object>> groupRead;
+    if (StringUtils.isEmpty(userId)) {
+      logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Error Code: {0}, Error Msg: {1} ",ResponseCode.GS_UDT01.getErrorCode(),ResponseCode.GS_UDT01.getErrorMessage()));
+      groupRead =
+          CompletableFuture.failedFuture(new AuthorizationException.NotAuthorized(ResponseCode.GS_UDT01));
+    } else {
+      groupRead = readGroup(group.getId(), groupService, actorMessage.getContext());
+    }
+    return groupRead
+        .thenCompose(
+            groupDetails -> {
+              dbResGroup.set(groupDetails);
+              // Only exit group and activate group request is allowed in suspended group state
+              if (!isExitGroupRequest
+                      && JsonKey.SUSPENDED.equals(groupDetails.get(JsonKey.STATUS))
+                      && (StringUtils.isBlank(group.getStatus())
+                      || JsonKey.SUSPENDED.equals(group.getStatus()))) {
+                logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Error Code: {0}, Error Msg: {1} {2}",ResponseCode.GS_UDT08.getErrorCode(),ResponseCode.GS_UDT08.getErrorMessage(),group.getId()));
+                throw new ValidationException.GroupNotActive(group.getId());
+              }
+              // member validation and updates to group
+              return memberService.fetchMembersByGroupIdAsync(group.getId(),actorMessage.getContext());
+            })
+        .thenCompose(
+            members -> {
+              membersInDB.set(members);
+              // Check if user is authorized to delete ,suspend and re-activate operation
+              // Allow all member to exit the group
+              if (!isExitGroupRequest) {
+                checkUserAuthorization(
+                        dbResGroup.get(), members, group.getStatus(), userId, actorMessage.getRequest(),actorMessage.getContext());
+              }
+              if (MapUtils.isNotEmpty((Map) actorMessage.getRequest().get(JsonKey.MEMBERS))) {
+                notifications.add(NotificationType.MEMBER_UPDATE);
+                return validateMembersAndSave(
                         group.getId(),
                         (Map) actorMessage.getRequest().get(JsonKey.MEMBERS),
                         userId,
-                        membersInDB,actorMessage.getContext()));
-        notifications.add(NotificationType.MEMBER_UPDATE);
-      }
-      // Activity validation
-      if (MapUtils.isNotEmpty(
-              (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES))) {
-        responseMap.put(
-                JsonKey.ACTIVITIES,
-                validateActivityList(
-                        group, (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES),actorMessage.getContext()));
-        notifications.add(NotificationType.ACTIVITY_UPDATE);
-      }
-      boolean deleteFromUserCache = false;
-      // Group and activity updates
-      if (group != null
-              && (StringUtils.isNotEmpty(group.getDescription())
-              || StringUtils.isNotEmpty(group.getName())
-              || StringUtils.isNotEmpty(group.getMembershipType())
-              || StringUtils.isNotEmpty(group.getStatus())
-              || MapUtils.isNotEmpty(
-              (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES)))) {
-        cacheUtil.deleteCacheSync(group.getId(),actorMessage.getContext());
-        // if name, description and status update happens in group , delete cache for all the members
-        // belongs to that group
-        deleteFromUserCache = true;
-        // if inactive status then delete group included to support backward compatability for old
-        // mobile apps
-        if (JsonKey.INACTIVE.equals(group.getStatus())) {
-          Response response = groupService.deleteGroup(group.getId(), membersInDB,actorMessage.getContext());
-        } else {
-          Response response = groupService.updateGroup(group,actorMessage.getContext());
-        }
-      }
-
-
-      boolean isUseridRedisEnabled =
-              Boolean.parseBoolean(
-                      PropertiesCache.getInstance().getConfigValue(JsonKey.ENABLE_USERID_REDIS_CACHE));
-      if (isUseridRedisEnabled) {
-        cacheUtil.deleteCacheSync(userId,actorMessage.getContext());
-        // Remove group list user cache from redis
-        deleteUserCache(
-                (Map) actorMessage.getRequest().get(JsonKey.MEMBERS), membersInDB, deleteFromUserCache);
-      }
-
-      Response response = new Response(ResponseCode.OK.getCode());
-      response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
-      if (MapUtils.isNotEmpty(responseMap)
-              && (CollectionUtils.isNotEmpty(responseMap.get(JsonKey.MEMBERS))
-              || CollectionUtils.isNotEmpty(responseMap.get(JsonKey.ACTIVITIES)))) {
-        response.put(JsonKey.ERROR, responseMap);
-      }
-      sender().tell(response, self());
-      TelemetryHandler.logGroupUpdateTelemetry(actorMessage, group, dbResGroup,true);
-      logger.info(actorMessage.getContext(),"Calling Notifications");
-      NotificationManager.sendNotifications(actorMessage,notifications,dbResGroup,membersInDB);
-    }catch (Exception ex){
-       logger.info(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Request: {0}",actorMessage.getRequest()));
-       TelemetryHandler.logGroupUpdateTelemetry(actorMessage, group,dbResGroup,false);
-      try{
-        ExceptionHandler.handleExceptions(actorMessage, ex, ResponseCode.GS_UDT03);
-      }catch (BaseException e){
-        logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor:  Error Msg: {0} ",e.getMessage()),e);
-        throw e;
-      }
-    }
+                        members,actorMessage.getContext())
+                    .thenAccept(memberErrors -> responseMap.put(JsonKey.MEMBERS, memberErrors));
+              }
+              return CompletableFuture.completedFuture(null);
+            })
+        .thenCompose(
+            memberUpdate -> {
+              // Activity validation
+              if (MapUtils.isNotEmpty(
+                      (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES))) {
+                notifications.add(NotificationType.ACTIVITY_UPDATE);
+                return validateActivityList(
+                        group, (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES),actorMessage.getContext())
+                    .thenAccept(activityErrors -> responseMap.put(JsonKey.ACTIVITIES, activityErrors));
+              }
+              return CompletableFuture.completedFuture(null);
+            })
+        .thenCompose(
+            activityUpdate -> {
+              // Group and activity updates
+              if (group != null
+                      && (StringUtils.isNotEmpty(group.getDescription())
+                      || StringUtils.isNotEmpty(group.getName())
+                      || StringUtils.isNotEmpty(group.getMembershipType())
+                      || StringUtils.isNotEmpty(group.getStatus())
+                      || MapUtils.isNotEmpty(
+                      (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ACTIVITIES)))) {
+                // group search reads the group from its own entry, so members' group lists stay valid
+                return cacheUtil
+                    .deleteCacheAsync(
+                        Arrays.asList(group.getId(), CacheUtil.getGroupSummaryKey(group.getId())),
+                        actorMessage.getContext())
+                    .thenCompose(
+                        deleted -> {
+                          // if inactive status then delete group included to support backward compatability for old
+                          // mobile apps
+                          if (JsonKey.INACTIVE.equals(group.getStatus())) {
+                            // the group is removed from the group list of all the members
+                            return groupService
+                                .deleteGroupAsync(group.getId(), membersInDB.get(),actorMessage.getContext())
+                                .thenApply(response -> true);
+                          }
+                          return groupService
+                              .updateGroupAsync(group,actorMessage.getContext())
+                              .thenApply(response -> false);
+                        });
+              }
+              return CompletableFuture.completedFuture(false);
+            })
+        .thenCompose(
+            groupRemoved -> {
+              boolean isUseridRedisEnabled =
+                      Boolean.parseBoolean(
+                              PropertiesCache.getInstance().getConfigValue(JsonKey.ENABLE_USERID_REDIS_CACHE));
+              if (!isUseridRedisEnabled) {
+                return CompletableFuture.completedFuture(null);
+              }
+              return cacheUtil
+                  .deleteCacheAsync(userId,actorMessage.getContext())
+                  .thenCompose(
+                      deleted -> {
+                        // group lists of all the members recording the old version are read again
+                        if (groupRemoved) {
+                          return cacheUtil.incrementGroupVersionAsync(group.getId(), actorMessage.getContext());
+                        }
+                        return CompletableFuture.completedFuture(null);
+                      })
+                  .thenAccept(
+                      version ->
+                          // Remove group list user cache from redis
+                          deleteUserCache((Map) actorMessage.getRequest().get(JsonKey.MEMBERS)));
+            })
+        .thenApply(
+            cacheUpdate -> {
+              Response response = new Response(ResponseCode.OK.getCode());
+              response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+              if (MapUtils.isNotEmpty(responseMap)
+                      && (CollectionUtils.isNotEmpty(responseMap.get(JsonKey.MEMBERS))
+                      || CollectionUtils.isNotEmpty(responseMap.get(JsonKey.ACTIVITIES)))) {
+                response.put(JsonKey.ERROR, responseMap);
+              }
+              // telemetry and notifications are sent after the reply, notifications call over http
+              OperationExecutor.getInstance()
+                  .submit(
+                      () -> {
+                        TelemetryHandler.logGroupUpdateTelemetry(actorMessage, group, dbResGroup.get(),true);
+                        logger.info(actorMessage.getContext(),"Calling Notifications");
+                        NotificationManager.sendNotifications(actorMessage,notifications,dbResGroup.get(),membersInDB.get());
+                      });
+              return response;
+            })
+        .exceptionally(
+            error -> {
+              Exception ex = unwrap(error);
+              logger.info(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor: Request: {0}",actorMessage.getRequest()));
+              TelemetryHandler.logGroupUpdateTelemetry(actorMessage, group,dbResGroup.get(),false);
+              try{
+                ExceptionHandler.handleExceptions(actorMessage, ex, ResponseCode.GS_UDT03);
+              }catch (BaseException e){
+                logger.error(actorMessage.getContext(),MessageFormat.format("UpdateGroupActor:  Error Msg: {0} ",e.getMessage()),e);
+                throw e;
+              }
+              return null;
+            });
   }
 
-  private Map<String, Object> readGroup(String groupId, GroupService groupService, Map<String,Object> reqContext) throws BaseException {
-    try {
-      return groupService.readGroup(groupId, reqContext);
-    }catch (BaseException ex){
-      throw new BaseException(ResponseCode.GS_UDT07.getErrorCode(),ResponseCode.GS_UDT07.getErrorMessage(),ex.getResponseCode());
-    }
+  private CompletionStage<Map<String, Object>> readGroup(String groupId, GroupService groupService, Map<String,Object> reqContext) {
+    return groupService
+        .readGroupAsync(groupId, null, reqContext)
+        .exceptionally(
+            error -> {
+              Exception ex = unwrap(error);
+              if (ex instanceof BaseException) {
+                throw new BaseException(ResponseCode.GS_UDT07.getErrorCode(),ResponseCode.GS_UDT07.getErrorMessage(),((BaseException) ex).getResponseCode());
+              }
+              throw new CompletionException(ex);
+            });
   }
 
   private boolean isExitGroupRequest(Group group, String userId, Map<String, Object> members) {
@@ -234,10 +291,15 @@ public class UpdateGroupActor extends BaseActor {
 
   }
 
-  private List<Map<String, String>> validateActivityList(
+  private CompletionStage<List<Map<String, String>>> validateActivityList(
       Group group, Map<String, Object> activityOperationMap, Map<String,Object> reqContext) {
-    List<Map<String, Object>> updateActivityList =
-        new GroupServiceImpl().handleActivityOperations(group.getId(), activityOperationMap,reqContext);
+    return new GroupServiceImpl()
+        .handleActivityOperationsAsync(group.getId(), activityOperationMap,reqContext)
+        .thenApply(updateActivityList -> checkActivityList(group, updateActivityList, reqContext));
+  }
+
+  private List<Map<String, String>> checkActivityList(
+      Group group, List<Map<String, Object>> updateActivityList, Map<String,Object> reqContext) {
     List<Map<String, String>> activityErrorList = new ArrayList<>();
     boolean isActivityLimitExceeded =
         GroupUtil.checkMaxActivityLimit(updateActivityList.size());
@@ -254,7 +316,7 @@ public class UpdateGroupActor extends BaseActor {
     return activityErrorList;
   }
 
-  private List<Map<String, String>> validateMembersAndSave(
+  private CompletionStage<List<Map<String, String>>> validateMembersAndSave(
       String groupId,
       Map memberOperationMap,
       String updatedBy,
@@ -290,34 +352,38 @@ public class UpdateGroupActor extends BaseActor {
     }
 
     cacheUtil.delCache(groupId + "_" + JsonKey.MEMBERS);
-    if (!memberLimit) {
-      memberService.handleMemberOperations(memberOperationMap, groupId, updatedBy,reqContext);
+    if (memberLimit) {
+      return CompletableFuture.completedFuture(memberErrorList);
     }
-    return memberErrorList;
+    return memberService
+        .handleMemberOperationsAsync(memberOperationMap, groupId, updatedBy,reqContext)
+        .thenApply(memberUpdate -> memberErrorList);
   }
 
-  private void deleteUserCache(
-      Map memberOperationMap, List<MemberResponse> dbMembers, boolean deleteFromUserCache) {
+  /**
+   * Removes the cached group list of the added, edited and removed members with one DEL.
+   */
+  private void deleteUserCache(Map memberOperationMap) {
+    Set<String> userIds = new LinkedHashSet<>();
     if (MapUtils.isNotEmpty(memberOperationMap)) {
       List<Map<String, Object>> memberAddList =
           (List<Map<String, Object>>) memberOperationMap.get(JsonKey.ADD);
       if (CollectionUtils.isNotEmpty(memberAddList)) {
-        memberAddList.forEach(member -> cacheUtil.delCache((String) (member.get(JsonKey.USER_ID))));
+        memberAddList.forEach(member -> userIds.add((String) (member.get(JsonKey.USER_ID))));
       }
       List<Map<String, Object>> memberEditList =
           (List<Map<String, Object>>) memberOperationMap.get(JsonKey.EDIT);
       if (CollectionUtils.isNotEmpty(memberEditList)) {
         memberEditList.forEach(
-            member -> cacheUtil.delCache((String) (member.get(JsonKey.USER_ID))));
+            member -> userIds.add((String) (member.get(JsonKey.USER_ID))));
       }
       List<String> memberRemoveList = (List<String>) memberOperationMap.get(JsonKey.REMOVE);
       if (CollectionUtils.isNotEmpty(memberRemoveList)) {
-        memberRemoveList.forEach(member -> cacheUtil.delCache(member));
+        userIds.addAll(memberRemoveList);
       }
     }
-    if (CollectionUtils.isNotEmpty(dbMembers) && deleteFromUserCache) {
-      dbMembers.forEach(member -> cacheUtil.delCache(member.getUserId()));
-    }
+    userIds.remove(null);
+    cacheUtil.delCache(new ArrayList<>(userIds));
   }
 
 
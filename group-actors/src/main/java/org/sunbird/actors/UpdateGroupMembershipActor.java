@@ -26,7 +26,7 @@ import org.sunbird.util.helper.PropertiesCache;
 @ActorConfig(
   tasks = {"updateGroupMembership"},
   asyncTasks = {},
-  dispatcher = "group-dispatcher"
+  dispatcher = "virtual-thread-dispatcher"
 )
 public class UpdateGroupMembershipActor extends BaseActor {
   private CacheUtil cacheUtil = new CacheUtil();
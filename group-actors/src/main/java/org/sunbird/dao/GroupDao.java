@@ -2,7 +2,7 @@ package org.sunbird.dao;
 
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.models.Group;
 import org.sunbird.common.response.Response;
@@ -27,6 +27,17 @@ public interface GroupDao {
    */
   Response readGroup(String groupId, Map<String,Object> reqContext) throws BaseException;
 
+  /**
+   * This method will read only the given columns of the group, all columns are read when fields is
+   * empty.
+   *
+   * @param groupId
+   * @param fields columns to read.
+   * @return responseObj with Group Details.
+   */
+  Response readGroup(String groupId, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException;
+
   /**
    * This method will read group based on Id and return response Object as success response or throw
    * ProjectCommonException.
@@ -36,6 +47,28 @@ public interface GroupDao {
    */
   Response readGroups(List<String> groupIds, Map<String,Object> reqContext) throws BaseException;
 
+  /**
+   * This method will read only the given columns of the groups, all columns are read when fields is
+   * empty.
+   *
+   * @param groupIds
+   * @param fields columns to read.
+   * @return responseObj with Group Details.
+   */
+  Response readGroups(List<String> groupIds, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException;
+
+  /**
+   * This method will read the given columns of the groups mapped straight into Group objects, all
+   * columns are read when fields is empty.
+   *
+   * @param groupIds
+   * @param fields columns to read.
+   * @return list of groups.
+   */
+  List<Group> readGroupList(List<String> groupIds, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException;
+
   /**
    * This method will update group and return success response or throw BaseException.
    *
@@ -51,4 +84,48 @@ public interface GroupDao {
    * @return Response.
    */
   Response deleteGroup(String groupId, Map<String,Object> reqContext) throws BaseException;
+
+  /**
+   * Non blocking version of readGroup.
+   *
+   * @param groupId
+   * @return CompletionStage of responseObj with Group Details.
+   */
+  CompletionStage<Response> readGroupAsync(String groupId, Map<String,Object> reqContext);
+
+  /**
+   * Non blocking version of readGroup with the given columns.
+   *
+   * @param groupId
+   * @param fields columns to read.
+   * @return CompletionStage of responseObj with Group Details.
+   */
+  CompletionStage<Response> readGroupAsync(
+      String groupId, List<String> fields, Map<String,Object> reqContext);
+
+  /**
+   * Non blocking version of readGroupList.
+   *
+   * @param groupIds
+   * @param fields columns to read.
+   * @return CompletionStage of the list of groups.
+   */
+  CompletionStage<List<Group>> readGroupListAsync(
+      List<String> groupIds, List<String> fields, Map<String,Object> reqContext);
+
+  /**
+   * Non blocking version of updateGroup.
+   *
+   * @param groupObj Group Details.
+   * @return CompletionStage of Response.
+   */
+  CompletionStage<Response> updateGroupAsync(Group groupObj, Map<String,Object> reqContext);
+
+  /**
+   * Non blocking version of deleteGroup.
+   *
+   * @param groupId Group Id.
+   * @return CompletionStage of Response.
+   */
+  CompletionStage<Response> deleteGroupAsync(String groupId, Map<String,Object> reqContext);
 }
@@ -4,9 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.apache.commons.collections4.CollectionUtils;
+import org.sunbird.cassandra.AsyncCassandraOperation;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.models.Group;
@@ -18,6 +23,7 @@ public class GroupDaoImpl implements GroupDao {
   private static final String GROUP_TABLE_NAME = "group";
 
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+  private AsyncCassandraOperation asyncCassandraOperation = ServiceFactory.getAsyncInstance();
   private ObjectMapper mapper = new ObjectMapper();
   private static GroupDao groupDao = null;
 
@@ -30,14 +36,18 @@ public class GroupDaoImpl implements GroupDao {
 
   @Override
   public String createGroup(Group groupObj, Map<String,Object> reqContext) throws BaseException {
+    Map<String, Object> map = createGroupRecord(groupObj);
+    cassandraOperation.insertRecord(DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, map, reqContext);
+    return (String) map.get(JsonKey.ID);
+  }
 
+  private Map<String, Object> createGroupRecord(Group groupObj) {
     Map<String, Object> map =
         mapper.convertValue(groupObj, new TypeReference<Map<String, Object>>() {});
     map.put(JsonKey.CREATED_ON, new Timestamp(Calendar.getInstance().getTime().getTime()));
     // need to fix , as mapper is converting set to arrayList
     map.put(JsonKey.ACTIVITIES, groupObj.getActivities());
-    cassandraOperation.insertRecord(DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, map, reqContext);
-    return (String) map.get(JsonKey.ID);
+    return map;
   }
 
   @Override
@@ -47,6 +57,40 @@ public class GroupDaoImpl implements GroupDao {
     return responseObj;
   }
 
+  @Override
+  public Response readGroup(String groupId, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException {
+    if (CollectionUtils.isEmpty(fields)) {
+      return readGroup(groupId, reqContext);
+    }
+    return cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+        DBUtil.KEY_SPACE_NAME,
+        GROUP_TABLE_NAME,
+        fields,
+        Collections.singletonList(groupId),
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> readGroupAsync(String groupId, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.getRecordByIdAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, groupId, null, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> readGroupAsync(
+      String groupId, List<String> fields, Map<String,Object> reqContext) {
+    if (CollectionUtils.isEmpty(fields)) {
+      return readGroupAsync(groupId, reqContext);
+    }
+    return asyncCassandraOperation.getRecordsByIdsWithSpecifiedColumnsAsync(
+        DBUtil.KEY_SPACE_NAME,
+        GROUP_TABLE_NAME,
+        fields,
+        Collections.singletonList(groupId),
+        reqContext);
+  }
+
   @Override
   public Response readGroups(List<String> groupIds, Map<String,Object> reqContext) throws BaseException {
     Response responseObj =
@@ -55,8 +99,48 @@ public class GroupDaoImpl implements GroupDao {
     return responseObj;
   }
 
+  @Override
+  public Response readGroups(
+      List<String> groupIds, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException {
+    if (CollectionUtils.isEmpty(fields)) {
+      return readGroups(groupIds, reqContext);
+    }
+    return cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, fields, groupIds, reqContext);
+  }
+
+  @Override
+  public List<Group> readGroupList(
+      List<String> groupIds, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException {
+    return cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, fields, groupIds, RowMapper.of(Group.class), reqContext);
+  }
+
+  @Override
+  public CompletionStage<List<Group>> readGroupListAsync(
+      List<String> groupIds, List<String> fields, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.getRecordsByIdsWithSpecifiedColumnsAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, fields, groupIds, RowMapper.of(Group.class), reqContext);
+  }
+
   @Override
   public Response updateGroup(Group groupObj, Map<String,Object> reqContext) throws BaseException {
+    Map<String, Object> map = updateGroupRecord(groupObj);
+    Response responseObj =
+        cassandraOperation.updateRecord(DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, map, reqContext);
+    return responseObj;
+  }
+
+  @Override
+  public CompletionStage<Response> updateGroupAsync(Group groupObj, Map<String,Object> reqContext) {
+    Map<String, Object> map = updateGroupRecord(groupObj);
+    return asyncCassandraOperation.updateRecordAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, map, reqContext);
+  }
+
+  private Map<String, Object> updateGroupRecord(Group groupObj) {
     // Convert Group to Map using mapper (this gets all field names correct)
     Map<String, Object> map = mapper.convertValue(groupObj, new TypeReference<Map<String, Object>>() {});
     
@@ -65,10 +149,7 @@ public class GroupDaoImpl implements GroupDao {
     
     // Always update the timestamp
     map.put(JsonKey.UPDATED_ON, new Timestamp(Calendar.getInstance().getTime().getTime()));
-    
-    Response responseObj =
-        cassandraOperation.updateRecord(DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, map, reqContext);
-    return responseObj;
+    return map;
   }
 
   @Override
@@ -77,4 +158,10 @@ public class GroupDaoImpl implements GroupDao {
         cassandraOperation.deleteRecord(DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, groupId, reqContext);
     return responseObj;
   }
+
+  @Override
+  public CompletionStage<Response> deleteGroupAsync(String groupId, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.deleteRecordAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_TABLE_NAME, groupId, reqContext);
+  }
 }
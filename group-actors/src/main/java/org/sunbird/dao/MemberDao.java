@@ -2,6 +2,8 @@ package org.sunbird.dao;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.common.Page;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.models.Member;
 import org.sunbird.common.response.Response;
@@ -14,8 +16,40 @@ public interface MemberDao {
 
   Response fetchMembersByGroupIds(List<String> groupIds, Map<String,Object> reqContext) throws BaseException;
 
+  /**
+   * Reads the members of the groups mapped straight into Member objects.
+   *
+   * @param groupIds
+   * @return list of members.
+   */
+  List<Member> readMembersByGroupIds(List<String> groupIds, Map<String,Object> reqContext) throws BaseException;
+
+  /**
+   * Reads one page of the members of the group, resuming after the page the token was returned
+   * with.
+   *
+   * @param groupId
+   * @param limit maximum number of members of the page
+   * @param pageToken token of the page to read, null for the first page
+   * @return page of members with the token of the next page.
+   */
+  Page<Member> readMembersPage(String groupId, int limit, String pageToken, Map<String,Object> reqContext) throws BaseException;
+
   Response fetchGroupByUser(List<String> groupIds, String userId, Map<String,Object> reqContext) throws BaseException;
 
+  /**
+   * Reads only the given member columns of the user in the groups, all columns are read when
+   * fields is empty.
+   *
+   * @param groupIds
+   * @param userId
+   * @param fields columns to read.
+   * @return responseObj with member details.
+   */
+  Response fetchGroupByUser(
+      List<String> groupIds, String userId, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException;
+
   /**
    * This method will return group uuids based on userId and return response Object as success
    * response or throw ProjectCommonException.
@@ -29,6 +63,25 @@ public interface MemberDao {
 
   Response upsertGroupInUserGroup(Map<String, Object> userGroupMap, Map<String,Object> reqContext) throws BaseException;
 
+  /**
+   * Adds the group to the user group set of the users, with a set append per user instead of
+   * reading and rewriting the set, so concurrent updates of a user are not lost.
+   *
+   * @param groupId
+   * @param userIds
+   * @return response
+   */
+  Response addGroupInUserGroup(String groupId, List<String> userIds, Map<String,Object> reqContext) throws BaseException;
+
+  /**
+   * Removes the group from the user group set of the users, with a set removal per user.
+   *
+   * @param groupId
+   * @param userIds
+   * @return response
+   */
+  Response removeGroupInUserGroup(String groupId, List<String> userIds, Map<String,Object> reqContext) throws BaseException;
+
   Response updateGroupInUserGroup(Map<String, Object> userGroupMap, String userId, Map<String,Object> reqContext)
       throws BaseException;
 
@@ -42,4 +95,27 @@ public interface MemberDao {
    * @throws BaseException
    */
   void deleteMemberFromGroup(String groupId, List<String> members, Map<String,Object> reqContext) throws BaseException;
+
+  /* Non blocking versions of the above methods, the stages complete exceptionally on failure. */
+
+  CompletionStage<Response> addMembersAsync(List<Member> member, Map<String,Object> reqContext);
+
+  CompletionStage<Response> editMembersAsync(List<Member> member, Map<String,Object> reqContext);
+
+  CompletionStage<List<Member>> readMembersByGroupIdsAsync(
+      List<String> groupIds, Map<String,Object> reqContext);
+
+  CompletionStage<Response> fetchGroupByUserAsync(
+      List<String> groupIds, String userId, List<String> fields, Map<String,Object> reqContext);
+
+  CompletionStage<Response> readGroupIdsByUserIdAsync(String userId, Map<String,Object> reqContext);
+
+  CompletionStage<Response> addGroupInUserGroupAsync(
+      String groupId, List<String> userIds, Map<String,Object> reqContext);
+
+  CompletionStage<Response> removeGroupInUserGroupAsync(
+      String groupId, List<String> userIds, Map<String,Object> reqContext);
+
+  CompletionStage<Response> deleteMemberFromGroupAsync(
+      String groupId, List<String> members, Map<String,Object> reqContext);
 }
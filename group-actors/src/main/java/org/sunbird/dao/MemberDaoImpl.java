@@ -7,12 +7,18 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
+import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sunbird.cassandra.AsyncCassandraOperation;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
+import org.sunbird.common.Page;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.models.Member;
@@ -25,6 +31,7 @@ public class MemberDaoImpl implements MemberDao {
   private static final String GROUP_MEMBER_TABLE = "group_member";
   private static final String USER_GROUP_TABLE = "user_group";
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+  private AsyncCassandraOperation asyncCassandraOperation = ServiceFactory.getAsyncInstance();
   private ObjectMapper mapper = new ObjectMapper();
   private static MemberDao memberDao = null;
   private Logger logger = LoggerFactory.getLogger(MemberDaoImpl.class);
@@ -65,6 +72,31 @@ public class MemberDaoImpl implements MemberDao {
     return responseObj;
   }
 
+  @Override
+  public Response addGroupInUserGroup(String groupId, List<String> userIds, Map<String,Object> reqContext)
+      throws BaseException {
+    return cassandraOperation.updateAddSetRecords(
+        DBUtil.KEY_SPACE_NAME, USER_GROUP_TABLE, createUserKeys(userIds), JsonKey.GROUP_ID, groupId, reqContext);
+  }
+
+  @Override
+  public Response removeGroupInUserGroup(String groupId, List<String> userIds, Map<String,Object> reqContext)
+      throws BaseException {
+    return cassandraOperation.updateRemoveSetRecords(
+        DBUtil.KEY_SPACE_NAME, USER_GROUP_TABLE, createUserKeys(userIds), JsonKey.GROUP_ID, groupId, reqContext);
+  }
+
+  private List<Map<String, Object>> createUserKeys(List<String> userIds) {
+    List<Map<String, Object>> userKeys = new ArrayList<>();
+    userIds.forEach(
+        userId -> {
+          Map<String, Object> primaryKey = new HashMap<>();
+          primaryKey.put(JsonKey.USER_ID, userId);
+          userKeys.add(primaryKey);
+        });
+    return userKeys;
+  }
+
   public Response updateGroupInUserGroup(Map<String, Object> userGroupMap, String userId, Map<String,Object> reqContext)
       throws BaseException {
     Map<String, Object> compositeKeyMap = new HashMap<>();
@@ -84,6 +116,11 @@ public class MemberDaoImpl implements MemberDao {
 
   @Override
   public void deleteMemberFromGroup(String groupId, List<String> members, Map<String,Object> reqContext) throws BaseException {
+    List<Map<String, Object>> compositeKeyMap = createMemberKeys(groupId, members);
+    cassandraOperation.batchDelete(DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, compositeKeyMap,reqContext);
+  }
+
+  private List<Map<String, Object>> createMemberKeys(String groupId, List<String> members) {
     List<Map<String, Object>> compositeKeyMap = new ArrayList<>();
     members.forEach(
         memberId -> {
@@ -92,11 +129,19 @@ public class MemberDaoImpl implements MemberDao {
           primaryKeys.put(JsonKey.USER_ID, memberId);
           compositeKeyMap.add(primaryKeys);
         });
-    cassandraOperation.batchDelete(DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, compositeKeyMap,reqContext);
+    return compositeKeyMap;
   }
 
   @Override
   public Response editMembers(List<Member> member, Map<String,Object> reqContext) throws BaseException {
+    List<Map<String, Map<String, Object>>> list = createEditMemberRecords(member);
+    Response response =
+        cassandraOperation.batchUpdate(DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, list,reqContext);
+    return response;
+  }
+
+  private List<Map<String, Map<String, Object>>> createEditMemberRecords(List<Member> member)
+      throws BaseException {
     List<Map<String, Map<String, Object>>> list = new ArrayList<>();
     for (Member memberObj : member) {
       list.add(CassandraUtil.batchUpdateQuery(memberObj));
@@ -111,9 +156,7 @@ public class MemberDaoImpl implements MemberDao {
               .collect(Collectors.toMap(map -> map.getKey(), map -> map.getValue()));
       record.put(Constants.NON_PRIMARY_KEY, filteredNonPKRecord);
     }
-    Response response =
-        cassandraOperation.batchUpdate(DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, list,reqContext);
-    return response;
+    return list;
   }
 
   @Override
@@ -126,6 +169,35 @@ public class MemberDaoImpl implements MemberDao {
     return responseObj;
   }
 
+  @Override
+  public List<Member> readMembersByGroupIds(List<String> groupIds, Map<String,Object> reqContext)
+      throws BaseException {
+    return cassandraOperation.getRecordsByPrimaryKeys(
+        DBUtil.KEY_SPACE_NAME,
+        GROUP_MEMBER_TABLE,
+        groupIds,
+        JsonKey.GROUP_ID,
+        RowMapper.of(Member.class),
+        reqContext);
+  }
+
+  @Override
+  public Page<Member> readMembersPage(
+      String groupId, int limit, String pageToken, Map<String, Object> reqContext)
+      throws BaseException {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put(JsonKey.GROUP_ID, groupId);
+    return cassandraOperation.getRecordsPageByProperties(
+        DBUtil.KEY_SPACE_NAME,
+        GROUP_MEMBER_TABLE,
+        properties,
+        null,
+        limit,
+        pageToken,
+        RowMapper.of(Member.class),
+        reqContext);
+  }
+
   @Override
   public Response fetchGroupByUser(List<String> groupIds, String userId, Map<String,Object> reqContext) throws BaseException {
     Map<String, Object> properties = new LinkedHashMap<>();
@@ -136,4 +208,90 @@ public class MemberDaoImpl implements MemberDao {
             DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, properties,reqContext);
     return responseObj;
   }
+
+  @Override
+  public Response fetchGroupByUser(
+      List<String> groupIds, String userId, List<String> fields, Map<String,Object> reqContext)
+      throws BaseException {
+    if (CollectionUtils.isEmpty(fields)) {
+      return fetchGroupByUser(groupIds, userId, reqContext);
+    }
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put(JsonKey.GROUP_ID, groupIds);
+    properties.put(JsonKey.USER_ID, userId);
+    return cassandraOperation.getRecordsByProperties(
+        DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, properties, fields, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> addMembersAsync(List<Member> member, Map<String,Object> reqContext) {
+    List<Map<String, Object>> memberList =
+        mapper.convertValue(member, new TypeReference<List<Map<String, Object>>>() {});
+    return asyncCassandraOperation.batchInsertAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, memberList, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> editMembersAsync(List<Member> member, Map<String,Object> reqContext) {
+    List<Map<String, Map<String, Object>>> list;
+    try {
+      list = createEditMemberRecords(member);
+    } catch (BaseException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return asyncCassandraOperation.batchUpdateAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, list, reqContext);
+  }
+
+  @Override
+  public CompletionStage<List<Member>> readMembersByGroupIdsAsync(
+      List<String> groupIds, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.getRecordsByPrimaryKeysAsync(
+        DBUtil.KEY_SPACE_NAME,
+        GROUP_MEMBER_TABLE,
+        groupIds,
+        JsonKey.GROUP_ID,
+        RowMapper.of(Member.class),
+        reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> fetchGroupByUserAsync(
+      List<String> groupIds, String userId, List<String> fields, Map<String,Object> reqContext) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put(JsonKey.GROUP_ID, groupIds);
+    properties.put(JsonKey.USER_ID, userId);
+    return asyncCassandraOperation.getRecordsByPropertiesAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, properties, fields, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> readGroupIdsByUserIdAsync(
+      String userId, Map<String,Object> reqContext) {
+    List<String> userIds = new ArrayList<>();
+    userIds.add(userId);
+    return asyncCassandraOperation.getRecordsByPrimaryKeysAsync(
+        DBUtil.KEY_SPACE_NAME, USER_GROUP_TABLE, userIds, JsonKey.USER_ID, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> addGroupInUserGroupAsync(
+      String groupId, List<String> userIds, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.updateAddSetRecordsAsync(
+        DBUtil.KEY_SPACE_NAME, USER_GROUP_TABLE, createUserKeys(userIds), JsonKey.GROUP_ID, groupId, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> removeGroupInUserGroupAsync(
+      String groupId, List<String> userIds, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.updateRemoveSetRecordsAsync(
+        DBUtil.KEY_SPACE_NAME, USER_GROUP_TABLE, createUserKeys(userIds), JsonKey.GROUP_ID, groupId, reqContext);
+  }
+
+  @Override
+  public CompletionStage<Response> deleteMemberFromGroupAsync(
+      String groupId, List<String> members, Map<String,Object> reqContext) {
+    return asyncCassandraOperation.batchDeleteAsync(
+        DBUtil.KEY_SPACE_NAME, GROUP_MEMBER_TABLE, createMemberKeys(groupId, members), reqContext);
+  }
 }
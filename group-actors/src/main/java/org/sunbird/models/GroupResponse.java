@@ -22,6 +22,7 @@ public class GroupResponse {
   private String updatedOn;
   private String updatedBy;
   private List<MemberResponse> members;
+  private String membersNextPageToken;
   private String memberRole;
   private Boolean visited;
 
@@ -121,6 +122,14 @@ public class GroupResponse {
     this.members = members;
   }
 
+  public String getMembersNextPageToken() {
+    return membersNextPageToken;
+  }
+
+  public void setMembersNextPageToken(String membersNextPageToken) {
+    this.membersNextPageToken = membersNextPageToken;
+  }
+
   public Boolean getVisited() {
     return visited;
   }
@@ -2,6 +2,7 @@ package org.sunbird.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.models.Group;
 import org.sunbird.models.GroupResponse;
@@ -14,6 +15,12 @@ public interface GroupService {
 
   Map<String, Object> readGroup(String groupId, Map<String, Object> reqContext) throws BaseException;
 
+  Map<String, Object> readGroup(String groupId, List<String> fields, Map<String, Object> reqContext)
+      throws BaseException;
+
+  GroupResponse readGroupWithoutActivities(String groupId, Map<String, Object> reqContext)
+      throws Exception;
+
   GroupResponse readGroupWithActivities(String groupId, Map<String, Object> reqContext)
       throws Exception;
 
@@ -21,10 +28,51 @@ public interface GroupService {
 
   List<GroupResponse> searchGroup(Map<String, Object> searchFilter, Map<String, Object> reqContext) throws BaseException;
 
+  List<Map<String, Object>> readGroupMemberships(String userId, Map<String, Object> reqContext)
+      throws BaseException;
+
+  List<String> readGroupIds(String userId, Map<String, Object> reqContext) throws BaseException;
+
+  List<Map<String, Object>> readGroupMemberships(
+      List<String> groupIds, String userId, Map<String, Object> reqContext) throws BaseException;
+
+  List<GroupResponse> readGroupSummaries(List<String> groupIds, Map<String, Object> reqContext)
+      throws BaseException;
+
   Response updateGroup(Group groupObj, Map<String, Object> reqContext) throws BaseException;
 
   List<Map<String, Object>> handleActivityOperations(
       String groupId, Map<String, Object> activityOperationMap, Map<String, Object> reqContext) throws BaseException;
 
   Response deleteGroup(String groupId, List<MemberResponse> members, Map<String, Object> reqContext) throws BaseException;
+
+  /* Non blocking versions of the above methods, the stages complete exceptionally on failure. */
+
+  CompletionStage<Map<String, Object>> readGroupAsync(
+      String groupId, List<String> fields, Map<String, Object> reqContext);
+
+  CompletionStage<GroupResponse> readGroupWithActivitiesAsync(
+      String groupId, Map<String, Object> reqContext);
+
+  CompletionStage<GroupResponse> readGroupWithoutActivitiesAsync(
+      String groupId, Map<String, Object> reqContext);
+
+  CompletionStage<List<GroupResponse>> searchGroupAsync(
+      Map<String, Object> searchFilter, Map<String, Object> reqContext);
+
+  CompletionStage<List<String>> readGroupIdsAsync(String userId, Map<String, Object> reqContext);
+
+  CompletionStage<List<Map<String, Object>>> readGroupMembershipsAsync(
+      List<String> groupIds, String userId, Map<String, Object> reqContext);
+
+  CompletionStage<List<GroupResponse>> readGroupSummariesAsync(
+      List<String> groupIds, Map<String, Object> reqContext);
+
+  CompletionStage<Response> updateGroupAsync(Group groupObj, Map<String, Object> reqContext);
+
+  CompletionStage<List<Map<String, Object>>> handleActivityOperationsAsync(
+      String groupId, Map<String, Object> activityOperationMap, Map<String, Object> reqContext);
+
+  CompletionStage<Response> deleteGroupAsync(
+      String groupId, List<MemberResponse> members, Map<String, Object> reqContext);
 }
@@ -1,10 +1,12 @@
 package org.sunbird.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -32,9 +34,25 @@ public class GroupServiceImpl implements GroupService {
 
   private static GroupDao groupDao = GroupDaoImpl.getInstance();
   private static MemberService memberService = new MemberServiceImpl();
-  private static ObjectMapper objectMapper = new ObjectMapper();
   private static MemberDao memberDao = MemberDaoImpl.getInstance();
 
+  /** Group columns rendered in GroupResponse, leaving out the activities set. */
+  private static final List<String> GROUP_RESPONSE_FIELDS =
+      Arrays.asList(
+          JsonKey.ID,
+          JsonKey.NAME,
+          JsonKey.DESC,
+          JsonKey.STATUS,
+          JsonKey.GROUP_MEMBERSHIP_TYPE,
+          JsonKey.CREATED_ON,
+          JsonKey.CREATED_BY,
+          JsonKey.UPDATED_ON,
+          JsonKey.UPDATED_BY);
+
+  /** Member columns used to set the role and visited flag of the user on searched groups. */
+  private static final List<String> GROUP_MEMBER_FIELDS =
+      Arrays.asList(JsonKey.GROUP_ID, JsonKey.ROLE, JsonKey.VISITED);
+
   @Override
   public String createGroup(Group groupObj, Map<String,Object> reqContext) throws BaseException {
     String groupId = groupDao.createGroup(groupObj, reqContext);
@@ -50,9 +68,84 @@ public class GroupServiceImpl implements GroupService {
     return JsonUtils.convert(dbResGroup, GroupResponse.class);
   }
 
+  /**
+   * Reads the group without the activities column, for requests whose fields leave out activities.
+   *
+   * @param groupId
+   * @return GroupResponse without activities
+   */
+  @Override
+  public GroupResponse readGroupWithoutActivities(String groupId, Map<String, Object> reqContext)
+      throws Exception {
+    Map<String, Object> dbResGroup = readGroup(groupId, GROUP_RESPONSE_FIELDS, reqContext);
+    return JsonUtils.convert(dbResGroup, GroupResponse.class);
+  }
+
   public Map<String, Object> readGroup(String groupId, Map<String,Object> reqContext) throws BaseException {
+    return readGroup(groupId, null, reqContext);
+  }
+
+  @Override
+  public Map<String, Object> readGroup(
+      String groupId, List<String> fields, Map<String, Object> reqContext) throws BaseException {
+    return toGroupDetails(groupId, groupDao.readGroup(groupId, fields, reqContext), reqContext);
+  }
+
+  /**
+   * Non blocking version of readGroup, the stage fails with GroupNotFound when there is no group.
+   *
+   * @param groupId
+   * @param fields columns to read, all columns are read when empty
+   * @return CompletionStage of the group details
+   */
+  @Override
+  public CompletionStage<Map<String, Object>> readGroupAsync(
+      String groupId, List<String> fields, Map<String, Object> reqContext) {
+    return groupDao
+        .readGroupAsync(groupId, fields, reqContext)
+        .thenApply(responseObj -> toGroupDetails(groupId, responseObj, reqContext));
+  }
+
+  /**
+   * Non blocking version of readGroupWithActivities, the activity info is read over http on the
+   * OperationExecutor.
+   *
+   * @param groupId
+   * @return CompletionStage of GroupResponse with activities
+   */
+  @Override
+  public CompletionStage<GroupResponse> readGroupWithActivitiesAsync(
+      String groupId, Map<String, Object> reqContext) {
+    return readGroupAsync(groupId, null, reqContext)
+        .thenCompose(
+            dbResGroup ->
+                OperationExecutor.getInstance()
+                    .supply(
+                        () -> {
+                          logger.info(reqContext,"readGroupActivities started");
+                          readGroupActivities(dbResGroup, reqContext);
+                          logger.info(reqContext,"readGroupActivities ended");
+                          return JsonUtils.convert(dbResGroup, GroupResponse.class);
+                        }));
+  }
+
+  @Override
+  public CompletionStage<GroupResponse> readGroupWithoutActivitiesAsync(
+      String groupId, Map<String, Object> reqContext) {
+    return readGroupAsync(groupId, GROUP_RESPONSE_FIELDS, reqContext)
+        .thenApply(
+            dbResGroup -> {
+              try {
+                return JsonUtils.convert(dbResGroup, GroupResponse.class);
+              } catch (Exception e) {
+                throw new CompletionException(e);
+              }
+            });
+  }
+
+  private Map<String, Object> toGroupDetails(
+      String groupId, Response responseObj, Map<String, Object> reqContext) {
     Map<String, Object> dbResGroup;
-    Response responseObj = groupDao.readGroup(groupId, reqContext);
     if (null != responseObj && null != responseObj.getResult()) {
       List<Map<String, Object>> dbGroupDetails =
           (List<Map<String, Object>>) responseObj.getResult().get(JsonKey.RESPONSE);
@@ -122,6 +215,8 @@ public class GroupServiceImpl implements GroupService {
   /**
    * TODO: Extraction of specific fields needs to be added This method will search group details
    * based on filters and return all group details as success response or throw BaseException.
+   * Only groups with a group_member row of the user are read, groups listed in user_group without
+   * one are left out.
    *
    * @param searchFilter .
    * @return dbGroupDetails.
@@ -131,38 +226,123 @@ public class GroupServiceImpl implements GroupService {
     List<GroupResponse> groups = new ArrayList<>();
     String userId = (String) searchFilter.get(JsonKey.USER_ID);
     if (StringUtils.isNotBlank(userId)) {
-      List<String> groupIds = fetchAllGroupIdsByUserId(userId, reqContext);
-      if (!groupIds.isEmpty()) {
-        List<Map<String, Object>> dbResMembers = memberService.fetchGroupByUser(groupIds, userId, reqContext);
-        logger.info(reqContext,MessageFormat.format("group count {0} for userId {1}", dbResMembers.size(), userId));
-        Map<String, Map<String, Object>> groupMemberRelationMap =
-            getGroupDetailsMapByUser(dbResMembers);
-        groups = readGroupDetailsByGroupIds(groupIds, reqContext);
-        GroupUtil.updateGroupDetails(groups, groupMemberRelationMap);
+      List<Map<String, Object>> dbResMembers = readGroupMemberships(userId, reqContext);
+      if (!dbResMembers.isEmpty()) {
+        groups = readGroupSummaries(GroupUtil.getGroupIds(dbResMembers), reqContext);
+        GroupUtil.updateGroupDetails(groups, GroupUtil.getGroupDetailsMapByUser(dbResMembers));
       }
 
     } else {
-      String errorMsg ="Bad Request UserId is Mandatory";
-      logger.error(reqContext,errorMsg);
-      throw new BaseException(
-          ResponseCode.GS_LST02.getErrorCode(),
-             errorMsg,
-          ResponseCode.BAD_REQUEST.getCode());
+      throw userIdMandatory(reqContext);
     }
     return groups;
   }
 
-  private Map<String, Map<String, Object>> getGroupDetailsMapByUser(
-      List<Map<String, Object>> dbResMembers) {
-    Map<String, Map<String, Object>> groupDetailMap = new HashMap<>();
-    dbResMembers.forEach(
-        map -> {
-          Map<String, Object> groupDetails = new HashMap<>();
-          groupDetails.put(JsonKey.ROLE, map.get(JsonKey.ROLE));
-          groupDetails.put(JsonKey.VISITED, map.get(JsonKey.VISITED));
-          groupDetailMap.put((String) map.get(JsonKey.GROUP_ID), groupDetails);
-        });
-    return groupDetailMap;
+  /**
+   * Non blocking version of searchGroup.
+   *
+   * @param searchFilter .
+   * @return CompletionStage of the groups of the user.
+   */
+  @Override
+  public CompletionStage<List<GroupResponse>> searchGroupAsync(
+      Map<String, Object> searchFilter, Map<String, Object> reqContext) {
+    String userId = (String) searchFilter.get(JsonKey.USER_ID);
+    if (StringUtils.isBlank(userId)) {
+      return CompletableFuture.failedFuture(userIdMandatory(reqContext));
+    }
+    return readGroupIdsAsync(userId, reqContext)
+        .thenCompose(groupIds -> readGroupMembershipsAsync(groupIds, userId, reqContext))
+        .thenCompose(
+            dbResMembers -> {
+              if (dbResMembers.isEmpty()) {
+                return CompletableFuture.completedFuture(new ArrayList<GroupResponse>());
+              }
+              return readGroupSummariesAsync(GroupUtil.getGroupIds(dbResMembers), reqContext)
+                  .thenApply(
+                      groups -> {
+                        GroupUtil.updateGroupDetails(
+                            groups, GroupUtil.getGroupDetailsMapByUser(dbResMembers));
+                        return groups;
+                      });
+            });
+  }
+
+  private BaseException userIdMandatory(Map<String, Object> reqContext) {
+    String errorMsg ="Bad Request UserId is Mandatory";
+    logger.error(reqContext,errorMsg);
+    return new BaseException(
+        ResponseCode.GS_LST02.getErrorCode(),
+           errorMsg,
+        ResponseCode.BAD_REQUEST.getCode());
+  }
+
+  /**
+   * Reads the groups of the user with the role and visited flag of the user in each group
+   *
+   * @param userId
+   * @return rows with groupId, role and visited
+   * @throws BaseException
+   */
+  @Override
+  public List<Map<String, Object>> readGroupMemberships(String userId, Map<String,Object> reqContext)
+      throws BaseException {
+    return readGroupMemberships(fetchAllGroupIdsByUserId(userId, reqContext), userId, reqContext);
+  }
+
+  /**
+   * Reads the ids of the groups of the user
+   *
+   * @param userId
+   * @return groupIds
+   * @throws BaseException
+   */
+  @Override
+  public List<String> readGroupIds(String userId, Map<String,Object> reqContext) throws BaseException {
+    return fetchAllGroupIdsByUserId(userId, reqContext);
+  }
+
+  @Override
+  public CompletionStage<List<String>> readGroupIdsAsync(
+      String userId, Map<String, Object> reqContext) {
+    return memberDao
+        .readGroupIdsByUserIdAsync(userId, reqContext)
+        .thenApply(groupIdsResponse -> toGroupIds(userId, groupIdsResponse, reqContext));
+  }
+
+  /**
+   * Reads the role and visited flag of the user in each of the groups
+   *
+   * @param groupIds
+   * @param userId
+   * @return rows with groupId, role and visited
+   * @throws BaseException
+   */
+  @Override
+  public List<Map<String, Object>> readGroupMemberships(
+      List<String> groupIds, String userId, Map<String,Object> reqContext) throws BaseException {
+    if (groupIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<Map<String, Object>> dbResMembers =
+        memberService.fetchGroupByUser(groupIds, userId, GROUP_MEMBER_FIELDS, reqContext);
+    logger.info(reqContext,MessageFormat.format("group count {0} for userId {1}", dbResMembers.size(), userId));
+    return dbResMembers;
+  }
+
+  @Override
+  public CompletionStage<List<Map<String, Object>>> readGroupMembershipsAsync(
+      List<String> groupIds, String userId, Map<String, Object> reqContext) {
+    if (groupIds.isEmpty()) {
+      return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    return memberService
+        .fetchGroupByUserAsync(groupIds, userId, GROUP_MEMBER_FIELDS, reqContext)
+        .thenApply(
+            dbResMembers -> {
+              logger.info(reqContext,MessageFormat.format("group count {0} for userId {1}", dbResMembers.size(), userId));
+              return dbResMembers;
+            });
   }
 
   /**
@@ -173,7 +353,11 @@ public class GroupServiceImpl implements GroupService {
    * @throws BaseException
    */
   private List<String> fetchAllGroupIdsByUserId(String userId, Map<String,Object> reqContext) throws BaseException {
-    Response groupIdsResponse = memberDao.readGroupIdsByUserId(userId, reqContext);
+    return toGroupIds(userId, memberDao.readGroupIdsByUserId(userId, reqContext), reqContext);
+  }
+
+  private List<String> toGroupIds(
+      String userId, Response groupIdsResponse, Map<String, Object> reqContext) {
     if (null != groupIdsResponse && null != groupIdsResponse.getResult()) {
       List<Map<String, Object>> dbResGroupIds =
           (List<Map<String, Object>>) groupIdsResponse.getResult().get(JsonKey.RESPONSE);
@@ -205,29 +389,32 @@ public class GroupServiceImpl implements GroupService {
   }
 
   /**
-   * Read groups details based on group Ids
+   * Read groups details based on group Ids, without activities and the fields of the user
    *
    * @param groupIds
    * @return
    * @throws BaseException
    */
-  private List<GroupResponse> readGroupDetailsByGroupIds(List<String> groupIds, Map<String,Object> reqContext)
+  @Override
+  public List<GroupResponse> readGroupSummaries(List<String> groupIds, Map<String,Object> reqContext)
       throws BaseException {
+    return toGroupResponses(
+        groupDao.readGroupList(groupIds, GROUP_RESPONSE_FIELDS, reqContext), reqContext);
+  }
+
+  @Override
+  public CompletionStage<List<GroupResponse>> readGroupSummariesAsync(
+      List<String> groupIds, Map<String, Object> reqContext) {
+    return groupDao
+        .readGroupListAsync(groupIds, GROUP_RESPONSE_FIELDS, reqContext)
+        .thenApply(dbGroups -> toGroupResponses(dbGroups, reqContext));
+  }
+
+  private List<GroupResponse> toGroupResponses(List<Group> dbGroups, Map<String, Object> reqContext) {
     List<GroupResponse> groups = new ArrayList<>();
-    Response response = groupDao.readGroups(groupIds, reqContext);
-    if (null != response && null != response.getResult()) {
-      List<Map<String, Object>> dbGroupDetails =
-          (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
-      if (null != dbGroupDetails) {
-        logger.info(reqContext,MessageFormat.format("Group details fetched - count : {0} ", dbGroupDetails.size()));
-        dbGroupDetails.forEach(
-            map -> {
-              map.remove(JsonKey.ACTIVITIES);
-              Group group = objectMapper.convertValue(map, Group.class);
-              GroupResponse groupResponse = createGroupResponseObj(group);
-              groups.add(groupResponse);
-            });
-      }
+    if (null != dbGroups) {
+      logger.info(reqContext,MessageFormat.format("Group details fetched - count : {0} ", dbGroups.size()));
+      dbGroups.forEach(group -> groups.add(createGroupResponseObj(group)));
     }
     return groups;
   }
@@ -237,6 +424,11 @@ public class GroupServiceImpl implements GroupService {
     return groupDao.updateGroup(groupObj, reqContext);
   }
 
+  @Override
+  public CompletionStage<Response> updateGroupAsync(Group groupObj, Map<String, Object> reqContext) {
+    return groupDao.updateGroupAsync(groupObj, reqContext);
+  }
+
   @Override
   public Response deleteGroup(String groupId, List<MemberResponse> members, Map<String,Object> reqContext) throws BaseException {
     Response responseObj = groupDao.deleteGroup(groupId, reqContext);
@@ -245,8 +437,7 @@ public class GroupServiceImpl implements GroupService {
       // Create member list
       List<String> memberIds = new ArrayList<>();
       List<Member> memberList = createDeleteMemberList(members, memberIds);
-      List<Map<String, Object>> dbResGroupIds = memberService.getGroupIdsforUserIds(memberIds, reqContext);
-      memberService.removeGroupInUserGroup(memberList, dbResGroupIds, reqContext);
+      memberService.removeGroupInUserGroup(memberList, reqContext);
       memberService.deleteGroupMembers(groupId, memberIds, reqContext);
       return responseObj;
     }
@@ -255,6 +446,30 @@ public class GroupServiceImpl implements GroupService {
     throw new BaseException(IResponseMessage.SERVER_ERROR, IResponseMessage.INTERNAL_ERROR);
   }
 
+  /**
+   * Non blocking version of deleteGroup, the member mappings are removed once the group is
+   * deleted.
+   *
+   * @param groupId
+   * @param members
+   * @return CompletionStage of responseObj of the group delete.
+   */
+  @Override
+  public CompletionStage<Response> deleteGroupAsync(
+      String groupId, List<MemberResponse> members, Map<String, Object> reqContext) {
+    List<String> memberIds = new ArrayList<>();
+    List<Member> memberList = createDeleteMemberList(members, memberIds);
+    return groupDao
+        .deleteGroupAsync(groupId, reqContext)
+        .thenCompose(
+            responseObj ->
+                memberService
+                    .removeGroupInUserGroupAsync(memberList, reqContext)
+                    .thenCompose(
+                        removed -> memberService.deleteGroupMembersAsync(groupId, memberIds, reqContext))
+                    .thenApply(deleted -> responseObj));
+  }
+
 
 
   private List<Member> createDeleteMemberList(
@@ -295,13 +510,26 @@ public class GroupServiceImpl implements GroupService {
   @Override
   public List<Map<String, Object>> handleActivityOperations(
       String groupId, Map<String, Object> activityOperationMap, Map<String,Object> reqContext) throws BaseException {
+    // Fetching the activities from DB
+    return mergeActivities(activityOperationMap, readActivityFromDb(groupId, reqContext));
+  }
+
+  @Override
+  public CompletionStage<List<Map<String, Object>>> handleActivityOperationsAsync(
+      String groupId, Map<String, Object> activityOperationMap, Map<String, Object> reqContext) {
+    return groupDao
+        .readGroupAsync(groupId, reqContext)
+        .thenApply(
+            responseObj ->
+                mergeActivities(activityOperationMap, toActivityList(groupId, responseObj)));
+  }
+
+  private List<Map<String, Object>> mergeActivities(
+      Map<String, Object> activityOperationMap, List<Map<String, Object>> dbActivityList) {
     List<Map<String, Object>> activityAddList =
         (List<Map<String, Object>>) activityOperationMap.get(JsonKey.ADD);
     List<String> activityRemoveList = (List<String>) activityOperationMap.get(JsonKey.REMOVE);
 
-    // Fetching the activities from DB
-    List<Map<String, Object>> dbActivityList = readActivityFromDb(groupId, reqContext);
-
     if (CollectionUtils.isNotEmpty(activityAddList)) {
       // Check if activities in add request is already existing, if not append
       final List<Map<String, Object>> addDbActivityList = dbActivityList;
@@ -339,8 +567,11 @@ public class GroupServiceImpl implements GroupService {
   }
 
   private List<Map<String, Object>> readActivityFromDb(String groupId, Map<String,Object> reqContext) throws BaseException {
+    return toActivityList(groupId, groupDao.readGroup(groupId, reqContext));
+  }
+
+  private List<Map<String, Object>> toActivityList(String groupId, Response responseObj) {
     List<Map<String, Object>> dbActivityList = null;
-    Response responseObj = groupDao.readGroup(groupId, reqContext);
     if (null != responseObj && MapUtils.isNotEmpty(responseObj.getResult())) {
       List<Map<String, Object>> groupDetails =
           (List<Map<String, Object>>) responseObj.getResult().get(JsonKey.RESPONSE);
@@ -2,6 +2,8 @@ package org.sunbird.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.common.Page;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.models.Member;
 import org.sunbird.models.MemberResponse;
@@ -9,7 +11,7 @@ import org.sunbird.common.response.Response;
 
 public interface MemberService {
 
-  Response addMembers(List<Member> member, List<Map<String, Object>> userGroupsList, Map<String, Object> reqContext, String userId)
+  Response addMembers(List<Member> member, Map<String, Object> reqContext, String userId)
       throws BaseException;
 
   Response editMembers(List<Member> member, Map<String, Object> reqContext, String updatedBy) throws BaseException;
@@ -23,13 +25,16 @@ public interface MemberService {
       List<Map<String, Object>> memberList,
       String groupId,
       String contextUserId,
-      List<Map<String, Object>> userGroupsList,
       Map<String, Object> reqContext)
       throws BaseException;
 
   List<MemberResponse> readGroupMembers(String groupId, Map<String, Object> reqContext)
       throws BaseException;
 
+  Page<MemberResponse> readGroupMembers(
+      String groupId, int limit, String pageToken, Map<String, Object> reqContext)
+      throws BaseException;
+
   List<MemberResponse> fetchMembersByGroupId(String groupId, Map<String, Object> reqContext) throws BaseException;
 
   List<MemberResponse> fetchMembersByGroupIds(List<String> groupIds, Map<String, Object> reqContext) throws BaseException;
@@ -37,10 +42,33 @@ public interface MemberService {
   List<Map<String, Object>> fetchGroupByUser(List<String> groupIds, String userId, Map<String, Object> reqContext)
       throws BaseException;
 
+  List<Map<String, Object>> fetchGroupByUser(
+      List<String> groupIds, String userId, List<String> fields, Map<String, Object> reqContext)
+      throws BaseException;
+
   public List<Map<String, Object>> getGroupIdsforUserIds(List<String> memberList, Map<String, Object> reqContext);
 
-  public void removeGroupInUserGroup(
-      List<Member> memberList, List<Map<String, Object>> dbResGroupIds, Map<String, Object> reqContext) throws BaseException;
+  public void removeGroupInUserGroup(List<Member> memberList, Map<String, Object> reqContext) throws BaseException;
 
   public void deleteGroupMembers(String groupId, List<String> members, Map<String, Object> reqContext) throws BaseException;
+
+  /* Non blocking versions of the above methods, the stages complete exceptionally on failure. */
+
+  CompletionStage<Void> handleMemberOperationsAsync(
+      Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext);
+
+  CompletionStage<List<MemberResponse>> readGroupMembersAsync(
+      String groupId, Map<String, Object> reqContext);
+
+  CompletionStage<List<MemberResponse>> fetchMembersByGroupIdAsync(
+      String groupId, Map<String, Object> reqContext);
+
+  CompletionStage<List<Map<String, Object>>> fetchGroupByUserAsync(
+      List<String> groupIds, String userId, List<String> fields, Map<String, Object> reqContext);
+
+  CompletionStage<Void> removeGroupInUserGroupAsync(
+      List<Member> memberList, Map<String, Object> reqContext);
+
+  CompletionStage<Response> deleteGroupMembersAsync(
+      String groupId, List<String> members, Map<String, Object> reqContext);
 }
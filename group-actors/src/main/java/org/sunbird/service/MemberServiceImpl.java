@@ -1,19 +1,19 @@
 package org.sunbird.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.Page;
 import org.sunbird.common.util.NotificationType;
 import org.sunbird.dao.MemberDao;
 import org.sunbird.dao.MemberDaoImpl;
@@ -23,6 +23,7 @@ import org.sunbird.models.MemberResponse;
 import org.sunbird.common.response.Response;
 import org.sunbird.notifications.NotificationManager;
 import org.sunbird.util.GroupUtil;
+import org.sunbird.util.OperationExecutor;
 import org.sunbird.common.util.JsonKey;
 import org.sunbird.util.LoggerUtil;
 
@@ -30,27 +31,18 @@ public class MemberServiceImpl implements MemberService {
 
   private static MemberDao memberDao = MemberDaoImpl.getInstance();
   private static LoggerUtil logger = new LoggerUtil(MemberServiceImpl.class);
-  private static ObjectMapper objectMapper = new ObjectMapper();
   private static UserService userService = UserServiceImpl.getInstance();
 
   @Override
-  public Response addMembers(List<Member> members, List<Map<String, Object>> dbResGroupIds, Map<String, Object> reqContext, String updatedBy)
+  public Response addMembers(List<Member> members, Map<String, Object> reqContext, String updatedBy)
       throws BaseException {
     Response response = memberDao.addMembers(members, reqContext);
-    if (response != null
-        && response.getResult().get(JsonKey.RESPONSE) != null
-        && dbResGroupIds == null) {
-      dbResGroupIds = getGroupIdsforUserIds(GroupUtil.getMemberIdList(members), reqContext);
-    }
-    // Update if userId is already in DB, otherwise insert
-    addGroupInUserGroup(members, dbResGroupIds, reqContext);
+    addGroupInUserGroup(members, reqContext);
     // CALL Notification for Member Add
     Map<String,Object> notificationObj = createMemberUpdateNotificationObject(members,updatedBy);
     return response;
   }
 
-
-
   @Override
   public List<Map<String, Object>> getGroupIdsforUserIds(List<String> member, Map<String, Object> reqContext) {
     Response userGroupResponseObj = memberDao.readGroupIdsByUserIds(member, reqContext);
@@ -63,40 +55,29 @@ public class MemberServiceImpl implements MemberService {
     return dbResGroupIds;
   }
 
-  private void addGroupInUserGroup(List<Member> memberList, List<Map<String, Object>> dbResGroupIds, Map<String, Object> reqContext)
+  /**
+   * Appends the group to the user group set of each member, one set append per user written
+   * concurrently, without reading the existing set.
+   */
+  private void addGroupInUserGroup(List<Member> memberList, Map<String, Object> reqContext)
       throws BaseException {
-    logger.info(
-        reqContext, MessageFormat.format("User Group table update started for the group id {0}", memberList.get(0).getGroupId()));
-    memberList
-        .stream()
+    groupUserIdsByGroup(memberList)
         .forEach(
-            data -> {
-              Map<String, Object> userGroupMap = createUserGroupRecord(new HashSet<>(), data);
-              if (CollectionUtils.isNotEmpty(dbResGroupIds)) {
-                Map<String, Object> userDbMap =
-                    dbResGroupIds
-                        .stream()
-                        .filter(
-                            dbMap -> (data.getUserId()).equals((String) dbMap.get(JsonKey.USER_ID)))
-                        .findFirst()
-                        .orElse(null);
-                if (MapUtils.isNotEmpty(userDbMap)) {
-                  userGroupMap =
-                      createUserGroupRecord((Set<String>) userDbMap.get(JsonKey.GROUP_ID), data);
-                }
-              }
-              if (MapUtils.isNotEmpty(userGroupMap)) {
-                memberDao.upsertGroupInUserGroup(userGroupMap, reqContext);
-              }
+            (groupId, userIds) -> {
+              logger.info(
+                  reqContext, MessageFormat.format("User Group table update started for the group id {0}", groupId));
+              memberDao.addGroupInUserGroup(groupId, userIds, reqContext);
             });
   }
 
-  private Map<String, Object> createUserGroupRecord(Set<String> groupSet, Member data) {
-    Map<String, Object> userGroupMap = new HashMap<>();
-    groupSet.add(data.getGroupId());
-    userGroupMap.put(JsonKey.USER_ID, data.getUserId());
-    userGroupMap.put(JsonKey.GROUP_ID, groupSet);
-    return userGroupMap;
+  private Map<String, List<String>> groupUserIdsByGroup(List<Member> memberList) {
+    return memberList
+        .stream()
+        .collect(
+            Collectors.groupingBy(
+                Member::getGroupId,
+                LinkedHashMap::new,
+                Collectors.mapping(Member::getUserId, Collectors.toList())));
   }
 
   @Override
@@ -113,89 +94,178 @@ public class MemberServiceImpl implements MemberService {
     Response response = memberDao.editMembers(member, reqContext);
 
     if (response != null && response.getResult().get(JsonKey.RESPONSE) != null) {
-      List<Map<String, Object>> dbResGroupIds =
-          getGroupIdsforUserIds(GroupUtil.getMemberIdList(member), reqContext);
-      removeGroupInUserGroup(member, dbResGroupIds, reqContext);
+      removeGroupInUserGroup(member, reqContext);
       //Call Notification for member remove
       Map<String,Object> notificationObj = createMemberUpdateNotificationObject(member,updatedBy);
     }
     return response;
   }
 
+  /**
+   * Removes the group from the user group set of each member, one set removal per user written
+   * concurrently, without reading the existing set.
+   */
   @Override
-  public void removeGroupInUserGroup(
-      List<Member> memberList, List<Map<String, Object>> dbResGroupIds, Map<String, Object> reqContext) throws BaseException {
-    logger.info(
-        reqContext,MessageFormat.format("User Group table update started for the group id {0}", memberList.get(0).getGroupId()));
-
-    memberList
-        .stream()
+  public void removeGroupInUserGroup(List<Member> memberList, Map<String, Object> reqContext)
+      throws BaseException {
+    groupUserIdsByGroup(memberList)
         .forEach(
-            data -> {
-              Map<String, Object> userGroupMap = new HashMap<>();
-              if (CollectionUtils.isNotEmpty(dbResGroupIds)) {
-                dbResGroupIds
-                    .stream()
-                    .forEach(
-                        map -> {
-                          if ((data.getUserId()).equals((String) map.get(JsonKey.USER_ID))) {
-                            Set<String> groupIdsSet = (Set<String>) map.get(JsonKey.GROUP_ID);
-                            groupIdsSet.remove(data.getGroupId());
-                            if (groupIdsSet.size() == 0) {
-                              memberDao.deleteFromUserGroup(data.getUserId(), reqContext);
-                            } else {
-                              userGroupMap.put(JsonKey.GROUP_ID, groupIdsSet);
-                            }
-                          }
-                        });
-              }
-              if (MapUtils.isNotEmpty(userGroupMap) && userGroupMap.size() > 0) {
-                memberDao.updateGroupInUserGroup(userGroupMap, data.getUserId(), reqContext);
-              }
+            (groupId, userIds) -> {
+              logger.info(
+                  reqContext, MessageFormat.format("User Group table update started for the group id {0}", groupId));
+              memberDao.removeGroupInUserGroup(groupId, userIds, reqContext);
             });
   }
 
+  /**
+   * Non blocking version of removeGroupInUserGroup, the set removals of all the groups are written
+   * concurrently.
+   */
+  @Override
+  public CompletionStage<Void> removeGroupInUserGroupAsync(
+      List<Member> memberList, Map<String, Object> reqContext) {
+    return CompletableFuture.allOf(
+        groupUserIdsByGroup(memberList)
+            .entrySet()
+            .stream()
+            .map(
+                entry -> {
+                  logger.info(
+                      reqContext, MessageFormat.format("User Group table update started for the group id {0}", entry.getKey()));
+                  return memberDao
+                      .removeGroupInUserGroupAsync(entry.getKey(), entry.getValue(), reqContext)
+                      .toCompletableFuture();
+                })
+            .toArray(CompletableFuture[]::new));
+  }
+
   @Override
   public void deleteGroupMembers(String groupId, List<String> members, Map<String, Object> reqContext) throws BaseException {
     memberDao.deleteMemberFromGroup(groupId, members, reqContext);
   }
 
+  @Override
+  public CompletionStage<Response> deleteGroupMembersAsync(
+      String groupId, List<String> members, Map<String, Object> reqContext) {
+    return memberDao.deleteMemberFromGroupAsync(groupId, members, reqContext);
+  }
+
   public void handleMemberOperations(Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext)
       throws BaseException {
     List<Map<String, Object>> memberAddList =
         (List<Map<String, Object>>) memberOperationMap.get(JsonKey.ADD);
     if (CollectionUtils.isNotEmpty(memberAddList)) {
-      Response addMemberRes = handleMemberAddition(memberAddList, groupId, updatedBy, null, reqContext);
+      Response addMemberRes = handleMemberAddition(memberAddList, groupId, updatedBy, reqContext);
     }
+    List<Member> editMembers = createEditMembers(memberOperationMap, groupId, updatedBy, reqContext);
+    if (!editMembers.isEmpty()) {
+      Response editMemberRes = editMembers(editMembers, reqContext, updatedBy);
+    }
+    List<Member> removeMembers =
+        createRemoveMembers(memberOperationMap, groupId, updatedBy, reqContext);
+    if (!removeMembers.isEmpty()) {
+      Response removeMemberRes = removeMembers(removeMembers, reqContext, updatedBy);
+    }
+  }
+
+  /**
+   * Non blocking version of handleMemberOperations, members are added, edited and removed one
+   * operation after the other as in handleMemberOperations.
+   */
+  @Override
+  public CompletionStage<Void> handleMemberOperationsAsync(
+      Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext) {
+    List<Member> addMembers = createAddMembers(memberOperationMap, groupId, updatedBy, reqContext);
+    List<Member> editMembers = createEditMembers(memberOperationMap, groupId, updatedBy, reqContext);
+    List<Member> removeMembers =
+        createRemoveMembers(memberOperationMap, groupId, updatedBy, reqContext);
+    CompletionStage<Void> stage = CompletableFuture.completedFuture(null);
+    if (!addMembers.isEmpty()) {
+      stage =
+          stage
+              .thenCompose(done -> memberDao.addMembersAsync(addMembers, reqContext))
+              .thenCompose(
+                  response ->
+                      CompletableFuture.allOf(
+                          groupUserIdsByGroup(addMembers)
+                              .entrySet()
+                              .stream()
+                              .map(
+                                  entry ->
+                                      memberDao
+                                          .addGroupInUserGroupAsync(
+                                              entry.getKey(), entry.getValue(), reqContext)
+                                          .toCompletableFuture())
+                              .toArray(CompletableFuture[]::new)));
+    }
+    if (!editMembers.isEmpty()) {
+      stage =
+          stage
+              .thenCompose(done -> memberDao.editMembersAsync(editMembers, reqContext))
+              .thenApply(response -> null);
+    }
+    if (!removeMembers.isEmpty()) {
+      stage =
+          stage
+              .thenCompose(done -> memberDao.editMembersAsync(removeMembers, reqContext))
+              .thenCompose(
+                  response -> {
+                    if (response != null && response.getResult().get(JsonKey.RESPONSE) != null) {
+                      return removeGroupInUserGroupAsync(removeMembers, reqContext);
+                    }
+                    return CompletableFuture.completedFuture(null);
+                  });
+    }
+    return stage;
+  }
+
+  private List<Member> createAddMembers(
+      Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext) {
+    List<Map<String, Object>> memberAddList =
+        (List<Map<String, Object>>) memberOperationMap.get(JsonKey.ADD);
+    if (CollectionUtils.isEmpty(memberAddList)) {
+      return new ArrayList<>();
+    }
+    logger.info(reqContext,MessageFormat.format("Number of members to be added to the group {0} are {1}", groupId, memberAddList.size()));
+    return memberAddList
+        .stream()
+        .map(data -> getMemberModelForAdd(data, groupId, updatedBy))
+        .collect(Collectors.toList());
+  }
+
+  private List<Member> createEditMembers(
+      Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext) {
     List<Map<String, Object>> memberEditList =
         (List<Map<String, Object>>) memberOperationMap.get(JsonKey.EDIT);
-    if (CollectionUtils.isNotEmpty(memberEditList)) {
-      List<Member> editMembers =
-          memberEditList
-              .stream()
-              .map(data -> getMemberModelForEdit(data, groupId, updatedBy))
-              .collect(Collectors.toList());
-      if (!editMembers.isEmpty()) {
-        logger.info(reqContext,MessageFormat.format(
-            "Number of members to be modified in the group {0} are {1}", groupId, editMembers.size()));
-        Response editMemberRes = editMembers(editMembers, reqContext, updatedBy);
-      }
+    if (CollectionUtils.isEmpty(memberEditList)) {
+      return new ArrayList<>();
     }
+    List<Member> editMembers =
+        memberEditList
+            .stream()
+            .map(data -> getMemberModelForEdit(data, groupId, updatedBy))
+            .collect(Collectors.toList());
+    logger.info(reqContext,MessageFormat.format(
+        "Number of members to be modified in the group {0} are {1}", groupId, editMembers.size()));
+    return editMembers;
+  }
+
+  private List<Member> createRemoveMembers(
+      Map memberOperationMap, String groupId, String updatedBy, Map<String, Object> reqContext) {
     List<String> memberRemoveList = (List<String>) memberOperationMap.get(JsonKey.REMOVE);
-    if (CollectionUtils.isNotEmpty(memberRemoveList)) {
-      List<Member> removeMembers =
-          memberRemoveList
-              .stream()
-              .map(data -> getMemberModelForRemove(data, groupId, updatedBy))
-              .collect(Collectors.toList());
-      if (!removeMembers.isEmpty()) {
-        logger.info(reqContext,MessageFormat.format(
-            "Number of members needs to be removed from the group {0} are {1}",
-            groupId,
-            removeMembers.size()));
-        Response removeMemberRes = removeMembers(removeMembers, reqContext, updatedBy);
-      }
+    if (CollectionUtils.isEmpty(memberRemoveList)) {
+      return new ArrayList<>();
     }
+    List<Member> removeMembers =
+        memberRemoveList
+            .stream()
+            .map(data -> getMemberModelForRemove(data, groupId, updatedBy))
+            .collect(Collectors.toList());
+    logger.info(reqContext,MessageFormat.format(
+        "Number of members needs to be removed from the group {0} are {1}",
+        groupId,
+        removeMembers.size()));
+    return removeMembers;
   }
 
   @Override
@@ -203,7 +273,6 @@ public class MemberServiceImpl implements MemberService {
       List<Map<String, Object>> memberList,
       String groupId,
       String updatedBy,
-      List<Map<String, Object>> userGroupsList,
       Map<String, Object> reqContext)
       throws BaseException {
     logger.info(reqContext,MessageFormat.format("Number of members to be added to the group {0} are {1}", groupId, memberList.size()));
@@ -214,7 +283,7 @@ public class MemberServiceImpl implements MemberService {
             .map(data -> getMemberModelForAdd(data, groupId, updatedBy))
             .collect(Collectors.toList());
     if (!members.isEmpty()) {
-      addMemberRes = addMembers(members, userGroupsList, reqContext,updatedBy);
+      addMemberRes = addMembers(members, reqContext, updatedBy);
     }
     return addMemberRes;
   }
@@ -238,6 +307,60 @@ public class MemberServiceImpl implements MemberService {
     return members;
   }
 
+  /**
+   * Non blocking version of readGroupMembers, the member names are read over http on the
+   * OperationExecutor.
+   *
+   * @param groupId
+   * @return CompletionStage of the members with their names
+   */
+  @Override
+  public CompletionStage<List<MemberResponse>> readGroupMembersAsync(
+      String groupId, Map<String, Object> reqContext) {
+    return fetchMembersByGroupIdAsync(groupId, reqContext)
+        .thenCompose(
+            members -> {
+              if (members.isEmpty()) {
+                return CompletableFuture.completedFuture(members);
+              }
+              return OperationExecutor.getInstance()
+                  .supply(
+                      () -> {
+                        fetchMemberDetails(members, reqContext);
+                        return members;
+                      });
+            });
+  }
+
+  /**
+   * Fetch one page of the Member Details of the Group. Only active members are returned, so a page
+   * can hold fewer members than the limit even when further pages follow.
+   *
+   * @param groupId
+   * @param limit
+   * @param pageToken
+   * @return
+   * @throws BaseException
+   */
+  @Override
+  public Page<MemberResponse> readGroupMembers(
+      String groupId, int limit, String pageToken, Map<String, Object> reqContext)
+      throws BaseException {
+    Page<Member> dbMembers = memberDao.readMembersPage(groupId, limit, pageToken, reqContext);
+    List<MemberResponse> members =
+        dbMembers
+            .getRecords()
+            .stream()
+            .filter(member -> JsonKey.ACTIVE.equals(member.getStatus()))
+            .map(this::createMemberResponseObj)
+            .collect(Collectors.toList());
+    logger.info(reqContext,MessageFormat.format("Group members page fetched count : {0}", members.size()));
+    if (!members.isEmpty()) {
+      fetchMemberDetails(members, reqContext);
+    }
+    return new Page<>(members, dbMembers.getNextPageToken());
+  }
+
   /**
    * Fetch Members based on Group
    *
@@ -251,6 +374,21 @@ public class MemberServiceImpl implements MemberService {
     return members;
   }
 
+  /**
+   * Fetch Members based on Group
+   *
+   * @param groupIds
+   * @return
+   * @throws BaseException
+   */
+  @Override
+  public CompletionStage<List<MemberResponse>> fetchMembersByGroupIdAsync(
+      String groupId, Map<String, Object> reqContext) {
+    return memberDao
+        .readMembersByGroupIdsAsync(Lists.newArrayList(groupId), reqContext)
+        .thenApply(dbMembers -> toActiveMembers(dbMembers, reqContext));
+  }
+
   /**
    * Fetch Members based on Group
    *
@@ -260,22 +398,20 @@ public class MemberServiceImpl implements MemberService {
    */
   @Override
   public List<MemberResponse> fetchMembersByGroupIds(List<String> groupIds, Map<String, Object> reqContext) throws BaseException {
-    Response response = memberDao.fetchMembersByGroupIds(groupIds, reqContext);
+    return toActiveMembers(memberDao.readMembersByGroupIds(groupIds, reqContext), reqContext);
+  }
+
+  private List<MemberResponse> toActiveMembers(List<Member> dbMembers, Map<String, Object> reqContext) {
     List<MemberResponse> members = new ArrayList<>();
-    if (null != response && null != response.getResult()) {
-      List<Map<String, Object>> dbResMembers =
-          (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
-      if (null != dbResMembers) {
-        logger.info(reqContext,MessageFormat.format("Group members fetched count : {0}", dbResMembers.size()));
-        dbResMembers.forEach(
-            map -> {
-              Member member = objectMapper.convertValue(map, Member.class);
-              if (JsonKey.ACTIVE.equals(member.getStatus())) {
-                MemberResponse memberResponse = createMemberResponseObj(member);
-                members.add(memberResponse);
-              }
-            });
-      }
+    if (null != dbMembers) {
+      logger.info(reqContext,MessageFormat.format("Group members fetched count : {0}", dbMembers.size()));
+      dbMembers.forEach(
+          member -> {
+            if (JsonKey.ACTIVE.equals(member.getStatus())) {
+              MemberResponse memberResponse = createMemberResponseObj(member);
+              members.add(memberResponse);
+            }
+          });
     }
     return members;
   }
@@ -323,8 +459,26 @@ public class MemberServiceImpl implements MemberService {
   @Override
   public List<Map<String, Object>> fetchGroupByUser(List<String> groupIds, String userId, Map<String, Object> reqContext)
       throws BaseException {
+    return fetchGroupByUser(groupIds, userId, null, reqContext);
+  }
+
+  @Override
+  public List<Map<String, Object>> fetchGroupByUser(
+      List<String> groupIds, String userId, List<String> fields, Map<String, Object> reqContext)
+      throws BaseException {
+    return toGroupsByUser(memberDao.fetchGroupByUser(groupIds, userId, fields, reqContext));
+  }
+
+  @Override
+  public CompletionStage<List<Map<String, Object>>> fetchGroupByUserAsync(
+      List<String> groupIds, String userId, List<String> fields, Map<String, Object> reqContext) {
+    return memberDao
+        .fetchGroupByUserAsync(groupIds, userId, fields, reqContext)
+        .thenApply(this::toGroupsByUser);
+  }
+
+  private List<Map<String, Object>> toGroupsByUser(Response response) {
     List<Map<String, Object>> dbResMembers = new ArrayList<>();
-    Response response = memberDao.fetchGroupByUser(groupIds, userId, reqContext);
     if (null != response && null != response.getResult()) {
       dbResMembers = (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
     }
@@ -11,6 +11,7 @@ import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.message.IResponseMessage;
 import org.sunbird.models.SearchRequest;
 import org.sunbird.common.response.Response;
+import org.sunbird.util.Bulkhead;
 import org.sunbird.util.HttpClientUtil;
 import org.sunbird.common.util.JsonKey;
 import org.sunbird.util.LoggerUtil;
@@ -74,8 +75,14 @@ public class UserServiceImpl implements UserService {
       SearchRequest searchRequest = createUserSearchRequest(userIds);
       String searchJsonStrReq = objectMapper.writeValueAsString(searchRequest);
       String response =
-          HttpClientUtil.post(
-              userServiceBaseUrl + userServiceSearchUrl, searchJsonStrReq, requestHeader,reqContext);
+          Bulkhead.get(Bulkhead.USER_SERVICE)
+              .call(
+                  () ->
+                      HttpClientUtil.post(
+                          userServiceBaseUrl + userServiceSearchUrl,
+                          searchJsonStrReq,
+                          requestHeader,
+                          reqContext));
       getResponseObject(responseObj, response, reqContext);
     } catch (JsonProcessingException ex) {
       logger.error(reqContext,"Error while fetching user details through user service" + ex.getMessage());
@@ -95,7 +102,13 @@ public class UserServiceImpl implements UserService {
     try {
 
       String response =
-          HttpClientUtil.get(userServiceBaseUrl + userServiceSystemSettingUrl, requestHeader, requestContext);
+          Bulkhead.get(Bulkhead.USER_SERVICE)
+              .call(
+                  () ->
+                      HttpClientUtil.get(
+                          userServiceBaseUrl + userServiceSystemSettingUrl,
+                          requestHeader,
+                          requestContext));
       getResponseObject(responseObj, response,requestContext);
     } catch (JsonProcessingException ex) {
       logger.error(requestContext, "Error while fetching system setting through user service" + ex.getMessage());
@@ -115,11 +128,16 @@ public class UserServiceImpl implements UserService {
     requestContext.put(JsonKey.X_TRACE_ENABLED, "false");
     getUpdatedRequestHeader(requestHeader, requestContext);
     try {
+      String readJsonStrReq = objectMapper.writeValueAsString(readRequest);
       String response =
-          HttpClientUtil.post(
-              userServiceBaseUrl + userServiceOrgReadUrl,
-              objectMapper.writeValueAsString(readRequest),
-              requestHeader,requestContext);
+          Bulkhead.get(Bulkhead.USER_SERVICE)
+              .call(
+                  () ->
+                      HttpClientUtil.post(
+                          userServiceBaseUrl + userServiceOrgReadUrl,
+                          readJsonStrReq,
+                          requestHeader,
+                          requestContext));
       getResponseObject(responseObj, response, requestContext);
     } catch (Exception ex) {
       logger.error(requestContext,"Error while fetching org details through user service" + ex.getMessage());
@@ -0,0 +1,66 @@
+package org.sunbird.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * @desc Cached value with its soft expiry, written as a marker that never starts JSON, the soft
+ *     expiry in epoch milliseconds, the load time in milliseconds and the value, separated by
+ *     colons. Values without the marker were written without soft expiry and never turn stale.
+ */
+class CacheEntry {
+
+  private static final char MARKER = '~';
+  private static final char SEPARATOR = ':';
+
+  private final String value;
+  private final long softExpiresAt;
+  private final long loadMillis;
+
+  private CacheEntry(String value, long softExpiresAt, long loadMillis) {
+    this.value = value;
+    this.softExpiresAt = softExpiresAt;
+    this.loadMillis = loadMillis;
+  }
+
+  static String format(String value, long softExpiresAt, long loadMillis) {
+    return MARKER + String.valueOf(softExpiresAt) + SEPARATOR + loadMillis + SEPARATOR + value;
+  }
+
+  /**
+   * @param data Cached data
+   * @return entry of the data, null if the data is empty
+   */
+  static CacheEntry parse(String data) {
+    if (StringUtils.isEmpty(data)) {
+      return null;
+    }
+    if (data.charAt(0) != MARKER) {
+      return new CacheEntry(data, Long.MAX_VALUE, 0);
+    }
+    int loadIndex = data.indexOf(SEPARATOR);
+    int valueIndex = data.indexOf(SEPARATOR, loadIndex + 1);
+    return new CacheEntry(
+        data.substring(valueIndex + 1),
+        Long.parseLong(data.substring(1, loadIndex)),
+        Long.parseLong(data.substring(loadIndex + 1, valueIndex)));
+  }
+
+  String getValue() {
+    return value;
+  }
+
+  boolean isStale(long now) {
+    return now >= softExpiresAt;
+  }
+
+  /**
+   * XFetch, refreshes when now - loadMillis * beta * ln(random) reaches the soft expiry.
+   *
+   * @param random Uniform random number in (0, 1]
+   */
+  boolean isEarlyRefresh(long now, double beta, double random) {
+    return beta > 0
+        && softExpiresAt != Long.MAX_VALUE
+        && now - loadMillis * beta * Math.log(random) >= softExpiresAt;
+  }
+}
@@ -0,0 +1,64 @@
+package org.sunbird.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Expiry of a family of cache keys. Redis drops an entry after ttl seconds, the entry turns
+ *     stale after softTtl seconds and is then still served while one background refresh replaces
+ *     it. With a beta above 0 fresh entries are also refreshed early, with a probability growing
+ *     as the soft expiry nears and with the time the value took to load (XFetch). A soft ttl of 0
+ *     or not below the ttl and a beta of 0 keep the plain expiry and the plain cached value.
+ */
+public class CachePolicy {
+
+  private final String name;
+  private final int ttl;
+  private final int softTtl;
+  private final double beta;
+
+  public CachePolicy(String name, int ttl, int softTtl, double beta) {
+    this.name = name;
+    this.ttl = ttl;
+    this.softTtl = softTtl > 0 && softTtl < ttl ? softTtl : ttl;
+    this.beta = Math.max(0, beta);
+  }
+
+  /**
+   * @param name Key family
+   * @param ttl Expiry in seconds
+   * @param softTtlKey Config key of the soft expiry in seconds
+   * @param betaKey Config key of the early refresh factor
+   */
+  public static CachePolicy fromConfig(String name, int ttl, String softTtlKey, String betaKey) {
+    String softTtl = PropertiesCache.getInstance().getConfigValue(softTtlKey);
+    String beta = PropertiesCache.getInstance().getConfigValue(betaKey);
+    return new CachePolicy(
+        name,
+        ttl,
+        StringUtils.isNumeric(softTtl) ? Integer.parseInt(softTtl) : 0,
+        NumberUtils.toDouble(beta, 0));
+  }
+
+  /** @return true if entries are written with their soft expiry */
+  public boolean isRevalidated() {
+    return softTtl < ttl || beta > 0;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getTtl() {
+    return ttl;
+  }
+
+  public int getSoftTtl() {
+    return softTtl;
+  }
+
+  public double getBeta() {
+    return beta;
+  }
+}
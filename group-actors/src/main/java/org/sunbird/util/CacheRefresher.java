@@ -0,0 +1,113 @@
+package org.sunbird.util;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @desc Refreshes stale and early expiring cache entries in the background, at most one refresh
+ *     per key is queued or running on a node. Refreshes not fitting the queue are dropped, the
+ *     entry is then refreshed by a later read or loaded again once redis drops it.
+ */
+public class CacheRefresher {
+
+  private static final int THREADS = 2;
+  private static final int QUEUE_SIZE = 1000;
+  private static CacheRefresher instance;
+
+  private LoggerUtil logger = new LoggerUtil(CacheRefresher.class);
+
+  private final ThreadPoolExecutor executor;
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final AtomicLong staleReads = new AtomicLong();
+  private final AtomicLong earlyRefreshes = new AtomicLong();
+  private final AtomicLong refreshes = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  CacheRefresher(int threads, int queueSize) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+              Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public static CacheRefresher getInstance() {
+    if (null == instance) {
+      synchronized (CacheRefresher.class) {
+        if (null == instance) {
+          instance = new CacheRefresher(THREADS, QUEUE_SIZE);
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param key Cache key read stale or picked for early refresh
+   * @param stale true if the entry passed its soft expiry
+   * @param refresh Loads the value and caches it under the key
+   * @param reqContext Context the refresh runs under
+   */
+  public void refresh(String key, boolean stale, SingleFlight.Loader refresh, Map<String, Object> reqContext) {
+    if (stale) {
+      staleReads.incrementAndGet();
+    } else {
+      earlyRefreshes.incrementAndGet();
+    }
+    if (!refreshing.add(key)) {
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              // the thread waits for the refresh, so at most threads refreshes run at once
+              refresh.load(reqContext).toCompletableFuture().join();
+              refreshes.incrementAndGet();
+            } catch (Exception e) {
+              failures.incrementAndGet();
+              logger.error(
+                  reqContext,
+                  MessageFormat.format(
+                      "CacheRefresher: Exception occurred while refreshing {0}: {1}",
+                      key, e.getMessage()));
+            } finally {
+              refreshing.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      refreshing.remove(key);
+    }
+  }
+
+  /** @return snapshot of the refresh counters. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("refreshing", refreshing.size());
+    stats.put("staleReads", staleReads.get());
+    stats.put("earlyRefreshes", earlyRefreshes.get());
+    stats.put("refreshes", refreshes.get());
+    stats.put("failures", failures.get());
+    stats.put("rejected", rejected.get());
+    return stats;
+  }
+}
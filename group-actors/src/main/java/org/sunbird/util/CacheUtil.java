@@ -1,39 +1,37 @@
 package org.sunbird.util;
 
-import org.apache.pekko.actor.ActorRef;
-import org.apache.pekko.pattern.Patterns;
-import org.apache.pekko.util.Timeout;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.MDC;
-import org.sunbird.Application;
-import org.sunbird.cache.impl.RedisCache;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.util.JsonKey;
-import org.sunbird.models.ActorOperations;
-import org.sunbird.common.request.Request;
-import org.sunbird.common.response.Response;
 import org.sunbird.util.helper.PropertiesCache;
-import scala.collection.JavaConverters;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class CacheUtil {
 
   private LoggerUtil logger = new LoggerUtil(CacheUtil.class);
 
-  private Timeout timeout = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-
-  Map<String, Object> headerMap = new HashMap<>();
+  private static final long TIMEOUT_MILLIS = 10000;
+  private static final String HOT_KEYS_PREFIX = "hot_keys_";
+  private static final int HOT_KEYS_TTL_SECONDS = 7200;
 
   public static int groupTtl;
   public static int userTtl;
+  public static CachePolicy groupPolicy;
+  public static CachePolicy groupMembersPolicy;
+  public static CachePolicy userPolicy;
+  private static double hotKeySampleRate;
 
   static {
     groupTtl =
@@ -46,13 +44,53 @@ public class CacheUtil {
         StringUtils.isNotEmpty(PropertiesCache.getInstance().getConfigValue(JsonKey.USER_REDIS_TTL))
             ? Integer.parseInt(PropertiesCache.getInstance().getConfigValue(JsonKey.USER_REDIS_TTL))
             : 3600000;
+    groupPolicy =
+        CachePolicy.fromConfig(
+            JsonKey.GROUP, groupTtl, JsonKey.GROUPS_REDIS_SOFT_TTL, JsonKey.GROUPS_REDIS_XFETCH_BETA);
+    groupMembersPolicy =
+        CachePolicy.fromConfig(
+            JsonKey.MEMBERS,
+            groupTtl,
+            JsonKey.GROUP_MEMBERS_REDIS_SOFT_TTL,
+            JsonKey.GROUP_MEMBERS_REDIS_XFETCH_BETA);
+    userPolicy =
+        CachePolicy.fromConfig(
+            JsonKey.USER, userTtl, JsonKey.USER_REDIS_SOFT_TTL, JsonKey.USER_REDIS_XFETCH_BETA);
+    hotKeySampleRate =
+        NumberUtils.toDouble(
+            PropertiesCache.getInstance().getConfigValue(JsonKey.CACHE_HOT_KEY_SAMPLE_RATE), 0);
   }
 
-  public CacheUtil() {
-    List<String> reqIds = new ArrayList<>();
-    reqIds.add(MDC.get(JsonKey.REQUEST_MESSAGE_ID));
-    headerMap.put(JsonKey.REQUEST_MESSAGE_ID, reqIds);
+  /**
+   * constructs redis identifier for the group fields listed by group search, groupId_summary
+   *
+   * @param groupId
+   * @return
+   */
+  public static String getGroupSummaryKey(String groupId) {
+    return groupId + "_" + JsonKey.SUMMARY;
   }
+
+  /**
+   * constructs redis identifier for the version of the group, groupId_version
+   *
+   * @param groupId
+   * @return
+   */
+  public static String getGroupVersionKey(String groupId) {
+    return groupId + "_" + JsonKey.VERSION;
+  }
+
+  /**
+   * constructs redis identifier of the sorted set counting the sampled reads of the hour
+   *
+   * @param hour hours since epoch
+   * @return
+   */
+  public static String getHotKeysKey(long hour) {
+    return HOT_KEYS_PREFIX + hour;
+  }
+
   /**
    * to call set cache
    *
@@ -60,55 +98,176 @@ public class CacheUtil {
    * @param value
    */
   public void setCache(String key, String value, int ttl) {
-    Request req = new Request();
-    req.setHeaders(headerMap);
-    req.setOperation(ActorOperations.SET_CACHE.getValue());
-    req.getRequest().put(JsonKey.KEY, key);
-    req.getRequest().put(JsonKey.VALUE, value);
-    req.getRequest().put(JsonKey.TTL, ttl);
-    Application.getInstance()
-        .getActorRef(ActorOperations.SET_CACHE.getValue())
-        .tell(req, ActorRef.noSender());
+    setCacheAsync(key, value, ttl);
+  }
+
+  private CompletionStage<String> setCacheAsync(String key, String value, int ttl) {
+    NearCache.getInstance().invalidate(key);
+    return AsyncRedisCache.set(key, value, ttl)
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    MessageFormat.format("setCache: Exception occurred for the id {0}", key), error);
+              }
+            });
   }
 
   /**
-   * to call get cache
+   * to set cache with the soft expiry of the key family
    *
    * @param key
+   * @param value
+   * @param loadMillis time taken to load the value
    */
-  public String getCache(String key, Map<String,Object> reqContext) {
-    String value = null;
-    Request req = new Request();
-    req.setOperation(ActorOperations.GET_CACHE.getValue());
-    req.getRequest().put(JsonKey.KEY, key);
-    req.setHeaders(headerMap);
-    try {
-      Object object =
-          getResponse(
-              Application.getInstance().getActorRef(ActorOperations.GET_CACHE.getValue()), req, reqContext);
-      if (object instanceof Response) {
-        Response response = (Response) object;
-        value = (String) response.get(JsonKey.VALUE);
-      } else if (object instanceof Exception) {
-        logger.error(reqContext, MessageFormat.format("getCache: Exception occurred with error message =  {0}", object));
-      }
-    } catch (Exception e) {
-      logger.error(reqContext,MessageFormat.format("getCache: Exception occurred with error message =  {0}", e.getMessage()));
-    }
-    return value;
+  public void setCache(String key, String value, CachePolicy policy, long loadMillis) {
+    setCacheAsync(key, value, policy, loadMillis);
   }
 
-  private Object getResponse(ActorRef actorRef, Request request, Map<String,Object> reqContext) {
-    try {
-      return Await.result(getFuture(actorRef, request), timeout.duration());
-    } catch (Exception e) {
-      logger.error(reqContext,MessageFormat.format("getResponse: Exception occurred with error message =  {0}", e.getMessage()));
+  private CompletionStage<String> setCacheAsync(
+      String key, String value, CachePolicy policy, long loadMillis) {
+    if (policy.isRevalidated()) {
+      value =
+          CacheEntry.format(
+              value,
+              System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(policy.getSoftTtl()),
+              loadMillis);
     }
-    return null;
+    return setCacheAsync(key, value, policy.getTtl());
   }
 
-  private Future<Object> getFuture(ActorRef actorRef, Request request) {
-    return Patterns.ask(actorRef, request, timeout);
+  /**
+   * to get cache without blocking, the near cache is checked before redis
+   *
+   * @param key
+   * @return stage of the value, of null if missing or not read in time
+   */
+  public CompletionStage<String> getCacheAsync(String key, Map<String, Object> reqContext) {
+    return getRawCacheAsync(key, reqContext)
+        .thenApply(
+            data -> {
+              CacheEntry entry = CacheEntry.parse(data);
+              return null == entry ? null : entry.getValue();
+            });
+  }
+
+  /**
+   * to get cache for a key of the family, a stale value is returned and refreshed in the
+   * background with the loader
+   *
+   * @param key
+   * @param loader reads the value from DB
+   * @return stage of the value, of null if missing or not read in time
+   */
+  public CompletionStage<String> getCacheAsync(
+      String key, CachePolicy policy, SingleFlight.Loader loader, Map<String, Object> reqContext) {
+    sampleHotKey(key, policy);
+    return getRawCacheAsync(key, reqContext)
+        .thenApply(
+            data -> {
+              CacheEntry entry = CacheEntry.parse(data);
+              if (null == entry) {
+                return null;
+              }
+              refreshIfStale(key, entry, policy, loader, reqContext);
+              return entry.getValue();
+            });
+  }
+
+  /**
+   * to load a value missing in cache and set it, concurrent loads of the key share one. The value
+   * is not set if the key was deleted while it was loaded.
+   *
+   * @param key
+   * @param loader reads the value from DB
+   * @return stage of the loaded value
+   */
+  public CompletionStage<String> loadCacheAsync(
+      String key, CachePolicy policy, SingleFlight.Loader loader, Map<String, Object> reqContext) {
+    return SingleFlight.getInstance()
+        .load(
+            key,
+            loader,
+            new SingleFlight.Store() {
+              @Override
+              public CompletionStage<?> store(String value, long loadMillis) {
+                return setCacheAsync(key, value, policy, loadMillis);
+              }
+
+              @Override
+              public void evict() {
+                NearCache.getInstance().invalidate(key);
+                AsyncRedisCache.del(key)
+                    .whenComplete(
+                        (result, error) -> {
+                          if (null != error) {
+                            logger.error(
+                                MessageFormat.format(
+                                    "evict: Exception occurred for the id {0}", key),
+                                error);
+                          }
+                        });
+              }
+            },
+            reqContext);
+  }
+
+  /**
+   * to get cache for many keys of the family with one MGET, stale values are returned and refreshed
+   * in the background with the loader of their key
+   *
+   * @param keys
+   * @param loaders gives the loader reading the value of a key from DB
+   * @return stage of the values by key, keys not present in cache are left out
+   */
+  public CompletionStage<Map<String, String>> getCachesAsync(
+      List<String> keys,
+      CachePolicy policy,
+      Function<String, SingleFlight.Loader> loaders,
+      Map<String, Object> reqContext) {
+    return getRawCachesAsync(keys, reqContext)
+        .thenApply(
+            values -> {
+              values.replaceAll(
+                  (key, data) -> {
+                    CacheEntry entry = CacheEntry.parse(data);
+                    refreshIfStale(key, entry, policy, loaders.apply(key), reqContext);
+                    return entry.getValue();
+                  });
+              return values;
+            });
+  }
+
+  private CompletionStage<Map<String, String>> getRawCachesAsync(
+      List<String> keys, Map<String, Object> reqContext) {
+    Map<String, String> values = new HashMap<>();
+    List<String> missingKeys = new ArrayList<>();
+    for (String key : keys) {
+      String value = NearCache.getInstance().get(key);
+      if (null != value) {
+        values.put(key, value);
+      } else {
+        missingKeys.add(key);
+      }
+    }
+    if (missingKeys.isEmpty()) {
+      return CompletableFuture.completedFuture(values);
+    }
+    return withTimeout(AsyncRedisCache.mget(missingKeys), reqContext)
+        .handle(
+            (data, error) -> {
+              if (null != error) {
+                logger.error(reqContext,MessageFormat.format("getCaches: Exception occurred with error message =  {0}", error.getMessage()));
+                return values;
+              }
+              for (int i = 0; i < missingKeys.size() && i < data.size(); i++) {
+                if (StringUtils.isNotEmpty(data.get(i))) {
+                  values.put(missingKeys.get(i), data.get(i));
+                  NearCache.getInstance().put(missingKeys.get(i), data.get(i));
+                }
+              }
+              return values;
+            });
   }
 
   /**
@@ -117,18 +276,207 @@ public class CacheUtil {
    * @param key
    */
   public void delCache(String key) {
-    Request req = new Request();
-    req.setOperation(ActorOperations.DEL_CACHE.getValue());
-    req.getRequest().put(JsonKey.KEY, key);
-    req.setHeaders(headerMap);
-    Application.getInstance()
-        .getActorRef(ActorOperations.DEL_CACHE.getValue())
-        .tell(req, ActorRef.noSender());
+    NearCache.getInstance().invalidate(key);
+    SingleFlight.getInstance().forget(key);
+    AsyncRedisCache.del(key)
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    MessageFormat.format("delCache: Exception occurred for the id {0}", key), error);
+              }
+            });
+  }
+
+  /**
+   * to call del cache for many keys, all keys are sent with one DEL
+   *
+   * @param keys
+   */
+  public void delCache(List<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    keys.forEach(
+        key -> {
+          NearCache.getInstance().invalidate(key);
+          SingleFlight.getInstance().forget(key);
+        });
+    AsyncRedisCache.del(keys.toArray(new String[0]))
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    MessageFormat.format("delCache: Exception occurred for the ids {0}", keys), error);
+              }
+            });
   }
 
   public void deleteCacheSync(String key, Map<String,Object> reqContext) {
-    logger.info(reqContext,MessageFormat.format("delete cache in sync from redis for the id {0}", key));
-    RedisCache.delete(
-        JavaConverters.asScalaIteratorConverter(Arrays.asList(key).iterator()).asScala().toSeq());
+    deleteCacheAsync(key, reqContext).toCompletableFuture().join();
+  }
+
+  public void deleteCacheSync(List<String> keys, Map<String,Object> reqContext) {
+    deleteCacheAsync(keys, reqContext).toCompletableFuture().join();
+  }
+
+  /**
+   * to del cache and get a stage completing once redis deleted the key
+   *
+   * @param key
+   */
+  public CompletionStage<Long> deleteCacheAsync(String key, Map<String, Object> reqContext) {
+    logger.info(reqContext,MessageFormat.format("delete cache from redis for the id {0}", key));
+    NearCache.getInstance().invalidate(key);
+    SingleFlight.getInstance().forget(key);
+    return AsyncRedisCache.del(key);
+  }
+
+  /**
+   * to del cache for many keys with one DEL and get a stage completing once redis deleted them
+   *
+   * @param keys
+   */
+  public CompletionStage<Long> deleteCacheAsync(List<String> keys, Map<String, Object> reqContext) {
+    logger.info(reqContext,MessageFormat.format("delete cache from redis for the ids {0}", keys));
+    keys.forEach(
+        key -> {
+          NearCache.getInstance().invalidate(key);
+          SingleFlight.getInstance().forget(key);
+        });
+    return AsyncRedisCache.del(keys.toArray(new String[0]));
+  }
+
+  /**
+   * to bump the version of the group, cached group lists recording an older version of the group
+   * are read as stale. The version is kept without ttl, once expired it could count up again to a
+   * version recorded in a cached group list.
+   *
+   * @param groupId
+   */
+  public void incrementGroupVersion(String groupId, Map<String, Object> reqContext) {
+    incrementGroupVersionAsync(groupId, reqContext).toCompletableFuture().join();
+  }
+
+  /**
+   * Non blocking version of incrementGroupVersion.
+   *
+   * @param groupId
+   * @return stage of the new version
+   */
+  public CompletionStage<Long> incrementGroupVersionAsync(
+      String groupId, Map<String, Object> reqContext) {
+    logger.info(reqContext,MessageFormat.format("increment version in redis for the group {0}", groupId));
+    return AsyncRedisCache.incr(getGroupVersionKey(groupId));
+  }
+
+  /**
+   * to get the versions of the groups with one MGET, the near cache is skipped so a bumped version
+   * is seen by the next read
+   *
+   * @param groupIds
+   * @return stage of the versions by groupId, groups never bumped or not read are left out
+   */
+  public CompletionStage<Map<String, Long>> getGroupVersionsAsync(
+      List<String> groupIds, Map<String, Object> reqContext) {
+    Map<String, Long> versions = new HashMap<>();
+    if (groupIds.isEmpty()) {
+      return CompletableFuture.completedFuture(versions);
+    }
+    return withTimeout(
+            AsyncRedisCache.mget(
+                groupIds.stream().map(CacheUtil::getGroupVersionKey).collect(Collectors.toList())),
+            reqContext)
+        .handle(
+            (data, error) -> {
+              if (null != error) {
+                logger.error(reqContext,MessageFormat.format("getGroupVersions: Exception occurred with error message =  {0}", error.getMessage()));
+                return versions;
+              }
+              for (int i = 0; i < groupIds.size() && i < data.size(); i++) {
+                if (NumberUtils.isDigits(data.get(i))) {
+                  versions.put(groupIds.get(i), Long.parseLong(data.get(i)));
+                }
+              }
+              return versions;
+            });
+  }
+
+  private CompletionStage<String> getRawCacheAsync(String key, Map<String, Object> reqContext) {
+    return withTimeout(getRawCacheAsync(key), reqContext)
+        .exceptionally(
+            error -> {
+              logger.error(reqContext,MessageFormat.format("getCache: Exception occurred with error message =  {0}", error.getMessage()));
+              return null;
+            });
+  }
+
+  /** Fails the stage with a TimeoutException if redis did not answer before the deadline. */
+  private static <T> CompletableFuture<T> withTimeout(
+      CompletionStage<T> stage, Map<String, Object> reqContext) {
+    return stage
+        .toCompletableFuture()
+        .orTimeout(
+            Math.max(0, Deadline.remainingMillis(reqContext, TIMEOUT_MILLIS)),
+            TimeUnit.MILLISECONDS);
+  }
+
+  private CompletionStage<String> getRawCacheAsync(String key) {
+    String value = NearCache.getInstance().get(key);
+    if (null != value) {
+      return CompletableFuture.completedFuture(value);
+    }
+    return AsyncRedisCache.get(key)
+        .thenApply(
+            data -> {
+              NearCache.getInstance().put(key, data);
+              return data;
+            });
+  }
+
+  /**
+   * Counts a share of cache_hot_key_sample_rate of the reads under family:key in the hot keys of
+   * the hour, read by CacheWarmer when a node starts.
+   */
+  private void sampleHotKey(String key, CachePolicy policy) {
+    if (hotKeySampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= hotKeySampleRate) {
+      return;
+    }
+    AsyncRedisCache.zincrby(
+            getHotKeysKey(TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis())),
+            policy.getName() + ":" + key,
+            HOT_KEYS_TTL_SECONDS)
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    MessageFormat.format("sampleHotKey: Exception occurred for the id {0}", key),
+                    error);
+              }
+            });
+  }
+
+  private void refreshIfStale(
+      String key,
+      CacheEntry entry,
+      CachePolicy policy,
+      SingleFlight.Loader loader,
+      Map<String, Object> reqContext) {
+    long now = System.currentTimeMillis();
+    boolean stale = entry.isStale(now);
+    if (stale
+        || entry.isEarlyRefresh(
+            now, policy.getBeta(), 1 - ThreadLocalRandom.current().nextDouble())) {
+      // the refresh outlives the request, it must not be cut short by the deadline of the request
+      Map<String, Object> refreshContext =
+          null == reqContext ? new HashMap<>() : new HashMap<>(reqContext);
+      refreshContext.remove(JsonKey.DEADLINE);
+      CacheRefresher.getInstance()
+          .refresh(
+              key,
+              stale,
+              context -> loadCacheAsync(key, policy, loader, context),
+              refreshContext);
+    }
   }
 }
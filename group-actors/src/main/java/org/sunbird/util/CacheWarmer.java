@@ -0,0 +1,212 @@
+package org.sunbird.util;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.pattern.Patterns;
+import org.sunbird.Application;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.models.ActorOperations;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Reads the keys sampled by CacheUtil in the current and the previous hour through the group
+ *     actors when the node starts, so groups, member lists, activity info and group lists are in
+ *     the near cache and in redis before traffic arrives. At most cache_warmup_parallelism reads
+ *     run at a time and the warm-up gives up after cache_warmup_timeout milliseconds. The node is
+ *     ready once the warm-up ended, whether it finished, failed or gave up.
+ */
+public class CacheWarmer {
+
+  private static final int DEFAULT_MAX_KEYS = 500;
+  private static final int DEFAULT_PARALLELISM = 8;
+  private static final long DEFAULT_TIMEOUT_MILLIS = 60000;
+  private static final String DISABLED = "disabled";
+  private static final String PENDING = "pending";
+  private static final String RUNNING = "running";
+  private static final String DONE = "done";
+  private static final String TIMED_OUT = "timedOut";
+  private static final String FAILED = "failed";
+  private static CacheWarmer instance;
+
+  private LoggerUtil logger = new LoggerUtil(CacheWarmer.class);
+
+  private final boolean enabled;
+  private final int maxKeys;
+  private final int parallelism;
+  private final long timeoutMillis;
+  private volatile String state;
+  private volatile boolean ready;
+  private volatile long durationMillis;
+  private final AtomicLong keys = new AtomicLong();
+  private final AtomicLong warmed = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+
+  CacheWarmer(boolean enabled, int maxKeys, int parallelism, long timeoutMillis) {
+    this.enabled = enabled;
+    this.maxKeys = maxKeys;
+    this.parallelism = Math.max(1, parallelism);
+    this.timeoutMillis = timeoutMillis;
+    this.state = enabled ? PENDING : DISABLED;
+    this.ready = !enabled;
+  }
+
+  public static CacheWarmer getInstance() {
+    if (null == instance) {
+      synchronized (CacheWarmer.class) {
+        if (null == instance) {
+          instance =
+              new CacheWarmer(
+                  Boolean.parseBoolean(
+                      PropertiesCache.getInstance().getConfigValue(JsonKey.CACHE_WARMUP_ENABLED)),
+                  (int) getConfigValue(JsonKey.CACHE_WARMUP_MAX_KEYS, DEFAULT_MAX_KEYS),
+                  (int) getConfigValue(JsonKey.CACHE_WARMUP_PARALLELISM, DEFAULT_PARALLELISM),
+                  getConfigValue(JsonKey.CACHE_WARMUP_TIMEOUT, DEFAULT_TIMEOUT_MILLIS));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** Starts the warm-up in the background, it has to be called once the actors are created. */
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    Thread thread = new Thread(this::warmUp, "cache-warmup");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** @return true once the warm-up ended or when it is disabled */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /** @return snapshot of the warm-up progress. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("state", state);
+    stats.put("ready", ready);
+    stats.put("keys", keys.get());
+    stats.put("warmed", warmed.get());
+    stats.put("failures", failures.get());
+    stats.put("durationMs", durationMillis);
+    return stats;
+  }
+
+  private void warmUp() {
+    state = RUNNING;
+    long startTime = System.currentTimeMillis();
+    long deadline = startTime + timeoutMillis;
+    try {
+      List<String> hotKeys = readHotKeys();
+      keys.set(hotKeys.size());
+      Semaphore permits = new Semaphore(parallelism);
+      for (String hotKey : hotKeys) {
+        Request request = createRequest(hotKey);
+        if (null == request) {
+          continue;
+        }
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.MILLISECONDS)) {
+          state = TIMED_OUT;
+          break;
+        }
+        ActorRef actorRef = Application.getInstance().getActorRef(request.getOperation());
+        Patterns.ask(actorRef, request, Duration.ofMillis(remaining))
+            .whenComplete(
+                (result, error) -> {
+                  if (null == error && result instanceof Response) {
+                    warmed.incrementAndGet();
+                  } else {
+                    failures.incrementAndGet();
+                  }
+                  permits.release();
+                });
+      }
+      long remaining = Math.max(0, deadline - System.currentTimeMillis());
+      if (!permits.tryAcquire(parallelism, remaining, TimeUnit.MILLISECONDS)) {
+        state = TIMED_OUT;
+      } else if (RUNNING.equals(state)) {
+        state = DONE;
+      }
+    } catch (InterruptedException e) {
+      state = FAILED;
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      state = FAILED;
+      logger.error("CacheWarmer: Exception occurred while warming up the cache", e);
+    } finally {
+      durationMillis = System.currentTimeMillis() - startTime;
+      ready = true;
+      logger.info(MessageFormat.format("CacheWarmer: warm-up ended {0}", getStats()));
+    }
+  }
+
+  /** @return keys sampled in the current and the previous hour, most read first */
+  private List<String> readHotKeys() throws Exception {
+    long hour = TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    Set<String> hotKeys = new LinkedHashSet<>();
+    for (long sampledHour : new long[] {hour, hour - 1}) {
+      hotKeys.addAll(
+          AsyncRedisCache.zrevrange(CacheUtil.getHotKeysKey(sampledHour), maxKeys)
+              .toCompletableFuture()
+              .get(timeoutMillis, TimeUnit.MILLISECONDS));
+    }
+    List<String> result = new ArrayList<>(hotKeys);
+    return result.size() > maxKeys ? result.subList(0, maxKeys) : result;
+  }
+
+  /**
+   * @param hotKey Sampled key, the family of the key and the key separated by a colon
+   * @return request reading the key through its actor, null for unknown families
+   */
+  static Request createRequest(String hotKey) {
+    String family = StringUtils.substringBefore(hotKey, ":");
+    String key = StringUtils.substringAfter(hotKey, ":");
+    if (StringUtils.isEmpty(key)) {
+      return null;
+    }
+    Request request = new Request();
+    switch (family) {
+      case JsonKey.GROUP:
+        request.setOperation(ActorOperations.READ_GROUP.getValue());
+        request.getRequest().put(JsonKey.GROUP_ID, key);
+        break;
+      case JsonKey.MEMBERS:
+        request.setOperation(ActorOperations.READ_GROUP.getValue());
+        request.getRequest().put(JsonKey.GROUP_ID, StringUtils.removeEnd(key, "_" + JsonKey.MEMBERS));
+        request.getRequest().put(JsonKey.FIELDS, Arrays.asList(JsonKey.MEMBERS));
+        break;
+      case JsonKey.USER:
+        Map<String, Object> filters = new HashMap<>();
+        filters.put(JsonKey.USER_ID, key);
+        request.setOperation(ActorOperations.SEARCH_GROUP.getValue());
+        request.getRequest().put(JsonKey.FILTERS, filters);
+        break;
+      default:
+        return null;
+    }
+    return request;
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    String value = PropertiesCache.getInstance().getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+}
@@ -0,0 +1,181 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Admits the requests of each operation up to a limit adapted to the observed latency. The
+ *     limit grows by one per limit requests completed while the short term average latency stays
+ *     within concurrency_limit_latency_tolerance times the long term average, and shrinks by a
+ *     tenth, at most once per short term latency, when it does not or a request timed out or was
+ *     shed downstream. Requests over the limit are meant to be rejected at once with too many
+ *     requests instead of queueing in the actor mailboxes.
+ */
+public class ConcurrencyLimiter {
+
+  private static final int DEFAULT_INITIAL_LIMIT = 20;
+  private static final int DEFAULT_MIN_LIMIT = 4;
+  private static final int DEFAULT_MAX_LIMIT = 200;
+  private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+  private static final int DEFAULT_RETRY_AFTER = 1;
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final int SHORT_WINDOW = 10;
+  private static final int LONG_WINDOW = 500;
+  private static ConcurrencyLimiter instance;
+
+  private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+  private final int retryAfter;
+
+  ConcurrencyLimiter(
+      boolean enabled,
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double latencyTolerance,
+      int retryAfter) {
+    this.enabled = enabled;
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.initialLimit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    this.latencyTolerance = Math.max(1.0, latencyTolerance);
+    this.retryAfter = Math.max(1, retryAfter);
+  }
+
+  public static ConcurrencyLimiter getInstance() {
+    if (null == instance) {
+      synchronized (ConcurrencyLimiter.class) {
+        if (null == instance) {
+          PropertiesCache cache = PropertiesCache.getInstance();
+          instance =
+              new ConcurrencyLimiter(
+                  !"false".equalsIgnoreCase(cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_ENABLED)),
+                  NumberUtils.toInt(
+                      cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_INITIAL), DEFAULT_INITIAL_LIMIT),
+                  NumberUtils.toInt(
+                      cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_MIN), DEFAULT_MIN_LIMIT),
+                  NumberUtils.toInt(
+                      cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_MAX), DEFAULT_MAX_LIMIT),
+                  NumberUtils.toDouble(
+                      cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_LATENCY_TOLERANCE),
+                      DEFAULT_LATENCY_TOLERANCE),
+                  NumberUtils.toInt(
+                      cache.getConfigValue(JsonKey.CONCURRENCY_LIMIT_RETRY_AFTER),
+                      DEFAULT_RETRY_AFTER));
+        }
+      }
+    }
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** @return seconds a rejected client is asked to wait before retrying */
+  public int getRetryAfter() {
+    return retryAfter;
+  }
+
+  /**
+   * @param operation Operation of the request
+   * @return limit of the operation, created on first use
+   */
+  public Limit getLimit(String operation) {
+    return limits.computeIfAbsent(operation, key -> new Limit());
+  }
+
+  /** @return limit, requests in flight, admitted, rejected and latencies per operation. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("enabled", enabled);
+    Map<String, Object> operations = new HashMap<>();
+    limits.forEach((operation, limit) -> operations.put(operation, limit.getStats()));
+    stats.put("operations", operations);
+    return stats;
+  }
+
+  /** Limit of the requests in flight of one operation. */
+  public class Limit {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile double limit = initialLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long lastBackoffNanos = System.nanoTime();
+
+    /** @return true if the request is admitted, it must then be released once it completed */
+    public boolean tryAcquire() {
+      while (true) {
+        int current = inFlight.get();
+        if (current >= (int) limit) {
+          rejected.incrementAndGet();
+          return false;
+        }
+        if (inFlight.compareAndSet(current, current + 1)) {
+          accepted.incrementAndGet();
+          return true;
+        }
+      }
+    }
+
+    /**
+     * @param startNanos System.nanoTime() when the request was admitted
+     * @param isDropped true if the request timed out or was shed downstream
+     */
+    public void release(long startNanos, boolean isDropped) {
+      long now = System.nanoTime();
+      int current = inFlight.getAndDecrement();
+      if (isDropped) {
+        dropped.incrementAndGet();
+      }
+      update(now, now - startNanos, current, isDropped);
+    }
+
+    private synchronized void update(long now, long rttNanos, int current, boolean isDropped) {
+      if (0 == longRttNanos) {
+        shortRttNanos = rttNanos;
+        longRttNanos = rttNanos;
+      } else {
+        shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+      }
+      double newLimit = limit;
+      if (isDropped || shortRttNanos > longRttNanos * latencyTolerance) {
+        if (now - lastBackoffNanos >= shortRttNanos) {
+          newLimit = limit * BACKOFF_RATIO;
+          lastBackoffNanos = now;
+        }
+      } else if (current * 2 >= limit) {
+        // only grow while the limit is used, idle periods do not raise it
+        newLimit = limit + 1.0 / limit;
+      }
+      limit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+    }
+
+    private synchronized Map<String, Object> getStats() {
+      Map<String, Object> stats = new HashMap<>();
+      stats.put("limit", (int) limit);
+      stats.put("inFlight", inFlight.get());
+      stats.put("accepted", accepted.get());
+      stats.put("rejected", rejected.get());
+      stats.put("dropped", dropped.get());
+      stats.put("shortLatencyMicros", TimeUnit.NANOSECONDS.toMicros((long) shortRttNanos));
+      stats.put("longLatencyMicros", TimeUnit.NANOSECONDS.toMicros((long) longRttNanos));
+      return stats;
+    }
+  }
+}
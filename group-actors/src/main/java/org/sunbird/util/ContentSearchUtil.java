@@ -48,7 +48,10 @@ public class ContentSearchUtil implements SearchServiceUtil {
     request.getRequest().put(JsonKey.FIELDS, fields);
     request.getRequest().put(JsonKey.FILTERS, filters);
     setTraceIdInHeader(headers, reqContext);
-    String response = HttpClientUtil.post(contentSearchURL, objectMapper.writeValueAsString(request), headers,reqContext);
+    String requestBody = objectMapper.writeValueAsString(request);
+    String response =
+        Bulkhead.get(Bulkhead.CONTENT_SERVICE)
+            .call(() -> HttpClientUtil.post(contentSearchURL, requestBody, headers, reqContext));
     if (StringUtils.isNotBlank(response)) {
       JsonNode jsonNode = objectMapper.readTree(response);
       if (null != jsonNode.get(JsonKey.RESULT)) {
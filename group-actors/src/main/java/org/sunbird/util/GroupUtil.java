@@ -35,6 +35,32 @@ public class GroupUtil {
     }
   }
 
+  /**
+   * Maps the role and visited flag of the user by group id
+   *
+   * @param dbResMembers rows with groupId, role and visited
+   * @return
+   */
+  public static Map<String, Map<String, Object>> getGroupDetailsMapByUser(
+      List<Map<String, Object>> dbResMembers) {
+    Map<String, Map<String, Object>> groupDetailMap = new HashMap<>();
+    dbResMembers.forEach(
+        map -> {
+          Map<String, Object> groupDetails = new HashMap<>();
+          groupDetails.put(JsonKey.ROLE, map.get(JsonKey.ROLE));
+          groupDetails.put(JsonKey.VISITED, map.get(JsonKey.VISITED));
+          groupDetailMap.put((String) map.get(JsonKey.GROUP_ID), groupDetails);
+        });
+    return groupDetailMap;
+  }
+
+  public static List<String> getGroupIds(List<Map<String, Object>> dbResMembers) {
+    return dbResMembers
+        .stream()
+        .map(map -> (String) map.get(JsonKey.GROUP_ID))
+        .collect(Collectors.toList());
+  }
+
   public static String convertTimestampToUTC(long timeInMs) {
     Date date = new Date(timeInMs);
     SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSSZ");
@@ -0,0 +1,155 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Bounded on-heap cache in front of redis. Entries expire after near_cache_ttl milliseconds
+ *     and the least recently used entry is evicted once near_cache_max_size entries are held, so a
+ *     value changed on another node is served stale for at most the ttl. A max size of 0 turns the
+ *     cache off.
+ */
+public class NearCache {
+
+  private static final int DEFAULT_MAX_SIZE = 1000;
+  private static final long DEFAULT_TTL_MILLIS = 30000;
+  private static NearCache instance;
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final Map<String, Entry> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong expirations = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  NearCache(int maxSize, long ttlMillis) {
+    this.maxSize = maxSize;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.entries =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > NearCache.this.maxSize) {
+              evictions.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  public static NearCache getInstance() {
+    if (null == instance) {
+      synchronized (NearCache.class) {
+        if (null == instance) {
+          instance =
+              new NearCache(
+                  getConfigValue(JsonKey.NEAR_CACHE_MAX_SIZE, DEFAULT_MAX_SIZE),
+                  getConfigValue(JsonKey.NEAR_CACHE_TTL, DEFAULT_TTL_MILLIS));
+        }
+      }
+    }
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0 && ttlNanos > 0;
+  }
+
+  /**
+   * @param key Cache key
+   * @return cached value, null when absent or expired
+   */
+  public String get(String key) {
+    if (!isEnabled()) {
+      return null;
+    }
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (null != entry && entry.isExpired()) {
+        entries.remove(key);
+        expirations.incrementAndGet();
+        entry = null;
+      }
+    }
+    if (null == entry) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return entry.value;
+  }
+
+  public void put(String key, String value) {
+    if (!isEnabled() || StringUtils.isEmpty(value)) {
+      return;
+    }
+    synchronized (entries) {
+      entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+    }
+  }
+
+  public void invalidate(String key) {
+    if (!isEnabled()) {
+      return;
+    }
+    synchronized (entries) {
+      if (null != entries.remove(key)) {
+        invalidations.incrementAndGet();
+      }
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /** @return snapshot of the cache counters. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("enabled", isEnabled());
+    stats.put("size", size());
+    stats.put("maxSize", maxSize);
+    stats.put("ttlMs", TimeUnit.NANOSECONDS.toMillis(ttlNanos));
+    stats.put("hits", hits.get());
+    stats.put("misses", misses.get());
+    stats.put("evictions", evictions.get());
+    stats.put("expirations", expirations.get());
+    stats.put("invalidations", invalidations.get());
+    return stats;
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    return (int) getConfigValue(key, (long) defaultValue);
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    String value = PropertiesCache.getInstance().getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+
+  private static class Entry {
+    private final String value;
+    private final long expiresAt;
+
+    private Entry(String value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - expiresAt > 0;
+    }
+  }
+}
@@ -42,8 +42,9 @@ public class NotificationService {
             String notificationStrReq = objectMapper.writeValueAsString(request);
             logger.info(reqContext,notificationStrReq);
             String response =
-                        HttpClientUtil.post(
-                                notificationServiceBaseUrl + notificationServiceUrl, notificationStrReq, requestHeader,reqContext);
+                        Bulkhead.get(Bulkhead.NOTIFICATION).call(() ->
+                                HttpClientUtil.post(
+                                        notificationServiceBaseUrl + notificationServiceUrl, notificationStrReq, requestHeader,reqContext));
 
         } catch (JsonProcessingException ex) {
             logger.error(reqContext,"Error sending notifications",ex);
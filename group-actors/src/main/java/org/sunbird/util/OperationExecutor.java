@@ -0,0 +1,194 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Runs the group operations the actors pipe to their sender, off the actor dispatcher. At
+ *     most operation_max_in_flight operations run at once on a node and up to
+ *     operation_queue_size more wait for a thread, operations beyond are rejected with service
+ *     unavailable. The requests in flight are bounded here instead of by the routees of each actor.
+ *     Operations composed of non blocking stages are admitted without taking a thread, at most
+ *     operation_max_async_in_flight of them are in flight at once, they only hand the blocking steps
+ *     they cannot compose, like http calls, to the executor.
+ */
+public class OperationExecutor {
+
+  private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+  private static final int DEFAULT_MAX_ASYNC_IN_FLIGHT = 1000;
+  private static OperationExecutor instance;
+
+  private final ThreadPoolExecutor executor;
+  private final int maxInFlight;
+  private final int maxAsyncInFlight;
+  private final AtomicInteger asyncInFlight = new AtomicInteger();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong asyncRejected = new AtomicLong();
+
+  /** Operation run by the executor. */
+  public interface Task {
+    void run() throws Exception;
+  }
+
+  /** Operation composed of non blocking stages, its stage completes with the result. */
+  public interface AsyncTask<T> {
+    CompletionStage<T> run() throws Exception;
+  }
+
+  OperationExecutor(int maxInFlight, int queueSize, int maxAsyncInFlight) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.maxAsyncInFlight = Math.max(1, maxAsyncInFlight);
+    this.executor =
+        new ThreadPoolExecutor(
+            this.maxInFlight,
+            this.maxInFlight,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+            runnable -> {
+              Thread thread = new Thread(runnable, "group-operation-" + threadCount.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public static OperationExecutor getInstance() {
+    if (null == instance) {
+      synchronized (OperationExecutor.class) {
+        if (null == instance) {
+          instance =
+              new OperationExecutor(
+                  NumberUtils.toInt(
+                      PropertiesCache.getInstance().getConfigValue(JsonKey.OPERATION_MAX_IN_FLIGHT),
+                      DEFAULT_MAX_IN_FLIGHT),
+                  NumberUtils.toInt(
+                      PropertiesCache.getInstance().getConfigValue(JsonKey.OPERATION_QUEUE_SIZE),
+                      DEFAULT_QUEUE_SIZE),
+                  NumberUtils.toInt(
+                      PropertiesCache.getInstance()
+                          .getConfigValue(JsonKey.OPERATION_MAX_ASYNC_IN_FLIGHT),
+                      DEFAULT_MAX_ASYNC_IN_FLIGHT));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param task Runs the operation
+   * @return completes once the task ran, exceptionally with the exception it threw or with service
+   *     unavailable if the task did not fit the queue
+   */
+  public CompletableFuture<Void> submit(Task task) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              task.run();
+              completed.incrementAndGet();
+              future.complete(null);
+            } catch (Throwable e) {
+              failed.incrementAndGet();
+              future.completeExceptionally(e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      future.completeExceptionally(serviceUnavailable());
+    }
+    return future;
+  }
+
+  /**
+   * Runs a blocking step of a composed operation on the executor.
+   *
+   * @param callable Runs the step
+   * @return completes with the result of the step, exceptionally as the future of submit
+   */
+  public <T> CompletableFuture<T> supply(Callable<T> callable) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    submit(() -> future.complete(callable.call()))
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                future.completeExceptionally(error);
+              }
+            });
+    return future;
+  }
+
+  /**
+   * Starts the composed operation on the calling thread, no thread waits for its stages.
+   *
+   * @param task Composes the operation
+   * @return completes with the result of the operation, exceptionally with its failure or with
+   *     service unavailable if operation_max_async_in_flight operations are in flight already
+   */
+  public <T> CompletableFuture<T> admit(AsyncTask<T> task) {
+    if (asyncInFlight.incrementAndGet() > maxAsyncInFlight) {
+      asyncInFlight.decrementAndGet();
+      asyncRejected.incrementAndGet();
+      return CompletableFuture.failedFuture(serviceUnavailable());
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    CompletionStage<T> stage;
+    try {
+      stage = task.run();
+    } catch (Throwable e) {
+      stage = CompletableFuture.failedFuture(e);
+    }
+    stage.whenComplete(
+        (result, error) -> {
+          asyncInFlight.decrementAndGet();
+          if (null != error) {
+            failed.incrementAndGet();
+            future.completeExceptionally(error);
+          } else {
+            completed.incrementAndGet();
+            future.complete(result);
+          }
+        });
+    return future;
+  }
+
+  private static BaseException serviceUnavailable() {
+    return new BaseException(
+        ResponseCode.serviceUnAvailable.getErrorCode(),
+        ResponseCode.serviceUnAvailable.getErrorMessage(),
+        ResponseCode.SERVICE_UNAVAILABLE.getCode());
+  }
+
+  /** @return snapshot of the operations running, waiting and ended. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("maxInFlight", maxInFlight);
+    stats.put("inFlight", executor.getActiveCount());
+    stats.put("queued", executor.getQueue().size());
+    stats.put("completed", completed.get());
+    stats.put("failed", failed.get());
+    stats.put("rejected", rejected.get());
+    stats.put("maxAsyncInFlight", maxAsyncInFlight);
+    stats.put("asyncInFlight", asyncInFlight.get());
+    stats.put("asyncRejected", asyncRejected.get());
+    return stats;
+  }
+}
@@ -0,0 +1,347 @@
+package org.sunbird.util;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.common.request.Deadline;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Coalesces concurrent loads of the same cache key on a cache miss. The first caller runs the
+ *     loader, callers missing the same key while it runs wait up to single_flight_timeout
+ *     milliseconds, or the time left before the deadline of their request, for its value instead
+ *     of loading it again. With single_flight_lock_enabled a redis lock held for at most
+ *     single_flight_lock_ttl milliseconds extends this across nodes, a node that does not get the
+ *     lock polls the cache for the value written by the lock holder. The loader must return the
+ *     value it caches under the key, callers get it as the serialized string so each of them
+ *     deserializes its own copy. No thread waits for a load, callers get a stage completed by the
+ *     loading one and the lock is polled from a delayed executor. A value loaded by a flight whose
+ *     key was invalidated while it ran is not cached, as it may have been read before the change.
+ */
+public class SingleFlight {
+
+  private static final long DEFAULT_TIMEOUT_MILLIS = 10000;
+  private static final long DEFAULT_LOCK_TTL_MILLIS = 3000;
+  private static final long LOCK_POLL_MILLIS = 50;
+  private static final String LOCK_SUFFIX = "_lock";
+  private static SingleFlight instance;
+
+  private LoggerUtil logger = new LoggerUtil(SingleFlight.class);
+
+  private final long timeoutMillis;
+  private final boolean lockEnabled;
+  private final long lockTtlMillis;
+  private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong waiters = new AtomicLong();
+  private final AtomicLong waitTimeouts = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong lockWaits = new AtomicLong();
+  private final AtomicLong lockHits = new AtomicLong();
+  private final AtomicLong staleLoads = new AtomicLong();
+
+  /**
+   * Loads the value of a key missing in cache, the stage completes with the value. The load runs
+   * under the given request context, not the context of the request that built the loader.
+   */
+  public interface Loader {
+    CompletionStage<String> load(Map<String, Object> reqContext) throws Exception;
+  }
+
+  /** Caches the values loaded for a key. */
+  public interface Store {
+    /**
+     * @param value Value loaded for the key, not empty
+     * @param loadMillis Time taken to load the value
+     * @return stage completing once the value is cached
+     */
+    CompletionStage<?> store(String value, long loadMillis);
+
+    /** Drops the value cached by a load whose key was invalidated while it was being cached. */
+    void evict();
+  }
+
+  /**
+   * Load of a key shared by its callers, forgotten once the key is invalidated. It stays in flight
+   * until its value is cached, so an invalidation racing the write still finds it.
+   */
+  private static class Flight {
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private volatile CompletionStage<?> stored;
+    private volatile boolean forgotten;
+  }
+
+  SingleFlight(long timeoutMillis, boolean lockEnabled, long lockTtlMillis) {
+    this.timeoutMillis = timeoutMillis;
+    this.lockEnabled = lockEnabled;
+    this.lockTtlMillis = lockTtlMillis;
+  }
+
+  public static SingleFlight getInstance() {
+    if (null == instance) {
+      synchronized (SingleFlight.class) {
+        if (null == instance) {
+          instance =
+              new SingleFlight(
+                  getConfigValue(JsonKey.SINGLE_FLIGHT_TIMEOUT, DEFAULT_TIMEOUT_MILLIS),
+                  Boolean.parseBoolean(
+                      PropertiesCache.getInstance()
+                          .getConfigValue(JsonKey.SINGLE_FLIGHT_LOCK_ENABLED)),
+                  getConfigValue(JsonKey.SINGLE_FLIGHT_LOCK_TTL, DEFAULT_LOCK_TTL_MILLIS));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param key Cache key missed by the caller
+   * @param loader Reads the value from the source and caches it under the key
+   * @return stage of the value loaded by this caller or by the caller already loading the key,
+   *     waiting callers get the failure of the loading one
+   */
+  public CompletionStage<String> load(String key, Loader loader, Map<String, Object> reqContext) {
+    return load(key, loader, null, reqContext);
+  }
+
+  /**
+   * @param key Cache key missed by the caller
+   * @param loader Reads the value from the source
+   * @param store Caches the value read by the loader, unless the key was invalidated meanwhile
+   * @return stage of the value loaded by this caller or by the caller already loading the key,
+   *     waiting callers get the failure of the loading one
+   */
+  public CompletionStage<String> load(
+      String key, Loader loader, Store store, Map<String, Object> reqContext) {
+    Flight flight = new Flight();
+    Flight running = flights.putIfAbsent(key, flight);
+    if (null != running) {
+      return await(key, running.result, loader, reqContext);
+    }
+    loads.incrementAndGet();
+    Loader flightLoader = null == store ? loader : storingLoader(flight, loader, store);
+    CompletionStage<String> load =
+        lockEnabled ? loadWithLock(key, flightLoader, reqContext) : start(flightLoader, reqContext);
+    load.whenComplete(
+        (value, error) -> {
+          if (null != error) {
+            failures.incrementAndGet();
+            flight.result.completeExceptionally(unwrap(error));
+          } else {
+            flight.result.complete(value);
+          }
+          CompletionStage<?> stored = flight.stored;
+          if (null == stored) {
+            flights.remove(key, flight);
+          } else {
+            stored.whenComplete((result, storeError) -> flights.remove(key, flight));
+          }
+        });
+    return flight.result.copy();
+  }
+
+  /**
+   * Callers missing the key after it was invalidated start a new load instead of waiting for the
+   * one that may have read the value before the change, the value of that load is not cached.
+   *
+   * @param key Cache key
+   */
+  public void forget(String key) {
+    Flight flight = flights.remove(key);
+    if (null != flight) {
+      flight.forgotten = true;
+    }
+  }
+
+  /** @return snapshot of the coalescing counters. */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("inFlight", flights.size());
+    stats.put("timeoutMs", timeoutMillis);
+    stats.put("lockEnabled", lockEnabled);
+    stats.put("loads", loads.get());
+    stats.put("waiters", waiters.get());
+    stats.put("waitTimeouts", waitTimeouts.get());
+    stats.put("failures", failures.get());
+    stats.put("lockWaits", lockWaits.get());
+    stats.put("lockHits", lockHits.get());
+    stats.put("staleLoads", staleLoads.get());
+    return stats;
+  }
+
+  private CompletionStage<String> await(
+      String key, CompletableFuture<String> running, Loader loader, Map<String, Object> reqContext) {
+    waiters.incrementAndGet();
+    return running
+        .copy()
+        .orTimeout(
+            Math.max(0, Deadline.remainingMillis(reqContext, timeoutMillis)), TimeUnit.MILLISECONDS)
+        .handle(
+            (value, error) -> {
+              if (null == error) {
+                return CompletableFuture.completedFuture(value);
+              }
+              Throwable cause = unwrap(error);
+              if (!(cause instanceof TimeoutException)) {
+                return CompletableFuture.<String>failedFuture(cause);
+              }
+              waitTimeouts.incrementAndGet();
+              Deadline.check(reqContext);
+              logger.info(
+                  reqContext,
+                  MessageFormat.format(
+                      "SingleFlight: load of {0} did not finish in {1} ms, loading it again",
+                      key, timeoutMillis));
+              return start(loader, reqContext);
+            })
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Loads the key holding its redis lock. Without the lock the cache is polled until the value is
+   * written or the lock is released or expires, in which case the lock is taken and the key loaded.
+   */
+  private CompletionStage<String> loadWithLock(
+      String key, Loader loader, Map<String, Object> reqContext) {
+    String lockKey = key + LOCK_SUFFIX;
+    String token = UUID.randomUUID().toString();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    AtomicBoolean locked = new AtomicBoolean();
+    return tryLock(lockKey, token)
+        .thenCompose(
+            acquired -> {
+              if (acquired) {
+                locked.set(true);
+                return CompletableFuture.<String>completedFuture(null);
+              }
+              lockWaits.incrementAndGet();
+              return pollLock(key, lockKey, token, deadline, locked, reqContext);
+            })
+        .exceptionally(
+            error -> {
+              logger.error(
+                  reqContext,
+                  MessageFormat.format(
+                      "SingleFlight: Exception occurred while locking {0}, loading it without lock: {1}",
+                      key, unwrap(error).getMessage()));
+              return null;
+            })
+        .thenCompose(
+            value -> {
+              if (StringUtils.isNotEmpty(value)) {
+                return CompletableFuture.completedFuture(value);
+              }
+              return start(loader, reqContext)
+                  .whenComplete(
+                      (loaded, error) -> {
+                        if (locked.get()) {
+                          AsyncRedisCache.delIfEquals(lockKey, token);
+                        }
+                      });
+            });
+  }
+
+  /** @return stage of the value written by the lock holder, or of null once locked or timed out */
+  private CompletionStage<String> pollLock(
+      String key,
+      String lockKey,
+      String token,
+      long deadline,
+      AtomicBoolean locked,
+      Map<String, Object> reqContext) {
+    if (System.nanoTime() - deadline >= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.runAsync(
+            () -> {}, CompletableFuture.delayedExecutor(LOCK_POLL_MILLIS, TimeUnit.MILLISECONDS))
+        .thenCompose(polled -> new CacheUtil().getCacheAsync(key, reqContext))
+        .thenCompose(
+            value -> {
+              if (StringUtils.isNotEmpty(value)) {
+                lockHits.incrementAndGet();
+                return CompletableFuture.completedFuture(value);
+              }
+              return tryLock(lockKey, token)
+                  .thenCompose(
+                      acquired -> {
+                        if (acquired) {
+                          locked.set(true);
+                          return CompletableFuture.<String>completedFuture(null);
+                        }
+                        return pollLock(key, lockKey, token, deadline, locked, reqContext);
+                      });
+            });
+  }
+
+  private CompletionStage<Boolean> tryLock(String lockKey, String token) {
+    return AsyncRedisCache.setIfAbsent(lockKey, token, (int) lockTtlMillis)
+        .toCompletableFuture()
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Caches the loaded value while the flight is not forgotten. A flight forgotten while its value
+   * was being cached may have written it after the invalidation deleted the key, the value is then
+   * evicted again.
+   */
+  private Loader storingLoader(Flight flight, Loader loader, Store store) {
+    return context -> {
+      long startTime = System.currentTimeMillis();
+      return loader
+          .load(context)
+          .thenApply(
+              value -> {
+                if (StringUtils.isEmpty(value)) {
+                  return value;
+                }
+                if (flight.forgotten) {
+                  staleLoads.incrementAndGet();
+                  return value;
+                }
+                flight.stored =
+                    store
+                        .store(value, System.currentTimeMillis() - startTime)
+                        .whenComplete(
+                            (stored, error) -> {
+                              if (flight.forgotten) {
+                                staleLoads.incrementAndGet();
+                                store.evict();
+                              }
+                            });
+                return value;
+              });
+    };
+  }
+
+  private static CompletionStage<String> start(Loader loader, Map<String, Object> reqContext) {
+    try {
+      return loader.load(reqContext);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && null != error.getCause()
+        ? error.getCause()
+        : error;
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    String value = PropertiesCache.getInstance().getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+}
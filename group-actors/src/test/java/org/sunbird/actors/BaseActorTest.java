@@ -3,26 +3,39 @@ package org.sunbird.actors;
 import static org.powermock.api.mockito.PowerMockito.doNothing;
 import static org.powermock.api.mockito.PowerMockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.testkit.javadsl.TestKit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.apache.commons.collections4.CollectionUtils;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.sunbird.Application;
+import org.sunbird.cache.impl.AsyncRedisCache;
 import org.sunbird.cache.impl.RedisCache;
+import org.sunbird.cassandra.AsyncCassandraOperation;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.message.ResponseCode;
 import org.sunbird.common.response.Response;
 import org.sunbird.common.util.JsonKey;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.models.Group;
+import org.sunbird.models.Member;
 
-@PrepareForTest({Application.class, RedisCache.class})
+@PrepareForTest({Application.class, RedisCache.class, AsyncRedisCache.class})
 public abstract class BaseActorTest {
 
   static ActorSystem system;
@@ -54,6 +67,249 @@ public abstract class BaseActorTest {
     return response;
   }
 
+  /** Converts the rows of a mocked cassandra response the way the typed reads map them. */
+  public static List<Member> getMembers(Response response) {
+    return convertRows(response, Member.class);
+  }
+
+  public static List<Group> getGroups(Response response) {
+    return convertRows(response, Group.class);
+  }
+
+  private static <T> List<T> convertRows(Response response, Class<T> clazz) {
+    List<T> models = new ArrayList<>();
+    List<Map<String, Object>> rows = (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    rows.forEach(row -> models.add(new ObjectMapper().convertValue(row, clazz)));
+    return models;
+  }
+
+  /** Operation answering a mocked cassandra call, the stage fails with what the call throws. */
+  interface Call {
+    Object call() throws Exception;
+  }
+
+  private static Answer<CompletionStage<Object>> delegate(Call call) {
+    return invocation -> {
+      try {
+        return CompletableFuture.completedFuture(call.call());
+      } catch (Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    };
+  }
+
+  /**
+   * Serves the non blocking reads and writes of the DAOs from the mock, each async call answers
+   * with the stub of its blocking version so the tests stub one of them.
+   */
+  public static void mockAsyncCassandra(CassandraOperation cassandraOperation) {
+    AsyncCassandraOperation asyncOperation = (AsyncCassandraOperation) cassandraOperation;
+    when(ServiceFactory.getAsyncInstance()).thenReturn(asyncOperation);
+    when(asyncOperation.getRecordByIdAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              List<String> fields = (List<String>) args[3];
+              return delegate(
+                      () ->
+                          CollectionUtils.isEmpty(fields)
+                              ? cassandraOperation.getRecordById(
+                                  (String) args[0], (String) args[1], (String) args[2], (Map) args[4])
+                              : cassandraOperation.getRecordById(
+                                  (String) args[0],
+                                  (String) args[1],
+                                  (String) args[2],
+                                  fields,
+                                  (Map) args[4]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.getRecordsByIdsWithSpecifiedColumnsAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (List) args[3],
+                              (Map) args[4]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.getRecordsByIdsWithSpecifiedColumnsAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(RowMapper.class),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (List) args[3],
+                              (RowMapper) args[4],
+                              (Map) args[5]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.getRecordsByPrimaryKeysAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.getRecordsByPrimaryKeys(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (String) args[3],
+                              (Map) args[4]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.getRecordsByPrimaryKeysAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(RowMapper.class),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.getRecordsByPrimaryKeys(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (String) args[3],
+                              (RowMapper) args[4],
+                              (Map) args[5]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.getRecordsByPropertiesAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.getRecordsByProperties(
+                              (String) args[0],
+                              (String) args[1],
+                              (Map) args[2],
+                              (List) args[3],
+                              (Map) args[4]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.updateRecordAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.updateRecord(
+                              (String) args[0], (String) args[1], (Map) args[2], (Map) args[3]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.deleteRecordAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.deleteRecord(
+                              (String) args[0], (String) args[1], (String) args[2], (Map) args[3]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.batchInsertAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.batchInsert(
+                              (String) args[0], (String) args[1], (List) args[2], (Map) args[3]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.batchUpdateAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.batchUpdate(
+                              (String) args[0], (String) args[1], (List) args[2], (Map) args[3]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.batchDeleteAsync(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.batchDelete(
+                              (String) args[0], (String) args[1], (List) args[2], (Map) args[3]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.updateAddSetRecordsAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.updateAddSetRecords(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (String) args[3],
+                              args[4],
+                              (Map) args[5]))
+                  .answer(invocation);
+            });
+    when(asyncOperation.updateRemoveSetRecordsAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object[] args = invocation.getArguments();
+              return delegate(
+                      () ->
+                          cassandraOperation.updateRemoveSetRecords(
+                              (String) args[0],
+                              (String) args[1],
+                              (List) args[2],
+                              (String) args[3],
+                              args[4],
+                              (Map) args[5]))
+                  .answer(invocation);
+            });
+  }
+
   public void mockCacheActor() throws Exception {
     ActorSystem actorSystem = ActorSystem.create("system");
     Props props = Props.create(CacheActor.class);
@@ -67,5 +323,21 @@ public abstract class BaseActorTest {
         .when(RedisCache.class, "set", Mockito.anyString(), Mockito.anyString(), Mockito.anyInt());
     doNothing().when(RedisCache.class, "delete", Mockito.anyObject());
     when(RedisCache.get(Mockito.anyString(), Mockito.anyObject(), Mockito.anyInt())).thenReturn("");
+    PowerMockito.mockStatic(AsyncRedisCache.class);
+    when(AsyncRedisCache.set(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt()))
+        .thenReturn(CompletableFuture.completedFuture("OK"));
+    when(AsyncRedisCache.del(Mockito.<String>anyVararg()))
+        .thenReturn(CompletableFuture.completedFuture(1L));
+    when(AsyncRedisCache.get(Mockito.anyString())).thenReturn(CompletableFuture.completedFuture(""));
+    when(AsyncRedisCache.mget(Mockito.anyList()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    new ArrayList<>(
+                        Collections.nCopies(((List) invocation.getArguments()[0]).size(), null))));
+    when(AsyncRedisCache.incr(Mockito.anyString()))
+        .thenReturn(CompletableFuture.completedFuture(1L));
+    when(AsyncRedisCache.zincrby(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt()))
+        .thenReturn(CompletableFuture.completedFuture(1.0));
   }
 }
@@ -0,0 +1,128 @@
+package org.sunbird.actors;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.routing.SmallestMailboxPool;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.apache.pekko.util.Timeout;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.cache.impl.RedisCache;
+import org.sunbird.common.LatencyHistogram;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.models.ActorOperations;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Compares cache reads through CacheActor, an ask answered by a pool of actors each borrowing a
+ * pooled jedis connection, with reads through AsyncRedisCache, which pipelines the gets of all
+ * clients over a few connections. Needs a running redis at the configured redis.host, run it
+ * manually with mvn test -Dtest=CacheReadLoadTest after removing the Ignore annotation.
+ */
+@Ignore
+public class CacheReadLoadTest {
+
+  private static final int CLIENTS = 64;
+  private static final int REQUESTS_PER_CLIENT = 2000;
+  private static final int KEYS = 100;
+  private static final String KEY_PREFIX = "cache-load-test-";
+  private static final Timeout timeout = new Timeout(Duration.create(10, TimeUnit.SECONDS));
+  private static ActorSystem system;
+  private static ActorRef cacheActor;
+  private static ExecutorService clients;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("system");
+    cacheActor = system.actorOf(new SmallestMailboxPool(15).props(Props.create(CacheActor.class)));
+    clients = Executors.newFixedThreadPool(CLIENTS);
+    for (int i = 0; i < KEYS; i++) {
+      RedisCache.set(KEY_PREFIX + i, "{\"id\":\"group-" + i + "\",\"name\":\"group\"}", 300);
+    }
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    RedisCache.deleteByPattern(KEY_PREFIX + "*");
+    clients.shutdownNow();
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void compareCacheReadPaths() throws Exception {
+    run("warmup CacheActor", this::readThroughActor);
+    run("warmup AsyncRedisCache", this::readDirect);
+    run("CacheActor", this::readThroughActor);
+    run("AsyncRedisCache", this::readDirect);
+    System.out.println(MessageFormat.format("AsyncRedisCache stats {0}", AsyncRedisCache.getStats()));
+  }
+
+  private String readThroughActor(String key) throws Exception {
+    Request request = new Request();
+    request.setOperation(ActorOperations.GET_CACHE.getValue());
+    request.getRequest().put(JsonKey.KEY, key);
+    Object response = Await.result(Patterns.ask(cacheActor, request, timeout), timeout.duration());
+    return (String) ((Response) response).get(JsonKey.VALUE);
+  }
+
+  private String readDirect(String key) throws Exception {
+    return AsyncRedisCache.get(key).toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private void run(String name, CacheRead read) throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    List<Future<?>> futures = new ArrayList<>();
+    long startTime = System.nanoTime();
+    for (int client = 0; client < CLIENTS; client++) {
+      int offset = client;
+      futures.add(
+          clients.submit(
+              () -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                  long readStart = System.nanoTime();
+                  String value = read.apply(KEY_PREFIX + ((offset + i) % KEYS));
+                  histogram.recordValue(
+                      TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readStart));
+                  assertNotNull(value);
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    System.out.println(
+        MessageFormat.format(
+            "{0} : {1} clients x {2} reads in {3} ms, {4} reads/s, p50 = {5} us, p99 = {6} us, max = {7} us",
+            name,
+            CLIENTS,
+            REQUESTS_PER_CLIENT,
+            elapsedMillis,
+            histogram.getCount() * 1000 / Math.max(1, elapsedMillis),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(99),
+            histogram.getMax()));
+  }
+
+  private interface CacheRead {
+    String apply(String key) throws Exception;
+  }
+}
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import org.sunbird.Application;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.exception.DBException;
 import org.sunbird.common.message.Localizer;
@@ -92,8 +93,9 @@ public class DeleteGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-          .thenReturn(getMemberResponse());
+          .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.getRecordById(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),Mockito.any()))
           .thenReturn(getGroupsDetailsResponse());
@@ -125,6 +127,7 @@ public class DeleteGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
               .thenThrow(DBException.class);
       when(cassandraOperation.getRecordById(
@@ -159,6 +162,7 @@ public class DeleteGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
               .thenThrow(DBException.class);
       when(cassandraOperation.getRecordById(
@@ -0,0 +1,133 @@
+package org.sunbird.actors;
+
+import static org.junit.Assert.assertNotNull;
+
+import com.typesafe.config.ConfigFactory;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.routing.SmallestMailboxPool;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.apache.pekko.util.Timeout;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.sunbird.actor.core.VirtualThreadExecutorConfigurator;
+import org.sunbird.common.LatencyHistogram;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Compares 200 clients asking 200 actors blocking 20 ms on IO when the actors run on the 64 thread
+ * fork-join group-dispatcher and on the virtual-thread-dispatcher. Virtual threads need JDK 21,
+ * older JDKs run the second pass on the fallback pool. Run it manually with mvn test
+ * -Dtest=DispatcherLoadTest after removing the Ignore annotation.
+ */
+@Ignore
+public class DispatcherLoadTest {
+
+  private static final int CLIENTS = 200;
+  private static final int REQUESTS_PER_CLIENT = 50;
+  private static final int ROUTEES = 200;
+  private static final long IO_MILLIS = 20;
+  private static final Timeout timeout = new Timeout(Duration.create(60, TimeUnit.SECONDS));
+  private static ActorSystem system;
+  private static ExecutorService clients;
+
+  @BeforeClass
+  public static void setUp() {
+    system =
+        ActorSystem.create(
+            "system",
+            ConfigFactory.parseString(
+                "group-dispatcher { type = Dispatcher, executor = fork-join-executor, "
+                    + "fork-join-executor { parallelism-min = 8, parallelism-factor = 32.0, "
+                    + "parallelism-max = 64 }, throughput = 1 }\n"
+                    + "virtual-thread-dispatcher { type = Dispatcher, executor = \""
+                    + VirtualThreadExecutorConfigurator.class.getName()
+                    + "\", virtual-thread-executor { fallback-pool-size = 64 }, throughput = 1 }"));
+    clients = Executors.newFixedThreadPool(CLIENTS);
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    clients.shutdownNow();
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void compareForkJoinAndVirtualThreads() throws Exception {
+    ActorRef forkJoin = createActor("group-dispatcher");
+    ActorRef virtualThreads = createActor("virtual-thread-dispatcher");
+    System.out.println(
+        MessageFormat.format(
+            "virtual threads available: {0}", VirtualThreadExecutorConfigurator.isAvailable()));
+    run("warmup fork-join", forkJoin);
+    run("warmup virtual threads", virtualThreads);
+    run("fork-join", forkJoin);
+    run("virtual threads", virtualThreads);
+  }
+
+  private ActorRef createActor(String dispatcher) {
+    return system.actorOf(
+        new SmallestMailboxPool(ROUTEES)
+            .props(Props.create(BlockingActor.class).withDispatcher(dispatcher)));
+  }
+
+  private void run(String name, ActorRef actorRef) throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    List<Future<?>> futures = new ArrayList<>();
+    long startTime = System.nanoTime();
+    for (int client = 0; client < CLIENTS; client++) {
+      futures.add(
+          clients.submit(
+              () -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                  long requestStart = System.nanoTime();
+                  Request request = new Request();
+                  request.setOperation("loadTest");
+                  Object response =
+                      Await.result(Patterns.ask(actorRef, request, timeout), timeout.duration());
+                  histogram.recordValue(
+                      TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart));
+                  assertNotNull((Response) response);
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    System.out.println(
+        MessageFormat.format(
+            "{0} : {1} clients x {2} requests in {3} ms, {4} requests/s, p50 = {5} us, p99 = {6} us, max = {7} us",
+            name,
+            CLIENTS,
+            REQUESTS_PER_CLIENT,
+            elapsedMillis,
+            histogram.getCount() * 1000 / Math.max(1, elapsedMillis),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(99),
+            histogram.getMax()));
+  }
+
+  public static class BlockingActor extends BaseActor {
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      Thread.sleep(IO_MILLIS);
+      sender().tell(new Response(), self());
+    }
+  }
+}
@@ -37,6 +37,8 @@ public class HealthActorTest extends BaseActorTest {
         subject.tell(reqObj, getRef());
         Response response = expectMsgClass(Duration.ofSeconds(10), Response.class);
         Assert.assertTrue(null != response);
+        Assert.assertNotNull(response.get("cassandraHosts"));
+        Assert.assertNotNull(response.get("cacheWarmUp"));
       }
     };
   }
@@ -0,0 +1,53 @@
+package org.sunbird.actors;
+
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import java.time.Duration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.message.Localizer;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Localizer.class)
+@PowerMockIgnore({"jdk.internal.reflect.*", "javax.management.*"})
+public class MetricsActorTest extends BaseActorTest {
+
+  @Test
+  public void testMetrics() {
+    PowerMockito.mockStatic(Localizer.class);
+    when(Localizer.getInstance()).thenReturn(null);
+    new TestKit(system) {
+      {
+        final Props props = Props.create(MetricsActor.class);
+        final ActorRef subject = system.actorOf(props);
+        final TestKit probe = new TestKit(system);
+        Request reqObj = new Request();
+        reqObj.setHeaders(headerMap);
+        reqObj.setOperation("metrics");
+        subject.tell(reqObj, getRef());
+        Response response = expectMsgClass(Duration.ofSeconds(10), Response.class);
+        Assert.assertTrue(null != response);
+        Assert.assertNotNull(response.get("cassandraQueries"));
+        Assert.assertNotNull(response.get("cassandraHosts"));
+        Assert.assertNotNull(response.get("nearCache"));
+        Assert.assertNotNull(response.get("singleFlight"));
+        Assert.assertNotNull(response.get("cacheRefresh"));
+        Assert.assertNotNull(response.get("redisShards"));
+        Assert.assertNotNull(response.get("redisLanes"));
+        Assert.assertNotNull(response.get("operations"));
+        Assert.assertNotNull(response.get("bulkheads"));
+        Assert.assertNotNull(response.get("concurrencyLimits"));
+      }
+    };
+  }
+}
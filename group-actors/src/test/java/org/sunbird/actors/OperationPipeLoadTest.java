@@ -0,0 +1,151 @@
+package org.sunbird.actors;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.routing.SmallestMailboxPool;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.apache.pekko.util.Timeout;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.sunbird.common.LatencyHistogram;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.response.Response;
+import org.sunbird.util.OperationExecutor;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Compares 200 clients asking a pool of 15 actors doing an operation with 20 ms of blocking IO on
+ * the actor, as group operations did before, with the same pool piping the operation through the
+ * OperationExecutor and with the pool composing the operation over a stage completed after 20 ms,
+ * as the read, search and update operations do over the async DAO and cache calls. Run it manually with mvn test -Dtest=OperationPipeLoadTest after removing the
+ * Ignore annotation.
+ */
+@Ignore
+public class OperationPipeLoadTest {
+
+  private static final int CLIENTS = 200;
+  private static final int REQUESTS_PER_CLIENT = 50;
+  private static final int ROUTEES = 15;
+  private static final long IO_MILLIS = 20;
+  private static final Timeout timeout = new Timeout(Duration.create(60, TimeUnit.SECONDS));
+  private static ActorSystem system;
+  private static ActorRef blockingActor;
+  private static ActorRef pipedActor;
+  private static ActorRef composedActor;
+  private static ExecutorService clients;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("system");
+    blockingActor =
+        system.actorOf(new SmallestMailboxPool(ROUTEES).props(Props.create(BlockingActor.class)));
+    pipedActor =
+        system.actorOf(new SmallestMailboxPool(ROUTEES).props(Props.create(PipedActor.class)));
+    composedActor =
+        system.actorOf(new SmallestMailboxPool(ROUTEES).props(Props.create(ComposedActor.class)));
+    clients = Executors.newFixedThreadPool(CLIENTS);
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    clients.shutdownNow();
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void compareBlockingAndPipedOperations() throws Exception {
+    run("warmup blocking", blockingActor);
+    run("warmup piped", pipedActor);
+    run("warmup composed", composedActor);
+    run("blocking", blockingActor);
+    run("piped", pipedActor);
+    run("composed", composedActor);
+    System.out.println(
+        MessageFormat.format("OperationExecutor stats {0}", OperationExecutor.getInstance().getStats()));
+  }
+
+  private void run(String name, ActorRef actorRef) throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    List<Future<?>> futures = new ArrayList<>();
+    long startTime = System.nanoTime();
+    for (int client = 0; client < CLIENTS; client++) {
+      futures.add(
+          clients.submit(
+              () -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                  long requestStart = System.nanoTime();
+                  Request request = new Request();
+                  request.setOperation("loadTest");
+                  Object response =
+                      Await.result(Patterns.ask(actorRef, request, timeout), timeout.duration());
+                  histogram.recordValue(
+                      TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart));
+                  assertNotNull((Response) response);
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    System.out.println(
+        MessageFormat.format(
+            "{0} : {1} clients x {2} requests in {3} ms, {4} requests/s, p50 = {5} us, p99 = {6} us, max = {7} us",
+            name,
+            CLIENTS,
+            REQUESTS_PER_CLIENT,
+            elapsedMillis,
+            histogram.getCount() * 1000 / Math.max(1, elapsedMillis),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(99),
+            histogram.getMax()));
+  }
+
+  public static class BlockingActor extends BaseActor {
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      Thread.sleep(IO_MILLIS);
+      sender().tell(new Response(), self());
+    }
+  }
+
+  public static class PipedActor extends BaseActor {
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      pipe(
+          request,
+          reply -> {
+            Thread.sleep(IO_MILLIS);
+            reply.complete(new Response());
+          });
+    }
+  }
+
+  public static class ComposedActor extends BaseActor {
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      pipeAsync(
+          request,
+          () ->
+              CompletableFuture.supplyAsync(
+                  Response::new,
+                  CompletableFuture.delayedExecutor(IO_MILLIS, TimeUnit.MILLISECONDS)));
+    }
+  }
+}
@@ -22,6 +22,8 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.Page;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.util.JsonKey;
 import org.sunbird.helper.ServiceFactory;
@@ -56,6 +58,7 @@ public class ReadGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     mockCacheActor();
   }
 
@@ -71,6 +74,13 @@ public class ReadGroupActorTest extends BaseActorTest {
       when(cassandraOperation.getRecordById(
               Mockito.anyString(), Mockito.anyString(), Matchers.eq("TestGroup"),Mockito.any()))
           .thenReturn(getGroupsDetailsResponse());
+      when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+              Mockito.anyString(),
+              Mockito.anyString(),
+              Mockito.anyList(),
+              Matchers.eq(Arrays.asList("TestGroup")),
+              Mockito.any()))
+          .thenReturn(getGroupsDetailsResponse());
       when(cassandraOperation.getRecordsByProperties(
               Mockito.anyString(),
               Matchers.eq(GROUP_MEMBER_TABLE),
@@ -83,8 +93,58 @@ public class ReadGroupActorTest extends BaseActorTest {
               Matchers.eq(GROUP_MEMBER_TABLE),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.anyMap()))
-              .thenReturn(getMemberResponseByGroupIds());
+              .thenReturn(getMembers(getMemberResponseByGroupIds()));
+      when(cassandraOperation.getRecordsPageByProperties(
+              Mockito.anyString(),
+              Matchers.eq(GROUP_MEMBER_TABLE),
+              Mockito.anyMap(),
+              Mockito.any(),
+              Mockito.anyInt(),
+              Mockito.any(),
+              Mockito.any(RowMapper.class),
+              Mockito.any()))
+          .thenReturn(new Page<>(getMembers(getMemberResponseByGroupIds()), "nextPage"));
+      PowerMockito.mockStatic(HttpClientUtil.class);
+      when(HttpClientUtil.post(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),Mockito.any()))
+          .thenReturn(getUserServiceResponse());
+
+    } catch (BaseException | JsonProcessingException be) {
+      Assert.assertTrue(false);
+    }
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
+    Assert.assertTrue(null != res && res.getResponseCode() == 200);
+  }
+
+  @Test
+  public void readGroupWithMembersPage() throws Exception {
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.READ_GROUP.getValue());
+    reqObj.getRequest().put(JsonKey.GROUP_ID, "TestGroup");
+    reqObj.getRequest().put(JsonKey.FIELDS, Arrays.asList("members"));
+    reqObj.getRequest().put(JsonKey.MEMBERS_LIMIT, 2);
+    try {
+      when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+              Mockito.anyString(),
+              Mockito.anyString(),
+              Mockito.anyList(),
+              Matchers.eq(Arrays.asList("TestGroup")),
+              Mockito.any()))
+          .thenReturn(getGroupsDetailsResponse());
+      when(cassandraOperation.getRecordsPageByProperties(
+              Mockito.anyString(),
+              Matchers.eq(GROUP_MEMBER_TABLE),
+              Mockito.anyMap(),
+              Mockito.any(),
+              Mockito.anyInt(),
+              Mockito.any(),
+              Mockito.any(RowMapper.class),
+              Mockito.any()))
+          .thenReturn(new Page<>(getMembers(getMemberResponseByGroupIds()), "nextPage"));
       PowerMockito.mockStatic(HttpClientUtil.class);
       when(HttpClientUtil.post(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(),Mockito.any()))
           .thenReturn(getUserServiceResponse());
@@ -95,6 +155,7 @@ public class ReadGroupActorTest extends BaseActorTest {
     subject.tell(reqObj, probe.getRef());
     Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
     Assert.assertTrue(null != res && res.getResponseCode() == 200);
+    Assert.assertEquals("nextPage", res.getResult().get(JsonKey.MEMBERS_NEXT_PAGE_TOKEN));
   }
 
   @Test
@@ -0,0 +1,106 @@
+package org.sunbird.actors;
+
+import static org.junit.Assert.assertEquals;
+
+import com.datastax.driver.core.ResultSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.sunbird.common.CassandraUtil;
+import org.sunbird.common.RowMapper;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.models.Group;
+import org.sunbird.models.Member;
+import org.sunbird.models.MemberResponse;
+
+/**
+ * Compares mapping rows with RowMapper against the column map and ObjectMapper conversion done by
+ * CassandraUtil.createResponse. Both paths run the same query, so the difference is the mapping
+ * cost. Needs the embedded cassandra, which does not start on java 11 and above.
+ */
+@Ignore
+public class RowMapperBenchmarkTest {
+
+  private static final int ROWS = 1000;
+  private static final int WARMUP = 50;
+  private static final int ITERATIONS = 200;
+  private static final String GROUP_ID = "benchmark-group";
+  private static ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeClass
+  public static void setUp() throws Exception {
+    EmbeddedCassandra.setUp();
+    for (int i = 0; i < ROWS; i++) {
+      EmbeddedCassandra.session.execute(
+          "INSERT INTO "
+              + EmbeddedCassandra.KEYSPACE
+              + ".group_member (groupId, role, userId, status, createdBy, createdOn)"
+              + " VALUES (?, ?, ?, ?, ?, toTimestamp(now()))",
+          GROUP_ID,
+          "member",
+          "user-" + i,
+          JsonKey.ACTIVE,
+          "creator");
+      EmbeddedCassandra.session.execute(
+          "INSERT INTO "
+              + EmbeddedCassandra.KEYSPACE
+              + ".group (id, name, description, status, membershipType, createdBy, createdOn,"
+              + " activities) VALUES (?, ?, ?, ?, ?, ?, toTimestamp(now()),"
+              + " {{'id':'do_1', 'type':'Course'}})",
+          "group-" + i,
+          "name-" + i,
+          "description-" + i,
+          JsonKey.ACTIVE,
+          "invite_only",
+          "creator");
+    }
+  }
+
+  @Test
+  public void compareMemberMapping() {
+    String query =
+        "SELECT * FROM " + EmbeddedCassandra.KEYSPACE + ".group_member WHERE groupId = '"
+            + GROUP_ID + "'";
+    compare("Member", query, Member.class);
+    compare("MemberResponse", query, MemberResponse.class);
+  }
+
+  @Test
+  public void compareGroupMapping() {
+    compare("Group", "SELECT * FROM " + EmbeddedCassandra.KEYSPACE + ".group", Group.class);
+  }
+
+  private <T> void compare(String name, String query, Class<T> clazz) {
+    long convert = measure(query, resultSet -> convertRows(resultSet, clazz));
+    long rowMapper = measure(query, RowMapper.of(clazz)::mapAll);
+    System.out.println(
+        MessageFormat.format(
+            "{0} x {1} rows : map and convert avg = {2} us, RowMapper avg = {3} us",
+            name, ROWS, convert, rowMapper));
+  }
+
+  private static <T> List<T> convertRows(ResultSet resultSet, Class<T> clazz) {
+    List<Map<String, Object>> rows =
+        (List<Map<String, Object>>) CassandraUtil.createResponse(resultSet).get(JsonKey.RESPONSE);
+    List<T> models = new ArrayList<>();
+    rows.forEach(row -> models.add(objectMapper.convertValue(row, clazz)));
+    return models;
+  }
+
+  private long measure(String query, Function<ResultSet, List<?>> mapper) {
+    for (int i = 0; i < WARMUP; i++) {
+      assertEquals(ROWS, mapper.apply(EmbeddedCassandra.session.execute(query)).size());
+    }
+    long startTime = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      mapper.apply(EmbeddedCassandra.session.execute(query));
+    }
+    return (System.nanoTime() - startTime) / ITERATIONS / 1000;
+  }
+}
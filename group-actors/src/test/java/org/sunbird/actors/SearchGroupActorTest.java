@@ -8,32 +8,40 @@ import org.apache.pekko.actor.Props;
 import org.apache.pekko.testkit.javadsl.TestKit;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cache.impl.AsyncRedisCache;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.exception.DBException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.common.message.Localizer;
 import org.sunbird.common.message.ResponseCode;
 import org.sunbird.models.ActorOperations;
+import org.sunbird.models.Group;
+import org.sunbird.models.GroupResponse;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.response.Response;
 import org.sunbird.common.util.JsonKey;
+import org.sunbird.util.CacheUtil;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({Localizer.class, ServiceFactory.class})
@@ -42,20 +50,21 @@ public class SearchGroupActorTest extends BaseActorTest {
   private static final String GROUP_MEMBER_TABLE = "group_member";
   private static final String GROUP_TABLE_NAME = "group";
   private final Props props = Props.create(org.sunbird.actors.SearchGroupActor.class);
-
+  // the DAOs keep the operation of their first instance, so one mock serves all the tests
+  private static final CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
 
   @Before
   public void setUp() throws Exception {
-
+    Mockito.reset(cassandraOperation);
+    PowerMockito.mockStatic(ServiceFactory.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
   }
 
   @Test
   public void searchByUserIdFiltersReturnSuccessResponse() throws Exception{
     PowerMockito.mockStatic(Localizer.class);
     when(Localizer.getInstance()).thenReturn(null);
-    PowerMockito.mockStatic(ServiceFactory.class);
-    CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
-    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
     mockCacheActor();
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
@@ -74,16 +83,21 @@ public class SearchGroupActorTest extends BaseActorTest {
               Mockito.any()))
           .thenReturn(getGroupSetByUserId());
 
-      when(cassandraOperation.getRecordsByPrimaryKeys(
+      when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
               Mockito.anyString(),
               Matchers.eq(GROUP_TABLE_NAME),
               Mockito.anyList(),
-              Mockito.anyString(),
+              Mockito.anyList(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-          .thenReturn(getGroupsDetailsResponse());
+          .thenReturn(getGroups(getGroupsDetailsResponse()));
 
       when(cassandraOperation.getRecordsByProperties(
-              Mockito.anyString(), Matchers.eq(GROUP_MEMBER_TABLE), Mockito.anyMap(),Mockito.any()))
+              Mockito.anyString(),
+              Matchers.eq(GROUP_MEMBER_TABLE),
+              Mockito.anyMap(),
+              Mockito.anyList(),
+              Mockito.any()))
           .thenReturn(getMemberResponseByGroupIds());
 
       when(cassandraOperation.getRecordsByProperties(
@@ -102,9 +116,6 @@ public class SearchGroupActorTest extends BaseActorTest {
   public void searchByUserIdFiltersReturnDBException()  throws Exception{
     PowerMockito.mockStatic(Localizer.class);
     when(Localizer.getInstance()).thenReturn(null);
-    PowerMockito.mockStatic(ServiceFactory.class);
-    CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
-    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
     mockCacheActor();
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
@@ -123,16 +134,21 @@ public class SearchGroupActorTest extends BaseActorTest {
               Mockito.any()))
               .thenReturn(getGroupSetByUserId());
 
-      when(cassandraOperation.getRecordsByPrimaryKeys(
+      when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
               Mockito.anyString(),
               Matchers.eq(GROUP_TABLE_NAME),
               Mockito.anyList(),
-              Mockito.anyString(),
+              Mockito.anyList(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
               .thenThrow(DBException.class);
 
       when(cassandraOperation.getRecordsByProperties(
-              Mockito.anyString(), Matchers.eq(GROUP_MEMBER_TABLE), Mockito.anyMap(),Mockito.any()))
+              Mockito.anyString(),
+              Matchers.eq(GROUP_MEMBER_TABLE),
+              Mockito.anyMap(),
+              Mockito.anyList(),
+              Mockito.any()))
               .thenReturn(getMemberResponseByGroupIds());
 
       when(cassandraOperation.getRecordsByProperties(
@@ -150,13 +166,183 @@ public class SearchGroupActorTest extends BaseActorTest {
 
   }
 
+  @Test
+  public void searchByUserIdAssemblesGroupsFromCache() throws Exception {
+    PowerMockito.mockStatic(Localizer.class);
+    when(Localizer.getInstance()).thenReturn(null);
+    mockCacheActor();
+    when(AsyncRedisCache.get("userid2"))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                "[{\"groupId\":\"groupid3\",\"role\":\"member\",\"visited\":true},"
+                    + "{\"groupId\":\"groupid4\",\"role\":\"admin\",\"visited\":false}]"));
+    when(AsyncRedisCache.mget(
+            Arrays.asList(
+                CacheUtil.getGroupSummaryKey("groupid3"), CacheUtil.getGroupSummaryKey("groupid4"))))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                Arrays.asList(
+                    "{\"id\":\"groupid3\",\"name\":\"CachedGroup3\",\"status\":\"active\"}",
+                    "{\"id\":\"groupid4\",\"name\":\"CachedGroup4\",\"status\":\"active\"}")));
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setHeaders(headerMap);
+    reqObj.setOperation(ActorOperations.SEARCH_GROUP.getValue());
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.USER_ID, "userid2");
+    reqObj.getRequest().put(JsonKey.FILTERS, filters);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
+    List<GroupResponse> groups = (List<GroupResponse>) res.get(JsonKey.GROUP);
+    Assert.assertEquals(2, groups.size());
+    Assert.assertEquals("CachedGroup4", groups.get(0).getName());
+    Assert.assertEquals("admin", groups.get(0).getMemberRole());
+    Assert.assertEquals("CachedGroup3", groups.get(1).getName());
+    Assert.assertTrue(groups.get(1).getVisited());
+  }
+
+  @Test
+  public void searchByUserIdReloadsGroupListWithOldGroupVersion() throws Exception {
+    PowerMockito.mockStatic(Localizer.class);
+    when(Localizer.getInstance()).thenReturn(null);
+    mockCacheActor();
+    when(AsyncRedisCache.get("userid3"))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                "[{\"groupId\":\"groupid3\",\"role\":\"member\",\"visited\":true,\"groupVersion\":0}]"));
+    when(AsyncRedisCache.mget(Arrays.asList(CacheUtil.getGroupVersionKey("groupid3"))))
+        .thenReturn(CompletableFuture.completedFuture(Arrays.asList("1")));
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setHeaders(headerMap);
+    reqObj.setOperation(ActorOperations.SEARCH_GROUP.getValue());
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.USER_ID, "userid3");
+    reqObj.getRequest().put(JsonKey.FILTERS, filters);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
+    Assert.assertTrue(null != res && res.getResponseCode() == 200);
+    // the cached group list is dropped and read again from DB
+    PowerMockito.verifyStatic(AsyncRedisCache.class);
+    AsyncRedisCache.del("userid3");
+  }
+
+  @Test
+  public void searchByUserIdRecordsGroupVersionReadBeforeMemberships() throws Exception {
+    PowerMockito.mockStatic(Localizer.class);
+    when(Localizer.getInstance()).thenReturn(null);
+    mockCacheActor();
+    List<String> versionKeys =
+        Arrays.asList(
+            CacheUtil.getGroupVersionKey("groupid1"), CacheUtil.getGroupVersionKey("groupid2"));
+    when(AsyncRedisCache.mget(versionKeys))
+        .thenReturn(CompletableFuture.completedFuture(Arrays.asList("1", "1")));
+    when(cassandraOperation.getRecordsByPrimaryKeys(
+            Mockito.anyString(),
+            Matchers.eq("user_group"),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any()))
+        .thenReturn(getGroupSetByUserId());
+    when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+            Mockito.anyString(),
+            Matchers.eq(GROUP_TABLE_NAME),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any(RowMapper.class),
+            Mockito.any()))
+        .thenReturn(getGroups(getGroupsDetailsResponse()));
+    // the groups get a new version while their memberships are read from DB
+    when(cassandraOperation.getRecordsByProperties(
+            Mockito.anyString(),
+            Matchers.eq(GROUP_MEMBER_TABLE),
+            Mockito.anyMap(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              when(AsyncRedisCache.mget(versionKeys))
+                  .thenReturn(CompletableFuture.completedFuture(Arrays.asList("2", "2")));
+              return getMemberResponseByGroupIds();
+            });
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setHeaders(headerMap);
+    reqObj.setOperation(ActorOperations.SEARCH_GROUP.getValue());
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.USER_ID, "userid4");
+    reqObj.getRequest().put(JsonKey.FILTERS, filters);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
+    Assert.assertTrue(null != res && res.getResponseCode() == 200);
+    // the cached memberships keep the version read before them, the next search reads them again
+    ArgumentCaptor<String> cached = ArgumentCaptor.forClass(String.class);
+    PowerMockito.verifyStatic(AsyncRedisCache.class, Mockito.atLeastOnce());
+    AsyncRedisCache.set(Matchers.eq("userid4"), cached.capture(), Mockito.anyInt());
+    Assert.assertTrue(cached.getValue().contains("\"groupVersion\":1"));
+    Assert.assertFalse(cached.getValue().contains("\"groupVersion\":2"));
+  }
+
+  @Test
+  public void searchByUserIdLeavesOutGroupsWithoutMembership() throws Exception {
+    PowerMockito.mockStatic(Localizer.class);
+    when(Localizer.getInstance()).thenReturn(null);
+    mockCacheActor();
+    // user_group lists groupid1 and groupid2, the user is a member of groupid1 only
+    when(cassandraOperation.getRecordsByPrimaryKeys(
+            Mockito.anyString(),
+            Matchers.eq("user_group"),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any()))
+        .thenReturn(getGroupSetByUserId());
+    Response memberships = getMemberResponseByGroupIds();
+    ((List<Map<String, Object>>) memberships.get(JsonKey.RESPONSE)).remove(1);
+    when(cassandraOperation.getRecordsByProperties(
+            Mockito.anyString(),
+            Matchers.eq(GROUP_MEMBER_TABLE),
+            Mockito.anyMap(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(memberships);
+    when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+            Mockito.anyString(),
+            Matchers.eq(GROUP_TABLE_NAME),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any(RowMapper.class),
+            Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              List<String> ids = (List<String>) invocation.getArguments()[3];
+              List<Group> groups = getGroups(getGroupsDetailsResponse());
+              groups.removeIf(group -> !ids.contains(group.getId()));
+              return groups;
+            });
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setHeaders(headerMap);
+    reqObj.setOperation(ActorOperations.SEARCH_GROUP.getValue());
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.USER_ID, "userid5");
+    reqObj.getRequest().put(JsonKey.FILTERS, filters);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(Duration.ofSeconds(10), Response.class);
+    // the group without a group_member row of the user is not listed, it used to fail the search
+    List<GroupResponse> groups = (List<GroupResponse>) res.get(JsonKey.GROUP);
+    Assert.assertEquals(1, groups.size());
+    Assert.assertEquals("groupid1", groups.get(0).getId());
+    Assert.assertEquals("admin", groups.get(0).getMemberRole());
+  }
+
   @Test
   public void searchByEmptyFiltersThrowsBaseException() throws Exception{
     PowerMockito.mockStatic(Localizer.class);
     when(Localizer.getInstance()).thenReturn(null);
-    PowerMockito.mockStatic(ServiceFactory.class);
-    CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
-    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
     mockCacheActor();
     TestKit probe = new TestKit(system);
 
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import org.sunbird.Application;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.RowMapper;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.exception.DBException;
 import org.sunbird.helper.ServiceFactory;
@@ -78,6 +79,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
 
     try {
       when(cassandraOperation.updateRecord(
@@ -114,8 +116,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-          .thenReturn(getMemberResponse());
+          .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.getRecordById(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),
               Mockito.anyMap()))
@@ -172,6 +175,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     try {
       when(cassandraOperation.updateRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyObject(),Mockito.any()))
@@ -210,8 +214,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-          .thenReturn(getMemberResponse());
+          .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.deleteRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
           .thenReturn(getCassandraResponse());
@@ -232,6 +237,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     try {
       when(cassandraOperation.updateRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyObject(),Mockito.any()))
@@ -270,8 +276,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-          .thenReturn(getMemberResponse());
+          .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.deleteRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),Mockito.any()))
           .thenReturn(getCassandraResponse());
@@ -295,6 +302,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     try {
       when(cassandraOperation.updateRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyObject(),Mockito.any()))
@@ -330,8 +338,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               Mockito.anyString(),
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
-              Mockito.anyString(),Mockito.any()))
-              .thenReturn(getMemberResponse());
+              Mockito.anyString(),
+              Mockito.any(RowMapper.class),Mockito.any()))
+              .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.deleteRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),Mockito.any()))
               .thenReturn(getCassandraResponse());
@@ -352,6 +361,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     try {
       when(cassandraOperation.updateRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyObject(),Mockito.any()))
@@ -385,8 +395,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               Mockito.anyString(),
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
-              Mockito.anyString(),Mockito.any()))
-              .thenReturn(getMemberResponse());
+              Mockito.anyString(),
+              Mockito.any(RowMapper.class),Mockito.any()))
+              .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.deleteRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),Mockito.any()))
               .thenReturn(getCassandraResponse());
@@ -407,6 +418,7 @@ public class UpdateGroupActorTest extends BaseActorTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     CassandraOperation cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    mockAsyncCassandra(cassandraOperation);
     try {
       when(cassandraOperation.updateRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyObject(),Mockito.any()))
@@ -445,8 +457,9 @@ public class UpdateGroupActorTest extends BaseActorTest {
               ArgumentMatchers.eq("group_member"),
               Mockito.anyList(),
               Mockito.anyString(),
+              Mockito.any(RowMapper.class),
               Mockito.any()))
-              .thenReturn(getMemberResponse());
+              .thenReturn(getMembers(getMemberResponse()));
       when(cassandraOperation.deleteRecord(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),Mockito.any()))
               .thenReturn(getCassandraResponse());
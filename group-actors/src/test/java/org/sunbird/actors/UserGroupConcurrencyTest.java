@@ -0,0 +1,224 @@
+package org.sunbird.actors;
+
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.mockito.invocation.InvocationOnMock;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.response.Response;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.dao.MemberDao;
+import org.sunbird.dao.MemberDaoImpl;
+import org.sunbird.helper.ServiceFactory;
+
+/**
+ * Adds and removes groups of the same users from many threads at once. The cassandra operation
+ * applies the set append and remove updates to a concurrent set per user, as cassandra applies
+ * them to the set column, so a group is lost only if the dao reads the set and writes it back.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceFactory.class, CassandraOperationImpl.class})
+@PowerMockIgnore({"javax.management.*", "jdk.internal.reflect.*"})
+public class UserGroupConcurrencyTest {
+
+  private static final String USER_GROUP_TABLE = "user_group";
+  private static final int GROUPS = 50;
+  private static final int THREADS = 16;
+  private static final List<String> USER_IDS = Arrays.asList("user1", "user2", "user3");
+  private static final Set<String> SET_UPDATES =
+      new HashSet<>(
+          Arrays.asList(
+              "updateAddSetRecords",
+              "updateRemoveSetRecords",
+              "updateAddSetRecordsAsync",
+              "updateRemoveSetRecordsAsync"));
+
+  // MemberDaoImpl keeps the operation of its first instance, so one mock serves all the tests
+  private static final CassandraOperationImpl cassandraOperation =
+      Mockito.mock(CassandraOperationImpl.class);
+  private static final Map<String, Set<String>> userGroups = new ConcurrentHashMap<>();
+
+  @Before
+  public void setUp() throws Exception {
+    Mockito.clearInvocations(cassandraOperation);
+    userGroups.clear();
+    PowerMockito.mockStatic(ServiceFactory.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    when(ServiceFactory.getAsyncInstance()).thenReturn(cassandraOperation);
+    Mockito.doAnswer(invocation -> applySetUpdate(invocation, true))
+        .when(cassandraOperation)
+        .updateAddSetRecords(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any());
+    Mockito.doAnswer(invocation -> applySetUpdate(invocation, false))
+        .when(cassandraOperation)
+        .updateRemoveSetRecords(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any());
+    Mockito.doAnswer(
+            invocation -> CompletableFuture.completedFuture(applySetUpdate(invocation, true)))
+        .when(cassandraOperation)
+        .updateAddSetRecordsAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any());
+    Mockito.doAnswer(
+            invocation -> CompletableFuture.completedFuture(applySetUpdate(invocation, false)))
+        .when(cassandraOperation)
+        .updateRemoveSetRecordsAsync(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any());
+  }
+
+  @Test
+  public void testConcurrentAddAndRemoveKeepAllGroups() throws Exception {
+    MemberDao memberDao = MemberDaoImpl.getInstance();
+    runConcurrently(
+        (index, reqContext) ->
+            memberDao.addGroupInUserGroup(groupId(index), USER_IDS, reqContext),
+        (index, reqContext) -> {
+          memberDao.addGroupInUserGroup(groupId(GROUPS + index), USER_IDS, reqContext);
+          if (index % 2 == 0) {
+            memberDao.removeGroupInUserGroup(groupId(index), USER_IDS, reqContext);
+          }
+        });
+    assertUserGroups();
+  }
+
+  @Test
+  public void testConcurrentAsyncAddAndRemoveKeepAllGroups() throws Exception {
+    MemberDao memberDao = MemberDaoImpl.getInstance();
+    runConcurrently(
+        (index, reqContext) ->
+            memberDao.addGroupInUserGroupAsync(groupId(index), USER_IDS, reqContext),
+        (index, reqContext) -> {
+          memberDao.addGroupInUserGroupAsync(groupId(GROUPS + index), USER_IDS, reqContext);
+          if (index % 2 == 0) {
+            memberDao.removeGroupInUserGroupAsync(groupId(index), USER_IDS, reqContext);
+          }
+        });
+    assertUserGroups();
+  }
+
+  /**
+   * Runs the first task for every index, then the second task for every index, each batch from
+   * many threads at once. The second batch adds and removes groups of the same users concurrently.
+   */
+  private static void runConcurrently(
+      MemberTask firstTask, MemberTask secondTask) throws InterruptedException {
+    runConcurrently(firstTask);
+    runConcurrently(secondTask);
+  }
+
+  private static void runConcurrently(MemberTask task) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(GROUPS);
+    Set<Throwable> errors = ConcurrentHashMap.newKeySet();
+    for (int i = 0; i < GROUPS; i++) {
+      int index = i;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+              task.accept(index, new HashMap<>());
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            } catch (Exception e) {
+              errors.add(e);
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+    start.countDown();
+    Assert.assertTrue(done.await(60, TimeUnit.SECONDS));
+    executor.shutdown();
+    Assert.assertTrue(errors.toString(), errors.isEmpty());
+  }
+
+  /** Odd groups below GROUPS and all the groups from GROUPS on are left with every user. */
+  private static void assertUserGroups() {
+    Set<String> expected = new HashSet<>();
+    for (int i = 0; i < GROUPS; i++) {
+      if (i % 2 == 1) {
+        expected.add(groupId(i));
+      }
+      expected.add(groupId(GROUPS + i));
+    }
+    Assert.assertEquals(new HashSet<>(USER_IDS), userGroups.keySet());
+    for (String userId : USER_IDS) {
+      Assert.assertEquals(expected, userGroups.get(userId));
+    }
+    for (Invocation invocation : Mockito.mockingDetails(cassandraOperation).getInvocations()) {
+      if (USER_GROUP_TABLE.equals(invocation.getArgument(1))) {
+        Assert.assertTrue(
+            invocation.toString(), SET_UPDATES.contains(invocation.getMethod().getName()));
+      }
+    }
+  }
+
+  private static Response applySetUpdate(InvocationOnMock invocation, boolean add) {
+    Assert.assertEquals(USER_GROUP_TABLE, invocation.getArgument(1));
+    Assert.assertEquals(JsonKey.GROUP_ID, invocation.getArgument(3));
+    List<Map<String, Object>> primaryKeys = invocation.getArgument(2);
+    String groupId = invocation.getArgument(4);
+    for (Map<String, Object> primaryKey : primaryKeys) {
+      Set<String> groupIds =
+          userGroups.computeIfAbsent(
+              (String) primaryKey.get(JsonKey.USER_ID), userId -> ConcurrentHashMap.newKeySet());
+      if (add) {
+        groupIds.add(groupId);
+      } else {
+        groupIds.remove(groupId);
+      }
+    }
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+    return response;
+  }
+
+  private static String groupId(int index) {
+    return "group-" + index;
+  }
+
+  private interface MemberTask {
+    void accept(int index, Map<String, Object> reqContext) throws Exception;
+  }
+}
@@ -0,0 +1,126 @@
+package org.sunbird.service;
+
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.response.Response;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.util.DBUtil;
+
+/**
+ * Adding and removing members appends to and removes from the user group set of each member,
+ * without reading the existing set and writing it back.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceFactory.class, CassandraOperationImpl.class})
+@PowerMockIgnore({"javax.management.*", "jdk.internal.reflect.*"})
+public class MemberServiceImplTest {
+
+  private static final String USER_GROUP_TABLE = "user_group";
+
+  // MemberDaoImpl keeps the operation of its first instance, so one mock serves all the tests
+  private static final CassandraOperationImpl cassandraOperation =
+      mock(CassandraOperationImpl.class);
+
+  @Before
+  public void setUp() throws Exception {
+    Mockito.clearInvocations(cassandraOperation);
+    PowerMockito.mockStatic(ServiceFactory.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    when(ServiceFactory.getAsyncInstance()).thenReturn(cassandraOperation);
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+    when(cassandraOperation.batchInsert(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(response);
+    when(cassandraOperation.batchUpdate(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(response);
+  }
+
+  @Test
+  public void testAddMembersAppendsToUserGroupSet() throws Exception {
+    Map<String, Object> memberOperations = new HashMap<>();
+    memberOperations.put(JsonKey.ADD, Arrays.asList(member("user1"), member("user2")));
+    new MemberServiceImpl()
+        .handleMemberOperations(memberOperations, "group1", "user1", new HashMap<>());
+
+    ArgumentCaptor<List> userKeys = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(cassandraOperation)
+        .updateAddSetRecords(
+            Mockito.eq(DBUtil.KEY_SPACE_NAME),
+            Mockito.eq(USER_GROUP_TABLE),
+            userKeys.capture(),
+            Mockito.eq(JsonKey.GROUP_ID),
+            Mockito.eq("group1"),
+            Mockito.any());
+    Assert.assertEquals(Arrays.asList(userKey("user1"), userKey("user2")), userKeys.getValue());
+    verifyNoReadModifyWrite();
+  }
+
+  @Test
+  public void testRemoveMembersRemovesFromUserGroupSet() throws Exception {
+    Map<String, Object> memberOperations = new HashMap<>();
+    memberOperations.put(JsonKey.REMOVE, Arrays.asList("user2", "user3"));
+    new MemberServiceImpl()
+        .handleMemberOperations(memberOperations, "group1", "user1", new HashMap<>());
+
+    ArgumentCaptor<List> userKeys = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(cassandraOperation)
+        .updateRemoveSetRecords(
+            Mockito.eq(DBUtil.KEY_SPACE_NAME),
+            Mockito.eq(USER_GROUP_TABLE),
+            userKeys.capture(),
+            Mockito.eq(JsonKey.GROUP_ID),
+            Mockito.eq("group1"),
+            Mockito.any());
+    Assert.assertEquals(Arrays.asList(userKey("user2"), userKey("user3")), userKeys.getValue());
+    verifyNoReadModifyWrite();
+  }
+
+  private void verifyNoReadModifyWrite() throws Exception {
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .getRecordsByPrimaryKeys(
+            Mockito.anyString(),
+            Mockito.eq(USER_GROUP_TABLE),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any());
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .getRecordById(Mockito.anyString(), Mockito.eq(USER_GROUP_TABLE), Mockito.anyString(), Mockito.any());
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .upsertRecord(Mockito.anyString(), Mockito.eq(USER_GROUP_TABLE), Mockito.anyMap(), Mockito.any());
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .updateRecord(
+            Mockito.anyString(), Mockito.eq(USER_GROUP_TABLE), Mockito.anyMap(), Mockito.anyMap(), Mockito.any());
+  }
+
+  private static Map<String, Object> member(String userId) {
+    Map<String, Object> member = new HashMap<>();
+    member.put(JsonKey.USER_ID, userId);
+    member.put(JsonKey.ROLE, JsonKey.MEMBER);
+    return member;
+  }
+
+  private static Map<String, Object> userKey(String userId) {
+    Map<String, Object> userKey = new HashMap<>();
+    userKey.put(JsonKey.USER_ID, userId);
+    return userKey;
+  }
+}
@@ -0,0 +1,144 @@
+package org.sunbird.util;
+
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.sunbird.cache.codec.CacheCodec;
+import org.sunbird.cache.codec.CacheCodecs;
+import org.sunbird.cache.codec.Lz4Codec$;
+import org.sunbird.common.util.JsonKey;
+import org.sunbird.models.GroupResponse;
+import org.sunbird.models.MemberResponse;
+import scala.Option;
+
+/**
+ * Compares the size and the encode and decode cost of cached values written as plain UTF-8 and
+ * with the lz4 codec, for a group with activities and their activityInfo and for a member list at
+ * the member limit. Decode includes the deserialization done on a cache hit. Run it manually with
+ * mvn test -Dtest=CacheCodecBenchmarkTest after removing the Ignore annotation.
+ */
+@Ignore
+public class CacheCodecBenchmarkTest {
+
+  private static final int ACTIVITIES = 20;
+  private static final int MEMBERS = 150;
+  private static final int WARMUP = 2000;
+  private static final int ITERATIONS = 10000;
+
+  @Test
+  public void compareGroupWithActivities() throws Exception {
+    String value = JsonUtils.serialize(createGroup());
+    compare("group with " + ACTIVITIES + " activities", value, GroupResponse.class, null);
+  }
+
+  @Test
+  public void compareMemberList() throws Exception {
+    String value = JsonUtils.serialize(createMembers());
+    compare(
+        MEMBERS + " members", value, null, new TypeReference<List<MemberResponse>>() {});
+  }
+
+  private void compare(String name, String value, Class<?> clazz, TypeReference<?> typeReference)
+      throws Exception {
+    Option<CacheCodec> none = Option.empty();
+    Option<CacheCodec> lz4 = Option.apply(Lz4Codec$.MODULE$);
+    for (Option<CacheCodec> codec : new Option[] {none, lz4}) {
+      byte[] encoded = CacheCodecs.encode(value, codec, 0);
+      assertEquals(value, CacheCodecs.decode(encoded));
+      measure(value, codec, clazz, typeReference, WARMUP);
+      long[] times = measure(value, codec, clazz, typeReference, ITERATIONS);
+      System.out.println(
+          MessageFormat.format(
+              "{0}, {1} : {2} bytes of {3}, encode avg = {4} ns, decode and deserialize avg = {5} ns",
+              name,
+              codec.isDefined() ? codec.get().name() : "none",
+              encoded.length,
+              value.length(),
+              times[0],
+              times[1]));
+    }
+  }
+
+  private long[] measure(
+      String value,
+      Option<CacheCodec> codec,
+      Class<?> clazz,
+      TypeReference<?> typeReference,
+      int iterations)
+      throws Exception {
+    byte[] encoded = null;
+    long startTime = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      encoded = CacheCodecs.encode(value, codec, 0);
+    }
+    long encodeTime = (System.nanoTime() - startTime) / iterations;
+    startTime = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      String decoded = CacheCodecs.decode(encoded);
+      if (null != clazz) {
+        JsonUtils.deserialize(decoded, clazz);
+      } else {
+        JsonUtils.deserialize(decoded, typeReference);
+      }
+    }
+    return new long[] {encodeTime, (System.nanoTime() - startTime) / iterations};
+  }
+
+  private static GroupResponse createGroup() {
+    GroupResponse group = new GroupResponse();
+    group.setId("0132b3e2-9efa-4b35-9fa9-2f5c4c5f1b3a");
+    group.setName("Class 10 Science - Section B");
+    group.setDescription("Group for the students and teachers of class 10 science, section B");
+    group.setStatus(JsonKey.ACTIVE);
+    group.setMembershipType("invite_only");
+    group.setCreatedBy("5d7c9e0d-4a8a-4f1e-a0b0-8c2d1f3e4b5a");
+    group.setCreatedOn("2021-03-02 10:15:30:123+0000");
+    List<Map<String, Object>> activities = new ArrayList<>();
+    for (int i = 0; i < ACTIVITIES; i++) {
+      Map<String, Object> activityInfo = new HashMap<>();
+      activityInfo.put("identifier", "do_3132478923874508801" + i);
+      activityInfo.put("name", "Chemical Reactions and Equations - Part " + i);
+      activityInfo.put("description", "Course on chemical reactions, balancing and types");
+      activityInfo.put("appIcon", "https://cdn.example.org/content/do_3132478923874508801" + i
+          + "/artifact/chemistry-thumb.png");
+      activityInfo.put("contentType", "Course");
+      activityInfo.put("primaryCategory", "Course");
+      activityInfo.put("resourceType", "Course");
+      activityInfo.put("organisation", new String[] {"State Board"});
+      activityInfo.put("subject", new String[] {"Science"});
+      activityInfo.put("gradeLevel", new String[] {"Class 10"});
+      activityInfo.put("status", "Live");
+      Map<String, Object> activity = new HashMap<>();
+      activity.put(JsonKey.ID, "do_3132478923874508801" + i);
+      activity.put(JsonKey.TYPE, "Course");
+      activity.put(JsonKey.ACTIVITY_INFO, activityInfo);
+      activities.add(activity);
+    }
+    group.setActivities(activities);
+    return group;
+  }
+
+  private static List<MemberResponse> createMembers() {
+    List<MemberResponse> members = new ArrayList<>();
+    for (int i = 0; i < MEMBERS; i++) {
+      MemberResponse member = new MemberResponse();
+      member.setUserId("5d7c9e0d-4a8a-4f1e-a0b0-8c2d1f3e" + String.format("%04d", i));
+      member.setGroupId("0132b3e2-9efa-4b35-9fa9-2f5c4c5f1b3a");
+      member.setRole(i == 0 ? JsonKey.ADMIN : "member");
+      member.setStatus(JsonKey.ACTIVE);
+      member.setCreatedBy("5d7c9e0d-4a8a-4f1e-a0b0-8c2d1f3e4b5a");
+      member.setCreatedOn("2021-03-02 10:15:30:123+0000");
+      member.setName("Student Name " + i);
+      member.setVisited(i % 2 == 0);
+      members.add(member);
+    }
+    return members;
+  }
+}
@@ -0,0 +1,43 @@
+package org.sunbird.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CacheEntryTest {
+
+  @Test
+  public void testParseFormattedEntry() {
+    CacheEntry entry = CacheEntry.parse(CacheEntry.format("{\"id\":\"group:1\"}", 1000, 40));
+    Assert.assertEquals("{\"id\":\"group:1\"}", entry.getValue());
+    Assert.assertFalse(entry.isStale(999));
+    Assert.assertTrue(entry.isStale(1000));
+  }
+
+  @Test
+  public void testPlainValueIsNeverStale() {
+    CacheEntry entry = CacheEntry.parse("[{\"groupId\":\"group1\"}]");
+    Assert.assertEquals("[{\"groupId\":\"group1\"}]", entry.getValue());
+    Assert.assertFalse(entry.isStale(Long.MAX_VALUE - 1));
+    Assert.assertFalse(entry.isEarlyRefresh(Long.MAX_VALUE - 1, 1, 0.001));
+    Assert.assertNull(CacheEntry.parse(""));
+  }
+
+  @Test
+  public void testEarlyRefreshGrowsWithLoadTime() {
+    CacheEntry entry = CacheEntry.parse(CacheEntry.format("{}", 10000, 100));
+    // -ln(0.5) * 100 is about 69 ms
+    Assert.assertFalse(entry.isEarlyRefresh(9900, 1, 0.5));
+    Assert.assertTrue(entry.isEarlyRefresh(9950, 1, 0.5));
+    Assert.assertFalse(entry.isEarlyRefresh(9950, 0, 0.5));
+    Assert.assertTrue(entry.isEarlyRefresh(9900, 2, 0.5));
+  }
+
+  @Test
+  public void testPolicyKeepsPlainExpiryByDefault() {
+    Assert.assertFalse(new CachePolicy("group", 3600, 0, 0).isRevalidated());
+    Assert.assertFalse(new CachePolicy("group", 3600, 7200, 0).isRevalidated());
+    Assert.assertTrue(new CachePolicy("group", 3600, 600, 0).isRevalidated());
+    Assert.assertTrue(new CachePolicy("group", 3600, 0, 1).isRevalidated());
+    Assert.assertEquals(3600, new CachePolicy("group", 3600, 0, 1).getSoftTtl());
+  }
+}
@@ -0,0 +1,72 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CacheRefresherTest {
+
+  @Test
+  public void testOneRefreshPerKey() throws Exception {
+    CacheRefresher refresher = new CacheRefresher(2, 10);
+    AtomicInteger loads = new AtomicInteger();
+    CompletableFuture<String> load = new CompletableFuture<>();
+    SingleFlight.Loader loader =
+        context -> {
+          loads.incrementAndGet();
+          return load;
+        };
+    for (int i = 0; i < 5; i++) {
+      refresher.refresh("group1", true, loader, new HashMap<>());
+    }
+    load.complete("{}");
+    waitForRefreshes(refresher, 1);
+    Assert.assertEquals(1, loads.get());
+    Assert.assertEquals(5L, refresher.getStats().get("staleReads"));
+  }
+
+  @Test
+  public void testRefreshFailureIsCounted() throws Exception {
+    CacheRefresher refresher = new CacheRefresher(1, 10);
+    refresher.refresh(
+        "group1",
+        false,
+        context -> {
+          throw new IllegalStateException("DB unavailable");
+        },
+        new HashMap<>());
+    long deadline = System.currentTimeMillis() + 10000;
+    while ((long) refresher.getStats().get("failures") < 1
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    Assert.assertEquals(1L, refresher.getStats().get("failures"));
+    Assert.assertEquals(1L, refresher.getStats().get("earlyRefreshes"));
+  }
+
+  @Test
+  public void testFailedLoadIsCounted() throws Exception {
+    CacheRefresher refresher = new CacheRefresher(1, 10);
+    refresher.refresh(
+        "group1",
+        true,
+        context -> CompletableFuture.failedFuture(new IllegalStateException("DB unavailable")),
+        new HashMap<>());
+    long deadline = System.currentTimeMillis() + 10000;
+    while ((long) refresher.getStats().get("failures") < 1
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    Assert.assertEquals(1L, refresher.getStats().get("failures"));
+  }
+
+  private void waitForRefreshes(CacheRefresher refresher, long refreshes) throws Exception {
+    long deadline = System.currentTimeMillis() + 10000;
+    while ((long) refresher.getStats().get("refreshes") < refreshes
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package org.sunbird.util;
+
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cache.impl.AsyncRedisCache;
+import org.sunbird.common.request.Deadline;
+import org.sunbird.common.util.JsonKey;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({AsyncRedisCache.class})
+@PowerMockIgnore({"javax.management.*", "jdk.internal.reflect.*"})
+public class CacheUtilTest {
+
+  @Test
+  public void testStaleRefreshRunsWithoutDeadline() throws Exception {
+    PowerMockito.mockStatic(AsyncRedisCache.class);
+    when(AsyncRedisCache.get(Mockito.anyString()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                CacheEntry.format("{\"id\":\"stale\"}", System.currentTimeMillis() - 1000, 0)));
+    when(AsyncRedisCache.set(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt()))
+        .thenReturn(CompletableFuture.completedFuture("OK"));
+    when(AsyncRedisCache.zincrby(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt()))
+        .thenReturn(CompletableFuture.completedFuture(1.0));
+    Map<String, Object> reqContext = new HashMap<>();
+    reqContext.put(JsonKey.REQUEST_ID, "request1");
+    Deadline.set(reqContext, 5000);
+    CompletableFuture<Map<String, Object>> refreshContext = new CompletableFuture<>();
+
+    String value =
+        new CacheUtil()
+            .getCacheAsync(
+                "staleRefreshGroup",
+                CacheUtil.groupPolicy,
+                context -> {
+                  refreshContext.complete(context);
+                  return CompletableFuture.completedFuture("{\"id\":\"fresh\"}");
+                },
+                reqContext)
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+    Assert.assertEquals("{\"id\":\"stale\"}", value);
+    Map<String, Object> context = refreshContext.get(10, TimeUnit.SECONDS);
+    Assert.assertFalse(context.containsKey(JsonKey.DEADLINE));
+    Assert.assertEquals("request1", context.get(JsonKey.REQUEST_ID));
+    // the request keeps its deadline
+    Assert.assertTrue(Deadline.hasDeadline(reqContext));
+  }
+}
@@ -0,0 +1,44 @@
+package org.sunbird.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.util.JsonKey;
+
+public class CacheWarmerTest {
+
+  @Test
+  public void testDisabledWarmUpIsReady() {
+    CacheWarmer cacheWarmer = new CacheWarmer(false, 10, 2, 1000);
+    cacheWarmer.start();
+    Assert.assertTrue(cacheWarmer.isReady());
+    Assert.assertEquals("disabled", cacheWarmer.getStats().get("state"));
+  }
+
+  @Test
+  public void testEnabledWarmUpIsNotReadyBeforeStart() {
+    Assert.assertFalse(new CacheWarmer(true, 10, 2, 1000).isReady());
+  }
+
+  @Test
+  public void testCreateRequestOfSampledKeys() {
+    Request group = CacheWarmer.createRequest("group:group1");
+    Assert.assertEquals("readGroup", group.getOperation());
+    Assert.assertEquals("group1", group.getRequest().get(JsonKey.GROUP_ID));
+    Assert.assertNull(group.getRequest().get(JsonKey.FIELDS));
+
+    Request members = CacheWarmer.createRequest("members:group1_members");
+    Assert.assertEquals("group1", members.getRequest().get(JsonKey.GROUP_ID));
+    Assert.assertEquals(Arrays.asList(JsonKey.MEMBERS), members.getRequest().get(JsonKey.FIELDS));
+
+    Request user = CacheWarmer.createRequest("user:user1");
+    Assert.assertEquals("searchGroup", user.getOperation());
+    Assert.assertEquals(
+        "user1", ((Map<String, Object>) user.getRequest().get(JsonKey.FILTERS)).get(JsonKey.USER_ID));
+
+    Assert.assertNull(CacheWarmer.createRequest("activity:do_1"));
+    Assert.assertNull(CacheWarmer.createRequest("group"));
+  }
+}
@@ -0,0 +1,58 @@
+package org.sunbird.util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+  @Test
+  public void testRejectedOverLimit() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 2, 1, 10, 2.0, 1);
+    ConcurrencyLimiter.Limit limit = limiter.getLimit("readGroup");
+    Assert.assertTrue(limit.tryAcquire());
+    Assert.assertTrue(limit.tryAcquire());
+    Assert.assertFalse(limit.tryAcquire());
+    limit.release(System.nanoTime(), false);
+    Assert.assertTrue(limit.tryAcquire());
+    Assert.assertEquals(1L, getStats(limiter, "readGroup").get("rejected"));
+  }
+
+  @Test
+  public void testLimitGrowsWhileUsed() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 4, 1, 10, 2.0, 1);
+    ConcurrencyLimiter.Limit limit = limiter.getLimit("readGroup");
+    for (int i = 0; i < 100; i++) {
+      int admitted = 0;
+      while (limit.tryAcquire()) {
+        admitted++;
+      }
+      for (int j = 0; j < admitted; j++) {
+        // steady 10 ms latency
+        limit.release(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10), false);
+      }
+    }
+    Assert.assertEquals(10, getStats(limiter, "readGroup").get("limit"));
+  }
+
+  @Test
+  public void testLimitShrinksOnDrop() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 10, 2, 10, 2.0, 1);
+    ConcurrencyLimiter.Limit limit = limiter.getLimit("updateGroup");
+    for (int i = 0; i < 30; i++) {
+      TimeUnit.MILLISECONDS.sleep(1);
+      limit.tryAcquire();
+      limit.release(System.nanoTime(), true);
+    }
+    Map<String, Object> stats = getStats(limiter, "updateGroup");
+    Assert.assertEquals(2, stats.get("limit"));
+    Assert.assertEquals(30L, stats.get("dropped"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getStats(ConcurrencyLimiter limiter, String operation) {
+    Map<String, Object> operations = (Map<String, Object>) limiter.getStats().get("operations");
+    return (Map<String, Object>) operations.get(operation);
+  }
+}
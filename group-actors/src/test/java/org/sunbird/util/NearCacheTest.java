@@ -0,0 +1,66 @@
+package org.sunbird.util;
+
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NearCacheTest {
+
+  @Test
+  public void testGetAfterPut() {
+    NearCache nearCache = new NearCache(10, 60000);
+    Assert.assertNull(nearCache.get("group1"));
+    nearCache.put("group1", "{\"id\":\"group1\"}");
+    Assert.assertEquals("{\"id\":\"group1\"}", nearCache.get("group1"));
+    Map<String, Object> stats = nearCache.getStats();
+    Assert.assertEquals(1L, stats.get("hits"));
+    Assert.assertEquals(1L, stats.get("misses"));
+  }
+
+  @Test
+  public void testEmptyValueIsNotCached() {
+    NearCache nearCache = new NearCache(10, 60000);
+    nearCache.put("group1", "");
+    Assert.assertNull(nearCache.get("group1"));
+    Assert.assertEquals(0, nearCache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    NearCache nearCache = new NearCache(2, 60000);
+    nearCache.put("group1", "value1");
+    nearCache.put("group2", "value2");
+    nearCache.get("group1");
+    nearCache.put("group3", "value3");
+    Assert.assertEquals("value1", nearCache.get("group1"));
+    Assert.assertNull(nearCache.get("group2"));
+    Assert.assertEquals("value3", nearCache.get("group3"));
+    Assert.assertEquals(1L, nearCache.getStats().get("evictions"));
+  }
+
+  @Test
+  public void testExpiredEntryIsRemoved() throws InterruptedException {
+    NearCache nearCache = new NearCache(10, 1);
+    nearCache.put("group1", "value1");
+    Thread.sleep(5);
+    Assert.assertNull(nearCache.get("group1"));
+    Assert.assertEquals(1L, nearCache.getStats().get("expirations"));
+  }
+
+  @Test
+  public void testInvalidate() {
+    NearCache nearCache = new NearCache(10, 60000);
+    nearCache.put("group1", "value1");
+    nearCache.invalidate("group1");
+    Assert.assertNull(nearCache.get("group1"));
+    Assert.assertEquals(1L, nearCache.getStats().get("invalidations"));
+  }
+
+  @Test
+  public void testDisabled() {
+    NearCache nearCache = new NearCache(0, 60000);
+    nearCache.put("group1", "value1");
+    Assert.assertFalse(nearCache.isEnabled());
+    Assert.assertNull(nearCache.get("group1"));
+  }
+}
@@ -0,0 +1,113 @@
+package org.sunbird.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+
+public class OperationExecutorTest {
+
+  @Test
+  public void testFailureCompletesFuture() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    CompletableFuture<Void> future =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("DB unavailable");
+            });
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertEquals(1L, executor.getStats().get("failed"));
+  }
+
+  @Test
+  public void testRejectedBeyondQueue() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> running = executor.submit(release::await);
+    CompletableFuture<Void> queued = executor.submit(() -> {});
+    CompletableFuture<Void> rejected = executor.submit(() -> {});
+    try {
+      rejected.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertEquals(
+          ResponseCode.SERVICE_UNAVAILABLE.getCode(),
+          ((BaseException) e.getCause()).getResponseCode());
+    }
+    release.countDown();
+    running.get(10, TimeUnit.SECONDS);
+    queued.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(2L, executor.getStats().get("completed"));
+    Assert.assertEquals(1L, executor.getStats().get("rejected"));
+  }
+
+  @Test
+  public void testAdmitRunsOnCallerThread() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    Thread caller = Thread.currentThread();
+    CompletableFuture<Thread> stage = new CompletableFuture<>();
+    CompletableFuture<Thread> admitted =
+        executor.admit(
+            () -> {
+              stage.complete(Thread.currentThread());
+              return stage;
+            });
+    Assert.assertSame(caller, admitted.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, executor.getStats().get("inFlight"));
+    Assert.assertEquals(1L, executor.getStats().get("completed"));
+  }
+
+  @Test
+  public void testAdmitRejectedBeyondMaxAsyncInFlight() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    CompletableFuture<String> stage = new CompletableFuture<>();
+    CompletableFuture<String> running = executor.admit(() -> stage);
+    CompletableFuture<String> rejected = executor.admit(() -> CompletableFuture.completedFuture("{}"));
+    try {
+      rejected.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertEquals(
+          ResponseCode.SERVICE_UNAVAILABLE.getCode(),
+          ((BaseException) e.getCause()).getResponseCode());
+    }
+    Assert.assertEquals(1, executor.getStats().get("asyncInFlight"));
+    stage.complete("{}");
+    Assert.assertEquals("{}", running.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, executor.getStats().get("asyncInFlight"));
+    Assert.assertEquals(1L, executor.getStats().get("asyncRejected"));
+  }
+
+  @Test
+  public void testAdmitFailureCompletesFuture() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    CompletableFuture<String> admitted =
+        executor.admit(
+            () -> {
+              throw new IllegalStateException("DB unavailable");
+            });
+    try {
+      admitted.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertEquals(1L, executor.getStats().get("failed"));
+    Assert.assertEquals(0, executor.getStats().get("asyncInFlight"));
+  }
+
+  @Test
+  public void testSupplyCompletesWithResult() throws Exception {
+    OperationExecutor executor = new OperationExecutor(1, 1, 1);
+    Assert.assertEquals("{}", executor.supply(() -> "{}").get(10, TimeUnit.SECONDS));
+  }
+}
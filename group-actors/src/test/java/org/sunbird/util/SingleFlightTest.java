@@ -0,0 +1,185 @@
+package org.sunbird.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.exception.BaseException;
+
+public class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  @Test
+  public void testConcurrentMissesShareOneLoad() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    AtomicInteger loads = new AtomicInteger();
+    CompletableFuture<String> load = new CompletableFuture<>();
+    List<CompletableFuture<String>> results =
+        loadConcurrently(
+            singleFlight,
+            context -> {
+              loads.incrementAndGet();
+              return load;
+            });
+    Assert.assertEquals((long) CALLERS - 1, singleFlight.getStats().get("waiters"));
+    Assert.assertEquals(1, singleFlight.getStats().get("inFlight"));
+    load.complete("{\"id\":\"group1\"}");
+    for (CompletableFuture<String> result : results) {
+      Assert.assertEquals("{\"id\":\"group1\"}", result.get(10, TimeUnit.SECONDS));
+    }
+    Assert.assertEquals(1, loads.get());
+    Assert.assertEquals(1L, singleFlight.getStats().get("loads"));
+    Assert.assertEquals(0, singleFlight.getStats().get("inFlight"));
+  }
+
+  @Test
+  public void testWaitersGetExceptionOfLoad() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    CompletableFuture<String> load = new CompletableFuture<>();
+    List<CompletableFuture<String>> results = loadConcurrently(singleFlight, context -> load);
+    load.completeExceptionally(new BaseException("GS_RED07", "group not found", 404));
+    for (CompletableFuture<String> result : results) {
+      try {
+        result.get(10, TimeUnit.SECONDS);
+        Assert.fail();
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof BaseException);
+      }
+    }
+    Assert.assertEquals(1L, singleFlight.getStats().get("failures"));
+  }
+
+  @Test
+  public void testLoaderThrowingFailsTheLoad() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    CompletableFuture<String> result =
+        singleFlight
+            .load(
+                "group1",
+                context -> {
+                  throw new BaseException("GS_RED07", "group not found", 404);
+                },
+                new HashMap<>())
+            .toCompletableFuture();
+    try {
+      result.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof BaseException);
+    }
+    Assert.assertEquals(0, singleFlight.getStats().get("inFlight"));
+  }
+
+  @Test
+  public void testSequentialMissesLoadAgain() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    AtomicInteger loads = new AtomicInteger();
+    SingleFlight.Loader loader =
+        context -> CompletableFuture.completedFuture(String.valueOf(loads.incrementAndGet()));
+    Assert.assertEquals("1", get(singleFlight.load("group1", loader, new HashMap<>())));
+    Assert.assertEquals("2", get(singleFlight.load("group1", loader, new HashMap<>())));
+    Assert.assertEquals("3", get(singleFlight.load("group2", loader, new HashMap<>())));
+  }
+
+  @Test
+  public void testWaiterLoadsAfterTimeout() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(50, false, 0);
+    CompletableFuture<String> slowLoad = new CompletableFuture<>();
+    CompletableFuture<String> slow =
+        singleFlight.load("group1", context -> slowLoad, new HashMap<>()).toCompletableFuture();
+    Assert.assertEquals(
+        "fast",
+        get(
+            singleFlight.load(
+                "group1", context -> CompletableFuture.completedFuture("fast"), new HashMap<>())));
+    slowLoad.complete("slow");
+    Assert.assertEquals("slow", slow.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(1L, singleFlight.getStats().get("waitTimeouts"));
+  }
+
+  @Test
+  public void testForgetDuringLoadDoesNotCacheStaleValue() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    RecordingStore store = new RecordingStore();
+    CompletableFuture<String> staleLoad = new CompletableFuture<>();
+    CompletableFuture<String> stale =
+        singleFlight.load("group1", context -> staleLoad, store, new HashMap<>()).toCompletableFuture();
+    // the group changed, its key was deleted while the first load still ran
+    singleFlight.forget("group1");
+    CompletableFuture<String> fresh =
+        singleFlight
+            .load(
+                "group1", context -> CompletableFuture.completedFuture("fresh"), store, new HashMap<>())
+            .toCompletableFuture();
+    Assert.assertEquals("fresh", fresh.get(10, TimeUnit.SECONDS));
+    staleLoad.complete("stale");
+    // callers of the old load still get its value, it is only not cached
+    Assert.assertEquals("stale", stale.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(Collections.singletonList("fresh"), store.stored);
+    Assert.assertEquals(0, store.evictions.get());
+    Assert.assertEquals(1L, singleFlight.getStats().get("staleLoads"));
+  }
+
+  @Test
+  public void testForgetWhileStoringEvictsValue() throws Exception {
+    SingleFlight singleFlight = new SingleFlight(10000, false, 0);
+    RecordingStore store = new RecordingStore();
+    store.written = new CompletableFuture<>();
+    CompletableFuture<String> result =
+        singleFlight
+            .load(
+                "group1", context -> CompletableFuture.completedFuture("stale"), store, new HashMap<>())
+            .toCompletableFuture();
+    Assert.assertEquals("stale", result.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(1, singleFlight.getStats().get("inFlight"));
+    // the key is deleted after the value was checked but before redis wrote it
+    singleFlight.forget("group1");
+    store.written.complete("OK");
+    Assert.assertEquals(0, singleFlight.getStats().get("inFlight"));
+    Assert.assertEquals(Collections.singletonList("stale"), store.stored);
+    Assert.assertEquals(1, store.evictions.get());
+  }
+
+  /** Records the values cached, the write completes with the written stage. */
+  private static class RecordingStore implements SingleFlight.Store {
+    private final List<String> stored = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger evictions = new AtomicInteger();
+    private CompletableFuture<String> written = CompletableFuture.completedFuture("OK");
+
+    @Override
+    public CompletionStage<?> store(String value, long loadMillis) {
+      stored.add(value);
+      return written;
+    }
+
+    @Override
+    public void evict() {
+      evictions.incrementAndGet();
+    }
+  }
+
+  /** Starts the callers from one thread, none of them holds a thread while the load runs. */
+  private List<CompletableFuture<String>> loadConcurrently(
+      SingleFlight singleFlight, SingleFlight.Loader loader) {
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(singleFlight.load("group1", loader, new HashMap<>()).toCompletableFuture());
+    }
+    for (CompletableFuture<String> result : results) {
+      Assert.assertFalse(result.isDone());
+    }
+    return results;
+  }
+
+  private static String get(CompletionStage<String> stage) throws Exception {
+    return stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+}
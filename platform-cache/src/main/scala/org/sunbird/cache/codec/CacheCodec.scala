@@ -0,0 +1,25 @@
+package org.sunbird.cache.codec
+
+/**
+ * Encoding of cached values. The version is written in front of every value encoded by the codec,
+ * so it must never change once values were written with it.
+ */
+trait CacheCodec {
+
+	def name: String
+
+	def version: Byte
+
+	/**
+	 * @param data UTF-8 bytes of the value
+	 * @return encoded bytes, without the header
+	 */
+	def encode(data: Array[Byte]): Array[Byte]
+
+	/**
+	 * @param data encoded value
+	 * @param offset position of the first byte after the header
+	 * @return UTF-8 bytes of the value
+	 */
+	def decode(data: Array[Byte], offset: Int): Array[Byte]
+}
@@ -0,0 +1,58 @@
+package org.sunbird.cache.codec
+
+import java.nio.charset.StandardCharsets
+
+import org.sunbird.cache.util.Platform
+
+/**
+ * Encodes cached string values with the codec named by redis.codec, only values of at least
+ * redis.codecThreshold bytes are encoded. Encoded values start with a byte that never occurs in
+ * UTF-8 followed by the codec version, values without it are plain UTF-8 as written before codecs
+ * existed. Values of every registered codec can be read whatever codec is set for writing, so
+ * nodes can be switched to a codec once all nodes know it.
+ */
+object CacheCodecs {
+
+	private val MAGIC: Byte = 0xFF.toByte
+	private val HEADER_LENGTH = 2
+	private val codecs: Map[Byte, CacheCodec] = Map(Lz4Codec.version -> Lz4Codec)
+	private val writeCodec: Option[CacheCodec] = forName(Platform.getString("redis.codec", "none"))
+	private val threshold: Int = Platform.getInteger("redis.codecThreshold", 1024)
+
+	/**
+	 * @param name codec name, none for plain UTF-8
+	 * @return codec registered under the name
+	 */
+	def forName(name: String): Option[CacheCodec] = {
+		if ("none".equalsIgnoreCase(name)) None
+		else Some(codecs.values.find(_.name.equalsIgnoreCase(name))
+			.getOrElse(throw new IllegalArgumentException("Unknown cache codec : " + name)))
+	}
+
+	def encode(data: String): Array[Byte] = encode(data, writeCodec, threshold)
+
+	def encode(data: String, codec: Option[CacheCodec], threshold: Int): Array[Byte] = {
+		if (null == data) null
+		else {
+			val bytes = data.getBytes(StandardCharsets.UTF_8)
+			codec match {
+				case Some(value) if bytes.length >= threshold =>
+					val encoded = value.encode(bytes)
+					val result = new Array[Byte](HEADER_LENGTH + encoded.length)
+					result(0) = MAGIC
+					result(1) = value.version
+					System.arraycopy(encoded, 0, result, HEADER_LENGTH, encoded.length)
+					result
+				case _ => bytes
+			}
+		}
+	}
+
+	def decode(data: Array[Byte]): String = {
+		if (null == data) null
+		else if (data.length >= HEADER_LENGTH && data(0) == MAGIC) {
+			val codec = codecs.getOrElse(data(1), throw new IllegalStateException("Unknown cache codec version : " + data(1)))
+			new String(codec.decode(data, HEADER_LENGTH), StandardCharsets.UTF_8)
+		} else new String(data, StandardCharsets.UTF_8)
+	}
+}
@@ -0,0 +1,31 @@
+package org.sunbird.cache.codec
+
+import java.nio.ByteBuffer
+
+import net.jpountz.lz4.LZ4Factory
+
+/**
+ * LZ4 block compression, the encoded value is the length of the value as 4 bytes followed by the
+ * compressed block.
+ */
+object Lz4Codec extends CacheCodec {
+
+	private val factory = LZ4Factory.fastestInstance()
+
+	override val name: String = "lz4"
+
+	override val version: Byte = 1
+
+	override def encode(data: Array[Byte]): Array[Byte] = {
+		val compressor = factory.fastCompressor()
+		val buffer = new Array[Byte](4 + compressor.maxCompressedLength(data.length))
+		ByteBuffer.wrap(buffer).putInt(data.length)
+		val compressedLength = compressor.compress(data, 0, data.length, buffer, 4)
+		java.util.Arrays.copyOf(buffer, 4 + compressedLength)
+	}
+
+	override def decode(data: Array[Byte], offset: Int): Array[Byte] = {
+		val length = ByteBuffer.wrap(data, offset, 4).getInt
+		factory.fastDecompressor().decompress(data, offset + 4, length)
+	}
+}
@@ -0,0 +1,245 @@
+package org.sunbird.cache.impl
+
+import java.util
+import java.util.concurrent.{CompletableFuture, CompletionStage, LinkedBlockingQueue, RejectedExecutionException}
+import java.util.concurrent.atomic.{AtomicInteger, LongAdder}
+
+import org.slf4j.{Logger, LoggerFactory}
+import org.sunbird.cache.codec.CacheCodecs
+import org.sunbird.cache.util.{Platform, RedisConnector}
+import redis.clients.jedis.exceptions.JedisDataException
+import redis.clients.jedis.{Jedis, Pipeline, Response}
+import redis.clients.util.SafeEncoder
+
+import scala.annotation.varargs
+import scala.collection.JavaConverters._
+
+/**
+ * This Utility Object Provides Non Blocking Get, Set, Delete And Multi Get Operations With Redis.
+ * Commands are queued on one of the redis.async.connections lanes of the shard holding the key,
+ * chosen by key, and each lane sends everything queued since its last round trip as one pipeline
+ * over a connection it keeps. Callers never wait for a connection; commands for the same key keep
+ * their order. Multi key commands are split by shard and sent on a lane of each shard. A lane holds
+ * at most redis.async.maxPending commands, commands beyond fail at once with a rejected execution
+ * exception instead of queueing behind a slow shard.
+ */
+object AsyncRedisCache extends RedisConnector {
+
+	private val logger: Logger = LoggerFactory.getLogger(AsyncRedisCache.getClass.getCanonicalName)
+	private val CONNECTIONS = Math.max(1, Platform.getInteger("redis.async.connections", 2))
+	private val MAX_BATCH_SIZE = Math.max(1, Platform.getInteger("redis.async.maxBatchSize", 128))
+	private val MAX_PENDING = Math.max(1, Platform.getInteger("redis.async.maxPending", 10000))
+	private val lanes: Array[Lane] = Array.tabulate(shardCount * CONNECTIONS)(index => new Lane(index / CONNECTIONS, index))
+	private val nextLane = new AtomicInteger()
+	private val NX = SafeEncoder.encode("NX")
+	private val PX = SafeEncoder.encode("PX")
+	// returns a string, the pipelined eval of this jedis version reads the reply as a bulk string
+	private val DEL_IF_EQUALS_SCRIPT =
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return tostring(redis.call('del', KEYS[1])) else return '0' end"
+
+	/**
+	 * This method returns string data from cache for given key, null if the key is not present
+	 *
+	 * @param key
+	 * @return CompletionStage[String]
+	 */
+	def get(key: String): CompletionStage[String] =
+		submit(key, _.get(SafeEncoder.encode(key))).thenApply(data => CacheCodecs.decode(data))
+
+	/**
+	 * This method store string data into cache for given key, ttl in seconds, 0 to keep forever
+	 *
+	 * @param key
+	 * @param data
+	 * @param ttl
+	 * @return CompletionStage[String]
+	 */
+	def set(key: String, data: String, ttl: Int): CompletionStage[String] = {
+		val value = CacheCodecs.encode(data)
+		submit(key, pipeline => {
+			if (ttl > 0) pipeline.setex(SafeEncoder.encode(key), ttl, value)
+			else pipeline.set(SafeEncoder.encode(key), value)
+		})
+	}
+
+	/**
+	 * This method store string data for given key only if the key is not present, ttl in milliseconds
+	 *
+	 * @param key
+	 * @param data
+	 * @param ttl
+	 * @return CompletionStage[Boolean] true if the data was stored
+	 */
+	def setIfAbsent(key: String, data: String, ttl: Int): CompletionStage[java.lang.Boolean] =
+		submit(key, _.set(SafeEncoder.encode(key), SafeEncoder.encode(data), NX, PX, ttl))
+			.thenApply(result => java.lang.Boolean.valueOf(null != result))
+
+	/**
+	 * This method delete the key only if it still holds the given data, for releasing locks
+	 *
+	 * @param key
+	 * @param data
+	 * @return CompletionStage[Boolean] true if the key was deleted
+	 */
+	def delIfEquals(key: String, data: String): CompletionStage[java.lang.Boolean] =
+		submit(key, _.eval(DEL_IF_EQUALS_SCRIPT, util.Collections.singletonList(key), util.Collections.singletonList(data)))
+			.thenApply(result => java.lang.Boolean.valueOf("1" == result))
+
+	/**
+	 * This method delete data from cache for given key/keys
+	 *
+	 * @param keys
+	 * @return CompletionStage[Long] number of keys deleted
+	 */
+	@varargs
+	def del(keys: String*): CompletionStage[java.lang.Long] = {
+		val deletes = groupByShard(keys).values.map(shardKeys => {
+			val batch = shardKeys.map(_._1)
+			submit(batch.head, _.del(batch: _*)).toCompletableFuture
+		}).toSeq
+		CompletableFuture.allOf(deletes: _*)
+			.thenApply(_ => java.lang.Long.valueOf(deletes.map(_.join.longValue).sum))
+	}
+
+	/**
+	 * This method returns string data for given keys in one command per shard, null for keys not present
+	 *
+	 * @param keys
+	 * @return CompletionStage[java.util.List[String]] in the order of the keys
+	 */
+	def mget(keys: util.List[String]): CompletionStage[util.List[String]] = {
+		val result = new Array[String](keys.size)
+		val reads = groupByShard(keys.asScala.toSeq).values.map(shardKeys =>
+			submit(shardKeys.head._1, _.mget(SafeEncoder.encodeMany(shardKeys.map(_._1): _*): _*))
+				.thenAccept(values => shardKeys.zip(values.asScala).foreach {
+					case ((_, index), value) => result(index) = CacheCodecs.decode(value)
+				}).toCompletableFuture
+		).toSeq
+		CompletableFuture.allOf(reads: _*).thenApply(_ => util.Arrays.asList(result: _*))
+	}
+
+	/**
+	 * This method increment the counter stored at the key by 1, a missing key counts from 0
+	 *
+	 * @param key
+	 * @return CompletionStage[Long] new value of the counter
+	 */
+	def incr(key: String): CompletionStage[java.lang.Long] = submit(key, _.incr(key))
+
+	/**
+	 * This method increment the score of the member of the sorted set by 1 and sets the ttl of the
+	 * set in seconds
+	 *
+	 * @param key
+	 * @param member
+	 * @param ttl
+	 * @return CompletionStage[Double] new score of the member
+	 */
+	def zincrby(key: String, member: String, ttl: Int): CompletionStage[java.lang.Double] =
+		submit(key, pipeline => {
+			val score = pipeline.zincrby(key, 1, member)
+			pipeline.expire(key, ttl)
+			score
+		})
+
+	/**
+	 * This method returns the members of the sorted set with the highest scores
+	 *
+	 * @param key
+	 * @param count
+	 * @return CompletionStage[java.util.List[String]] highest score first
+	 */
+	def zrevrange(key: String, count: Int): CompletionStage[util.List[String]] =
+		submit(key, _.zrevrange(key, 0, count - 1))
+			.thenApply(members => new util.ArrayList[String](members): util.List[String])
+
+	/**
+	 * @return commands waiting to be sent, commands sent, commands rejected and pipelines sent since start
+	 */
+	def getStats: util.Map[String, AnyRef] = {
+		val stats = new util.HashMap[String, AnyRef]()
+		stats.put("connections", Integer.valueOf(lanes.length))
+		stats.put("maxPending", Integer.valueOf(MAX_PENDING))
+		stats.put("pending", java.lang.Long.valueOf(lanes.map(_.pending).sum))
+		stats.put("rejected", java.lang.Long.valueOf(lanes.map(_.rejected.sum).sum))
+		stats.put("commands", java.lang.Long.valueOf(lanes.map(_.commands.sum).sum))
+		stats.put("pipelines", java.lang.Long.valueOf(lanes.map(_.pipelines.sum).sum))
+		stats
+	}
+
+	private def submit[T](key: String, send: Pipeline => Response[T]): CompletionStage[T] = {
+		val command = new Command[T](send)
+		if (null == key) lanes(Math.floorMod(nextLane.getAndIncrement(), lanes.length)).submit(command)
+		else lanes(shardOf(key) * CONNECTIONS + Math.floorMod(key.hashCode, CONNECTIONS)).submit(command)
+		command.future
+	}
+
+	private class Command[T](send: Pipeline => Response[T]) {
+		val future = new CompletableFuture[T]()
+		private var response: Response[T] = _
+
+		def enqueue(pipeline: Pipeline): Unit = response = send(pipeline)
+
+		def complete(): Unit = {
+			try future.complete(response.get)
+			catch {
+				case e: JedisDataException => future.completeExceptionally(e)
+			}
+		}
+
+		def fail(e: Throwable): Unit = future.completeExceptionally(e)
+	}
+
+	private class Lane(shard: Int, index: Int) extends Runnable {
+		private val queue = new LinkedBlockingQueue[Command[_]](MAX_PENDING)
+		private var jedis: Jedis = _
+		val commands = new LongAdder()
+		val rejected = new LongAdder()
+		val pipelines = new LongAdder()
+
+		private val thread = new Thread(this, "redis-async-" + index)
+		thread.setDaemon(true)
+		thread.start()
+
+		def submit(command: Command[_]): Unit = {
+			if (!queue.offer(command)) {
+				rejected.increment()
+				command.fail(new RejectedExecutionException("Redis async lane " + index + " has " + MAX_PENDING + " commands pending"))
+			}
+		}
+
+		def pending: Long = queue.size()
+
+		override def run(): Unit = {
+			val batch = new util.ArrayList[Command[_]](MAX_BATCH_SIZE)
+			try {
+				while (true) {
+					batch.add(queue.take())
+					queue.drainTo(batch, MAX_BATCH_SIZE - 1)
+					execute(batch)
+					batch.clear()
+				}
+			} catch {
+				case _: InterruptedException => logger.info("Redis async lane " + index + " stopped")
+			}
+		}
+
+		private def execute(batch: util.List[Command[_]]): Unit = {
+			try {
+				if (null == jedis) jedis = getShardConnection(shard)
+				val pipeline = jedis.pipelined()
+				batch.asScala.foreach(_.enqueue(pipeline))
+				pipeline.sync()
+				batch.asScala.foreach(_.complete())
+				commands.add(batch.size)
+				pipelines.increment()
+			} catch {
+				case e: Exception =>
+					logger.error("Exception Occurred While Sending " + batch.size + " Commands To Redis | Exception is : ", e)
+					batch.asScala.foreach(_.fail(e))
+					returnBrokenConnection(jedis)
+					jedis = null
+			}
+		}
+	}
+}
@@ -2,31 +2,35 @@ package org.sunbird.cache.impl
 
 import org.apache.commons.lang3.StringUtils
 import org.slf4j.{Logger, LoggerFactory}
+import org.sunbird.cache.codec.CacheCodecs
 import org.sunbird.cache.util.RedisConnector
+import redis.clients.util.SafeEncoder
 
 import scala.collection.JavaConverters._
 import scala.concurrent.{ExecutionContext, Future}
 
 /**
- * This Utility Object Provide Methods To Perform CRUD Operation With Redis
+ * This Utility Object Provide Methods To Perform CRUD Operation With Redis, string values are
+ * encoded with CacheCodecs
  */
 object RedisCache extends RedisConnector {
 
 	private val logger: Logger = LoggerFactory.getLogger(RedisCache.getClass.getCanonicalName)
+	private val BATCH_SIZE = 100
 
 	/**
-	 * This method store string data into cache for given Key
+	 * This method store string data into cache for given Key, the value and its ttl are set with one
+	 * command so the key is never left without expiry
 	 *
 	 * @param key
 	 * @param data
 	 * @param ttl
 	 */
 	def set(key: String, data: String, ttl: Int = 0): Unit = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
-			jedis.del(key)
-			jedis.set(key, data)
-			if (ttl > 0) jedis.expire(key, ttl)
+			if (ttl > 0) jedis.setex(SafeEncoder.encode(key), ttl, CacheCodecs.encode(data))
+			else jedis.set(SafeEncoder.encode(key), CacheCodecs.encode(data))
 		} catch {
 			case e: Exception =>
 				logger.error("Exception Occurred While Saving String Data to Redis Cache for Key : " + key + "| Exception is:", e)
@@ -43,9 +47,9 @@ object RedisCache extends RedisConnector {
 	 * @return
 	 */
 	def get(key: String, handler: (String) => String = defaultStringHandler, ttl: Int = 0): String = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
-			var data = jedis.get(key)
+			var data = CacheCodecs.decode(jedis.get(SafeEncoder.encode(key)))
 			if (null != handler && (null == data || data.isEmpty)) {
 				data = handler(key)
 				if (null != data && !data.isEmpty)
@@ -70,9 +74,9 @@ object RedisCache extends RedisConnector {
 	 * @return Future[String]
 	 */
 	def getAsync(key: String, asyncHandler: (String) => Future[String], ttl: Int = 0)(implicit ec: ExecutionContext): Future[String] = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
-			val data = jedis.get(key)
+			val data = CacheCodecs.decode(jedis.get(SafeEncoder.encode(key)))
 			if (null != asyncHandler && (null == data || data.isEmpty)) {
 				val dataFuture: Future[String] = asyncHandler(key)
 				dataFuture.map(value => {
@@ -89,6 +93,33 @@ object RedisCache extends RedisConnector {
 		} finally returnConnection(jedis)
 	}
 
+	/**
+	 * This method read string data from cache for given keys, keys of each shard are sent as MGET
+	 * commands of at most BATCH_SIZE keys in one pipeline
+	 *
+	 * @param keys
+	 * @return List[String] in the order of the keys, null for keys not present
+	 */
+	def mget(keys: List[String]): List[String] = {
+		val result = new Array[String](keys.size)
+		groupByShard(keys).foreach { case (shard, shardKeys) =>
+			val jedis = getShardConnection(shard)
+			try {
+				val pipeline = jedis.pipelined()
+				val responses = shardKeys.grouped(BATCH_SIZE)
+					.map(batch => (batch, pipeline.mget(SafeEncoder.encodeMany(batch.map(_._1): _*): _*))).toList
+				pipeline.sync()
+				for ((batch, response) <- responses; ((_, index), value) <- batch.zip(response.get.asScala))
+					result(index) = CacheCodecs.decode(value)
+			} catch {
+				case e: Exception =>
+					logger.error("Exception Occurred While Fetching String Data from Redis Cache for Keys : " + keys.size + "| Exception is:", e)
+					throw e
+			} finally returnConnection(jedis)
+		}
+		result.toList
+	}
+
 	/**
 	 * This method increment the value by 1 into cache for given key and returns the new value
 	 *
@@ -96,7 +127,7 @@ object RedisCache extends RedisConnector {
 	 * @return Double
 	 */
 	def incrementAndGet(key: String): Double = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		val inc = 1.0
 		try jedis.incrByFloat(key, inc)
 		catch {
@@ -107,7 +138,8 @@ object RedisCache extends RedisConnector {
 	}
 
 	/**
-	 * This method store/save list data into cache for given Key
+	 * This method store/save list data into cache for given Key, all entries are added with one
+	 * SADD in one pipeline. A full update replaces the list and sets the ttl in one transaction
 	 *
 	 * @param key
 	 * @param data
@@ -115,12 +147,24 @@ object RedisCache extends RedisConnector {
 	 * @param ttl
 	 */
 	def saveList(key: String, data: List[String], ttl: Int = 0, isPartialUpdate: Boolean = false): Unit = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
-			if (!isPartialUpdate)
-				jedis.del(key)
-			data.foreach(entry => jedis.sadd(key, entry))
-			if (ttl > 0 && !isPartialUpdate) jedis.expire(key, ttl)
+			val pipeline = jedis.pipelined()
+			if (isPartialUpdate) {
+				if (data.nonEmpty) {
+					val added = pipeline.sadd(key, data: _*)
+					pipeline.sync()
+					added.get
+				}
+			} else {
+				pipeline.multi()
+				pipeline.del(Seq(key): _*)
+				if (data.nonEmpty) pipeline.sadd(key, data: _*)
+				if (ttl > 0) pipeline.expire(key, ttl)
+				val result = pipeline.exec()
+				pipeline.sync()
+				result.get
+			}
 		} catch {
 			case e: Exception =>
 				logger.error("Exception Occurred While Saving List Data to Redis Cache for Key : " + key + "| Exception is:", e)
@@ -147,7 +191,7 @@ object RedisCache extends RedisConnector {
 	 * @return
 	 */
 	def getList(key: String, handler: (String) => List[String] = defaultListHandler, ttl: Int = 0): List[String] = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
 			var data = jedis.smembers(key).asScala.toList
 			if (null != handler && (null == data || data.isEmpty)) {
@@ -173,7 +217,7 @@ object RedisCache extends RedisConnector {
 	 * @return Future[List[String]]
 	 */
 	def getListAsync(key: String, asyncHandler: (String) => Future[List[String]], ttl: Int = 0)(implicit ec: ExecutionContext): Future[List[String]] = {
-		val jedis = getConnection
+		val jedis = getConnection(key)
 		try {
 			val data = jedis.smembers(key).asScala.toList
 			if (null != asyncHandler && (null == data || data.isEmpty)) {
@@ -192,56 +236,69 @@ object RedisCache extends RedisConnector {
 	}
 
 	/**
-	 * This Method Remove Given Data From Existing List For Given Key
+	 * This Method Remove Given Data From Existing List For Given Key With One SREM
 	 *
 	 * @param key
 	 * @param data
 	 */
 	def removeFromList(key: String, data: List[String]): Unit = {
-		val jedis = getConnection
-		try data.foreach(entry => jedis.srem(key, entry))
-		catch {
-			case e: Exception =>
-				logger.error("Exception Occurred While Deleting Partial Data From Redis Cache for Key : " + key + "| Exception is:", e)
-				throw e
-		} finally returnConnection(jedis)
+		if (data.nonEmpty) {
+			val jedis = getConnection(key)
+			try jedis.srem(key, data: _*)
+			catch {
+				case e: Exception =>
+					logger.error("Exception Occurred While Deleting Partial Data From Redis Cache for Key : " + key + "| Exception is:", e)
+					throw e
+			} finally returnConnection(jedis)
+		}
 	}
 
 	/**
-	 * This method delete data from cache for given key/keys
+	 * This method delete data from cache for given key/keys, keys of each shard are sent as DEL
+	 * commands of at most BATCH_SIZE keys in one pipeline
 	 *
 	 * @param keys
 	 */
 	def delete(keys: String*): Unit = {
-		val jedis = getConnection
-		try jedis.del(keys.map(_.asInstanceOf[String]): _*)
-		catch {
-			case e: Exception =>
-				logger.error("Exception Occurred While Deleting Records From Redis Cache for Identifiers : " + keys.toArray + " | Exception is : ", e)
-				throw e
-		} finally returnConnection(jedis)
+		groupByShard(keys).foreach { case (shard, shardKeys) =>
+			val jedis = getShardConnection(shard)
+			try {
+				val pipeline = jedis.pipelined()
+				val responses = shardKeys.map(_._1).grouped(BATCH_SIZE).map(batch => pipeline.del(batch: _*)).toList
+				pipeline.sync()
+				responses.foreach(_.get)
+			} catch {
+				case e: Exception =>
+					logger.error("Exception Occurred While Deleting Records From Redis Cache for Identifiers : " + keys.size + " | Exception is : ", e)
+					throw e
+			} finally returnConnection(jedis)
+		}
 	}
 
 	/**
-	 * This method delete data from cache for all key/keys matched with given pattern
+	 * This method delete data from cache for all key/keys matched with given pattern on every shard
 	 *
 	 * @param pattern
 	 */
 	def deleteByPattern(pattern: String): Unit = {
 		if (StringUtils.isNotBlank(pattern) && !StringUtils.equalsIgnoreCase(pattern, "*")) {
-			val jedis = getConnection
-			try {
-				val keys = jedis.keys(pattern)
-				if (keys != null && keys.size > 0)
-					jedis.del(keys.toArray.map(_.asInstanceOf[String]): _*)
-			} catch {
-				case e: Exception =>
-					logger.error("Exception Occurred While Deleting Records From Redis Cache for Pattern : " + pattern + " | Exception is : ", e)
-					throw e
-			} finally returnConnection(jedis)
+			(0 until shardCount).foreach(shard => deleteByPattern(shard, pattern))
 		}
 	}
 
+	private def deleteByPattern(shard: Int, pattern: String): Unit = {
+		val jedis = getShardConnection(shard)
+		try {
+			val keys = jedis.keys(pattern)
+			if (keys != null && keys.size > 0)
+				jedis.del(keys.toArray.map(_.asInstanceOf[String]): _*)
+		} catch {
+			case e: Exception =>
+				logger.error("Exception Occurred While Deleting Records From Redis Cache for Pattern : " + pattern + " | Exception is : ", e)
+				throw e
+		} finally returnConnection(jedis)
+	}
+
 	private def defaultStringHandler(objKey: String): String = {
 		//Default Implementation Can Be Provided Here
 		""
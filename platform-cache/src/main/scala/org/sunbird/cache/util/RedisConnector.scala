@@ -1,31 +1,48 @@
 package org.sunbird.cache.util
 
-import redis.clients.jedis.{Jedis, JedisPool, JedisPoolConfig}
-import org.sunbird.cache.util.Platform
+import redis.clients.jedis.Jedis
 
 /**
- * This Object Provides Methods To Get And Return Redis Connection Object
+ * This Object Provides Methods To Get And Return Redis Connection Object, connections are taken
+ * from the pool of the shard holding the key
  */
 trait RedisConnector {
 
-	private val HOST = Platform.getString("redis.host", "localhost")
-	private val PORT = Platform.getInteger("redis.port", 6379)
-	private val MAX_CONNECTIONS = Platform.getInteger("redis.maxConnections", 128)
-	private val INDEX = Platform.getInteger("redis.dbIndex", 0)
-	private val jedisPool: JedisPool = new JedisPool(getConfig(), HOST, PORT)
+	/**
+	 * This Method Returns a connection object from connection pool of the first shard.
+	 *
+	 * @return Jedis Object
+	 */
+	protected def getConnection: Jedis = getShardConnection(0)
 
 	/**
-	 * This Method Returns a connection object from connection pool.
+	 * This Method Returns a connection object from connection pool of the shard holding the key.
 	 *
+	 * @param key
 	 * @return Jedis Object
 	 */
-	protected def getConnection: Jedis = try {
-		val jedis = jedisPool.getResource
-		if (INDEX > 0) jedis.select(INDEX)
-		jedis
-	} catch {
-		case e: Exception => throw e
-	}
+	protected def getConnection(key: String): Jedis = getShardConnection(shardOf(key))
+
+	/**
+	 * This Method Returns a connection object from connection pool of the shard.
+	 *
+	 * @param shard
+	 * @return Jedis Object
+	 */
+	protected def getShardConnection(shard: Int): Jedis = RedisShards.get(shard).borrow()
+
+	protected def shardCount: Int = RedisShards.count
+
+	protected def shardOf(key: String): Int = RedisShards.forKey(key)
+
+	/**
+	 * This Method groups the keys by the shard holding them, for sending one pipeline per shard.
+	 *
+	 * @param keys
+	 * @return keys of each shard with their position in keys
+	 */
+	protected def groupByShard(keys: Seq[String]): Map[Int, Seq[(String, Int)]] =
+		keys.zipWithIndex.groupBy { case (key, _) => shardOf(key) }
 
 	/**
 	 * This Method takes a connection object and put it back to pool.
@@ -33,16 +50,15 @@ trait RedisConnector {
 	 * @param jedis
 	 */
 	protected def returnConnection(jedis: Jedis): Unit = {
-		try if (null != jedis) jedisPool.returnResource(jedis)
-		catch {
-			case e: Exception => throw e
-		}
+		if (null != jedis) RedisShards.forConnection(jedis).giveBack(jedis)
 	}
 
-	private def getConfig(): JedisPoolConfig = {
-		val config: JedisPoolConfig = new JedisPoolConfig()
-		config.setMaxTotal(MAX_CONNECTIONS)
-		config.setBlockWhenExhausted(true);
-		config
+	/**
+	 * This Method takes a connection object which failed with a connection error and removes it from pool.
+	 *
+	 * @param jedis
+	 */
+	protected def returnBrokenConnection(jedis: Jedis): Unit = {
+		if (null != jedis) RedisShards.forConnection(jedis).discard(jedis)
 	}
 }
@@ -0,0 +1,111 @@
+package org.sunbird.cache.util
+
+import java.util
+import java.util.concurrent.atomic.LongAdder
+
+import org.apache.commons.lang3.StringUtils
+import redis.clients.jedis.{Jedis, JedisPool, JedisPoolConfig, Protocol}
+import redis.clients.util.{Hashing, SafeEncoder}
+
+/**
+ * This Object Holds The Connection Pools Of The Redis Nodes Keys Are Spread Over. Nodes are listed
+ * in redis.shards as host:port separated by commas, without it every key is on redis.host and
+ * redis.port. Keys are placed by consistent hashing as done by ShardedJedis for unnamed shards, so
+ * adding a node moves about one share of the keys and both clients agree on the node of a key.
+ */
+object RedisShards {
+
+	private val VIRTUAL_NODES = 160
+	private val HOST = Platform.getString("redis.host", "localhost")
+	private val PORT = Platform.getInteger("redis.port", 6379)
+	private val MAX_CONNECTIONS = Platform.getInteger("redis.maxConnections", 128)
+	private val INDEX = Platform.getInteger("redis.dbIndex", 0)
+	private val TIMEOUT = Platform.getInteger("redis.timeout", Protocol.DEFAULT_TIMEOUT)
+
+	private val shards: Array[Shard] = {
+		val addresses = StringUtils.split(Platform.getString("redis.shards", ""), ",").map(_.trim).filter(_.nonEmpty)
+		if (addresses.isEmpty) Array(new Shard(0, HOST, PORT))
+		else addresses.zipWithIndex.map { case (address, index) =>
+			new Shard(index, StringUtils.substringBeforeLast(address, ":"), StringUtils.substringAfterLast(address, ":").toInt)
+		}
+	}
+	private val ring: util.TreeMap[java.lang.Long, Shard] = {
+		val nodes = new util.TreeMap[java.lang.Long, Shard]()
+		for (shard <- shards; node <- 0 until VIRTUAL_NODES)
+			nodes.put(Hashing.MURMUR_HASH.hash("SHARD-" + shard.index + "-NODE-" + node), shard)
+		nodes
+	}
+
+	def count: Int = shards.length
+
+	/**
+	 * @param key
+	 * @return index of the shard holding the key
+	 */
+	def forKey(key: String): Int = {
+		if (shards.length == 1) 0
+		else {
+			val node = ring.ceilingEntry(Hashing.MURMUR_HASH.hash(SafeEncoder.encode(key)))
+			(if (null == node) ring.firstEntry() else node).getValue.index
+		}
+	}
+
+	def get(index: Int): Shard = shards(index)
+
+	/**
+	 * @param jedis connection borrowed from one of the shards
+	 * @return shard the connection belongs to
+	 */
+	def forConnection(jedis: Jedis): Shard = {
+		if (shards.length == 1) shards(0)
+		else shards.find(_.owns(jedis)).getOrElse(throw new IllegalArgumentException(
+			"Connection to " + jedis.getClient.getHost + ":" + jedis.getClient.getPort + " is not from a redis shard"))
+	}
+
+	/**
+	 * @return connections in use, idle and awaited, borrows and broken connections of each shard
+	 */
+	def getStats: util.Map[String, AnyRef] = {
+		val stats = new util.LinkedHashMap[String, AnyRef]()
+		shards.foreach(shard => stats.put(shard.name, shard.getStats))
+		stats
+	}
+
+	class Shard(val index: Int, host: String, port: Int) extends JedisPool(poolConfig, host, port, TIMEOUT, null, INDEX) {
+		val name: String = host + ":" + port
+		private val borrows = new LongAdder()
+		private val broken = new LongAdder()
+
+		def borrow(): Jedis = {
+			val jedis = getResource
+			borrows.increment()
+			jedis
+		}
+
+		def giveBack(jedis: Jedis): Unit = returnResource(jedis)
+
+		def discard(jedis: Jedis): Unit = {
+			broken.increment()
+			returnBrokenResource(jedis)
+		}
+
+		def owns(jedis: Jedis): Boolean = jedis.getClient.getPort == port && jedis.getClient.getHost == host
+
+		def getStats: util.Map[String, AnyRef] = {
+			val stats = new util.HashMap[String, AnyRef]()
+			stats.put("active", Integer.valueOf(internalPool.getNumActive))
+			stats.put("idle", Integer.valueOf(internalPool.getNumIdle))
+			stats.put("waiters", Integer.valueOf(internalPool.getNumWaiters))
+			stats.put("borrows", java.lang.Long.valueOf(borrows.sum))
+			stats.put("broken", java.lang.Long.valueOf(broken.sum))
+			stats
+		}
+	}
+
+	private def poolConfig: JedisPoolConfig = {
+		val config: JedisPoolConfig = new JedisPoolConfig()
+		config.setMaxTotal(MAX_CONNECTIONS)
+		config.setBlockWhenExhausted(true)
+		config
+	}
+}
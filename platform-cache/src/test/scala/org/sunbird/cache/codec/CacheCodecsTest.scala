@@ -0,0 +1,40 @@
+package org.sunbird.cache.codec
+
+import java.nio.charset.StandardCharsets
+
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should.Matchers
+
+class CacheCodecsTest extends AnyFlatSpec with Matchers {
+
+	private val groupJson = "{\"id\":\"group-1\",\"activities\":[" + (1 to 50).map(i => "{\"id\":\"do_" + i + "\",\"type\":\"Course\"}").mkString(",") + "]}"
+
+	"encode without codec" should "write plain UTF-8" in {
+		val encoded = CacheCodecs.encode(groupJson, None, 0)
+		new String(encoded, StandardCharsets.UTF_8) shouldEqual groupJson
+		CacheCodecs.decode(encoded) shouldEqual groupJson
+	}
+
+	"encode with lz4 above threshold" should "write a smaller value that decodes to the same string" in {
+		val encoded = CacheCodecs.encode(groupJson, Some(Lz4Codec), 100)
+		encoded.length should be < groupJson.length
+		CacheCodecs.decode(encoded) shouldEqual groupJson
+	}
+
+	"encode with lz4 below threshold" should "write plain UTF-8" in {
+		val encoded = CacheCodecs.encode("{\"id\":\"group-1\"}", Some(Lz4Codec), 100)
+		new String(encoded, StandardCharsets.UTF_8) shouldEqual "{\"id\":\"group-1\"}"
+	}
+
+	"decode of non ascii plain value" should "return the value" in {
+		CacheCodecs.decode("{\"name\":\"समूह\"}".getBytes(StandardCharsets.UTF_8)) shouldEqual "{\"name\":\"समूह\"}"
+	}
+
+	"decode of unknown codec version" should "throw an exception" in {
+		an[IllegalStateException] should be thrownBy CacheCodecs.decode(Array[Byte](0xFF.toByte, 99, 1, 2))
+	}
+
+	"forName with unknown codec" should "throw an exception" in {
+		an[IllegalArgumentException] should be thrownBy CacheCodecs.forName("zip")
+	}
+}
@@ -5,6 +5,8 @@ import org.scalatest.flatspec.AsyncFlatSpec
 import org.scalatest.matchers.should.Matchers
 import org.scalatest.BeforeAndAfterAll
 import org.scalatest.Ignore
+import org.sunbird.cache.util.RedisConnector
+import redis.clients.jedis.Jedis
 
 import scala.collection.immutable.Stream.Empty
 import scala.concurrent.Future
@@ -42,6 +44,13 @@ class RedisCacheTest extends AsyncFlatSpec with Matchers with BeforeAndAfterAll
 		result shouldEqual "kptest-value-03"
 	}
 
+	"mget with valid and missing keys" should "return data in the order of keys" in {
+		RedisCache.set("kptest-117", "kptest-value-17", 0)
+		RedisCache.set("kptest-118", "kptest-value-18", 0)
+		val result = RedisCache.mget(List("kptest-117", "kptest-119", "kptest-118"))
+		result shouldEqual List("kptest-value-17", null, "kptest-value-18")
+	}
+
 	"saveList" should "store list data into cache for given key" in {
 		val data = List[String]("kp-test-04-list-val-01", "kp-test-04-list-val-02")
 		RedisCache.saveList("kptest-104", data)
@@ -169,6 +178,66 @@ class RedisCacheTest extends AsyncFlatSpec with Matchers with BeforeAndAfterAll
 		}
 	}
 
+	"set with ttl" should "set the value and the ttl with one command" in {
+		RedisCache.set("kptest-120", "kptest-value-20", 60)
+		val (commands, ttl) = TestConnection.withJedis(jedis => {
+			val before = commandsProcessed(jedis)
+			RedisCache.set("kptest-120", "kptest-value-20", 60)
+			(commandsProcessed(jedis) - before - 1, jedis.ttl("kptest-120").longValue)
+		})
+		commands shouldBe 1
+		ttl should be > 0L
+	}
+
+	/**
+	 * Compares the round trips of one command per key, as sent before, with the pipelined delete
+	 * and saveList for the 200 member keys invalidated by a group update
+	 */
+	"delete and saveList of 200 keys" should "send one pipeline instead of one command per key" in {
+		val keys = (1 to 200).map(i => "kptest-bench-" + i).toList
+		keys.foreach(key => RedisCache.set(key, "kptest-bench-value", 60))
+		val (perKeyTime, pipelinedTime, pipelinedCommands) = TestConnection.withJedis(jedis => {
+			var startTime = System.nanoTime()
+			keys.foreach(key => jedis.del(key))
+			val perKeyTime = System.nanoTime() - startTime
+			keys.foreach(key => RedisCache.set(key, "kptest-bench-value", 60))
+			val before = commandsProcessed(jedis)
+			startTime = System.nanoTime()
+			RedisCache.delete(keys: _*)
+			(perKeyTime, System.nanoTime() - startTime, commandsProcessed(jedis) - before - 1)
+		})
+		println("delete of " + keys.size + " keys : one command per key = " + keys.size + " round trips, "
+			+ perKeyTime / 1000 + " us, pipelined = 1 round trip of " + pipelinedCommands + " commands, " + pipelinedTime / 1000 + " us")
+		pipelinedCommands shouldBe 2
+		RedisCache.mget(keys).forall(null == _) shouldBe true
+
+		val (perEntryTime, saveListTime) = TestConnection.withJedis(jedis => {
+			var startTime = System.nanoTime()
+			jedis.del("kptest-bench-list")
+			keys.foreach(key => jedis.sadd("kptest-bench-list", key))
+			jedis.expire("kptest-bench-list", 60)
+			val perEntryTime = System.nanoTime() - startTime
+			startTime = System.nanoTime()
+			RedisCache.saveList("kptest-bench-list", keys, 60)
+			(perEntryTime, System.nanoTime() - startTime)
+		})
+		println("saveList of " + keys.size + " entries : one command per entry = " + (keys.size + 2) + " round trips, "
+			+ perEntryTime / 1000 + " us, pipelined = 1 round trip, " + saveListTime / 1000 + " us")
+		RedisCache.getList("kptest-bench-list").size shouldBe keys.size
+	}
+
+	private def commandsProcessed(jedis: Jedis): Long = {
+		jedis.info("stats").split("\r?\n").find(_.startsWith("total_commands_processed:"))
+			.map(_.split(":")(1).trim.toLong).getOrElse(0L)
+	}
+
+	private object TestConnection extends RedisConnector {
+		def withJedis[T](f: Jedis => T): T = {
+			val jedis = getConnection
+			try f(jedis) finally returnConnection(jedis)
+		}
+	}
+
 	private def delay(time: Long): Unit = {
 		try Thread.sleep(time)
 		catch {
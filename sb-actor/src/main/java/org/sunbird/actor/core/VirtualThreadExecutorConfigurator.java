@@ -0,0 +1,101 @@
+package org.sunbird.actor.core;
+
+import com.typesafe.config.Config;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.dispatch.DispatcherPrerequisites;
+import org.apache.pekko.dispatch.ExecutorServiceConfigurator;
+import org.apache.pekko.dispatch.ExecutorServiceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor of dispatchers whose actors block on IO, set as the executor of the dispatcher by class
+ * name. On JDK 21 and later every task runs on a new virtual thread, so an actor blocked in jedis,
+ * the cassandra driver or http calls holds no platform thread. On older JDKs the dispatcher runs on
+ * virtual-thread-executor.fallback-pool-size platform threads instead.
+ *
+ * <p>A virtual thread blocking inside a synchronized block pins its carrier thread, code run on
+ * this executor has to guard blocking calls with java.util.concurrent locks. Run with
+ * -Djdk.tracePinnedThreads=short to log the pinned stacks.
+ */
+public class VirtualThreadExecutorConfigurator extends ExecutorServiceConfigurator {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(VirtualThreadExecutorConfigurator.class);
+  private static final String FALLBACK_POOL_SIZE = "virtual-thread-executor.fallback-pool-size";
+  private static final int DEFAULT_FALLBACK_POOL_SIZE = 64;
+
+  private final int fallbackPoolSize;
+
+  public VirtualThreadExecutorConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+    super(config, prerequisites);
+    this.fallbackPoolSize =
+        config.hasPath(FALLBACK_POOL_SIZE)
+            ? config.getInt(FALLBACK_POOL_SIZE)
+            : DEFAULT_FALLBACK_POOL_SIZE;
+  }
+
+  @Override
+  public ExecutorServiceFactory createExecutorServiceFactory(String id, ThreadFactory threadFactory) {
+    return () -> {
+      ExecutorService executor = newVirtualThreadPerTaskExecutor(id + "-");
+      if (null != executor) {
+        logger.info("Dispatcher {} runs on virtual threads", id);
+        return executor;
+      }
+      logger.info(
+          "Virtual threads are not available, dispatcher {} runs on {} threads", id, fallbackPoolSize);
+      return new ThreadPoolExecutor(
+          fallbackPoolSize,
+          fallbackPoolSize,
+          60,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          threadFactory);
+    };
+  }
+
+  /** @return true if the running JDK has virtual threads */
+  public static boolean isAvailable() {
+    return null != virtualThreadFactory("probe-");
+  }
+
+  /**
+   * Looked up by reflection, the code is compiled for JDK 11.
+   *
+   * @param prefix Prefix of the thread names
+   * @return executor starting a virtual thread per task, null if the JDK has no virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+    ThreadFactory factory = virtualThreadFactory(prefix);
+    if (null == factory) {
+      return null;
+    }
+    try {
+      return (ExecutorService)
+          Executors.class
+              .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+              .invoke(null, factory);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static ThreadFactory virtualThreadFactory(String prefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      // also JDK 19 and 20 without --enable-preview
+      return null;
+    }
+  }
+}
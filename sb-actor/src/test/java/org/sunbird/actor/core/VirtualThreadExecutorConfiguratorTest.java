@@ -0,0 +1,141 @@
+package org.sunbird.actor.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.dispatch.MessageDispatcher;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.util.Timeout;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+public class VirtualThreadExecutorConfiguratorTest {
+
+  private static final boolean VIRTUAL_THREADS = Runtime.version().feature() >= 21;
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system =
+        ActorSystem.create(
+            "system",
+            ConfigFactory.parseString(
+                "virtual-thread-dispatcher { type = Dispatcher, executor = \""
+                    + VirtualThreadExecutorConfigurator.class.getName()
+                    + "\", virtual-thread-executor { fallback-pool-size = 2 }, throughput = 1 }"));
+  }
+
+  @AfterClass
+  public static void tearDown() throws Exception {
+    Await.ready(system.terminate(), Duration.create(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testLookupMatchesJdk() {
+    assertEquals(VIRTUAL_THREADS, VirtualThreadExecutorConfigurator.isAvailable());
+  }
+
+  @Test
+  public void testVirtualThreadPerTaskExecutor() throws Exception {
+    ExecutorService executor =
+        VirtualThreadExecutorConfigurator.newVirtualThreadPerTaskExecutor("test-");
+    if (!VIRTUAL_THREADS) {
+      assertNull(executor);
+      return;
+    }
+    assertNotNull(executor);
+    try {
+      Future<String> name = executor.submit(() -> Thread.currentThread().getName());
+      assertTrue(name.get(10, TimeUnit.SECONDS).startsWith("test-"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFallbackPoolSize() {
+    ExecutorService executor =
+        createExecutor(ConfigFactory.parseString("virtual-thread-executor.fallback-pool-size = 2"));
+    try {
+      if (VIRTUAL_THREADS) {
+        assertFalse(executor instanceof ThreadPoolExecutor);
+      } else {
+        assertEquals(2, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testDefaultFallbackPoolSize() {
+    ExecutorService executor = createExecutor(ConfigFactory.empty());
+    try {
+      if (VIRTUAL_THREADS) {
+        assertFalse(executor instanceof ThreadPoolExecutor);
+      } else {
+        assertEquals(64, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testDispatcherRunsActor() throws Exception {
+    ActorRef actor =
+        system.actorOf(
+            Props.create(DispatcherActor.class).withDispatcher("virtual-thread-dispatcher"));
+    Timeout timeout = new Timeout(Duration.create(10, TimeUnit.SECONDS));
+    String[] dispatcher =
+        (String[]) Await.result(Patterns.ask(actor, "dispatcher", timeout), timeout.duration());
+    assertEquals("virtual-thread-dispatcher", dispatcher[0]);
+    // the default dispatcher names its threads after itself
+    assertFalse(dispatcher[1], dispatcher[1].contains("default-dispatcher"));
+  }
+
+  private static ExecutorService createExecutor(Config config) {
+    VirtualThreadExecutorConfigurator configurator =
+        new VirtualThreadExecutorConfigurator(
+            config, ((ExtendedActorSystem) system).dispatchers().prerequisites());
+    return configurator
+        .createExecutorServiceFactory("virtual-thread-dispatcher", Executors.defaultThreadFactory())
+        .createExecutorService();
+  }
+
+  /** Replies with the id of its dispatcher and the name of the thread running it. */
+  public static class DispatcherActor extends AbstractActor {
+    @Override
+    public Receive createReceive() {
+      return receiveBuilder()
+          .matchAny(
+              message ->
+                  sender()
+                      .tell(
+                          new String[] {
+                            ((MessageDispatcher) getContext().getDispatcher()).id(),
+                            Thread.currentThread().getName()
+                          },
+                          self()))
+          .build();
+    }
+  }
+}
@@ -35,6 +35,7 @@ public interface IResponseMessage {
     String EXCEEDED_GROUP_MAX_LIMIT = "EXCEEDED_GROUP_MAX_LIMIT";
     String EXCEEDED_ACTIVITY_MAX_LIMIT = "EXCEEDED_ACTIVITY_MAX_LIMIT";
     String SERVICE_UNAVAILABLE = "SERVICE UNAVAILABLE";
+    String TOO_MANY_REQUESTS = "GS_TOO_MANY_REQUESTS";
     String GS_CRT01 = "GS_CRT01";
     String GS_CRT02 = "GS_CRT02";
     String GS_CRT03 = "GS_CRT03";
@@ -90,6 +91,7 @@ public interface IResponseMessage {
     String DB_UPDATE_FAIL = "Db update operation failed.";
     String INTERNAL_ERROR = "Process failed,please try again later.";
     String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+    String TOO_MANY_REQUESTS = "Too many concurrent calls to the server. Try again later.";
     String UNAUTHORIZED = "You are an unauthorized.Contact your system administrator";
 
     String GS_CRT01 = "Failed to create group, unauthorised user. Contact your system administrator.";
@@ -28,6 +28,8 @@ public enum ResponseCode {
   internalError(IResponseMessage.INTERNAL_ERROR, IResponseMessage.Message.INTERNAL_ERROR,JsonKey.FAILED),
   serviceUnAvailable(
       IResponseMessage.Key.SERVICE_UNAVAILABLE, IResponseMessage.Message.SERVICE_UNAVAILABLE,JsonKey.FAILED),
+  tooManyRequests(
+      IResponseMessage.Key.TOO_MANY_REQUESTS, IResponseMessage.Message.TOO_MANY_REQUESTS,JsonKey.FAILED),
   GS_CRT01(IResponseMessage.Key.GS_CRT01, IResponseMessage.Message.GS_CRT01,JsonKey.FAILED),
   GS_CRT02(IResponseMessage.Key.GS_CRT02, IResponseMessage.Message.GS_CRT02,JsonKey.FAILED),
   GS_CRT03(IResponseMessage.Key.GS_CRT03, IResponseMessage.Message.GS_CRT03,JsonKey.FAILED),
@@ -0,0 +1,81 @@
+package org.sunbird.common.request;
+
+import java.util.Map;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.util.JsonKey;
+
+/**
+ * Absolute deadline of a request, kept in the request context as epoch milliseconds so it is
+ * carried along with the context from the http layer to the actors, the cache and the DAOs. Calls
+ * made for the request wait at most the time left, work still pending once it passed is abandoned
+ * as nobody waits for its result anymore. Contexts without a deadline keep the default timeouts.
+ */
+public final class Deadline {
+
+  private Deadline() {}
+
+  /**
+   * @param context Request context
+   * @param timeoutMillis Time the request may take from now
+   */
+  public static void set(Map<String, Object> context, long timeoutMillis) {
+    context.put(JsonKey.DEADLINE, System.currentTimeMillis() + timeoutMillis);
+  }
+
+  /**
+   * @param context Request context, may be null
+   * @return true if the context has a deadline
+   */
+  public static boolean hasDeadline(Map<String, Object> context) {
+    return 0 != get(context);
+  }
+
+  /**
+   * @param context Request context, may be null
+   * @param defaultMillis Timeout used without a deadline
+   * @return milliseconds left before the deadline, at most defaultMillis, 0 or less once passed
+   */
+  public static long remainingMillis(Map<String, Object> context, long defaultMillis) {
+    long deadline = get(context);
+    if (0 == deadline) {
+      return defaultMillis;
+    }
+    return Math.min(defaultMillis, deadline - System.currentTimeMillis());
+  }
+
+  /**
+   * @param context Request context, may be null
+   * @return true if the context has a deadline and it passed
+   */
+  public static boolean isExpired(Map<String, Object> context) {
+    long deadline = get(context);
+    return 0 != deadline && System.currentTimeMillis() >= deadline;
+  }
+
+  /**
+   * @param context Request context, may be null
+   * @throws BaseException service unavailable if the deadline passed
+   */
+  public static void check(Map<String, Object> context) {
+    if (isExpired(context)) {
+      throw new BaseException(
+          ResponseCode.serviceUnAvailable.getErrorCode(),
+          ResponseCode.serviceUnAvailable.getErrorMessage(),
+          ResponseCode.SERVICE_UNAVAILABLE.getCode());
+    }
+  }
+
+  // a number, or a string once the context went through a json round trip as text
+  private static long get(Map<String, Object> context) {
+    if (null == context) {
+      return 0;
+    }
+    Object deadline = context.get(JsonKey.DEADLINE);
+    if (deadline instanceof Number) {
+      return ((Number) deadline).longValue();
+    }
+    return null == deadline ? 0 : NumberUtils.toLong(deadline.toString());
+  }
+}
@@ -27,6 +27,9 @@ public interface JsonKey {
   String DESC = "description";
   String NAME = "name";
   String MEMBERS = "members";
+  String SUMMARY = "summary";
+  String VERSION = "version";
+  String GROUP_VERSION = "groupVersion";
   String MEMBER = "member";
   String USER_ID = "userId";
   String ROLE = "role";
@@ -117,6 +120,33 @@ public interface JsonKey {
   String TTL = "ttl";
   String GROUPS_REDIS_TTL = "groups_redis_ttl";
   String USER_REDIS_TTL = "user_redis_ttl";
+  String GROUPS_REDIS_SOFT_TTL = "groups_redis_soft_ttl";
+  String GROUPS_REDIS_XFETCH_BETA = "groups_redis_xfetch_beta";
+  String GROUP_MEMBERS_REDIS_SOFT_TTL = "group_members_redis_soft_ttl";
+  String GROUP_MEMBERS_REDIS_XFETCH_BETA = "group_members_redis_xfetch_beta";
+  String USER_REDIS_SOFT_TTL = "user_redis_soft_ttl";
+  String USER_REDIS_XFETCH_BETA = "user_redis_xfetch_beta";
+  String NEAR_CACHE_MAX_SIZE = "near_cache_max_size";
+  String NEAR_CACHE_TTL = "near_cache_ttl";
+  String SINGLE_FLIGHT_TIMEOUT = "single_flight_timeout";
+  String SINGLE_FLIGHT_LOCK_ENABLED = "single_flight_lock_enabled";
+  String SINGLE_FLIGHT_LOCK_TTL = "single_flight_lock_ttl";
+  String CACHE_HOT_KEY_SAMPLE_RATE = "cache_hot_key_sample_rate";
+  String CACHE_WARMUP_ENABLED = "cache_warmup_enabled";
+  String CACHE_WARMUP_MAX_KEYS = "cache_warmup_max_keys";
+  String CACHE_WARMUP_PARALLELISM = "cache_warmup_parallelism";
+  String CACHE_WARMUP_TIMEOUT = "cache_warmup_timeout";
+  String OPERATION_MAX_IN_FLIGHT = "operation_max_in_flight";
+  String OPERATION_QUEUE_SIZE = "operation_queue_size";
+  String OPERATION_MAX_ASYNC_IN_FLIGHT = "operation_max_async_in_flight";
+  String CONCURRENCY_LIMIT_ENABLED = "concurrency_limit_enabled";
+  String CONCURRENCY_LIMIT_INITIAL = "concurrency_limit_initial";
+  String CONCURRENCY_LIMIT_MIN = "concurrency_limit_min";
+  String CONCURRENCY_LIMIT_MAX = "concurrency_limit_max";
+  String CONCURRENCY_LIMIT_LATENCY_TOLERANCE = "concurrency_limit_latency_tolerance";
+  String CONCURRENCY_LIMIT_RETRY_AFTER = "concurrency_limit_retry_after";
+  String REQUEST_TIMEOUT = "request_timeout";
+  String DEADLINE = "deadline";
   String X_REQUEST_ID = "X-Request-ID";
   String ERROR_CODE = "errorCode";
   String ERROR_MESSAGE = "errorMessage";
@@ -149,4 +179,7 @@ public interface JsonKey {
 
   //Release-5.4.0 - LR-512
   String SUNBIRD_GROUPS_KEYSPACE = "sunbird_groups_keyspace";
+  String MEMBERS_LIMIT = "membersLimit";
+  String MEMBERS_PAGE_TOKEN = "membersPageToken";
+  String MEMBERS_NEXT_PAGE_TOKEN = "membersNextPageToken";
 }
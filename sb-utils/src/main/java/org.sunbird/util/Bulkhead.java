@@ -0,0 +1,172 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.util.helper.PropertiesCache;
+
+/**
+ * @desc Bounds the calls in flight to one downstream dependency, so a degraded dependency holds at
+ *     most its own permits instead of every thread running group operations. At most
+ *     bulkhead_{name}_max_concurrent calls run at once, up to bulkhead_{name}_max_waiting more wait
+ *     bulkhead_{name}_wait_millis for a permit, calls beyond are rejected with service unavailable.
+ */
+public class Bulkhead {
+
+  public static final String CASSANDRA = "cassandra";
+  public static final String USER_SERVICE = "user_service";
+  public static final String CONTENT_SERVICE = "content_service";
+  public static final String NOTIFICATION = "notification";
+
+  private static final int DEFAULT_MAX_CONCURRENT = 32;
+  private static final int DEFAULT_MAX_WAITING = 64;
+  private static final int DEFAULT_WAIT_MILLIS = 1000;
+  private static final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  private final int maxConcurrent;
+  private final int maxWaiting;
+  private final long waitMillis;
+  private final Semaphore permits;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicLong calls = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  Bulkhead(int maxConcurrent, int maxWaiting, long waitMillis) {
+    this.maxConcurrent = Math.max(1, maxConcurrent);
+    this.maxWaiting = Math.max(0, maxWaiting);
+    this.waitMillis = Math.max(0, waitMillis);
+    this.permits = new Semaphore(this.maxConcurrent);
+  }
+
+  /**
+   * @param name Name of the dependency
+   * @return the bulkhead of the dependency, configured on first use
+   */
+  public static Bulkhead get(String name) {
+    return bulkheads.computeIfAbsent(
+        name,
+        key ->
+            new Bulkhead(
+                getConfig(key, "max_concurrent", DEFAULT_MAX_CONCURRENT),
+                getConfig(key, "max_waiting", DEFAULT_MAX_WAITING),
+                getConfig(key, "wait_millis", DEFAULT_WAIT_MILLIS)));
+  }
+
+  private static int getConfig(String name, String key, int defaultValue) {
+    return NumberUtils.toInt(
+        PropertiesCache.getInstance().getConfigValue("bulkhead_" + name + "_" + key), defaultValue);
+  }
+
+  /**
+   * @param call Calls the dependency
+   * @return what the call returned
+   * @throws BaseException service unavailable if no permit was free within the wait
+   */
+  public <T> T call(Supplier<T> call) {
+    acquire();
+    try {
+      return call.get();
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Takes a permit, each acquire must be followed by one release once the call ended.
+   *
+   * @throws BaseException service unavailable if no permit was free within the wait
+   */
+  public void acquire() {
+    calls.incrementAndGet();
+    if (permits.tryAcquire()) {
+      return;
+    }
+    boolean acquired = false;
+    if (waiting.incrementAndGet() <= maxWaiting) {
+      try {
+        acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    waiting.decrementAndGet();
+    if (!acquired) {
+      rejected.incrementAndGet();
+      throw serviceUnavailable();
+    }
+  }
+
+  /**
+   * Takes a permit only if one is free, without waiting. Each permit taken must be followed by one
+   * release once the call ended.
+   *
+   * @return false if no permit was free, the call is counted as rejected
+   */
+  public boolean tryAcquire() {
+    calls.incrementAndGet();
+    if (permits.tryAcquire()) {
+      return true;
+    }
+    rejected.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * A non blocking call never waits for a permit, the thread starting it must not block.
+   *
+   * @param call Starts the call to the dependency
+   * @return stage of the call, holding its permit until it completes, or failed with service
+   *     unavailable at once if no permit was free
+   */
+  public <T> CompletionStage<T> callAsync(Supplier<CompletionStage<T>> call) {
+    if (!tryAcquire()) {
+      return CompletableFuture.failedFuture(serviceUnavailable());
+    }
+    try {
+      return call.get().whenComplete((result, error) -> release());
+    } catch (RuntimeException e) {
+      release();
+      throw e;
+    }
+  }
+
+  private static BaseException serviceUnavailable() {
+    return new BaseException(
+        ResponseCode.serviceUnAvailable.getErrorCode(),
+        ResponseCode.serviceUnAvailable.getErrorMessage(),
+        ResponseCode.SERVICE_UNAVAILABLE.getCode());
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  /** @return snapshot of the calls running, waiting and rejected by the bulkhead. */
+  public Map<String, Object> getBulkheadStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("maxConcurrent", maxConcurrent);
+    stats.put("maxWaiting", maxWaiting);
+    stats.put("active", maxConcurrent - permits.availablePermits());
+    stats.put("waiting", waiting.get());
+    stats.put("calls", calls.get());
+    stats.put("rejected", rejected.get());
+    return stats;
+  }
+
+  /** @return stats of every bulkhead used so far, by name. */
+  public static Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    bulkheads.forEach((name, bulkhead) -> stats.put(name, bulkhead.getBulkheadStats()));
+    return stats;
+  }
+}
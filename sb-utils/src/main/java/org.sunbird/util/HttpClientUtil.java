@@ -6,13 +6,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.http.*;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -22,11 +25,14 @@ import org.apache.http.message.BasicHeaderElementIterator;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.util.EntityUtils;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.util.LoggerEnum;
 
 public class HttpClientUtil {
   private static CloseableHttpClient httpclient = null;
-  private static HttpClientUtil httpClientUtil;
+  private static volatile HttpClientUtil httpClientUtil;
+  // a lock rather than synchronized, a virtual thread waiting on a monitor pins its carrier
+  private static final ReentrantLock lock = new ReentrantLock();
 
   private static LoggerUtil logger =new LoggerUtil(HttpClientUtil.class);
 
@@ -60,10 +66,13 @@ public class HttpClientUtil {
 
   public static HttpClientUtil getInstance() {
     if (httpClientUtil == null) {
-      synchronized (HttpClientUtil.class) {
+      lock.lock();
+      try {
         if (httpClientUtil == null) {
           httpClientUtil = new HttpClientUtil();
         }
+      } finally {
+        lock.unlock();
       }
     }
     return httpClientUtil;
@@ -78,6 +87,7 @@ public class HttpClientUtil {
           httpGet.addHeader(entry.getKey(), entry.getValue());
         }
       }
+      setDeadline(httpGet, reqContext);
       response = httpclient.execute(httpGet);
       int status = response.getStatusLine().getStatusCode();
       if (status >= 200 && status < 300) {
@@ -124,6 +134,7 @@ public class HttpClientUtil {
       StringEntity entity = new StringEntity(params, Charset.forName("UTF-8"));
       httpPost.setEntity(entity);
 
+      setDeadline(httpPost, reqContext);
       response = httpclient.execute(httpPost);
       int status = response.getStatusLine().getStatusCode();
       if (status >= 200 && status < 300) {
@@ -169,6 +180,7 @@ public class HttpClientUtil {
 
       httpPost.setEntity(entity);
 
+      setDeadline(httpPost, reqContext);
       response = httpclient.execute(httpPost);
       int status = response.getStatusLine().getStatusCode();
       if (status >= 200 && status < 300) {
@@ -206,6 +218,7 @@ public class HttpClientUtil {
       StringEntity entity = new StringEntity(params);
       httpPatch.setEntity(entity);
 
+      setDeadline(httpPatch, reqContext);
       response = httpclient.execute(httpPatch);
       int status = response.getStatusLine().getStatusCode();
       if (status >= 200 && status < 300) {
@@ -231,4 +244,23 @@ public class HttpClientUtil {
       }
     }
   }
+
+  /**
+   * Bounds the waits of the call by the time left before the deadline of the request, the call is
+   * not sent once the deadline passed.
+   */
+  private static void setDeadline(HttpRequestBase httpRequest, Map<String, Object> reqContext) {
+    if (!Deadline.hasDeadline(reqContext)) {
+      return;
+    }
+    Deadline.check(reqContext);
+    // 0 would wait forever
+    int timeout = (int) Math.max(1, Deadline.remainingMillis(reqContext, Integer.MAX_VALUE));
+    httpRequest.setConfig(
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(timeout)
+            .setConnectTimeout(timeout)
+            .setSocketTimeout(timeout)
+            .build());
+  }
 }
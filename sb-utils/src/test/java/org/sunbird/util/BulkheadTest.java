@@ -0,0 +1,92 @@
+package org.sunbird.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.message.ResponseCode;
+
+public class BulkheadTest {
+
+  @Test
+  public void testCallReleasesPermit() {
+    Bulkhead bulkhead = new Bulkhead(1, 0, 0);
+    Assert.assertEquals("first", bulkhead.call(() -> "first"));
+    Assert.assertEquals("second", bulkhead.call(() -> "second"));
+    Assert.assertEquals(0, bulkhead.getBulkheadStats().get("active"));
+    Assert.assertEquals(2L, bulkhead.getBulkheadStats().get("calls"));
+  }
+
+  @Test
+  public void testRejectedBeyondWaiting() throws Exception {
+    Bulkhead bulkhead = new Bulkhead(1, 1, 10000);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> running =
+          executor.submit(
+              () ->
+                  bulkhead.call(
+                      () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return "running";
+                      }));
+      Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+      Future<String> waiting = executor.submit(() -> bulkhead.call(() -> "waiting"));
+      while (!Integer.valueOf(1).equals(bulkhead.getBulkheadStats().get("waiting"))) {
+        Thread.sleep(10);
+      }
+      try {
+        bulkhead.call(() -> "rejected");
+        Assert.fail();
+      } catch (BaseException e) {
+        Assert.assertEquals(ResponseCode.SERVICE_UNAVAILABLE.getCode(), e.getResponseCode());
+      }
+      release.countDown();
+      Assert.assertEquals("running", running.get(10, TimeUnit.SECONDS));
+      Assert.assertEquals("waiting", waiting.get(10, TimeUnit.SECONDS));
+      Assert.assertEquals(1L, bulkhead.getBulkheadStats().get("rejected"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCallAsyncRejectedWithoutWaiting() throws Exception {
+    Bulkhead bulkhead = new Bulkhead(1, 1, 10000);
+    CompletableFuture<String> running = new CompletableFuture<>();
+    CompletableFuture<String> first = bulkhead.callAsync(() -> running).toCompletableFuture();
+    CompletableFuture<String> rejected =
+        bulkhead.callAsync(() -> CompletableFuture.completedFuture("rejected")).toCompletableFuture();
+    // a free waiting place does not make a non blocking call wait
+    Assert.assertTrue(rejected.isCompletedExceptionally());
+    try {
+      rejected.get();
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertEquals(
+          ResponseCode.SERVICE_UNAVAILABLE.getCode(), ((BaseException) e.getCause()).getResponseCode());
+    }
+    Assert.assertEquals(1, bulkhead.getBulkheadStats().get("active"));
+    running.complete("running");
+    Assert.assertEquals("running", first.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, bulkhead.getBulkheadStats().get("active"));
+    Assert.assertEquals(1L, bulkhead.getBulkheadStats().get("rejected"));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -15,8 +15,12 @@ import org.sunbird.Application;
 import org.sunbird.common.exception.ActorServiceException;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.exception.ValidationException;
+import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.request.Request;
+import org.sunbird.util.ConcurrencyLimiter;
 import play.mvc.Controller;
+import play.mvc.Http;
 import play.mvc.Result;
 import scala.jdk.javaapi.FutureConverters;
 import scala.concurrent.Future;
@@ -53,6 +57,16 @@ public class BaseController extends Controller {
     return false;
   }
 
+  /**
+   * Requests of limited controllers are admitted by the adaptive concurrency limit of their
+   * operation, requests over the limit are rejected with too many requests.
+   *
+   * @return false for controllers whose requests must always reach the actor
+   */
+  protected boolean isConcurrencyLimited() {
+    return true;
+  }
+
   /**
    * this method will take org.sunbird.Request and a validation function and lastly operation(Actor
    * operation) this method is validating the request and , this method is used to handle all the
@@ -96,18 +110,61 @@ public class BaseController extends Controller {
             return handleResponse(object, request);
           }
         };
-    Timeout timeout = new Timeout(getTimeout(request), TimeUnit.SECONDS);
+    long timeoutMillis =
+        Deadline.remainingMillis(
+            request.getContext(), TimeUnit.SECONDS.toMillis(getTimeout(request)));
+    if (timeoutMillis <= 0) {
+      return CompletableFuture.completedFuture(
+          handleResponse(
+              new BaseException(
+                  ResponseCode.serviceUnAvailable.getErrorCode(),
+                  ResponseCode.serviceUnAvailable.getErrorMessage(),
+                  ResponseCode.SERVICE_UNAVAILABLE.getCode()),
+              request));
+    }
+    Timeout timeout = new Timeout(timeoutMillis, TimeUnit.MILLISECONDS);
 
     ActorRef actorRef = getActorRef(request.getOperation());
     if (actorRef != null) {
+      ConcurrencyLimiter limiter = ConcurrencyLimiter.getInstance();
+      if (!limiter.isEnabled() || !isConcurrencyLimited()) {
+        Future<Object> future = Patterns.ask(actorRef, request, timeout);
+        return FutureConverters.asJava(future).thenApplyAsync(fn);
+      }
+      ConcurrencyLimiter.Limit limit = limiter.getLimit(request.getOperation());
+      if (!limit.tryAcquire()) {
+        return CompletableFuture.completedFuture(
+            tooManyRequests(request, limiter.getRetryAfter()));
+      }
+      long startTime = System.nanoTime();
       Future<Object> future = Patterns.ask(actorRef, request, timeout);
-      return FutureConverters.asJava(future).thenApplyAsync(fn);
+      return FutureConverters.asJava(future)
+          .whenComplete(
+              (response, error) -> limit.release(startTime, null != error || isShed(response)))
+          .thenApplyAsync(fn);
     } else {
       return CompletableFuture.supplyAsync(
           () -> handleResponse(new ActorServiceException.InvalidOperationName(null), request));
     }
   }
 
+  /** @return true if the actor shed the request because a downstream dependency was saturated */
+  private static boolean isShed(Object response) {
+    return response instanceof BaseException
+        && ((BaseException) response).getResponseCode()
+            == ResponseCode.SERVICE_UNAVAILABLE.getCode();
+  }
+
+  private static Result tooManyRequests(Request request, int retryAfter) {
+    BaseException exception =
+        new BaseException(
+            ResponseCode.tooManyRequests.getErrorCode(),
+            ResponseCode.tooManyRequests.getErrorMessage(),
+            ResponseCode.TOO_MANY_REQUESTS.getCode());
+    return ResponseHandler.handleFailureResponse(exception, request)
+        .withHeader(Http.HeaderNames.RETRY_AFTER, String.valueOf(retryAfter));
+  }
+
   public Request createSBRequest(play.mvc.Http.Request httpReq, String operation) {
     RequestMapper requestMapper = new RequestMapper();
     Request request = requestMapper.createSBRequest(httpReq);
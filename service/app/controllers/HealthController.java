@@ -12,6 +12,11 @@ public class HealthController extends BaseController {
   // Service name must be "service" for the DevOps monitoring.
   private static final String service = "service";
 
+  @Override
+  protected boolean isConcurrencyLimited() {
+    return false;
+  }
+
   /**
    * This action method is responsible for checking Health.
    *
@@ -0,0 +1,27 @@
+package controllers;
+
+import java.util.concurrent.CompletionStage;
+
+import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.request.Request;
+import play.mvc.Result;
+
+/** This controller class exposes the query and host latency metrics of the service. */
+public class MetricsController extends BaseController {
+
+  @Override
+  protected boolean isConcurrencyLimited() {
+    return false;
+  }
+
+  /**
+   * This action method returns the cassandra latency histograms and error counts per operation,
+   * table and host.
+   *
+   * @return a CompletableFuture of the metrics response
+   */
+  public CompletionStage<Result> getMetrics() throws BaseException {
+    Request req = new Request("metrics");
+    return handleRequest(req);
+  }
+}
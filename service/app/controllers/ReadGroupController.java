@@ -27,6 +27,18 @@ public class ReadGroupController extends BaseController {
       List<String> fields = Arrays.asList(requestedFields.split("\\s*,\\s*"));
       request.getRequest().put(JsonKey.FIELDS, fields);
     }
+    String membersLimit = req.getQueryString(JsonKey.MEMBERS_LIMIT);
+    if (StringUtils.isNotEmpty(membersLimit)) {
+      request
+          .getRequest()
+          .put(
+              JsonKey.MEMBERS_LIMIT,
+              StringUtils.isNumeric(membersLimit) ? Integer.valueOf(membersLimit) : membersLimit);
+    }
+    String membersPageToken = req.getQueryString(JsonKey.MEMBERS_PAGE_TOKEN);
+    if (StringUtils.isNotEmpty(membersPageToken)) {
+      request.getRequest().put(JsonKey.MEMBERS_PAGE_TOKEN, membersPageToken);
+    }
     request.getRequest().put(JsonKey.GROUP_ID, groupId);
     return handleRequest(request);
   }
@@ -47,6 +47,12 @@ public class ResponseHandler {
       case HttpStatus.SC_UNAUTHORIZED:
         result = Results.unauthorized(Json.toJson(response));
         break;
+      case Http.Status.TOO_MANY_REQUESTS:
+        result = Results.status(Http.Status.TOO_MANY_REQUESTS, Json.toJson(response));
+        break;
+      case HttpStatus.SC_SERVICE_UNAVAILABLE:
+        result = Results.status(HttpStatus.SC_SERVICE_UNAVAILABLE, Json.toJson(response));
+        break;
       default:
         result = Results.internalServerError(Json.toJson(response));
         break;
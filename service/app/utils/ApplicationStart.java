@@ -31,6 +31,8 @@ public class ApplicationStart {
     HttpClientUtil.getInstance();
     ActivityConfigReader.initialize();
     SystemConfigUtil.init();
+    // health reports the node ready once the hot keys are read into cache
+    CacheWarmer.getInstance().start();
     // Shut-down hook
     lifecycle.addStopHook(
         () -> {
@@ -8,6 +8,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -15,6 +16,7 @@ import org.sunbird.common.exception.AuthorizationException;
 import org.sunbird.common.exception.BaseException;
 import org.sunbird.common.message.IResponseMessage;
 import org.sunbird.common.message.ResponseCode;
+import org.sunbird.common.request.Deadline;
 import org.sunbird.common.request.HeaderParam;
 import org.sunbird.common.util.JsonKey;
 import org.sunbird.util.LoggerUtil;
@@ -27,6 +29,7 @@ import play.mvc.Result;
 
 public class OnRequestHandler implements ActionCreator {
 
+  private static final long DEFAULT_REQUEST_TIMEOUT = 30000;
   private static LoggerUtil logger = new LoggerUtil(OnRequestHandler.class);
   private static String custodianOrgHashTagId;
   private ObjectMapper mapper = new ObjectMapper();
@@ -130,6 +133,11 @@ public class OnRequestHandler implements ActionCreator {
       requestContext.put(JsonKey.CHANNEL, channel);
       requestContext.put(JsonKey.REQUEST_ID, requestId);
       requestContext.put(JsonKey.REQUEST_MESSAGE_ID, requestId);
+      // the actors, cache and DAO calls of the request only get the time left of this budget
+      Deadline.set(
+          requestContext,
+          NumberUtils.toLong(
+              PropertiesCache.getConfigValue(JsonKey.REQUEST_TIMEOUT), DEFAULT_REQUEST_TIMEOUT));
 
       requestContext.putAll(cacheTelemetryPdata());
       Optional<String> optionalAppId = httpReq.getHeaders().get(HeaderParam.X_APP_ID.getName());
@@ -29,6 +29,7 @@ public class RequestInterceptor {
 
     apiHeaderIgnoreMap.put("/service/health", var);
     apiHeaderIgnoreMap.put("/health", var);
+    apiHeaderIgnoreMap.put("/metrics", var);
   }
 
   /**
@@ -2,6 +2,7 @@ package validators;
 
 import com.google.common.collect.Lists;
 import org.sunbird.common.exception.BaseException;
+import org.sunbird.common.exception.ValidationException;
 import org.sunbird.common.message.ResponseCode;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.util.JsonKey;
@@ -24,6 +25,16 @@ public class GroupReadRequestValidator implements IRequestValidator {
               String.class,
               true,
               JsonKey.REQUEST,request.getContext());
+      ValidationUtil.validateParamsWithType(
+              request.getRequest(),
+              Lists.newArrayList(JsonKey.MEMBERS_LIMIT),
+              Integer.class,
+              JsonKey.REQUEST,request.getContext());
+      Integer membersLimit = (Integer) request.getRequest().get(JsonKey.MEMBERS_LIMIT);
+      if (null != membersLimit && membersLimit <= 0) {
+        throw new ValidationException.InvalidParamValue(
+                String.valueOf(membersLimit), JsonKey.REQUEST + "." + JsonKey.MEMBERS_LIMIT);
+      }
       return true;
     }catch (BaseException ex){
       BaseException baseException = new BaseException(ResponseCode.GS_RED02.getErrorCode(),ResponseCode.GS_RED02.getErrorMessage(),ex.getResponseCode());